@@ -0,0 +1,282 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 구매/판매 내역을 파일에 계속 추가만 하는 장부 (프로그램을 다시 켜도 내역이 남음)
+ * - 항목마다 단가(long, 1/100원 단위), 갯수(int), 누적 금액(long, 1/100원 단위), 날짜(int, epoch day),
+ *   이름 끝 위치(long)를 컬럼별 파일에 저장 (금액은 float 오차 없이 정수로 계산)
+ *   이름은 names.dat에 이어서 저장 (UTF-8)
+ * - 모든 파일은 메모리 매핑(MappedByteBuffer)으로 읽고 쓰며, 구간(segment) 단위로 필요할 때 매핑
+ *   구간은 작게 시작해 두 배씩 커지므로 항목이 적은 장부는 파일도 작음
+ * - 누적 금액 컬럼 덕분에 총액은 마지막 항목 하나만 읽으면 됨 (항목 수와 무관)
+ * - 항목 추가 시 journal.dat에 항목 전체를 기록해 한 번만 디스크에 반영(force)한 뒤 header 파일의 항목 수를 기록
+ *   컬럼 파일은 CHECKPOINT_ENTRIES번 추가마다 한 번 반영하고, 그 사이에 비정상 종료되면 다음 실행 때 저널에서 다시 채움
+ *   (항목 수를 기록하기 전에 종료되면 그 항목은 없던 것으로 처리됨)
+ * - header 파일을 배타적으로 잠가 두 프로그램이 같은 장부에 동시에 기록하지 못하게 함
+ * - 장부 위치는 시스템 속성 market.ledger.dir, 없으면 사용자 홈의 market-ledger (실행한 위치와 무관)
+ */
+public class MarketLedger {
+	private static final Path DIR = Paths.get(System.getProperty("market.ledger.dir",
+			Paths.get(System.getProperty("user.home"), "market-ledger").toString()));
+
+	static final MarketLedger PURCHASES = open("purchase"); // 구매 장부
+	static final MarketLedger SALES = open("sales"); // 판매 장부
+
+	private static final int MAGIC = 0x4D4B4C33; // "MKL3"
+	private static final int MAGIC_V2 = 0x4D4B4C32; // "MKL2" - 저널 없이 항목마다 컬럼을 반영하던 형식
+	private static final long FIRST_SEGMENT_ENTRIES = 1L << 12; // 컬럼 파일 첫 구간의 항목 수
+	private static final long SEGMENT_ENTRIES = 1L << 20; // 컬럼 파일 구간당 최대 항목 수
+	private static final long FIRST_BYTE_SEGMENT = 1L << 16; // 이름/저널 파일 첫 구간 크기 (64KB)
+	private static final long MAX_BYTE_SEGMENT = 1L << 26; // 이름/저널 파일 구간 최대 크기 (64MB)
+	private static final int CHECKPOINT_ENTRIES = 1024; // 컬럼 파일을 디스크에 반영하는 간격 (저널에 쌓이는 최대 항목 수)
+	private static final int JOURNAL_ENTRY_HEADER = 20; // 저널 항목의 단가(8) + 갯수(4) + 날짜(4) + 이름 길이(4)
+
+	private final FileChannel headerChannel; // 잠금을 유지하기 위해 열어 둠
+	private final MappedByteBuffer header; // [0] MAGIC, [8] 항목 수, [16] 컬럼 파일에 반영된 항목 수
+	private final Column price;
+	private final Column count;
+	private final Column total;
+	private final Column day;
+	private final Column nameEnd;
+	private final Column names;
+	private final Column journal;
+	private long size; // 저장이 끝난 항목 수
+	private long checkpoint; // 컬럼 파일이 디스크에 반영된 항목 수 (이후 항목은 저널에도 있음)
+	private long journalEnd; // 저널에서 다음 항목을 기록할 위치
+
+	private MarketLedger(Path dir) throws IOException {
+		Files.createDirectories(dir);
+		headerChannel = FileChannel.open(dir.resolve("header"),
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		FileLock lock = headerChannel.tryLock();
+		if (lock == null) {
+			headerChannel.close();
+			throw new IOException("다른 프로그램이 장부를 사용하고 있습니다: " + dir);
+		}
+		boolean created = headerChannel.size() == 0;
+		header = headerChannel.map(FileChannel.MapMode.READ_WRITE, 0, 24);
+		if (created) {
+			header.putInt(0, MAGIC);
+			header.putLong(8, 0);
+			header.putLong(16, 0);
+			header.force();
+		} else if (header.getInt(0) == MAGIC_V2) {
+			// 이전 형식은 항목마다 컬럼을 반영했으므로 모든 항목이 이미 컬럼 파일에 있음
+			header.putLong(16, header.getLong(8));
+			header.putInt(0, MAGIC);
+			header.force();
+		} else if (header.getInt(0) != MAGIC) {
+			throw new IOException("장부 파일 형식이 올바르지 않습니다: " + dir);
+		}
+		price = new Column(dir.resolve("price_cents.col"), 8, 8 * FIRST_SEGMENT_ENTRIES, 8 * SEGMENT_ENTRIES);
+		count = new Column(dir.resolve("count.col"), 4, 4 * FIRST_SEGMENT_ENTRIES, 4 * SEGMENT_ENTRIES);
+		total = new Column(dir.resolve("total_cents.col"), 8, 8 * FIRST_SEGMENT_ENTRIES, 8 * SEGMENT_ENTRIES);
+		day = new Column(dir.resolve("day.col"), 4, 4 * FIRST_SEGMENT_ENTRIES, 4 * SEGMENT_ENTRIES);
+		nameEnd = new Column(dir.resolve("name_end.col"), 8, 8 * FIRST_SEGMENT_ENTRIES, 8 * SEGMENT_ENTRIES);
+		names = new Column(dir.resolve("names.dat"), 1, FIRST_BYTE_SEGMENT, MAX_BYTE_SEGMENT);
+		journal = new Column(dir.resolve("journal.dat"), 1, FIRST_BYTE_SEGMENT, MAX_BYTE_SEGMENT);
+		size = header.getLong(8); // 복구 - 항목 수 뒤에 남은 데이터는 다음 기록 때 덮어씀
+		checkpoint = header.getLong(16);
+		recover();
+	}
+
+	private static MarketLedger open(String name) {
+		try {
+			return new MarketLedger(DIR.resolve(name));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// 항목 추가 - 저널에 기록해 디스크에 반영한 다음 항목 수를 늘림 (force는 저널 한 번, header 한 번)
+	synchronized void append(String product, long unitPriceCents, int quantity, int epochDay) {
+		long i = size;
+		byte[] nameBytes = product.getBytes(StandardCharsets.UTF_8);
+		long totalCents = Math.addExact(totalCents(), Math.multiplyExact(unitPriceCents, quantity));
+
+		ByteBuffer entry = ByteBuffer.allocate(JOURNAL_ENTRY_HEADER + nameBytes.length);
+		entry.putLong(unitPriceCents).putInt(quantity).putInt(epochDay).putInt(nameBytes.length).put(nameBytes);
+		journal.putBytes(journalEnd, entry.array());
+		journal.force();
+
+		header.putLong(8, i + 1);
+		header.force();
+		journalEnd += entry.capacity();
+
+		// 컬럼은 바로 force하지 않음 - 비정상 종료되면 recover()가 저널에서 다시 채움
+		put(i, unitPriceCents, quantity, totalCents, epochDay, nameBytes);
+		size = i + 1;
+		if (size - checkpoint >= CHECKPOINT_ENTRIES) {
+			checkpoint();
+		}
+	}
+
+	synchronized long size() {
+		return size;
+	}
+
+	// 전체 금액 (단가 * 갯수의 합, 1/100원 단위)
+	synchronized long totalCents() {
+		return size == 0 ? 0 : total.getLong(size - 1);
+	}
+
+	synchronized String name(long i) {
+		long start = i == 0 ? 0 : nameEnd.getLong(i - 1);
+		return new String(names.getBytes(start, (int) (nameEnd.getLong(i) - start)), StandardCharsets.UTF_8);
+	}
+
+	synchronized long priceCents(long i) {
+		return price.getLong(i);
+	}
+
+	synchronized int count(long i) {
+		return count.getInt(i);
+	}
+
+	synchronized int day(long i) {
+		return day.getInt(i);
+	}
+
+	// i번째 항목을 컬럼 파일에 기록 (i - 1번째까지는 기록되어 있어야 함)
+	private void put(long i, long unitPriceCents, int quantity, long totalCents, int epochDay, byte[] nameBytes) {
+		long nameStart = i == 0 ? 0 : nameEnd.getLong(i - 1);
+		names.putBytes(nameStart, nameBytes);
+		price.putLong(i, unitPriceCents);
+		count.putInt(i, quantity);
+		total.putLong(i, totalCents);
+		day.putInt(i, epochDay);
+		nameEnd.putLong(i, nameStart + nameBytes.length);
+	}
+
+	// 마지막 체크포인트 이후 항목을 저널에서 읽어 컬럼 파일에 다시 기록 (열 때 한 번)
+	private void recover() {
+		long position = 0;
+		for (long i = checkpoint; i < size; i++) {
+			ByteBuffer entry = ByteBuffer.wrap(journal.getBytes(position, JOURNAL_ENTRY_HEADER));
+			long unitPriceCents = entry.getLong();
+			int quantity = entry.getInt();
+			int epochDay = entry.getInt();
+			byte[] nameBytes = journal.getBytes(position + JOURNAL_ENTRY_HEADER, entry.getInt());
+			long previous = i == 0 ? 0 : total.getLong(i - 1);
+			put(i, unitPriceCents, quantity, previous + unitPriceCents * quantity, epochDay, nameBytes);
+			position += JOURNAL_ENTRY_HEADER + nameBytes.length;
+		}
+		journalEnd = position;
+		if (size > checkpoint) {
+			checkpoint();
+		}
+	}
+
+	// 컬럼 파일을 디스크에 반영하고 반영된 항목 수를 기록 - 이후 저널은 처음부터 다시 씀
+	private void checkpoint() {
+		names.force();
+		price.force();
+		count.force();
+		total.force();
+		day.force();
+		nameEnd.force();
+		header.putLong(16, size);
+		header.force();
+		checkpoint = size;
+		journalEnd = 0;
+	}
+
+	// 컬럼 파일 하나 - 구간 단위로 필요할 때 매핑
+	// 구간 크기는 firstBytes에서 시작해 두 배씩 커지다가 maxBytes에서 멈춤 (firstBytes, firstBytes, 2 * firstBytes, ...)
+	// 구간 크기는 모두 값 크기의 배수라 값이 구간에 걸치지 않음
+	private static final class Column {
+		private final FileChannel channel;
+		private final int unit;
+		private final long firstBytes;
+		private final long maxBytes;
+		private final int growSteps; // maxBytes = firstBytes << growSteps
+		private final List<MappedByteBuffer> segments = new ArrayList<>();
+		private final List<MappedByteBuffer> dirty = new ArrayList<>();
+
+		Column(Path file, int unit, long firstBytes, long maxBytes) throws IOException {
+			this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			this.unit = unit;
+			this.firstBytes = firstBytes;
+			this.maxBytes = maxBytes;
+			this.growSteps = Long.numberOfTrailingZeros(maxBytes / firstBytes);
+		}
+
+		// position이 속한 구간 번호
+		private int index(long position) {
+			if (position >= maxBytes) {
+				return growSteps + (int) (position / maxBytes);
+			}
+			return position < firstBytes ? 0 : 64 - Long.numberOfLeadingZeros(position / firstBytes);
+		}
+
+		private long start(int index) {
+			if (index == 0) {
+				return 0;
+			}
+			return index <= growSteps + 1 ? firstBytes << (index - 1) : (index - growSteps) * maxBytes;
+		}
+
+		private MappedByteBuffer segment(int index) {
+			try {
+				while (segments.size() <= index) {
+					int k = segments.size();
+					long length = k == 0 ? firstBytes : Math.min(firstBytes << (k - 1), maxBytes);
+					segments.add(channel.map(FileChannel.MapMode.READ_WRITE, start(k), length));
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return segments.get(index);
+		}
+
+		private MappedByteBuffer write(int index) {
+			MappedByteBuffer segment = segment(index);
+			if (!dirty.contains(segment)) {
+				dirty.add(segment);
+			}
+			return segment;
+		}
+
+		void putInt(long i, int v) { int k = index(i * unit); write(k).putInt((int) (i * unit - start(k)), v); }
+		void putLong(long i, long v) { int k = index(i * unit); write(k).putLong((int) (i * unit - start(k)), v); }
+
+		int getInt(long i) { int k = index(i * unit); return segment(k).getInt((int) (i * unit - start(k))); }
+		long getLong(long i) { int k = index(i * unit); return segment(k).getLong((int) (i * unit - start(k))); }
+
+		// 바이트 열 기록/조회 (구간 경계에 걸칠 수 있음)
+		void putBytes(long position, byte[] bytes) {
+			for (int k = 0; k < bytes.length; k++) {
+				int index = index(position + k);
+				write(index).put((int) (position + k - start(index)), bytes[k]);
+			}
+		}
+
+		byte[] getBytes(long position, int length) {
+			byte[] bytes = new byte[length];
+			for (int k = 0; k < length; k++) {
+				int index = index(position + k);
+				bytes[k] = segment(index).get((int) (position + k - start(index)));
+			}
+			return bytes;
+		}
+
+		// 마지막 반영 이후 바뀐 구간만 디스크에 반영
+		void force() {
+			for (MappedByteBuffer segment : dirty) {
+				segment.force();
+			}
+			dirty.clear();
+		}
+	}
+}
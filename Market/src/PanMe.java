@@ -2,11 +2,7 @@ import java.util.Scanner;
 
 public class PanMe {
 	static int Count = 0; // 판매할 품목의 종류 수.
-	static String[] Product = new String[100]; // 판매할 품목의 이름
-	static float[] Money = new float[100]; // 구매할 품목의 가격
-	static int[] SalesCount = new int[100]; // 구매할 품목의 갯수
-	static double SalesAmount = 0; // 이익금에서 차감할 원가
-	static int SaveCount = 0; // 리스트에 저장한 품목 수
+	static final int SHOW_COUNT = 100; // 내역 화면에 보여줄 최근 항목 수 (내역은 MarketLedger 파일에 저장)
 	
 	public static void Sell() {
 		Scanner BuyCountSc = new Scanner(System.in);
@@ -17,26 +13,26 @@ public class PanMe {
 		System.out.print("판매할 품목은 몇 종류입니까? : ");
 		Count = BuyCountSc.nextInt();
 		try {
-			if(Count > 0 && Count <= 100)
+			if(Count > 0)
 			{
-				for(int i = SaveCount; i < Count + SaveCount; i++)
+				long start = MarketLedger.SALES.size(); // 이어서 입력하기 위해 저장된 항목 수부터 번호를 매김
+				for(long i = start; i < Count + start; i++)
 				{
 					System.out.print((i + 1) + "번째 폼목의 이름을 입력하세요. : ");
-					Product[i] = BuyProductSc.nextLine();
+					String product = BuyProductSc.nextLine();
 					System.out.print((i + 1) + "번째 폼목의 단가를 입력하세요. : ");
-					Money[i] = BuyMoneySc.nextFloat();
+					long money = ProfitAggregator.toCents(BuyMoneySc.next()); // 1/100원 단위 정수로 저장
 					System.out.print("몇 개를 판매하였습니까? : ");
-					SalesCount[i] = PurchaseNumSc.nextInt();
+					int count = PurchaseNumSc.nextInt();
 					
-					SalesAmount += (Money[i] * SalesCount[i]);
+					ProfitAggregator.sell(product, money, count); // 파일에 바로 저장 + 손익 집계
 				}
-				SaveCount += Count; // 리스트에 저장된 항목의 갯수를 확인해서 다음 입력시 이어서 입력하기 위해 저장
 			}
 			else {
 				System.out.println("갯수 입력이 잘못되었습니다. 다시 입력해주세요.");
 			}
 				
-		} catch (NumberFormatException e) {
+		} catch (IllegalArgumentException | ArithmeticException e) { // 숫자 형식 오류(NumberFormatException), 음수, 금액 범위 초과
 			System.out.println("입력이 잘못되었습니다. 다시 입력해주세요.");
 		}
 	}
@@ -48,15 +44,19 @@ public class PanMe {
 			Scanner sc = new Scanner(System.in);
 			System.out.println();
 			System.out.println("===== 판매 내역 =====");
-			for(int i = 0; i < SaveCount; i++)
+			MarketLedger ledger = MarketLedger.SALES;
+			long size = ledger.size();
+			long from = Math.max(0, size - SHOW_COUNT);
+			if(from > 0) System.out.println("(전체 " + size + "개 중 최근 " + SHOW_COUNT + "개)");
+			for(long i = from; i < size; i++)
 			{
 				System.out.println("[" + (i + 1) + "번 항목]");
-				System.out.println("이름 : " + Product[i]);
-				System.out.println("가격 : " + Math.round(Money[i]) + "원");
-				System.out.println("갯수 : " + SalesCount[i] + "개");
+				System.out.println("이름 : " + ledger.name(i));
+				System.out.println("가격 : " + ProfitAggregator.won(ledger.priceCents(i)) + "원");
+				System.out.println("갯수 : " + ledger.count(i) + "개");
 				System.out.println("--------------");
 			}
-			System.out.println("판매총액 : " + Math.round(SalesAmount) + "원");
+			System.out.println("판매총액 : " + ProfitAggregator.won(ledger.totalCents()) + "원"); // 누적 금액은 항목 수와 무관하게 바로 읽음
 			System.out.println("===================");
 			System.out.print("나가기(0 입력) : ");
 			choose = sc.nextInt();
@@ -0,0 +1,214 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/*
+ * 구매/판매 금액 집계 (순이익금 화면에서 사용)
+ * - 프로그램 시작 후 처음 사용할 때 장부를 한 번만 읽어 집계하고, 이후에는 Buy()/Sell() 때마다 바로 더함
+ *   -> 기간별/품목별/월별 손익을 물어볼 때 장부 전체를 다시 읽지 않음
+ * - 날짜별 합계: 날짜(epoch day)를 인덱스로 하는 long 배열 + 구간 합 트리(Fenwick tree)
+ *   -> 어떤 기간이든 합계를 O(log 날짜 수)로 계산
+ * - 품목별 합계: 품목 이름 -> 번호(HashMap), 번호별 금액/갯수는 long[]/int[] 배열
+ * - 금액은 모두 1/100원 단위 long (float/double 오차 없음), 화면에 보여줄 때만 원 단위로 반올림
+ */
+public class ProfitAggregator {
+	static final int TAX_RATE_PERCENT = 10; // 세율(%)
+
+	private static final int BASE_DAY = (int) LocalDate.of(2000, 1, 1).toEpochDay(); // 날짜 배열의 0번 날짜
+
+	private static boolean loaded = false;
+
+	// 날짜별 (인덱스 = 날짜 - BASE_DAY)
+	private static long[] buyDaily = new long[0];
+	private static long[] sellDaily = new long[0];
+	private static long[] buyTree = new long[1]; // Fenwick tree (1번부터 사용)
+	private static long[] sellTree = new long[1];
+	private static int firstDay = Integer.MAX_VALUE; // 내역이 있는 첫 날짜
+	private static int lastDay = Integer.MIN_VALUE; // 내역이 있는 마지막 날짜
+
+	// 품목별 (인덱스 = 품목 번호)
+	private static final HashMap<String, Integer> productIds = new HashMap<>();
+	private static final ArrayList<String> productNames = new ArrayList<>();
+	private static long[] buyByProduct = new long[16];
+	private static long[] sellByProduct = new long[16];
+	private static int[] buyQtyByProduct = new int[16];
+	private static int[] sellQtyByProduct = new int[16];
+
+	// 구매 기록 (장부 저장 + 집계) - 단가/갯수가 음수이면 IllegalArgumentException, 금액이 long 범위를 넘으면 ArithmeticException
+	static synchronized void buy(String product, long unitPriceCents, int quantity) {
+		long cents = totalCents(unitPriceCents, quantity); // 장부에 쓰기 전에 확인 (장부와 집계가 어긋나지 않도록)
+		load();
+		int today = today();
+		MarketLedger.PURCHASES.append(product, unitPriceCents, quantity, today);
+		add(true, product, cents, quantity, today);
+	}
+
+	// 판매 기록 (장부 저장 + 집계) - 단가/갯수가 음수이면 IllegalArgumentException, 금액이 long 범위를 넘으면 ArithmeticException
+	static synchronized void sell(String product, long unitPriceCents, int quantity) {
+		long cents = totalCents(unitPriceCents, quantity);
+		load();
+		int today = today();
+		MarketLedger.SALES.append(product, unitPriceCents, quantity, today);
+		add(false, product, cents, quantity, today);
+	}
+
+	// 단가 x 갯수 (1/100원 단위)
+	private static long totalCents(long unitPriceCents, int quantity) {
+		if (unitPriceCents < 0) throw new IllegalArgumentException("단가는 0 이상이어야 합니다: " + unitPriceCents);
+		if (quantity < 0) throw new IllegalArgumentException("갯수는 0 이상이어야 합니다: " + quantity);
+		return Math.multiplyExact(unitPriceCents, quantity);
+	}
+
+	// 기간(fromDay ~ toDay, 양 끝 포함) 구매 합계
+	static synchronized long buyCents(int fromDay, int toDay) {
+		load();
+		return rangeSum(buyTree, fromDay, toDay);
+	}
+
+	// 기간(fromDay ~ toDay, 양 끝 포함) 판매 합계
+	static synchronized long sellCents(int fromDay, int toDay) {
+		load();
+		return rangeSum(sellTree, fromDay, toDay);
+	}
+
+	static synchronized int firstDay() {
+		load();
+		return firstDay;
+	}
+
+	static synchronized int lastDay() {
+		load();
+		return lastDay;
+	}
+
+	// 품목 수와 품목별 합계 (번호는 처음 기록된 순서)
+	static synchronized int productCount() {
+		load();
+		return productNames.size();
+	}
+
+	// 품목 번호 (없으면 -1)
+	static synchronized int productId(String product) {
+		load();
+		Integer id = productIds.get(product);
+		return id == null ? -1 : id;
+	}
+
+	static synchronized String productName(int id) { return productNames.get(id); }
+	static synchronized long productBuyCents(int id) { return buyByProduct[id]; }
+	static synchronized long productSellCents(int id) { return sellByProduct[id]; }
+	static synchronized int productBuyCount(int id) { return buyQtyByProduct[id]; }
+	static synchronized int productSellCount(int id) { return sellQtyByProduct[id]; }
+
+	// 세후 이익금 (1/100원 단위, 반올림)
+	static long afterTaxCents(long profitCents) {
+		return Math.floorDiv(Math.multiplyExact(profitCents, 100 - TAX_RATE_PERCENT) + 50, 100);
+	}
+
+	// 입력한 금액 문자열 -> 1/100원 단위 (소수 셋째 자리에서 반올림)
+	static long toCents(String money) {
+		try {
+			return new BigDecimal(money.trim()).setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+		} catch (ArithmeticException e) {
+			throw new NumberFormatException(money);
+		}
+	}
+
+	// 1/100원 단위 -> 화면 표시용 원 단위 (반올림)
+	static long won(long cents) {
+		return Math.floorDiv(cents + 50, 100);
+	}
+
+	static int today() {
+		return (int) LocalDate.now().toEpochDay();
+	}
+
+	// 처음 한 번만 - 저장된 장부 전체를 읽어 집계
+	private static void load() {
+		if (loaded) return;
+		loaded = true;
+		MarketLedger ledger = MarketLedger.PURCHASES;
+		for (long i = 0; i < ledger.size(); i++)
+			add(true, ledger.name(i), Math.multiplyExact(ledger.priceCents(i), ledger.count(i)), ledger.count(i), ledger.day(i));
+		ledger = MarketLedger.SALES;
+		for (long i = 0; i < ledger.size(); i++)
+			add(false, ledger.name(i), Math.multiplyExact(ledger.priceCents(i), ledger.count(i)), ledger.count(i), ledger.day(i));
+	}
+
+	private static void add(boolean purchase, String product, long cents, int quantity, int day) {
+		// 날짜별
+		int index = Math.max(0, day - BASE_DAY);
+		if (index >= buyDaily.length) grow(index);
+		if (purchase) {
+			buyDaily[index] += cents;
+			treeAdd(buyTree, index, cents);
+		} else {
+			sellDaily[index] += cents;
+			treeAdd(sellTree, index, cents);
+		}
+		firstDay = Math.min(firstDay, day);
+		lastDay = Math.max(lastDay, day);
+
+		// 품목별
+		Integer id = productIds.get(product);
+		if (id == null) {
+			id = productNames.size();
+			productIds.put(product, id);
+			productNames.add(product);
+			if (id == buyByProduct.length) {
+				buyByProduct = Arrays.copyOf(buyByProduct, id * 2);
+				sellByProduct = Arrays.copyOf(sellByProduct, id * 2);
+				buyQtyByProduct = Arrays.copyOf(buyQtyByProduct, id * 2);
+				sellQtyByProduct = Arrays.copyOf(sellQtyByProduct, id * 2);
+			}
+		}
+		if (purchase) {
+			buyByProduct[id] += cents;
+			buyQtyByProduct[id] += quantity;
+		} else {
+			sellByProduct[id] += cents;
+			sellQtyByProduct[id] += quantity;
+		}
+	}
+
+	// 날짜 배열을 늘리고 구간 합 트리를 다시 만듦 (배열 크기는 두 배씩 늘어나므로 드물게 실행)
+	private static void grow(int index) {
+		int length = Math.max(index + 1, Math.max(1024, buyDaily.length * 2));
+		buyDaily = Arrays.copyOf(buyDaily, length);
+		sellDaily = Arrays.copyOf(sellDaily, length);
+		buyTree = build(buyDaily);
+		sellTree = build(sellDaily);
+	}
+
+	private static long[] build(long[] daily) {
+		long[] tree = new long[daily.length + 1];
+		for (int i = 1; i <= daily.length; i++) {
+			tree[i] += daily[i - 1];
+			int parent = i + (i & -i);
+			if (parent <= daily.length) tree[parent] += tree[i];
+		}
+		return tree;
+	}
+
+	private static void treeAdd(long[] tree, int index, long cents) {
+		for (int i = index + 1; i < tree.length; i += i & -i) tree[i] += cents;
+	}
+
+	// 0번부터 index번까지의 합
+	private static long prefixSum(long[] tree, int index) {
+		long sum = 0;
+		for (int i = Math.min(index + 1, tree.length - 1); i > 0; i -= i & -i) sum += tree[i];
+		return sum;
+	}
+
+	private static long rangeSum(long[] tree, int fromDay, int toDay) {
+		if (fromDay > toDay) return 0;
+		int from = Math.max(0, fromDay - BASE_DAY);
+		int to = toDay - BASE_DAY;
+		if (to < 0) return 0;
+		return prefixSum(tree, to) - prefixSum(tree, from - 1);
+	}
+}
@@ -1,19 +1,103 @@
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Scanner;
 
 public class Search {
-	static double totalAmount = 0; // 순이익금 총액
+	static long totalAmount = 0; // 순이익금 총액 (1/100원 단위)
 	
 	public static void totalMoney()
 	{
-		double amount = 0;
+		long buy = MarketLedger.PURCHASES.totalCents();
+		long sell = MarketLedger.SALES.totalCents();
+		printProfit("전체", buy, sell);
+		totalAmount = ProfitAggregator.afterTaxCents(sell - buy);
+		
+		int choose = -1;
+		Scanner sc = new Scanner(System.in);
+		while(choose != 0)
+		{
+			System.out.println("1. 기간별 손익");
+			System.out.println("2. 품목별 손익");
+			System.out.println("3. 월별 손익");
+			System.out.print("항목 선택(나가기 : 0 입력) : ");
+			choose = sc.nextInt();
+			if(choose == 1) byPeriod(sc);
+			else if(choose == 2) byProduct();
+			else if(choose == 3) byMonth();
+			else if(choose != 0) System.out.println("입력이 잘못되었습니다. 다시 입력해주세요.");
+		}
+	}
+	
+	// 기간별 - 입력한 기간의 합계를 구간 합으로 바로 계산
+	static void byPeriod(Scanner sc)
+	{
+		try {
+			System.out.print("시작 날짜(YYYY-MM-DD) : ");
+			int from = (int) LocalDate.parse(sc.next()).toEpochDay();
+			System.out.print("끝 날짜(YYYY-MM-DD) : ");
+			int to = (int) LocalDate.parse(sc.next()).toEpochDay();
+			if(from > to)
+			{
+				System.out.println("시작 날짜가 끝 날짜보다 늦습니다. 다시 입력해주세요.");
+				return;
+			}
+			printProfit(LocalDate.ofEpochDay(from) + " ~ " + LocalDate.ofEpochDay(to),
+					ProfitAggregator.buyCents(from, to), ProfitAggregator.sellCents(from, to));
+		} catch (DateTimeParseException e) {
+			System.out.println("날짜 입력이 잘못되었습니다. 다시 입력해주세요.");
+		}
+	}
+	
+	// 품목별 - 품목마다 누적된 합계를 그대로 출력
+	static void byProduct()
+	{
+		System.out.println("===== 품목별 손익 =====");
+		int count = ProfitAggregator.productCount();
+		for(int id = 0; id < count; id++)
+		{
+			long buy = ProfitAggregator.productBuyCents(id);
+			long sell = ProfitAggregator.productSellCents(id);
+			System.out.println("이름 : " + ProfitAggregator.productName(id));
+			System.out.println("구매 : " + ProfitAggregator.productBuyCount(id) + "개, " + ProfitAggregator.won(buy) + "원");
+			System.out.println("판매 : " + ProfitAggregator.productSellCount(id) + "개, " + ProfitAggregator.won(sell) + "원");
+			System.out.println("세전 이익금 : " + ProfitAggregator.won(sell - buy) + "원");
+			System.out.println("--------------");
+		}
+		if(count == 0) System.out.println("내역이 없습니다.");
 		System.out.println("===================");
-		System.out.println("구매총액 : " + Math.round(GuMe.cost) + "원");
-		System.out.println("판매총액 : " + Math.round(PanMe.SalesAmount) + "원");
+	}
+	
+	// 월별 - 내역이 있는 첫 달부터 마지막 달까지 달마다 구간 합으로 계산
+	static void byMonth()
+	{
+		System.out.println("===== 월별 손익 =====");
+		if(ProfitAggregator.productCount() == 0) System.out.println("내역이 없습니다.");
+		else
+		{
+			YearMonth last = YearMonth.from(LocalDate.ofEpochDay(ProfitAggregator.lastDay()));
+			for(YearMonth month = YearMonth.from(LocalDate.ofEpochDay(ProfitAggregator.firstDay())); !month.isAfter(last); month = month.plusMonths(1))
+			{
+				int from = (int) month.atDay(1).toEpochDay();
+				int to = (int) month.atEndOfMonth().toEpochDay();
+				long buy = ProfitAggregator.buyCents(from, to);
+				long sell = ProfitAggregator.sellCents(from, to);
+				System.out.println(month + " | 구매 " + ProfitAggregator.won(buy) + "원 | 판매 " + ProfitAggregator.won(sell) + "원 | 이익 " + ProfitAggregator.won(sell - buy) + "원");
+			}
+		}
+		System.out.println("===================");
+	}
+	
+	static void printProfit(String title, long buy, long sell)
+	{
+		long amount = sell - buy;
+		System.out.println("===== " + title + " =====");
+		System.out.println("구매총액 : " + ProfitAggregator.won(buy) + "원");
+		System.out.println("판매총액 : " + ProfitAggregator.won(sell) + "원");
 		System.out.println("-------------------");
-		amount = PanMe.SalesAmount - GuMe.cost;
-		System.out.println("세전 이익금 : " + Math.round(amount) + "원");
+		System.out.println("세전 이익금 : " + ProfitAggregator.won(amount) + "원");
 		System.out.println("-------------------");
-		totalAmount = amount * 0.9;
-		System.out.println("세후(10%) 이익금 : " + Math.round(totalAmount) + "원");
+		System.out.println("세후(" + ProfitAggregator.TAX_RATE_PERCENT + "%) 이익금 : " + ProfitAggregator.won(ProfitAggregator.afterTaxCents(amount)) + "원");
 		System.out.println("===================");
 	}
 }
@@ -1,4 +1,5 @@
 import java.sql.*;
+import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -9,6 +10,7 @@ import java.util.Scanner;
  * - 카테고리 삭제 (물품 존재 여부 확인)
  * - 카테고리 목록 조회
  * - 카테고리 중복 확인
+ * - 카테고리 목록/이름/존재 확인은 CategoryIndex(메모리 색인)에서 조회
  * 
  * 포함된 메소드:
  * - addCategory(): 카테고리 추가 메인 메소드
@@ -24,6 +26,10 @@ import java.util.Scanner;
  */
 public class CategoryManager {
 	
+	// CategoryID 발급기
+	private static final IdAllocator categoryIds = new IdAllocator("CategoryID",
+			"SELECT COALESCE(MAX(CategoryID), 0) + 1 FROM CATEGORY", 1);
+	
 	// 카테고리 추가 메인 메소드
 	public static void addCategory() {
 		Scanner sc = Main.getScanner();
@@ -59,6 +65,9 @@ public class CategoryManager {
 			
 			// 다음 카테고리 ID 조회
 			int nextCategoryId = getNextCategoryId();
+			if (nextCategoryId < 0) {
+				return;
+			}
 			
 			// 입력 정보 확인
 			System.out.println();
@@ -189,33 +198,25 @@ public class CategoryManager {
 	
 	// 전체 카테고리 목록 표시
 	public static boolean showAllCategories() {
-		String sql = "SELECT CategoryID, CategoryName FROM shopdatatable GROUP BY CategoryID, CategoryName ORDER BY CategoryID";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql);
-		     ResultSet rs = pstmt.executeQuery()) {
+		try {
+			List<CategoryIndex.Category> categories = CategoryIndex.all();
 			
 			System.out.println();
 			System.out.println("========== 카테고리 목록 ==========");
 			System.out.printf("%-10s %-20s%n", "ID", " Name");
 			System.out.println("================================");
 			
-			boolean hasCategories = false;
-			while (rs.next()) {
-				hasCategories = true;
-				int categoryId = rs.getInt("CategoryID");
-				String categoryName = rs.getString("CategoryName");
-				
-				System.out.printf("%-10d %-20s%n", categoryId, categoryName);
+			for (CategoryIndex.Category category : categories) {
+				System.out.printf("%-10d %-20s%n", category.id, category.name);
 			}
 			
-			if (!hasCategories) {
+			if (categories.isEmpty()) {
 				System.out.println("등록된 카테고리가 없습니다.");
 			} else {
 				System.out.println("================================");
 			}
 			
-			return hasCategories;
+			return !categories.isEmpty();
 			
 		} catch (SQLException e) {
 			System.out.println("카테고리 목록 조회 중 오류가 발생했습니다.");
@@ -224,42 +225,22 @@ public class CategoryManager {
 		}
 	}
 	
-	// 다음 카테고리 ID 조회
+	// 다음 카테고리 ID 조회 - ID_SEQUENCE의 "CategoryID" 시퀀스에서 발급 (MAX(CategoryID) 조회 없음)
 	private static int getNextCategoryId() {
-		String sql = "SELECT MAX(CategoryID) as maxId FROM shopdatatable";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql);
-		     ResultSet rs = pstmt.executeQuery()) {
-			
-			if (rs.next()) {
-				int maxId = rs.getInt("maxId");
-				return maxId + 1;
-			}
-			
+		try {
+			return (int) categoryIds.next();
 		} catch (SQLException e) {
 			System.out.println("카테고리 ID 조회 중 오류가 발생했습니다.");
 			e.printStackTrace();
 		}
 		
-		return 1; // 첫 번째 카테고리인 경우
+		return -1;
 	}
 	
 	// 카테고리명 중복 확인
 	private static boolean isCategoryNameExists(String categoryName) {
-		String sql = "SELECT COUNT(*) as count FROM shopdatatable WHERE CategoryName = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setString(1, categoryName);
-			
-			try (ResultSet rs = pstmt.executeQuery()) {
-				if (rs.next()) {
-					return rs.getInt("count") > 0;
-				}
-			}
-			
+		try {
+			return CategoryIndex.idOf(categoryName) != null;
 		} catch (SQLException e) {
 			System.out.println("카테고리명 중복 확인 중 오류가 발생했습니다.");
 			e.printStackTrace();
@@ -270,19 +251,8 @@ public class CategoryManager {
 	
 	// 카테고리 존재 여부 확인
 	private static boolean isCategoryExists(int categoryId) {
-		String sql = "SELECT COUNT(*) as count FROM shopdatatable WHERE CategoryID = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, categoryId);
-			
-			try (ResultSet rs = pstmt.executeQuery()) {
-				if (rs.next()) {
-					return rs.getInt("count") > 0;
-				}
-			}
-			
+		try {
+			return CategoryIndex.exists(categoryId);
 		} catch (SQLException e) {
 			System.out.println("카테고리 존재 확인 중 오류가 발생했습니다.");
 			e.printStackTrace();
@@ -293,19 +263,8 @@ public class CategoryManager {
 	
 	// 카테고리에 물품이 있는지 확인
 	private static boolean hasProductsInCategory(int categoryId) {
-		String sql = "SELECT COUNT(*) as count FROM shopdatatable WHERE CategoryID = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, categoryId);
-			
-			try (ResultSet rs = pstmt.executeQuery()) {
-				if (rs.next()) {
-					return rs.getInt("count") > 0;
-				}
-			}
-			
+		try {
+			return ProductDao.existsInCategory(categoryId);
 		} catch (SQLException e) {
 			System.out.println("카테고리 물품 존재 확인 중 오류가 발생했습니다.");
 			e.printStackTrace();
@@ -316,19 +275,11 @@ public class CategoryManager {
 	
 	// 카테고리명 조회
 	private static String getCategoryName(int categoryId) {
-		String sql = "SELECT CategoryName FROM shopdatatable WHERE CategoryID = ? LIMIT 1";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, categoryId);
-			
-			try (ResultSet rs = pstmt.executeQuery()) {
-				if (rs.next()) {
-					return rs.getString("CategoryName");
-				}
+		try {
+			String categoryName = CategoryIndex.nameOf(categoryId);
+			if (categoryName != null) {
+				return categoryName;
 			}
-			
 		} catch (SQLException e) {
 			System.out.println("카테고리명 조회 중 오류가 발생했습니다.");
 			e.printStackTrace();
@@ -339,16 +290,9 @@ public class CategoryManager {
 	
 	// 데이터베이스에 카테고리 추가
 	private static boolean insertCategory(int categoryId, String categoryName) {
-		String sql = "INSERT INTO shopdatatable (CategoryID, CategoryName) VALUES (?, ?)";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, categoryId);
-			pstmt.setString(2, categoryName);
-			
-			int result = pstmt.executeUpdate();
-			return result > 0;
+		try {
+			CategoryIndex.add(categoryId, categoryName);
+			return true;
 			
 		} catch (SQLException e) {
 			System.out.println("데이터베이스 오류가 발생했습니다.");
@@ -359,15 +303,9 @@ public class CategoryManager {
 	
 	// 데이터베이스에서 카테고리 삭제
 	private static boolean removeCategory(int categoryId) {
-		String sql = "DELETE FROM shopdatatable WHERE CategoryID = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, categoryId);
-			
-			int result = pstmt.executeUpdate();
-			return result > 0;
+		// 물품이 있는 카테고리는 삭제 전에 막으므로 CATEGORY 행만 삭제
+		try {
+			return CategoryIndex.remove(categoryId);
 			
 		} catch (SQLException e) {
 			System.out.println("데이터베이스 오류가 발생했습니다.");
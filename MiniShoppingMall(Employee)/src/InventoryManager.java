@@ -0,0 +1,333 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.TreeMap;
+
+/**
+ * ===========================================
+ *
+ * 재고 관리 클래스
+ *
+ * 주요 기능:
+ * - 물품 한 개 입고/조정 (증감 수량 입력)
+ * - 창고 재고 변동 파일 일괄 적용 (ProductID, 증감 수량)
+ *   같은 물품의 여러 줄은 메모리에서 합산한 뒤 물품마다 조건부 UPDATE 한 번
+ *   (재고가 0 미만이 되는 변동은 조건에서 빠지므로 영향받은 행 수로 판단)
+ *   모든 UPDATE와 변동 내역 INSERT를 배치로 묶어 한 트랜잭션으로 처리 (StockLedger)
+ *   -> 하나라도 실패하면 전체 취소 (일부만 반영되지 않음)
+ *   ProductID 오름차순으로 갱신하여 구매 처리(CheckoutEngine)와 같은 순서로 행을 잠금
+ * - 재고 변동 내역(STOCK_LEDGER) 기록 - 추가만 하고 수정/삭제하지 않음
+ *   (구매, 물품 추가/수정, 일괄 가져오기도 StockLedger를 거치므로 내역의 합계가 현재 재고와 같음)
+ * - 물품별 재고 변동 내역 조회
+ * - 재고 부족 현황 (StockWatcher가 이벤트로 관리하는 목록, 재고가 적은 순)
+ *
+ * 변동 파일 형식:
+ * - 한 줄에 ProductID와 증감 수량 (확장자가 .tsv이면 탭, 그 외에는 쉼표로 구분)
+ * - 첫 줄이 숫자가 아니면 컬럼명으로 보고 건너뜀
+ *
+ * 포함된 메소드:
+ * - manageInventory(): 재고 관리 메뉴
+ * - adjustSingle(): 물품 한 개 입고/조정
+ * - applyDeltaFile(): 재고 변동 파일 적용
+ * - applyDeltas(): 물품별 증감 수량을 한 트랜잭션으로 반영 + 변동 내역 기록
+ * - showLedger(): 물품별 재고 변동 내역 조회
+ * - showLowStock(): 재고 부족 현황
+ *
+ * ===========================================
+ */
+public class InventoryManager {
+
+	// 변동 내역 조회 시 표시할 최근 기록 수
+	private static final int LEDGER_ROWS = 20;
+
+	// 실패 시 표시할 물품 최대 수
+	private static final int MAX_FAILURES_SHOWN = 20;
+
+	// 변동 후 재고를 한 번에 조회할 물품 수
+	private static final int STOCK_CHUNK = 500;
+
+	// 재고 관리 메뉴
+	public static void manageInventory() {
+		Scanner sc = Main.getScanner();
+		int choose = -1;
+
+		while (choose != 0) {
+			System.out.println();
+			System.out.println("========== 재고 관리 ==========");
+			System.out.println("1. 물품 입고/조정");
+			System.out.println("2. 재고 변동 파일 적용");
+			System.out.println("3. 재고 변동 내역 조회");
+			System.out.println("4. 재고 부족 현황");
+			System.out.println("==============================");
+			System.out.print("메뉴를 선택하세요 (메인메뉴: 0): ");
+
+			try {
+				choose = Integer.parseInt(sc.nextLine());
+
+				switch (choose) {
+					case 1:
+						adjustSingle(sc);
+						break;
+					case 2:
+						System.out.print("적용할 파일 경로를 입력하세요: ");
+						applyDeltaFile(Paths.get(sc.nextLine().trim()));
+						break;
+					case 3:
+						showLedger(sc);
+						break;
+					case 4:
+						showLowStock();
+						break;
+					case 0:
+						System.out.println("메인 메뉴로 돌아갑니다.");
+						break;
+					default:
+						System.out.println("잘못된 선택입니다. 1-4번 중에서 선택해주세요.");
+				}
+			} catch (NumberFormatException e) {
+				System.out.println("올바른 숫자를 입력해주세요.");
+			}
+		}
+	}
+
+	// 물품 한 개 입고/조정
+	private static void adjustSingle(Scanner sc) {
+		System.out.print("물품 ID를 입력하세요: ");
+		int productId = Integer.parseInt(sc.nextLine().trim());
+
+		System.out.print("증감 수량을 입력하세요 (입고: 양수, 출고/폐기: 음수): ");
+		int delta = Integer.parseInt(sc.nextLine().trim());
+		if (delta == 0) {
+			System.out.println("변동이 없습니다.");
+			return;
+		}
+
+		System.out.print("사유를 입력하세요: ");
+		String reason = sc.nextLine().trim();
+		if (reason.isEmpty()) {
+			reason = delta > 0 ? "입고" : "조정";
+		}
+
+		Map<Integer, Integer> deltas = new TreeMap<>();
+		deltas.put(productId, delta);
+		Result result = applyDeltas(deltas, reason);
+		if (result != null && result.failed.isEmpty()) {
+			System.out.println("재고가 " + (delta > 0 ? "+" : "") + delta + "개 반영되었습니다.");
+		} else if (result != null) {
+			System.out.println("해당 물품이 없거나 재고가 부족합니다.");
+		}
+	}
+
+	// 재고 변동 파일 적용 (파일 전체가 하나의 트랜잭션)
+	public static void applyDeltaFile(Path file) {
+		char delimiter = ProductBulkIO.delimiterOf(file);
+
+		// ProductID 오름차순으로 합산 (같은 물품의 여러 줄은 한 번의 UPDATE로)
+		Map<Integer, Integer> deltas = new TreeMap<>();
+		int lineCount = 0;
+		List<String> errors = new ArrayList<>();
+
+		long startTime = System.currentTimeMillis();
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.trim().isEmpty()) {
+					continue;
+				}
+				List<String> fields = ProductBulkIO.splitLine(line, delimiter);
+				try {
+					int productId = Integer.parseInt(fields.get(0).trim());
+					int delta = Integer.parseInt(fields.size() > 1 ? fields.get(1).trim() : "");
+					deltas.merge(productId, delta, Integer::sum);
+					lineCount++;
+				} catch (NumberFormatException e) {
+					if (lineNumber > 1) {
+						errors.add(lineNumber + "번째 줄: " + line);
+					}
+					// 첫 줄은 컬럼명으로 보고 건너뜀
+				}
+			}
+		} catch (IOException e) {
+			System.out.println("파일을 읽을 수 없습니다: " + e.getMessage());
+			return;
+		}
+
+		if (!errors.isEmpty()) {
+			System.out.println("잘못된 줄이 있어 적용하지 않았습니다. (" + errors.size() + "줄)");
+			for (int i = 0; i < Math.min(errors.size(), MAX_FAILURES_SHOWN); i++) {
+				System.out.println("  - " + errors.get(i));
+			}
+			return;
+		}
+
+		deltas.values().removeIf(d -> d == 0); // 합산 결과 변동 없는 물품 제외
+		if (deltas.isEmpty()) {
+			System.out.println("적용할 변동이 없습니다.");
+			return;
+		}
+
+		Result result = applyDeltas(deltas, "파일 적용: " + file.getFileName());
+		if (result == null) {
+			return;
+		}
+
+		long elapsed = System.currentTimeMillis() - startTime;
+		System.out.println();
+		System.out.println("========== 재고 변동 적용 결과 ==========");
+		if (result.failed.isEmpty()) {
+			System.out.println("적용 완료: " + lineCount + "줄 → 물품 " + deltas.size() + "개");
+		} else {
+			System.out.println("물품이 없거나 재고가 부족한 물품이 있어 전체를 취소했습니다. (" + result.failed.size() + "개)");
+			for (int i = 0; i < Math.min(result.failed.size(), MAX_FAILURES_SHOWN); i++) {
+				int productId = result.failed.get(i);
+				System.out.println("  - 물품 ID " + productId + " (증감: " + deltas.get(productId) + ")");
+			}
+		}
+		System.out.println("소요 시간: " + elapsed + "ms");
+		System.out.println("======================================");
+	}
+
+	/**
+	 * 물품별 증감 수량을 한 트랜잭션으로 반영하고 변동 내역을 기록합니다.
+	 * 없는 물품이거나 재고가 0 미만이 되는 물품이 하나라도 있으면 전체를 취소합니다.
+	 * @param deltas ProductID -> 증감 수량 (ProductID 오름차순이어야 잠금 순서가 일정함)
+	 * @param reason 변동 사유 (STOCK_LEDGER.Reason)
+	 * @return 적용 결과 (DB 오류 시 null)
+	 */
+	public static Result applyDeltas(Map<Integer, Integer> deltas, String reason) {
+		int[] productIds = new int[deltas.size()];
+		int[] amounts = new int[deltas.size()];
+		int n = 0;
+		for (Map.Entry<Integer, Integer> e : deltas.entrySet()) {
+			productIds[n] = e.getKey();
+			amounts[n++] = e.getValue();
+		}
+
+		Result result = new Result();
+		try (Connection conn = Main.getConnection()) {
+			conn.setAutoCommit(false);
+			try {
+				// 조건부 증감 + 변동 내역 (하나라도 반영되지 않으면 전체 취소)
+				result.failed.addAll(StockLedger.applyDeltas(conn, productIds, amounts, reason));
+				if (!result.failed.isEmpty()) {
+					conn.rollback();
+					return result;
+				}
+
+				conn.commit();
+				ProductRangeIndex.invalidate(); // 여러 물품의 재고가 바뀌었으므로 다음 조회 때 재고 색인 다시 적재
+				try {
+					publishStock(conn, productIds);
+				} catch (SQLException e) {
+					// 재고 변동은 이미 반영됨 - 감시 목록은 다음 변경 때 바로잡힘
+				}
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+		} catch (SQLException e) {
+			System.out.println("데이터베이스 오류가 발생했습니다.");
+			e.printStackTrace();
+			return null;
+		}
+		return result;
+	}
+
+	// 변동된 물품의 현재 재고를 재고 감시(StockWatcher)에 보냄 (ProductID로 STOCK_CHUNK개씩 조회)
+	private static void publishStock(Connection conn, int[] productIds) throws SQLException {
+		for (int start = 0; start < productIds.length; start += STOCK_CHUNK) {
+			int end = Math.min(start + STOCK_CHUNK, productIds.length);
+
+			StringBuilder sql = new StringBuilder("SELECT ProductID, ProductName, StockQuantity FROM shopdatatable WHERE ProductID IN (");
+			for (int i = start; i < end; i++) {
+				sql.append(i == start ? "?" : ", ?");
+			}
+			sql.append(')');
+
+			try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+				for (int i = start; i < end; i++) {
+					pstmt.setInt(i - start + 1, productIds[i]);
+				}
+				try (ResultSet rs = pstmt.executeQuery()) {
+					while (rs.next()) {
+						StockWatcher.publish(rs.getInt("ProductID"), rs.getString("ProductName"), rs.getInt("StockQuantity"));
+					}
+				}
+			}
+		}
+	}
+
+	// 재고 부족 현황 - 재고 감시(StockWatcher)가 관리하는 목록을 재고가 적은 순으로 표시
+	private static void showLowStock() {
+		List<StockWatcher.Breach> list = StockWatcher.lowStock();
+
+		System.out.println();
+		System.out.println("========== 재고 부족 현황 (" + StockWatcher.THRESHOLD + "개 미만) ==========");
+		if (list.isEmpty()) {
+			System.out.println("재고 부족 물품이 없습니다.");
+		} else {
+			System.out.printf("%-10s %-8s %s%n", "물품 ID", "재고", "물품명");
+			System.out.println("------------------------------------------------");
+			for (StockWatcher.Breach b : list) {
+				System.out.printf("%-10d %-8d %s%n", b.getProductId(), b.getStock(), b.getProductName());
+			}
+			System.out.println("총 " + list.size() + "개의 물품이 재고 부족입니다.");
+		}
+		System.out.println("======================================");
+	}
+
+	// 물품별 재고 변동 내역 조회 (최근 순)
+	private static void showLedger(Scanner sc) {
+		System.out.print("물품 ID를 입력하세요: ");
+		int productId = Integer.parseInt(sc.nextLine().trim());
+
+		String sql = "SELECT LedgerID, Delta, Reason, CreatedAt FROM STOCK_LEDGER " +
+		             "WHERE ProductID = ? ORDER BY LedgerID DESC LIMIT ?";
+
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+			pstmt.setInt(1, productId);
+			pstmt.setInt(2, LEDGER_ROWS);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				System.out.println();
+				System.out.println("========== 물품 " + productId + " 재고 변동 내역 (최근 " + LEDGER_ROWS + "건) ==========");
+				System.out.printf("%-20s %-8s %s%n", "일시", "증감", "사유");
+				System.out.println("------------------------------------------------");
+				boolean hasRows = false;
+				while (rs.next()) {
+					hasRows = true;
+					int delta = rs.getInt("Delta");
+					System.out.printf("%-20s %-8s %s%n",
+							rs.getTimestamp("CreatedAt").toString().substring(0, 19),
+							(delta > 0 ? "+" : "") + delta,
+							rs.getString("Reason"));
+				}
+				if (!hasRows) {
+					System.out.println("변동 내역이 없습니다.");
+				}
+			}
+		} catch (SQLException e) {
+			System.out.println("데이터베이스 오류가 발생했습니다.");
+			e.printStackTrace();
+		}
+	}
+
+	// 적용 결과
+	public static final class Result {
+		// 없는 물품이거나 재고가 부족하여 반영되지 않은 ProductID
+		final List<Integer> failed = new ArrayList<>();
+	}
+}
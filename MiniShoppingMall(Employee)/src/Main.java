@@ -1,3 +1,5 @@
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Scanner;
 
 /**
@@ -7,8 +9,15 @@ import java.util.Scanner;
  * 
  * 주요 기능:
  * - 물품 추가, 수정, 삭제
- * - 재고 관리
+ * - 재고 관리 (입고/조정, 재고 변동 파일 일괄 적용, 변동 내역, 재고 부족 현황)
+ * - 재고 부족 알림 (StockWatcher - 물품 수정/재고 변동/고객 구매 시 이벤트로 감시)
  * - 상품 정보 조회
+ * - 물품 일괄 가져오기/내보내기 (CSV/TSV)
+ * - 판매 분석 (주문 내역을 백그라운드에서 집계)
+ * - 연결 풀(ConnectionPool) 관리 - 연결마다 서버 측 prepared statement를 캐시하므로
+ *   ProductDao 등의 SQL은 연결마다 한 번만 준비됨
+ * - ConnectionPool, ProductDao, IdAllocator, CategoryIndex, StockWatcher, StockLedger, Schema는 고객용과 함께 쓰는
+ *   공용 소스 폴더(MiniShoppingMall(Shared)/src, 프로젝트에는 shared로 연결)에 있음
  * 
  * ===========================================
  */
@@ -18,18 +27,40 @@ public class Main {
 	static String url = "jdbc:mysql://localhost:3306/shoppingmall"
 	           + "?useUnicode=true&characterEncoding=UTF-8"
 	           + "&serverTimezone=Asia/Seoul"
-	           + "&useSSL=false&allowPublicKeyRetrieval=true";
+	           + "&useSSL=false&allowPublicKeyRetrieval=true"
+	           + "&rewriteBatchedStatements=true" // 일괄 가져오기(ProductBulkIO)의 배치를 다중 행 INSERT로 전송
+	           // 서버 측 prepared statement를 연결마다 캐시 (같은 SQL은 연결마다 한 번만 준비)
+	           + "&useServerPrepStmts=true&cachePrepStmts=true&prepStmtCacheSize=250&prepStmtCacheSqlLimit=2048";
 	public static final String user = "root";
 	public static final String pass = "1369";
 	
+	// 모든 메뉴와 백그라운드 작업이 공유하는 연결 풀 (캐시된 prepared statement를 연결과 함께 재사용)
+	private static final ConnectionPool pool = new ConnectionPool(url, user, pass);
+	
 	// 전역 Scanner (프로그램 전체에서 공유)
 	private static Scanner globalScanner = new Scanner(System.in);
 	
 	public static void main(String[] args) {
+		// 공용 테이블 생성 (메뉴 도중에 DDL을 실행하지 않도록 시작할 때 한 번)
+		try {
+			Schema.ensure();
+		} catch (SQLException e) {
+			System.out.println("데이터베이스 초기화 중 오류가 발생했습니다.");
+			e.printStackTrace();
+			pool.shutdown();
+			return;
+		}
+		
+		// 주문 내역 -> 판매 집계 반영을 백그라운드에서 시작
+		SalesRollup.start();
+		// 재고 부족 감시 시작 (고객 구매로 생긴 재고 부족도 메뉴를 표시할 때 알림)
+		StockWatcher.start();
+		
 		try {
 			MainInterface();
 		} finally {
 			globalScanner.close();
+			pool.shutdown();
 		}
 	}
 	
@@ -38,6 +69,7 @@ public class Main {
 		int choose = -1;
 		
 		while (choose != 0) {
+			printStockAlerts();
 			System.out.println();
 			System.out.println("===== 직원용 쇼핑몰 관리 시스템 =====");
 			System.out.println("1. 물품 추가");
@@ -47,6 +79,7 @@ public class Main {
 			System.out.println("5. 카테고리 추가");
 			System.out.println("6. 카테고리 삭제");
 			System.out.println("7. 재고 관리");
+			System.out.println("8. 물품 일괄 가져오기/내보내기");
 			System.out.println("==============================");
 			System.out.print("메뉴를 선택하세요 (종료: 0): ");
 			
@@ -73,13 +106,16 @@ public class Main {
 						CategoryManager.deleteCategory();
 						break;
 					case 7:
-						System.out.println("재고 관리 기능은 준비 중입니다.");
+						InventoryManager.manageInventory();
+						break;
+					case 8:
+						ProductBulkIO.bulkProducts();
 						break;
 					case 0:
 						System.out.println("시스템을 종료합니다.");
 						break;
 					default:
-						System.out.println("잘못된 선택입니다. 1-7번 중에서 선택해주세요.");
+						System.out.println("잘못된 선택입니다. 1-8번 중에서 선택해주세요.");
 				}
 			} catch (NumberFormatException e) {
 				System.out.println("올바른 숫자를 입력해주세요.");
@@ -87,6 +123,22 @@ public class Main {
 		}
 	}
 	
+	// 새 재고 부족 알림 표시 (메뉴 입력 중에는 출력하지 않도록 메뉴를 표시하기 전에 확인)
+	private static void printStockAlerts() {
+		try {
+			for (StockWatcher.Breach b : StockWatcher.takeNewAlerts()) {
+				System.out.println("[재고 부족 알림] " + b.getProductName() + " (ID: " + b.getProductId() + ") 재고 " + b.getStock() + "개");
+			}
+		} catch (SQLException e) {
+			// 알림 확인 실패는 메뉴 사용에 영향을 주지 않음 - 다음 메뉴 표시 때 다시 확인
+		}
+	}
+	
+	// 연결 풀에서 연결 대여 (close() 호출 시 풀로 반환됨)
+	public static Connection getConnection() throws SQLException {
+		return pool.getConnection();
+	}
+	
 	// 전역 Scanner 접근 메서드
 	public static Scanner getScanner() {
 		return globalScanner;
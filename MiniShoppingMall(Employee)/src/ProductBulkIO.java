@@ -0,0 +1,550 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.stream.IntStream;
+
+/**
+ * ===========================================
+ *
+ * 물품 일괄 가져오기/내보내기 클래스
+ *
+ * 주요 기능:
+ * - CSV/TSV 파일에서 물품 일괄 등록 (공급업체 상품 목록 등)
+ *   파일을 BATCH_SIZE줄씩 읽으면서 처리하므로 파일 크기와 무관하게 메모리 사용량 일정
+ *   읽은 줄들은 병렬로 검증하고, 유효한 줄만 배치 INSERT 후 묶음마다 커밋
+ *   (Main.url의 rewriteBatchedStatements=true로 배치 하나가 다중 행 INSERT 한 문장으로 전송됨)
+ * - ProductID가 비어 있는 줄은 새 물품 - 묶음마다 한 번에 ID 구간을 임대하여 발급
+ *   (카테고리ID * 100 구간과 겹치지 않도록 일괄 등록 전용 시퀀스에서 발급, ProductManager.bulkProductIds())
+ *   ProductID가 있는 줄은 같은 카테고리의 기존 물품을 갱신 (내보낸 파일을 고쳐서 다시 가져오기 가능)
+ *   없는 ProductID나 다른 카테고리의 물품을 가리키는 줄은 오류로 건너뜀
+ * - 갱신은 ProductID의 UNIQUE 키(ON DUPLICATE KEY UPDATE)로 처리 - 키는 프로그램 시작 시 Schema가 확인/추가
+ * - 재고량은 새 물품에만 반영 - 재고 0으로 등록한 뒤 같은 트랜잭션에서 StockLedger로 입고 기록, 등록 후 재고 감시에 보냄
+ *   기존 물품의 재고량은 바꾸지 않음 (예전에 내보낸 파일을 다시 가져와도 그 뒤의 구매/입고가 되돌아가지 않도록,
+ *   기존 물품의 재고 변경은 재고 관리의 재고 변동 파일로)
+ * - shopdatatable 전체를 CSV/TSV 파일로 내보내기
+ *   결과를 한 행씩 받아(스트리밍) 바로 파일에 쓰므로 전체를 메모리에 올리지 않음
+ *
+ * 파일 형식:
+ * - 확장자가 .tsv이면 탭, 그 외에는 쉼표로 구분 (UTF-8)
+ * - 첫 줄은 컬럼명 (순서 무관, 대소문자 무시)
+ *   필수: CategoryID, ProductName, Price, StockQuantity / 선택: ProductID, Origin
+ *   (CategoryName 등 그 밖의 컬럼은 무시 - 카테고리명은 DB 기준)
+ * - CSV 값에 쉼표나 따옴표가 있으면 큰따옴표로 감쌈 (값 안의 따옴표는 두 번)
+ *
+ * 포함된 메소드:
+ * - bulkProducts(): 일괄 가져오기/내보내기 메뉴
+ * - importProducts(): 파일에서 물품 일괄 등록
+ * - exportProducts(): 전체 물품을 파일로 내보내기
+ *
+ * ===========================================
+ */
+public class ProductBulkIO {
+
+	// 한 번에 읽어 검증하고 배치로 등록할 줄 수 (배치 하나 = 커밋 하나)
+	private static final int BATCH_SIZE = 2000;
+
+	// 가져오기 후 표시할 오류 줄 최대 수
+	private static final int MAX_ERRORS_SHOWN = 20;
+
+	private static final String[] EXPORT_COLUMNS = {
+		"CategoryID", "CategoryName", "ProductID", "ProductName", "Price", "StockQuantity", "Origin"
+	};
+
+	// 일괄 가져오기/내보내기 메뉴
+	public static void bulkProducts() {
+		Scanner sc = Main.getScanner();
+		int choose = -1;
+
+		while (choose != 0) {
+			System.out.println();
+			System.out.println("======= 물품 일괄 가져오기/내보내기 =======");
+			System.out.println("1. 파일에서 물품 가져오기 (CSV/TSV)");
+			System.out.println("2. 전체 물품 파일로 내보내기 (CSV/TSV)");
+			System.out.println("======================================");
+			System.out.print("메뉴를 선택하세요 (메인메뉴: 0): ");
+
+			try {
+				choose = Integer.parseInt(sc.nextLine());
+
+				switch (choose) {
+					case 1:
+						System.out.print("가져올 파일 경로를 입력하세요: ");
+						importProducts(Paths.get(sc.nextLine().trim()));
+						break;
+					case 2:
+						System.out.print("저장할 파일 경로를 입력하세요: ");
+						exportProducts(Paths.get(sc.nextLine().trim()));
+						break;
+					case 0:
+						System.out.println("메인 메뉴로 돌아갑니다.");
+						break;
+					default:
+						System.out.println("잘못된 선택입니다. 1-2번 중에서 선택해주세요.");
+				}
+			} catch (NumberFormatException e) {
+				System.out.println("올바른 숫자를 입력해주세요.");
+			}
+		}
+	}
+
+	// 파일에서 물품 일괄 등록
+	public static void importProducts(Path file) {
+		char delimiter = delimiterOf(file);
+
+		Map<Integer, String> categories = loadCategories();
+		if (categories == null) {
+			return;
+		}
+
+		if (!Schema.hasProductIdKey()) {
+			System.out.println("같은 ProductID를 가진 물품이 여러 개 있어 가져오기를 할 수 없습니다. 중복된 물품을 정리한 뒤 다시 시도해주세요.");
+			return;
+		}
+
+		// 재고량은 갱신 목록에서 제외 - 새 물품은 재고 0으로 등록한 뒤 StockLedger로 입고 기록
+		String sql = "INSERT INTO shopdatatable (CategoryID, CategoryName, ProductID, ProductName, Price, StockQuantity, Origin) " +
+		             "VALUES (?, ?, ?, ?, ?, 0, ?) " +
+		             "ON DUPLICATE KEY UPDATE CategoryID = VALUES(CategoryID), CategoryName = VALUES(CategoryName), " +
+		             "ProductName = VALUES(ProductName), Price = VALUES(Price), Origin = VALUES(Origin)";
+		String reason = "일괄 가져오기: " + file.getFileName();
+
+		long startTime = System.currentTimeMillis();
+		int imported = 0;
+		int created = 0;
+		int invalid = 0;
+		List<String> errors = new ArrayList<>();
+
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+		     Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+			String header = reader.readLine();
+			if (header == null) {
+				System.out.println("빈 파일입니다.");
+				return;
+			}
+			Columns columns = Columns.of(splitLine(stripBom(header), delimiter));
+			if (columns == null) {
+				System.out.println("첫 줄에 필수 컬럼(CategoryID, ProductName, Price, StockQuantity)이 필요합니다.");
+				return;
+			}
+
+			conn.setAutoCommit(false);
+			try {
+				List<String> lines = new ArrayList<>(BATCH_SIZE);
+				int firstLineNumber = 2;
+				String line;
+				do {
+					line = reader.readLine();
+					if (line != null && !line.trim().isEmpty()) {
+						lines.add(line);
+					}
+					if (lines.size() == BATCH_SIZE || (line == null && !lines.isEmpty())) {
+						// 1) 병렬 검증 (결과는 줄 순서 그대로)
+						Row[] rows = parseRows(lines, delimiter, columns, categories);
+
+						// 2) ProductID가 있는 줄은 같은 카테고리의 기존 물품인지 확인
+						checkProductIds(conn, rows);
+
+						// 3) ProductID가 없는 줄에 일괄 등록용 ID 구간을 한 번에 임대하여 발급
+						assignProductIds(rows);
+
+						// 4) 유효한 줄을 배치로 등록/갱신하고, 새 물품의 재고는 입고로 기록한 뒤 묶음 단위로 커밋
+						List<Row> newRows = new ArrayList<>();
+						for (int i = 0; i < rows.length; i++) {
+							Row row = rows[i];
+							if (row.error != null) {
+								invalid++;
+								if (errors.size() < MAX_ERRORS_SHOWN) {
+									errors.add((firstLineNumber + i) + "번째 줄: " + row.error);
+								}
+								continue;
+							}
+							pstmt.setInt(1, row.categoryId);
+							pstmt.setString(2, categories.get(row.categoryId));
+							pstmt.setInt(3, row.productId);
+							pstmt.setString(4, row.productName);
+							pstmt.setDouble(5, row.price);
+							pstmt.setString(6, row.origin);
+							pstmt.addBatch();
+							imported++;
+							if (row.isNew) {
+								newRows.add(row);
+							}
+						}
+						pstmt.executeBatch();
+						recordInitialStock(conn, newRows, reason);
+						conn.commit();
+						created += newRows.size();
+						for (Row row : newRows) {
+							StockWatcher.publish(row.productId, row.productName, row.stockQuantity); // 재고 부족 감시
+						}
+
+						firstLineNumber += lines.size();
+						lines.clear();
+						System.out.println("  ... " + imported + "개 등록");
+					}
+				} while (line != null);
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+
+		} catch (IOException e) {
+			System.out.println("파일을 읽을 수 없습니다: " + e.getMessage());
+			return;
+		} catch (SQLException e) {
+			System.out.println("데이터베이스 오류가 발생했습니다. (마지막 묶음은 등록되지 않았습니다)");
+			e.printStackTrace();
+		} finally {
+			if (imported > 0) {
+				ProductSearchIndex.invalidate(); // 물품이 한꺼번에 바뀌었으므로 다음 검색 때 색인 다시 적재
+				ProductRangeIndex.invalidate();
+			}
+		}
+
+		long elapsed = System.currentTimeMillis() - startTime;
+		System.out.println();
+		System.out.println("========== 가져오기 결과 ==========");
+		System.out.println("등록/갱신: " + imported + "개 (새 물품 " + created + "개, 기존 물품의 재고량은 바꾸지 않음)");
+		System.out.println("오류로 건너뜀: " + invalid + "줄");
+		System.out.println("소요 시간: " + elapsed + "ms");
+		for (String error : errors) {
+			System.out.println("  - " + error);
+		}
+		if (invalid > errors.size()) {
+			System.out.println("  ... 외 " + (invalid - errors.size()) + "줄");
+		}
+		System.out.println("=================================");
+	}
+
+	// 전체 물품을 파일로 내보내기 (한 행씩 받아 바로 기록)
+	public static void exportProducts(Path file) {
+		char delimiter = delimiterOf(file);
+		String sql = "SELECT CategoryID, CategoryName, ProductID, ProductName, Price, StockQuantity, Origin " +
+		             "FROM shopdatatable WHERE ProductID IS NOT NULL ORDER BY CategoryID, ProductID";
+
+		long startTime = System.currentTimeMillis();
+		int exported = 0;
+
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+		     Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+			pstmt.setFetchSize(Integer.MIN_VALUE); // 한 행씩 받아 바로 기록
+
+			String[] values = new String[EXPORT_COLUMNS.length];
+			writeLine(writer, EXPORT_COLUMNS, delimiter);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				while (rs.next()) {
+					values[0] = rs.getString("CategoryID");
+					values[1] = rs.getString("CategoryName");
+					values[2] = rs.getString("ProductID");
+					values[3] = rs.getString("ProductName");
+					BigDecimal price = rs.getBigDecimal("Price");
+					values[4] = price == null ? null : price.toPlainString(); // 소수 가격도 그대로 (다시 가져와도 값이 바뀌지 않도록)
+					values[5] = rs.getString("StockQuantity");
+					values[6] = rs.getString("Origin");
+					writeLine(writer, values, delimiter);
+					exported++;
+				}
+			}
+
+		} catch (IOException e) {
+			System.out.println("파일을 쓸 수 없습니다: " + e.getMessage());
+			return;
+		} catch (SQLException e) {
+			System.out.println("데이터베이스 오류가 발생했습니다.");
+			e.printStackTrace();
+			return;
+		}
+
+		long elapsed = System.currentTimeMillis() - startTime;
+		System.out.println();
+		System.out.println(exported + "개 물품을 내보냈습니다. (" + file.toAbsolutePath() + ", " + elapsed + "ms)");
+	}
+
+	// 카테고리 목록 (CategoryID -> CategoryName)
+	private static Map<Integer, String> loadCategories() {
+		try {
+			Map<Integer, String> categories = new HashMap<>();
+			for (CategoryIndex.Category category : CategoryIndex.all()) {
+				categories.put(category.id, category.name);
+			}
+			return categories;
+		} catch (SQLException e) {
+			System.out.println("데이터베이스 오류가 발생했습니다.");
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	// 읽은 줄들을 병렬로 검증 (결과 배열의 순서는 줄 순서와 같음)
+	private static Row[] parseRows(List<String> lines, char delimiter, Columns columns, Map<Integer, String> categories) {
+		Row[] rows = new Row[lines.size()];
+		IntStream.range(0, rows.length).parallel()
+				.forEach(i -> rows[i] = parseRow(splitLine(lines.get(i), delimiter), columns, categories));
+		return rows;
+	}
+
+	// 한 줄 검증 - 오류가 있으면 Row.error에 사유 기록
+	private static Row parseRow(List<String> fields, Columns columns, Map<Integer, String> categories) {
+		Row row = new Row();
+		try {
+			row.categoryId = Integer.parseInt(field(fields, columns.categoryId));
+		} catch (NumberFormatException e) {
+			return row.fail("CategoryID가 숫자가 아닙니다.");
+		}
+		if (!categories.containsKey(row.categoryId)) {
+			return row.fail("존재하지 않는 카테고리입니다. (CategoryID: " + row.categoryId + ")");
+		}
+
+		row.productName = field(fields, columns.productName);
+		if (row.productName.isEmpty()) {
+			return row.fail("상품명은 필수입니다.");
+		}
+
+		try {
+			row.price = Double.parseDouble(field(fields, columns.price));
+		} catch (NumberFormatException e) {
+			return row.fail("가격이 숫자가 아닙니다.");
+		}
+		if (!Double.isFinite(row.price)) {
+			return row.fail("가격이 숫자가 아닙니다."); // NaN, Infinity
+		}
+		if (row.price < 0) {
+			return row.fail("가격은 0원 이상이어야 합니다.");
+		}
+
+		try {
+			row.stockQuantity = Integer.parseInt(field(fields, columns.stockQuantity));
+		} catch (NumberFormatException e) {
+			return row.fail("재고량이 숫자가 아닙니다.");
+		}
+		if (row.stockQuantity < 0) {
+			return row.fail("재고량은 0개 이상이어야 합니다.");
+		}
+
+		String productId = field(fields, columns.productId);
+		if (!productId.isEmpty()) {
+			try {
+				row.productId = Integer.parseInt(productId);
+			} catch (NumberFormatException e) {
+				return row.fail("ProductID가 숫자가 아닙니다.");
+			}
+			if (row.productId <= 0) {
+				return row.fail("ProductID는 1 이상이어야 합니다.");
+			}
+		}
+
+		row.origin = field(fields, columns.origin);
+		if (row.origin.isEmpty()) {
+			row.origin = "미입력";
+		}
+		return row;
+	}
+
+	// 새 물품의 처음 재고를 입고로 기록 (등록과 같은 트랜잭션, ProductID 오름차순으로 잠금)
+	private static void recordInitialStock(Connection conn, List<Row> newRows, String reason) throws SQLException {
+		if (newRows.isEmpty()) {
+			return;
+		}
+		newRows.sort((a, b) -> Integer.compare(a.productId, b.productId));
+		int[] productIds = new int[newRows.size()];
+		int[] stocks = new int[newRows.size()];
+		for (int i = 0; i < productIds.length; i++) {
+			productIds[i] = newRows.get(i).productId;
+			stocks[i] = newRows.get(i).stockQuantity;
+		}
+		List<Integer> failed = StockLedger.applyDeltas(conn, productIds, stocks, reason);
+		if (!failed.isEmpty()) {
+			throw new SQLException("새 물품의 재고를 기록하지 못했습니다. (ProductID: " + failed + ")");
+		}
+	}
+
+	// ProductID가 있는 유효한 줄 확인 - 그 ID의 기존 물품이 있고 카테고리가 같아야 함
+	// (새 물품은 ProductID를 비워 두어야 발급기와 겹치거나 다른 카테고리의 물품을 덮어쓰지 않음)
+	private static void checkProductIds(Connection conn, Row[] rows) throws SQLException {
+		List<Row> explicit = new ArrayList<>();
+		for (Row row : rows) {
+			if (row.error == null && row.productId != 0) {
+				explicit.add(row);
+			}
+		}
+		if (explicit.isEmpty()) {
+			return;
+		}
+
+		StringBuilder sql = new StringBuilder("SELECT ProductID, CategoryID FROM shopdatatable WHERE ProductID IN (");
+		for (int i = 0; i < explicit.size(); i++) {
+			sql.append(i == 0 ? "?" : ", ?");
+		}
+		sql.append(')');
+
+		Map<Integer, Integer> existing = new HashMap<>();
+		try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+			for (int i = 0; i < explicit.size(); i++) {
+				pstmt.setInt(i + 1, explicit.get(i).productId);
+			}
+			try (ResultSet rs = pstmt.executeQuery()) {
+				while (rs.next()) {
+					existing.put(rs.getInt(1), rs.getInt(2));
+				}
+			}
+		}
+
+		for (Row row : explicit) {
+			Integer categoryId = existing.get(row.productId);
+			if (categoryId == null) {
+				row.fail("없는 ProductID입니다. (ProductID: " + row.productId + ", 새 물품은 ProductID를 비워 두세요)");
+			} else if (categoryId != row.categoryId) {
+				row.fail("다른 카테고리의 물품입니다. (ProductID: " + row.productId + ", CategoryID: " + categoryId + ")");
+			}
+		}
+	}
+
+	// ProductID가 없는 유효한 줄에 일괄 등록용 시퀀스에서 연속된 ID 구간을 한 번에 임대하여 발급
+	private static void assignProductIds(Row[] rows) throws SQLException {
+		int needed = 0;
+		for (Row row : rows) {
+			if (row.error == null && row.productId == 0) {
+				needed++;
+			}
+		}
+		if (needed == 0) {
+			return;
+		}
+
+		long nextId = ProductManager.bulkProductIds().reserve(needed);
+		for (Row row : rows) {
+			if (row.error == null && row.productId == 0) {
+				row.productId = (int) nextId++;
+				row.isNew = true;
+			}
+		}
+	}
+
+	// 확장자가 .tsv이면 탭, 그 외에는 쉼표
+	static char delimiterOf(Path file) {
+		return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".tsv") ? '\t' : ',';
+	}
+
+	// UTF-8 BOM 제거 (엑셀에서 저장한 CSV)
+	private static String stripBom(String line) {
+		return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+	}
+
+	// 컬럼 값 (없는 컬럼이면 빈 문자열)
+	private static String field(List<String> fields, int index) {
+		return index >= 0 && index < fields.size() ? fields.get(index).trim() : "";
+	}
+
+	// 한 줄을 값 목록으로 분리 (큰따옴표로 감싼 값 지원)
+	static List<String> splitLine(String line, char delimiter) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder sb = new StringBuilder();
+		boolean quoted = false;
+
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"') {
+					if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						sb.append('"');
+						i++;
+					} else {
+						quoted = false;
+					}
+				} else {
+					sb.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == delimiter) {
+				fields.add(sb.toString());
+				sb.setLength(0);
+			} else {
+				sb.append(c);
+			}
+		}
+		fields.add(sb.toString());
+		return fields;
+	}
+
+	// 값 목록을 한 줄로 기록 (구분자/따옴표/줄바꿈이 있는 값은 큰따옴표로 감쌈)
+	private static void writeLine(BufferedWriter writer, String[] values, char delimiter) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(delimiter);
+			}
+			String value = values[i] == null ? "" : values[i];
+			if (value.indexOf(delimiter) >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+				writer.write('"');
+				writer.write(value.replace("\"", "\"\"").replace('\r', ' ').replace('\n', ' '));
+				writer.write('"');
+			} else {
+				writer.write(value);
+			}
+		}
+		writer.newLine();
+	}
+
+	// 첫 줄(컬럼명)로 정한 컬럼 위치
+	private static final class Columns {
+		int categoryId = -1;
+		int productId = -1;
+		int productName = -1;
+		int price = -1;
+		int stockQuantity = -1;
+		int origin = -1;
+
+		// 필수 컬럼이 없으면 null
+		static Columns of(List<String> header) {
+			Columns c = new Columns();
+			for (int i = 0; i < header.size(); i++) {
+				switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+					case "categoryid":    c.categoryId = i; break;
+					case "productid":     c.productId = i; break;
+					case "productname":   c.productName = i; break;
+					case "price":         c.price = i; break;
+					case "stockquantity": c.stockQuantity = i; break;
+					case "origin":        c.origin = i; break;
+					default: // 무시
+				}
+			}
+			boolean complete = c.categoryId >= 0 && c.productName >= 0 && c.price >= 0 && c.stockQuantity >= 0;
+			return complete ? c : null;
+		}
+	}
+
+	// 검증된 한 줄
+	private static final class Row {
+		int categoryId;
+		int productId; // 0이면 새로 발급
+		boolean isNew; // 새로 발급한 ProductID (재고량을 입고로 기록)
+		String productName;
+		double price;
+		int stockQuantity;
+		String origin;
+		String error;
+
+		Row fail(String reason) {
+			this.error = reason;
+			return this;
+		}
+	}
+}
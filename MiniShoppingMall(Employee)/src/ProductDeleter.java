@@ -56,7 +56,7 @@ public class ProductDeleter {
 			}
 			
 			// 선택된 물품 정보 조회
-			ProductInfo product = getProductById(productId);
+			ProductDao.Product product = getProductById(productId);
 			if (product == null) {
 				System.out.println("해당 ID의 물품을 찾을 수 없습니다.");
 				Main.MainInterface();
@@ -112,31 +112,21 @@ public class ProductDeleter {
 	
 	// 물품 목록 표시
 	private static boolean showProductList() {
-		String sql = "SELECT ProductID, ProductName FROM shopdatatable ORDER BY ProductID";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql);
-		     ResultSet rs = pstmt.executeQuery()) {
-			
+		try {
 			System.out.println();
 			System.out.println("========= 물품 목록 =========");
 			
-			boolean hasProducts = false;
-			while (rs.next()) {
-				hasProducts = true;
-				int productId = rs.getInt("ProductID");
-				String productName = rs.getString("ProductName");
-				
-				System.out.println("품목ID: " + productId);
-				System.out.println("품목명: " + productName);
+			int count = ProductDao.forEach(product -> {
+				System.out.println("품목ID: " + product.productId);
+				System.out.println("품목명: " + product.productName);
 				System.out.println("------------------------");
-			}
+			});
 			
-			if (!hasProducts) {
+			if (count == 0) {
 				System.out.println("등록된 물품이 없습니다.");
 			}
 			
-			return hasProducts;
+			return count > 0;
 			
 		} catch (SQLException e) {
 			System.out.println("물품 목록 조회 중 오류가 발생했습니다.");
@@ -146,28 +136,9 @@ public class ProductDeleter {
 	}
 	
 	// 특정 물품 정보 조회
-	private static ProductInfo getProductById(int productId) {
-		String sql = "SELECT ProductID, ProductName, Price, StockQuantity, Origin, CategoryName " +
-		             "FROM shopdatatable WHERE ProductID = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, productId);
-			
-			try (ResultSet rs = pstmt.executeQuery()) {
-				if (rs.next()) {
-					return new ProductInfo(
-						rs.getInt("ProductID"),
-						rs.getString("ProductName"),
-						rs.getDouble("Price"),
-						rs.getInt("StockQuantity"),
-						rs.getString("Origin"),
-						rs.getString("CategoryName")
-					);
-				}
-			}
-			
+	private static ProductDao.Product getProductById(int productId) {
+		try {
+			return ProductDao.findById(productId);
 		} catch (SQLException e) {
 			System.out.println("물품 정보 조회 중 오류가 발생했습니다.");
 			e.printStackTrace();
@@ -178,15 +149,13 @@ public class ProductDeleter {
 	
 	// 데이터베이스에서 물품 삭제
 	private static boolean removeProduct(int productId) {
-		String sql = "DELETE FROM shopdatatable WHERE ProductID = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, productId);
-			
-			int result = pstmt.executeUpdate();
-			return result > 0;
+		try {
+			boolean result = ProductDao.delete(productId);
+			if (result) {
+				ProductSearchIndex.remove(productId);
+				ProductRangeIndex.remove(productId);
+			}
+			return result;
 			
 		} catch (SQLException e) {
 			System.out.println("데이터베이스 오류가 발생했습니다.");
@@ -194,24 +163,4 @@ public class ProductDeleter {
 			return false;
 		}
 	}
-	
-	// 물품 정보를 저장하는 내부 클래스
-	static class ProductInfo {
-		int productId;
-		String productName;
-		double price;
-		int stockQuantity;
-		String origin;
-		String category;
-		
-		public ProductInfo(int productId, String productName, double price, 
-		                  int stockQuantity, String origin, String category) {
-			this.productId = productId;
-			this.productName = productName;
-			this.price = price;
-			this.stockQuantity = stockQuantity;
-			this.origin = origin;
-			this.category = category;
-		}
-	}
 }
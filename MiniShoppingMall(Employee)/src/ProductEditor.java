@@ -55,7 +55,7 @@ public class ProductEditor {
 			}
 			
 			// 선택된 물품 정보 조회
-			ProductInfo product = getProductById(productId);
+			ProductDao.Product product = getProductById(productId);
 			if (product == null) {
 				System.out.println("해당 ID의 물품을 찾을 수 없습니다.");
 				Main.MainInterface();
@@ -184,31 +184,21 @@ public class ProductEditor {
 	
 	// 물품 목록 표시
 	private static boolean showProductList() {
-		String sql = "SELECT ProductID, ProductName FROM shopdatatable ORDER BY ProductID";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql);
-		     ResultSet rs = pstmt.executeQuery()) {
-			
+		try {
 			System.out.println();
 			System.out.println("========= 물품 목록 =========");
 			
-			boolean hasProducts = false;
-			while (rs.next()) {
-				hasProducts = true;
-				int productId = rs.getInt("ProductID");
-				String productName = rs.getString("ProductName");
-				
-				System.out.println("품목ID: " + productId);
-				System.out.println("품목명: " + productName);
+			int count = ProductDao.forEach(product -> {
+				System.out.println("품목ID: " + product.productId);
+				System.out.println("품목명: " + product.productName);
 				System.out.println("------------------------");
-			}
+			});
 			
-			if (!hasProducts) {
+			if (count == 0) {
 				System.out.println("등록된 물품이 없습니다.");
 			}
 			
-			return hasProducts;
+			return count > 0;
 			
 		} catch (SQLException e) {
 			System.out.println("물품 목록 조회 중 오류가 발생했습니다.");
@@ -218,28 +208,9 @@ public class ProductEditor {
 	}
 	
 	// 특정 물품 정보 조회
-	private static ProductInfo getProductById(int productId) {
-		String sql = "SELECT ProductID, ProductName, Price, StockQuantity, Origin, CategoryName " +
-		             "FROM shopdatatable WHERE ProductID = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, productId);
-			
-			try (ResultSet rs = pstmt.executeQuery()) {
-				if (rs.next()) {
-					return new ProductInfo(
-						rs.getInt("ProductID"),
-						rs.getString("ProductName"),
-						rs.getDouble("Price"),
-						rs.getInt("StockQuantity"),
-						rs.getString("Origin"),
-						rs.getString("CategoryName")
-					);
-				}
-			}
-			
+	private static ProductDao.Product getProductById(int productId) {
+		try {
+			return ProductDao.findById(productId);
 		} catch (SQLException e) {
 			System.out.println("물품 정보 조회 중 오류가 발생했습니다.");
 			e.printStackTrace();
@@ -251,21 +222,31 @@ public class ProductEditor {
 	// 데이터베이스에서 물품 정보 수정
 	private static boolean updateProduct(int productId, String productName, double price, 
 	                                   int stockQuantity, String origin, String category) {
-		String sql = "UPDATE shopdatatable SET ProductName = ?, Price = ?, StockQuantity = ?, " +
-		             "Origin = ?, CategoryName = ? WHERE ProductID = ?";
+		// 카테고리명과 함께 CategoryID도 변경 (CATEGORY 테이블 기준)
+		Integer categoryId;
+		try {
+			categoryId = CategoryIndex.idOf(category);
+		} catch (SQLException e) {
+			System.out.println("데이터베이스 오류가 발생했습니다.");
+			e.printStackTrace();
+			return false;
+		}
+		if (categoryId == null) {
+			System.out.println("존재하지 않는 카테고리입니다.");
+			return false;
+		}
 		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setString(1, productName);
-			pstmt.setDouble(2, price);
-			pstmt.setInt(3, stockQuantity);
-			pstmt.setString(4, origin);
-			pstmt.setString(5, category);
-			pstmt.setInt(6, productId);
+		try {
+			ProductDao.Product product = new ProductDao.Product(productId, productName, price, stockQuantity,
+					origin, categoryId, category);
 			
-			int result = pstmt.executeUpdate();
-			return result > 0;
+			boolean result = ProductDao.update(product);
+			if (result) {
+				ProductSearchIndex.put(productId, productName); // 상품명 검색 색인 갱신
+				ProductRangeIndex.put(productId, price, stockQuantity); // 가격/재고 색인 갱신
+				StockWatcher.publish(productId, productName, stockQuantity); // 재고 부족 감시
+			}
+			return result;
 			
 		} catch (SQLException e) {
 			System.out.println("데이터베이스 오류가 발생했습니다.");
@@ -274,41 +255,10 @@ public class ProductEditor {
 		}
 	}
 	
-	// 물품 정보를 저장하는 내부 클래스
-	static class ProductInfo {
-		int productId;
-		String productName;
-		double price;
-		int stockQuantity;
-		String origin;
-		String category;
-		
-		public ProductInfo(int productId, String productName, double price, 
-		                  int stockQuantity, String origin, String category) {
-			this.productId = productId;
-			this.productName = productName;
-			this.price = price;
-			this.stockQuantity = stockQuantity;
-			this.origin = origin;
-			this.category = category;
-		}
-	}
-	
 	// 카테고리가 데이터베이스에 존재하는지 확인하는 메서드
 	private static boolean isCategoryExists(String categoryName) {
-		String sql = "SELECT COUNT(*) FROM shopdatatable WHERE CategoryName = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setString(1, categoryName);
-			
-			try (ResultSet rs = pstmt.executeQuery()) {
-				if (rs.next()) {
-					return rs.getInt(1) > 0;
-				}
-			}
-			
+		try {
+			return CategoryIndex.idOf(categoryName) != null;
 		} catch (SQLException e) {
 			System.out.println("카테고리 확인 중 오류가 발생했습니다.");
 			e.printStackTrace();
@@ -1,5 +1,8 @@
 import java.sql.*;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ===========================================
@@ -22,6 +25,17 @@ import java.util.Scanner;
  */
 public class ProductManager {
 	
+	// 일괄 등록(ProductBulkIO)용 ProductID의 시작 값 - 이 값 이상은 카테고리ID * 100 구간과 겹치지 않는 공용 구간
+	static final int BULK_PRODUCT_ID_BASE = 1_000_000;
+	
+	// 카테고리ID별 ProductID 발급기
+	private static final Map<Integer, IdAllocator> productIdAllocators = new ConcurrentHashMap<>();
+	
+	// 일괄 등록용 ProductID 발급기 (카테고리와 무관한 시퀀스 하나, BULK_PRODUCT_ID_BASE 이상에서 발급)
+	private static final IdAllocator bulkProductIds = new IdAllocator("ProductID:bulk",
+			"SELECT GREATEST(COALESCE(MAX(ProductID), 0) + 1, ?) FROM shopdatatable",
+			1, BULK_PRODUCT_ID_BASE);
+	
 	// 물품 추가 메인 메소드
 	public static void addProduct() {
 		Scanner sc = Main.getScanner();
@@ -88,6 +102,11 @@ public class ProductManager {
 			
 			// 6. 다음 ProductID 생성
 			int productId = getNextProductId(categoryId);
+			if (productId < 0) {
+				System.out.println("물품 추가에 실패했습니다. 다시 시도해주세요.");
+				Main.MainInterface();
+				return;
+			}
 			
 			// 7. 입력 정보 확인
 			System.out.println();
@@ -106,6 +125,9 @@ public class ProductManager {
 			if (confirm.equalsIgnoreCase("y") || confirm.equalsIgnoreCase("yes")) {
 				// 데이터베이스에 물품 추가
 				if (insertProduct(productId, productName, price, stockQuantity, origin, categoryId)) {
+					ProductSearchIndex.put(productId, productName);
+					ProductRangeIndex.put(productId, price, stockQuantity);
+					StockWatcher.publish(productId, productName, stockQuantity);
 					System.out.println();
 					System.out.println("물품이 성공적으로 추가되었습니다!");
 					System.out.println("상품 ID: " + productId);
@@ -163,31 +185,23 @@ public class ProductManager {
 	
 	// 카테고리 목록 표시
 	private static boolean showAllCategories() {
-		String sql = "SELECT DISTINCT CategoryID, CategoryName FROM shopdatatable ORDER BY CategoryID";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql);
-		     ResultSet rs = pstmt.executeQuery()) {
+		try {
+			List<CategoryIndex.Category> categories = CategoryIndex.all();
 			
 			System.out.printf("%-10s %-20s%n", "ID", " Name");
 			System.out.println("=============================");
 			
-			boolean hasCategories = false;
-			while (rs.next()) {
-				hasCategories = true;
-				int categoryId = rs.getInt("CategoryID");
-				String categoryName = rs.getString("CategoryName");
-				
-				System.out.printf("%-10d %-20s%n", categoryId, categoryName);
+			for (CategoryIndex.Category category : categories) {
+				System.out.printf("%-10d %-20s%n", category.id, category.name);
 			}
 			
-			if (!hasCategories) {
+			if (categories.isEmpty()) {
 				System.out.println("등록된 카테고리가 없습니다.");
 			} else {
 				System.out.println("=====================================");
 			}
 			
-			return hasCategories;
+			return !categories.isEmpty();
 			
 		} catch (SQLException e) {
 			System.out.println("카테고리 목록 조회 중 오류가 발생했습니다.");
@@ -198,19 +212,8 @@ public class ProductManager {
 	
 	// 카테고리 존재 여부 확인
 	private static boolean isCategoryExists(int categoryId) {
-		String sql = "SELECT COUNT(*) as count FROM shopdatatable WHERE CategoryID = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, categoryId);
-			
-			try (ResultSet rs = pstmt.executeQuery()) {
-				if (rs.next()) {
-					return rs.getInt("count") > 0;
-				}
-			}
-			
+		try {
+			return CategoryIndex.exists(categoryId);
 		} catch (SQLException e) {
 			System.out.println("카테고리 존재 확인 중 오류가 발생했습니다.");
 			e.printStackTrace();
@@ -220,45 +223,29 @@ public class ProductManager {
 	}
 	
 	// 다음 ProductID 생성 (카테고리ID + 순차번호)
+	// 카테고리마다 ID_SEQUENCE의 시퀀스("ProductID:카테고리ID")에서 발급 - MAX(ProductID) 조회 및 동시 등록 충돌 없음
 	private static int getNextProductId(int categoryId) {
-		String sql = "SELECT MAX(ProductID) as maxId FROM shopdatatable WHERE CategoryID = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, categoryId);
-			
-			try (ResultSet rs = pstmt.executeQuery()) {
-				if (rs.next()) {
-					int maxId = rs.getInt("maxId");
-					
-					if (maxId == 0) {
-						// 해당 카테고리의 첫 번째 물품
-						return categoryId * 100 + 1;
-					} else {
-						// 기존 물품이 있는 경우, 다음 번호 생성
-						String maxIdStr = String.valueOf(maxId);
-						String categoryIdStr = String.valueOf(categoryId);
-						
-						// 카테고리ID로 시작하는 ProductID인지 확인
-						if (maxIdStr.startsWith(categoryIdStr)) {
-						// 다음 순차번호 생성
-						return maxId + 1;
-						} else {
-							// 카테고리ID로 시작하지 않는 경우, 새로 시작
-							return categoryId * 100 + 1;
-						}
-					}
-				}
-			}
-			
+		try {
+			return (int) productIds(categoryId).next();
 		} catch (SQLException e) {
 			System.out.println("ProductID 생성 중 오류가 발생했습니다.");
 			e.printStackTrace();
+			return -1;
 		}
-		
-		// 오류 발생 시 기본값 반환
-		return categoryId * 100 + 1;
+	}
+	
+	// 카테고리별 ProductID 발급기 (처음 사용 시 기존 최댓값 다음, 또는 카테고리ID * 100 + 1부터 시작)
+	// 일괄 등록 구간(BULK_PRODUCT_ID_BASE 이상)의 ID는 시작 값 계산에서 제외 - 그 구간은 bulkProductIds()가 발급
+	static IdAllocator productIds(int categoryId) {
+		return productIdAllocators.computeIfAbsent(categoryId, id -> new IdAllocator("ProductID:" + id,
+				"SELECT GREATEST(COALESCE(MAX(ProductID), 0) + 1, ? * 100 + 1) FROM shopdatatable " +
+				"WHERE CategoryID = ? AND ProductID < ?",
+				1, id, id, BULK_PRODUCT_ID_BASE));
+	}
+	
+	// 일괄 등록용 ProductID 발급기
+	static IdAllocator bulkProductIds() {
+		return bulkProductIds;
 	}
 	
 	// 데이터베이스에 물품 추가
@@ -271,21 +258,9 @@ public class ProductManager {
 			return false;
 		}
 		
-		String sql = "INSERT INTO shopdatatable (CategoryID, CategoryName, ProductID, ProductName, Price, StockQuantity, Origin) VALUES (?, ?, ?, ?, ?, ?, ?)";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, categoryId);
-			pstmt.setString(2, categoryName);
-			pstmt.setInt(3, productId);
-			pstmt.setString(4, productName);
-			pstmt.setDouble(5, price);
-			pstmt.setInt(6, stockQuantity);
-			pstmt.setString(7, origin);
-			
-			int result = pstmt.executeUpdate();
-			return result > 0;
+		try {
+			return ProductDao.insert(new ProductDao.Product(productId, productName, price, stockQuantity,
+					origin, categoryId, categoryName));
 			
 		} catch (SQLException e) {
 			System.out.println("데이터베이스 오류가 발생했습니다.");
@@ -296,19 +271,8 @@ public class ProductManager {
 	
 	// CategoryID로부터 CategoryName 조회
 	private static String getCategoryName(int categoryId) {
-		String sql = "SELECT CategoryName FROM shopdatatable WHERE CategoryID = ? LIMIT 1";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setInt(1, categoryId);
-			
-			try (ResultSet rs = pstmt.executeQuery()) {
-				if (rs.next()) {
-					return rs.getString("CategoryName");
-				}
-			}
-			
+		try {
+			return CategoryIndex.nameOf(categoryId);
 		} catch (SQLException e) {
 			System.out.println("카테고리 조회 중 오류가 발생했습니다.");
 			e.printStackTrace();
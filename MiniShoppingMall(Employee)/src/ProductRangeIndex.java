@@ -0,0 +1,355 @@
+import java.sql.*;
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 가격대별/재고량별 조회용 메모리 정렬 색인 (조회마다 전체 테이블을 읽는 WHERE Price/StockQuantity 조건 대체)
+ * - 가격순(가격, ProductID)과 재고순(재고량, ProductID)으로 정렬한 기본형 배열을 이진 탐색하여
+ *   범위에 드는 ProductID를 바로 찾음 (물품 수 n, 결과 수 k일 때 O(log n + k))
+ * - 적재 시 세 가지 순서를 기본형 슬롯 번호 배열의 병합 정렬로 만듦 (Integer 박싱 없음)
+ * - 물품 한 개의 변경은 읽기/쓰기 잠금의 쓰기 잠금을 잡고 배열 안에서 바로 고침 (배열을 새로 만들지 않음)
+ *   조회는 읽기 잠금을 잡고 결과 범위만 복사
+ * - 처음 조회할 때 DB에서 한 번 적재하고, 이 프로그램에서 물품을 추가/수정/삭제하면 색인을 바로 갱신
+ *   고객 구매처럼 다른 프로그램에서 바뀐 재고는 TTL이 지나면 다시 적재하여 반영
+ *
+ * 포함된 메소드:
+ * - byPrice(): 가격 범위의 ProductID (가격순)
+ * - byStock(): 재고량 범위의 ProductID (재고순)
+ * - put(): 물품 추가/가격·재고 변경 반영
+ * - remove(): 물품 삭제 반영
+ * - invalidate(): 색인 폐기 (다음 조회 시 다시 적재)
+ *
+ * ===========================================
+ */
+public class ProductRangeIndex {
+
+	// 색인 유지 시간 - 다른 프로그램에서 바뀐 가격/재고는 이 시간 안에 반영됨
+	private static final long TTL_MS = 30_000;
+
+	private static volatile Index current;
+
+	/**
+	 * 가격이 minPrice 이상 maxPrice 이하인 물품의 ProductID를 가격순(같은 가격은 ProductID순)으로 반환합니다.
+	 */
+	public static int[] byPrice(double minPrice, double maxPrice) throws SQLException {
+		Index s = index();
+		Lock lock = s.lock.readLock();
+		lock.lock();
+		try {
+			int from = lowerBound(s.prices, s.priceIds, s.size, minPrice, Integer.MIN_VALUE);
+			int to = lowerBound(s.prices, s.priceIds, s.size, Math.nextUp(maxPrice), Integer.MIN_VALUE);
+			return Arrays.copyOfRange(s.priceIds, from, Math.max(from, to));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 재고량이 minStock 이상 maxStock 이하인 물품의 ProductID를 재고순(같은 재고는 ProductID순)으로 반환합니다.
+	 */
+	public static int[] byStock(int minStock, int maxStock) throws SQLException {
+		Index s = index();
+		Lock lock = s.lock.readLock();
+		lock.lock();
+		try {
+			int from = lowerBound(s.stocks, s.stockIds, s.size, minStock, Integer.MIN_VALUE);
+			int to = maxStock == Integer.MAX_VALUE ? s.size
+					: lowerBound(s.stocks, s.stockIds, s.size, maxStock + 1, Integer.MIN_VALUE);
+			return Arrays.copyOfRange(s.stockIds, from, Math.max(from, to));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 물품 추가 또는 가격/재고 변경 반영 (색인이 아직 없으면 다음 적재 때 반영됨)
+	public static synchronized void put(int productId, double price, int stock) {
+		Index s = current;
+		if (s != null) {
+			s.put(productId, price, stock);
+		}
+	}
+
+	// 물품 삭제 반영
+	public static synchronized void remove(int productId) {
+		Index s = current;
+		if (s != null) {
+			s.remove(productId);
+		}
+	}
+
+	// 여러 물품이 한꺼번에 바뀐 경우 (일괄 가져오기, 재고 일괄 적용 등) 색인을 버리고 다음 조회 때 다시 적재
+	public static void invalidate() {
+		current = null;
+	}
+
+	// 유효한 색인 반환 (만료 시 한 스레드만 다시 적재 - put()/remove()와 같은 잠금이라 적재 중의 변경을 놓치지 않음)
+	private static Index index() throws SQLException {
+		Index s = current;
+		if (s != null && !s.isExpired()) {
+			return s;
+		}
+		synchronized (ProductRangeIndex.class) {
+			s = current;
+			if (s == null || s.isExpired()) {
+				s = load();
+				current = s;
+			}
+			return s;
+		}
+	}
+
+	// DB의 모든 물품 가격/재고로 색인 생성
+	private static Index load() throws SQLException {
+		String sql = "SELECT ProductID, Price, StockQuantity FROM shopdatatable WHERE ProductID IS NOT NULL";
+
+		int size = 0;
+		int[] ids = new int[1024];
+		double[] prices = new double[1024];
+		int[] stocks = new int[1024];
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+			pstmt.setFetchSize(Integer.MIN_VALUE); // 한 행씩 받아 바로 배열에 저장
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				while (rs.next()) {
+					if (size == ids.length) {
+						ids = Arrays.copyOf(ids, size * 2);
+						prices = Arrays.copyOf(prices, size * 2);
+						stocks = Arrays.copyOf(stocks, size * 2);
+					}
+					ids[size] = rs.getInt("ProductID");
+					prices[size] = rs.getDouble("Price");
+					stocks[size] = rs.getInt("StockQuantity");
+					size++;
+				}
+			}
+		}
+		return Index.build(ids, prices, stocks, size);
+	}
+
+	// (key, id) 순으로 정렬된 배열의 앞 size개에서 (key, id) 이상인 첫 위치
+	private static int lowerBound(double[] keys, int[] ids, int size, double key, int id) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			int c = Double.compare(keys[mid], key);
+			if (c < 0 || (c == 0 && ids[mid] < id)) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	private static int lowerBound(int[] keys, int[] ids, int size, int key, int id) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] < key || (keys[mid] == key && ids[mid] < id)) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	// 슬롯 번호 두 개의 순서 비교 (Comparator<Integer>와 달리 박싱 없음)
+	private interface SlotOrder {
+		int compare(int a, int b);
+	}
+
+	// 0 ~ size-1 슬롯 번호를 order 순으로 정렬한 배열 (같은 값은 원래 순서 유지 - 아래에서 위로 합치는 병합 정렬)
+	private static int[] sortedSlots(int size, SlotOrder order) {
+		int[] a = new int[size];
+		for (int i = 0; i < size; i++) {
+			a[i] = i;
+		}
+		int[] b = new int[size];
+		for (int width = 1; width < size; width <<= 1) {
+			for (int lo = 0; lo < size; lo += width << 1) {
+				int mid = Math.min(lo + width, size);
+				int hi = Math.min(lo + (width << 1), size);
+				int i = lo;
+				int j = mid;
+				int k = lo;
+				while (i < mid && j < hi) {
+					b[k++] = order.compare(a[j], a[i]) < 0 ? a[j++] : a[i++];
+				}
+				while (i < mid) {
+					b[k++] = a[i++];
+				}
+				while (j < hi) {
+					b[k++] = a[j++];
+				}
+			}
+			int[] t = a;
+			a = b;
+			b = t;
+		}
+		return a;
+	}
+
+	// 배열 앞 size개 중 pos 위치 값을 빼고 뒤를 당김
+	private static void removeAt(int[] a, int size, int pos) {
+		System.arraycopy(a, pos + 1, a, pos, size - pos - 1);
+	}
+
+	private static void removeAt(double[] a, int size, int pos) {
+		System.arraycopy(a, pos + 1, a, pos, size - pos - 1);
+	}
+
+	// 배열 앞 size개의 pos 위치에 값을 넣고 뒤를 밂 (배열에 빈 칸이 있어야 함)
+	private static void insertAt(int[] a, int size, int pos, int value) {
+		System.arraycopy(a, pos, a, pos + 1, size - pos);
+		a[pos] = value;
+	}
+
+	private static void insertAt(double[] a, int size, int pos, double value) {
+		System.arraycopy(a, pos, a, pos + 1, size - pos);
+		a[pos] = value;
+	}
+
+	// 한 시점에 적재한 색인 - 배열 앞 size개만 사용, 변경은 쓰기 잠금, 조회는 읽기 잠금을 잡고 함
+	private static final class Index {
+		final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+		// ProductID순 - 변경 시 기존 가격/재고를 찾는 데 사용
+		int[] ids;
+		double[] priceOfId;
+		int[] stockOfId;
+
+		// 가격순 (가격, ProductID)
+		double[] prices;
+		int[] priceIds;
+
+		// 재고순 (재고량, ProductID)
+		int[] stocks;
+		int[] stockIds;
+
+		int size;
+		final long loadedAt = System.currentTimeMillis();
+
+		// 적재한 배열(앞의 size개)을 세 가지 순서로 정렬하여 생성 (적재 시 한 번)
+		static Index build(int[] ids, double[] prices, int[] stocks, int size) {
+			int[] byId = sortedSlots(size, (a, b) -> Integer.compare(ids[a], ids[b]));
+			int[] byPrice = sortedSlots(size, (a, b) -> {
+				int c = Double.compare(prices[a], prices[b]);
+				return c != 0 ? c : Integer.compare(ids[a], ids[b]);
+			});
+			int[] byStock = sortedSlots(size, (a, b) -> {
+				int c = Integer.compare(stocks[a], stocks[b]);
+				return c != 0 ? c : Integer.compare(ids[a], ids[b]);
+			});
+
+			Index s = new Index();
+			int capacity = Math.max(size, 16);
+			s.ids = new int[capacity];
+			s.priceOfId = new double[capacity];
+			s.stockOfId = new int[capacity];
+			s.prices = new double[capacity];
+			s.priceIds = new int[capacity];
+			s.stocks = new int[capacity];
+			s.stockIds = new int[capacity];
+			for (int k = 0; k < size; k++) {
+				s.ids[k] = ids[byId[k]];
+				s.priceOfId[k] = prices[byId[k]];
+				s.stockOfId[k] = stocks[byId[k]];
+				s.prices[k] = prices[byPrice[k]];
+				s.priceIds[k] = ids[byPrice[k]];
+				s.stocks[k] = stocks[byStock[k]];
+				s.stockIds[k] = ids[byStock[k]];
+			}
+			s.size = size;
+			return s;
+		}
+
+		// productId 추가 또는 가격/재고 변경
+		void put(int productId, double price, int stock) {
+			lock.writeLock().lock();
+			try {
+				int pos = Arrays.binarySearch(ids, 0, size, productId);
+				if (pos >= 0) {
+					// 가격순/재고순 배열에서만 자리를 옮기고, ProductID순 배열은 값만 바꿈
+					removeSorted(size, productId, priceOfId[pos], stockOfId[pos]);
+					insertSorted(size - 1, productId, price, stock);
+					priceOfId[pos] = price;
+					stockOfId[pos] = stock;
+					return;
+				}
+				if (size == ids.length) {
+					grow();
+				}
+				pos = -pos - 1;
+				insertAt(ids, size, pos, productId);
+				insertAt(priceOfId, size, pos, price);
+				insertAt(stockOfId, size, pos, stock);
+				insertSorted(size, productId, price, stock);
+				size++;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		// productId 삭제 (없으면 그대로)
+		void remove(int productId) {
+			lock.writeLock().lock();
+			try {
+				int pos = Arrays.binarySearch(ids, 0, size, productId);
+				if (pos < 0) {
+					return;
+				}
+				removeSorted(size, productId, priceOfId[pos], stockOfId[pos]);
+				removeAt(ids, size, pos);
+				removeAt(priceOfId, size, pos);
+				removeAt(stockOfId, size, pos);
+				size--;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		// 앞 n개가 찬 가격순/재고순 배열에서 뺌 (ProductID순 배열과 size는 호출한 쪽에서 처리)
+		private void removeSorted(int n, int productId, double price, int stock) {
+			int pricePos = lowerBound(prices, priceIds, n, price, productId);
+			removeAt(prices, n, pricePos);
+			removeAt(priceIds, n, pricePos);
+			int stockPos = lowerBound(stocks, stockIds, n, stock, productId);
+			removeAt(stocks, n, stockPos);
+			removeAt(stockIds, n, stockPos);
+		}
+
+		// 앞 n개가 찬 가격순/재고순 배열에 넣음 (ProductID순 배열과 size는 호출한 쪽에서 처리)
+		private void insertSorted(int n, int productId, double price, int stock) {
+			int pricePos = lowerBound(prices, priceIds, n, price, productId);
+			insertAt(prices, n, pricePos, price);
+			insertAt(priceIds, n, pricePos, productId);
+			int stockPos = lowerBound(stocks, stockIds, n, stock, productId);
+			insertAt(stocks, n, stockPos, stock);
+			insertAt(stockIds, n, stockPos, productId);
+		}
+
+		private void grow() {
+			int capacity = ids.length * 2;
+			ids = Arrays.copyOf(ids, capacity);
+			priceOfId = Arrays.copyOf(priceOfId, capacity);
+			stockOfId = Arrays.copyOf(stockOfId, capacity);
+			prices = Arrays.copyOf(prices, capacity);
+			priceIds = Arrays.copyOf(priceIds, capacity);
+			stocks = Arrays.copyOf(stocks, capacity);
+			stockIds = Arrays.copyOf(stockIds, capacity);
+		}
+
+		boolean isExpired() {
+			return System.currentTimeMillis() - loadedAt >= TTL_MS;
+		}
+	}
+}
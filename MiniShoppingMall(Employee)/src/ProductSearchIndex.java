@@ -0,0 +1,266 @@
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 상품명 검색용 메모리 역색인 (LIKE '%검색어%' 전체 테이블 스캔 대체)
+ * - 상품명을 글자 단위 1-gram/2-gram으로 나누어 색인 (한글은 음절 단위라 형태소 분석 없이도 잘 맞음)
+ * - 부분 일치, 접두 일치, 오타 허용 (검색어의 2-gram 중 일부가 달라도 후보로 포함,
+ *   2-gram으로 찾지 못하면 글자 단위로 한 글자 틀린 상품명까지 포함)
+ * - 결과 순위: 완전 일치 > 접두 일치 > 부분 일치 > 2-gram 유사도(Dice 계수)
+ * - 처음 검색할 때 DB에서 한 번 적재하고, 이후에는 물품 추가/수정/삭제 시 색인을 바로 갱신
+ *
+ * 포함된 메소드:
+ * - search(): 상품명 검색 (순위순 결과)
+ * - put(): 물품 추가/상품명 변경 반영
+ * - remove(): 물품 삭제 반영
+ * - invalidate(): 색인 폐기 (다음 검색 시 다시 적재)
+ *
+ * ===========================================
+ */
+public class ProductSearchIndex {
+
+	// 색인 (처음 검색할 때 적재)
+	private static Index index;
+
+	// 상품명 검색 - 순위가 높은 순으로 최대 limit개
+	public static synchronized List<Hit> search(String query, int limit) throws SQLException {
+		if (index == null) {
+			index = load();
+		}
+		return index.search(normalize(query), limit);
+	}
+
+	// 물품 추가 또는 상품명 변경 반영 (색인이 아직 없으면 다음 적재 때 반영됨)
+	public static synchronized void put(int productId, String productName) {
+		if (index != null) {
+			index.remove(productId);
+			index.add(productId, productName);
+		}
+	}
+
+	// 물품 삭제 반영
+	public static synchronized void remove(int productId) {
+		if (index != null) {
+			index.remove(productId);
+		}
+	}
+
+	// 여러 물품이 한꺼번에 바뀐 경우 (카테고리 삭제 등) 색인을 버리고 다음 검색 때 다시 적재
+	public static synchronized void invalidate() {
+		index = null;
+	}
+
+	// DB의 모든 상품명으로 색인 생성
+	private static Index load() throws SQLException {
+		String sql = "SELECT ProductID, ProductName FROM shopdatatable WHERE ProductID IS NOT NULL";
+
+		Index built = new Index();
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+			pstmt.setFetchSize(Integer.MIN_VALUE); // 한 행씩 받아 바로 색인
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				while (rs.next()) {
+					String productName = rs.getString("ProductName");
+					if (productName != null) {
+						built.add(rs.getInt("ProductID"), productName);
+					}
+				}
+			}
+		}
+		return built;
+	}
+
+	// 검색용 정규화 - 소문자로 바꾸고 공백 제거
+	static String normalize(String text) {
+		StringBuilder sb = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	// 정규화된 문자열의 n-gram (중복 제거, 글자 수가 n보다 짧으면 없음)
+	static Set<String> grams(String normalized, int n) {
+		Set<String> result = new LinkedHashSet<>();
+		for (int i = 0; i + n <= normalized.length(); i++) {
+			result.add(normalized.substring(i, i + n));
+		}
+		return result;
+	}
+
+	// 검색 결과 한 건
+	public static final class Hit {
+		final int productId;
+		final String productName;
+		final double score;
+
+		Hit(int productId, String productName, double score) {
+			this.productId = productId;
+			this.productName = productName;
+			this.score = score;
+		}
+	}
+
+	// 역색인 본체 (n-gram -> ProductID 목록)
+	private static final class Index {
+		private final Map<Integer, String> names = new HashMap<>();      // ProductID -> 원래 상품명
+		private final Map<Integer, String> normalized = new HashMap<>(); // ProductID -> 정규화된 상품명
+		private final Map<String, Postings> postings = new HashMap<>();
+
+		void add(int productId, String productName) {
+			String norm = normalize(productName);
+			names.put(productId, productName);
+			normalized.put(productId, norm);
+			for (String gram : indexGrams(norm)) {
+				postings.computeIfAbsent(gram, g -> new Postings()).add(productId);
+			}
+		}
+
+		void remove(int productId) {
+			String norm = normalized.remove(productId);
+			names.remove(productId);
+			if (norm == null) {
+				return;
+			}
+			for (String gram : indexGrams(norm)) {
+				Postings p = postings.get(gram);
+				if (p != null && p.remove(productId) && p.size == 0) {
+					postings.remove(gram);
+				}
+			}
+		}
+
+		// 색인에 넣는 gram - 한 글자 검색을 위한 1-gram + 나머지 검색을 위한 2-gram
+		private Set<String> indexGrams(String norm) {
+			Set<String> all = grams(norm, 1);
+			all.addAll(grams(norm, 2));
+			return all;
+		}
+
+		List<Hit> search(String query, int limit) {
+			if (query.isEmpty()) {
+				return new ArrayList<>();
+			}
+
+			// 한 글자 검색은 1-gram, 그 외에는 2-gram으로 후보 수집
+			Set<String> queryGrams = grams(query, query.length() == 1 ? 1 : 2);
+			Map<Integer, Integer> matched = new HashMap<>();
+			for (String gram : queryGrams) {
+				Postings p = postings.get(gram);
+				if (p == null) {
+					continue;
+				}
+				for (int i = 0; i < p.size; i++) {
+					matched.merge(p.ids[i], 1, Integer::sum);
+				}
+			}
+
+			// 오타 허용 - 글자 하나가 틀리면 2-gram이 최대 2개 달라지므로 긴 검색어는 2개까지 허용
+			int typos = query.length() >= 4 ? 2 : (query.length() >= 3 ? 1 : 0);
+			int required = Math.max(1, queryGrams.size() - typos);
+
+			List<Hit> hits = new ArrayList<>();
+			for (Map.Entry<Integer, Integer> e : matched.entrySet()) {
+				int productId = e.getKey();
+				String norm = normalized.get(productId);
+				boolean contains = norm.contains(query);
+				if (!contains && e.getValue() < required) {
+					continue;
+				}
+				hits.add(new Hit(productId, names.get(productId), score(query, norm, queryGrams.size(), e.getValue(), contains)));
+			}
+
+			// 2-gram으로 찾지 못하면 글자(1-gram) 기준으로 한 글자 틀린 후보까지 찾음 (예: 3글자 검색어의 가운데 글자 오타)
+			if (hits.isEmpty() && query.length() >= 2) {
+				collectBySyllables(query, hits);
+			}
+
+			hits.sort((a, b) -> {
+				int c = Double.compare(b.score, a.score);
+				if (c != 0) return c;
+				c = Integer.compare(a.productName.length(), b.productName.length());
+				return c != 0 ? c : Integer.compare(a.productId, b.productId);
+			});
+			return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+		}
+
+		// 검색어 글자 중 하나만 빠진 상품명을 후보로 추가 (점수는 글자 유사도의 절반)
+		private void collectBySyllables(String query, List<Hit> hits) {
+			Set<String> syllables = grams(query, 1);
+			if (syllables.size() < 2) {
+				return;
+			}
+			Map<Integer, Integer> matched = new HashMap<>();
+			for (String syllable : syllables) {
+				Postings p = postings.get(syllable);
+				if (p == null) {
+					continue;
+				}
+				for (int i = 0; i < p.size; i++) {
+					matched.merge(p.ids[i], 1, Integer::sum);
+				}
+			}
+			for (Map.Entry<Integer, Integer> e : matched.entrySet()) {
+				if (e.getValue() < syllables.size() - 1) {
+					continue;
+				}
+				int productId = e.getKey();
+				int nameSyllables = grams(normalized.get(productId), 1).size();
+				double dice = 2.0 * e.getValue() / (syllables.size() + nameSyllables);
+				hits.add(new Hit(productId, names.get(productId), dice / 2));
+			}
+		}
+
+		// 순위 점수 - 일치 종류에 따른 기본 점수 + 2-gram 유사도(0~1)
+		private double score(String query, String norm, int queryGramCount, int matchedGrams, boolean contains) {
+			double base = 0;
+			if (norm.equals(query)) {
+				base = 3;
+			} else if (norm.startsWith(query)) {
+				base = 2;
+			} else if (contains) {
+				base = 1;
+			}
+			int nameGramCount = Math.max(1, norm.length() - (query.length() == 1 ? 0 : 1));
+			double dice = 2.0 * matchedGrams / (queryGramCount + nameGramCount);
+			return base + Math.min(1.0, dice);
+		}
+	}
+
+	// ProductID 목록 (박싱 없는 int 배열)
+	private static final class Postings {
+		int[] ids = new int[4];
+		int size;
+
+		void add(int id) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = id;
+		}
+
+		// 순서는 필요 없으므로 마지막 원소로 덮어써서 제거
+		boolean remove(int id) {
+			for (int i = 0; i < size; i++) {
+				if (ids[i] == id) {
+					ids[i] = ids[--size];
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
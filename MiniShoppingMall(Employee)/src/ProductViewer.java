@@ -1,5 +1,10 @@
+import java.math.RoundingMode;
 import java.sql.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.function.BiPredicate;
 
 /**
  * ===========================================
@@ -12,19 +17,40 @@ import java.util.Scanner;
  * - 카테고리별 조회
  * - 가격대별 조회
  * - 재고량별 조회
+ * - 전체/카테고리별 목록은 키셋 페이지 단위로 조회하여 물품 수와 무관하게 바로 표시
+ * - 상품명 검색은 ProductSearchIndex(메모리 n-gram 색인)에서 일치도 순으로 조회
+ * - 가격대별/재고량별 조회는 ProductRangeIndex(메모리 정렬 색인)에서 이진 탐색으로 조회
+ * - 판매 분석 (많이 팔린 상품, 카테고리별 매출, 등급별 구매액, 시간대별 매출)
+ *   SalesRollup이 미리 합산해 둔 집계 테이블만 읽으므로 주문 수와 무관하게 바로 표시
  * 
  * 포함된 메소드:
  * - viewAllProducts(): 모든 물품 조회 메인 메소드
- * - showAllProducts(): 전체 물품 목록 표시
+ * - showAllProducts(): 전체 물품 목록 표시 (페이지 단위)
  * - showProductDetails(): 특정 물품 상세 정보 표시
  * - showProductsByCategory(): 카테고리별 물품 조회
  * - showProductsByPriceRange(): 가격대별 물품 조회
  * - showProductsByStock(): 재고량별 물품 조회
+ * - printProductPages(): 키셋 페이지 단위 물품 출력
+ * - printIndexedProducts(): 색인에서 찾은 물품 상세 정보 출력
+ * - showSalesAnalytics(): 판매 분석 조회
  * 
  * ===========================================
  */
 public class ProductViewer {
 	
+	// 목록 조회 시 한 페이지에 표시할 물품 수
+	private static final int PAGE_SIZE = 20;
+	
+	// 상품명 검색 결과 최대 표시 수
+	private static final int MAX_SEARCH_RESULTS = 50;
+	
+	// 가격대별/재고량별 조회에서 상세 정보를 한 번에 조회할 물품 수
+	private static final int DETAIL_CHUNK = 500;
+	
+	// 판매 분석 - 많이 팔린 상품 표시 수, 시간대별 매출 조회 범위
+	private static final int TOP_SELLERS = 10;
+	private static final int RECENT_HOURS = 24;
+	
 	// 물품 조회 메인 메소드
 	public static void viewAllProducts() {
 		Scanner sc = Main.getScanner();
@@ -40,6 +66,7 @@ public class ProductViewer {
 				System.out.println("4. 가격대별 조회");
 				System.out.println("5. 재고량별 조회");
 				System.out.println("6. 물품ID로 상세 조회");
+				System.out.println("7. 판매 분석");
 				System.out.println("==============================");
 				System.out.print("메뉴를 선택하세요 (메인메뉴: 0): ");
 				
@@ -48,7 +75,7 @@ public class ProductViewer {
 					
 					switch (choose) {
 						case 1:
-							showAllProducts();
+							showAllProducts(sc);
 							break;
 						case 2:
 							searchProductsByName(sc);
@@ -65,11 +92,14 @@ public class ProductViewer {
 						case 6:
 							showProductDetailsByID(sc);
 							break;
+						case 7:
+							showSalesAnalytics(sc);
+							break;
 						case 0:
 							System.out.println("메인 메뉴로 돌아갑니다.");
 							return;
 						default:
-							System.out.println("잘못된 선택입니다. 1-6번 중에서 선택해주세요.");
+							System.out.println("잘못된 선택입니다. 1-7번 중에서 선택해주세요.");
 					}
 				} catch (NumberFormatException e) {
 					System.out.println("올바른 숫자를 입력해주세요.");
@@ -84,34 +114,18 @@ public class ProductViewer {
 		Main.MainInterface();
 	}
 	
-	// 전체 물품 조회
-	private static void showAllProducts() {
-		String sql = "SELECT ProductID, ProductName FROM shopdatatable ORDER BY ProductID";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql);
-		     ResultSet rs = pstmt.executeQuery()) {
-			
+	// 전체 물품 조회 (PAGE_SIZE개씩 페이지로 표시)
+	private static void showAllProducts(Scanner sc) {
+		try {
 			System.out.println();
 			System.out.println("========= 전체 물품 목록 =========");
 			
-			boolean hasProducts = false;
-			int count = 0;
-			while (rs.next()) {
-				hasProducts = true;
-				count++;
-				int productId = rs.getInt("ProductID");
-				String productName = rs.getString("ProductName");
-				
-				System.out.println("품목ID: " + productId);
-				System.out.println("품목명: " + productName);
-				System.out.println("------------------------");
-			}
+			int count = printProductPages(sc, null, false);
 			
-			if (!hasProducts) {
+			if (count == 0) {
 				System.out.println("등록된 물품이 없습니다.");
 			} else {
-				System.out.println("총 " + count + "개의 물품이 등록되어 있습니다.");
+				System.out.println("총 " + count + "개의 물품을 표시했습니다.");
 			}
 			
 		} catch (SQLException e) {
@@ -133,27 +147,21 @@ public class ProductViewer {
 		try {
 			int productId = Integer.parseInt(input);
 			
-			String sql = "SELECT * FROM shopdatatable WHERE ProductID = ?";
-			
-			try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-			     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+			try {
+				ProductDao.Product product = ProductDao.findById(productId);
 				
-				pstmt.setInt(1, productId);
+				System.out.println();
+				System.out.println("========= 상품 상세 정보 =========");
 				
-				try (ResultSet rs = pstmt.executeQuery()) {
-					System.out.println();
-					System.out.println("========= 상품 상세 정보 =========");
-					
-					if (rs.next()) {
-						System.out.println("품목ID: " + rs.getInt("ProductID"));
-						System.out.println("품목명: " + rs.getString("ProductName"));
-						System.out.println("가격: " + (int)rs.getDouble("Price") + "원");
-						System.out.println("재고량: " + rs.getInt("StockQuantity"));
-						System.out.println("원산지: " + rs.getString("Origin"));
-						System.out.println("------------------------");
-					} else {
-						System.out.println("해당 물품ID(" + productId + ")의 상품을 찾을 수 없습니다.");
-					}
+				if (product != null) {
+					System.out.println("품목ID: " + product.productId);
+					System.out.println("품목명: " + product.productName);
+					System.out.println("가격: " + (int)product.price + "원");
+					System.out.println("재고량: " + product.stockQuantity);
+					System.out.println("원산지: " + product.origin);
+					System.out.println("------------------------");
+				} else {
+					System.out.println("해당 물품ID(" + productId + ")의 상품을 찾을 수 없습니다.");
 				}
 				
 			} catch (SQLException e) {
@@ -176,42 +184,56 @@ public class ProductViewer {
 			return;
 		}
 		
-		String sql = "SELECT * FROM shopdatatable WHERE ProductName LIKE ? ORDER BY ProductID";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setString(1, "%" + searchName + "%");
+		try {
+			// 상품명 색인에서 순위순으로 검색 (부분/접두 일치, 오타 허용)
+			List<ProductSearchIndex.Hit> hits = ProductSearchIndex.search(searchName, MAX_SEARCH_RESULTS);
 			
-			try (ResultSet rs = pstmt.executeQuery()) {
 			System.out.println();
 			System.out.println("========= '" + searchName + "' 검색 결과 =========");
 			
-			boolean hasProducts = false;
+			if (hits.isEmpty()) {
+				System.out.println("검색 결과가 없습니다.");
+				return;
+			}
+			
+			// 검색된 물품의 상세 정보는 ProductID로 한 번에 조회
+			StringBuilder sql = new StringBuilder("SELECT ProductID, Price, StockQuantity, Origin FROM shopdatatable WHERE ProductID IN (");
+			for (int i = 0; i < hits.size(); i++) {
+				sql.append(i == 0 ? "?" : ", ?");
+			}
+			sql.append(')');
+			
+			Map<Integer, String> details = new HashMap<>();
+			try (Connection conn = Main.getConnection();
+			     PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+				for (int i = 0; i < hits.size(); i++) {
+					pstmt.setInt(i + 1, hits.get(i).productId);
+				}
+				try (ResultSet rs = pstmt.executeQuery()) {
+					while (rs.next()) {
+						details.put(rs.getInt("ProductID"),
+								"가격: " + (int)rs.getDouble("Price") + "원\n" +
+								"재고량: " + rs.getInt("StockQuantity") + "\n" +
+								"원산지: " + rs.getString("Origin"));
+					}
+				}
+			}
+			
 			int count = 0;
-			while (rs.next()) {
-				hasProducts = true;
+			for (ProductSearchIndex.Hit hit : hits) {
+				String detail = details.get(hit.productId);
+				if (detail == null) {
+					continue; // 색인 이후 다른 곳에서 삭제된 물품
+				}
 				count++;
-				int productId = rs.getInt("ProductID");
-				String productName = rs.getString("ProductName");
-				double price = rs.getDouble("Price");
-				int stockQuantity = rs.getInt("StockQuantity");
-				String origin = rs.getString("Origin");
-				
-				System.out.println("품목ID: " + productId);
-				System.out.println("품목명: " + productName);
-				System.out.println("가격: " + (int)price + "원");
-				System.out.println("재고량: " + stockQuantity);
-				System.out.println("원산지: " + origin);
+				System.out.println("품목ID: " + hit.productId);
+				System.out.println("품목명: " + hit.productName);
+				System.out.println(detail);
 				System.out.println("------------------------");
 			}
 			
-			if (!hasProducts) {
-				System.out.println("검색 결과가 없습니다.");
-			} else {
-				System.out.println("총 " + count + "개의 검색 결과가 있습니다.");
-			}
-			}
+			System.out.println("총 " + count + "개의 검색 결과가 있습니다." +
+					(hits.size() == MAX_SEARCH_RESULTS ? " (일치도 순 상위 " + MAX_SEARCH_RESULTS + "개)" : ""));
 			
 		} catch (SQLException e) {
 			System.out.println("검색 중 오류가 발생했습니다.");
@@ -221,19 +243,16 @@ public class ProductViewer {
 	
 	// 카테고리별 조회
 	private static void showProductsByCategory(Scanner sc) {
-		// 먼저 카테고리 목록을 보여줌
-		String categorySql = "SELECT DISTINCT CategoryName FROM shopdatatable ORDER BY CategoryName";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(categorySql);
-		     ResultSet rs = pstmt.executeQuery()) {
+		// 먼저 카테고리 목록을 보여줌 (카테고리 색인에서 조회)
+		try {
+			List<String> categoryNames = CategoryIndex.names();
 			
 			System.out.println();
 			System.out.println("========== 사용 가능한 카테고리 ==========");
 			int categoryCount = 0;
-			while (rs.next()) {
+			for (String categoryName : categoryNames) {
 				categoryCount++;
-				System.out.println(categoryCount + ". " + rs.getString("CategoryName"));
+				System.out.println(categoryCount + ". " + categoryName);
 			}
 			
 			if (categoryCount == 0) {
@@ -263,40 +282,15 @@ public class ProductViewer {
 			}
 			
 			// 선택된 카테고리의 물품들 조회
-			String sql = "SELECT * FROM shopdatatable WHERE CategoryName = ? ORDER BY ProductID";
+			System.out.println();
+			System.out.println("========= '" + category + "' 카테고리 물품 =========");
 			
-			try (PreparedStatement productPstmt = conn.prepareStatement(sql)) {
-				productPstmt.setString(1, category);
-				
-				try (ResultSet productRs = productPstmt.executeQuery()) {
-				System.out.println();
-				System.out.println("========= '" + category + "' 카테고리 물품 =========");
-				
-				boolean hasProducts = false;
-				int count = 0;
-				while (productRs.next()) {
-					hasProducts = true;
-					count++;
-					int productId = productRs.getInt("ProductID");
-					String productName = productRs.getString("ProductName");
-					double price = productRs.getDouble("Price");
-					int stockQuantity = productRs.getInt("StockQuantity");
-					String origin = productRs.getString("Origin");
-					
-					System.out.println("품목ID: " + productId);
-					System.out.println("품목명: " + productName);
-					System.out.println("가격: " + (int)price + "원");
-					System.out.println("재고량: " + stockQuantity);
-					System.out.println("원산지: " + origin);
-					System.out.println("------------------------");
-				}
-				
-				if (!hasProducts) {
-					System.out.println("해당 카테고리에 등록된 물품이 없습니다.");
-				} else {
-					System.out.println("총 " + count + "개의 물품이 있습니다.");
-				}
-				}
+			int count = printProductPages(sc, "CategoryName = ?", true, category);
+			
+			if (count == 0) {
+				System.out.println("해당 카테고리에 등록된 물품이 없습니다.");
+			} else {
+				System.out.println("총 " + count + "개의 물품을 표시했습니다.");
 			}
 			
 		} catch (SQLException e) {
@@ -305,6 +299,70 @@ public class ProductViewer {
 		}
 	}
 	
+	/**
+	 * 조건에 맞는 물품을 ProductID 순으로 PAGE_SIZE개씩 출력합니다.
+	 * 페이지마다 "ProductID > 이전 페이지의 마지막 ID" 조건으로 다음 페이지만 조회하므로(키셋 페이지)
+	 * 물품이 아무리 많아도 한 페이지를 읽는 비용이 일정합니다.
+	 * 연결은 페이지마다 풀에서 받아 바로 돌려주므로 "다음 페이지" 입력을 기다리는 동안 연결을 잡고 있지 않습니다.
+	 * @param where 추가 조건 (없으면 null)
+	 * @param detail 가격/재고량/원산지까지 출력할지 여부
+	 * @return 출력한 물품 수
+	 */
+	private static int printProductPages(Scanner sc, String where, boolean detail,
+	                                     Object... params) throws SQLException {
+		String sql = "SELECT ProductID, ProductName, Price, StockQuantity, Origin FROM shopdatatable " +
+		             "WHERE ProductID > ?" + (where != null ? " AND " + where : "") +
+		             " ORDER BY ProductID LIMIT ?";
+		
+		int count = 0;
+		int lastProductId = 0;
+		
+		while (true) {
+			int pageCount = 0;
+			boolean hasNext = false;
+			// 한 페이지(PAGE_SIZE + 1행)만 읽으므로 결과를 한 번에 받음
+			try (Connection conn = Main.getConnection();
+			     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+				int idx = 1;
+				pstmt.setInt(idx++, lastProductId);
+				for (Object param : params) {
+					pstmt.setObject(idx++, param);
+				}
+				pstmt.setInt(idx, PAGE_SIZE + 1); // 한 행 더 읽어 다음 페이지 존재 여부 확인
+				
+				try (ResultSet rs = pstmt.executeQuery()) {
+					while (rs.next()) {
+						if (pageCount == PAGE_SIZE) {
+							hasNext = true;
+							break;
+						}
+						pageCount++;
+						lastProductId = rs.getInt("ProductID");
+						
+						System.out.println("품목ID: " + lastProductId);
+						System.out.println("품목명: " + rs.getString("ProductName"));
+						if (detail) {
+							System.out.println("가격: " + (int)rs.getDouble("Price") + "원");
+							System.out.println("재고량: " + rs.getInt("StockQuantity"));
+							System.out.println("원산지: " + rs.getString("Origin"));
+						}
+						System.out.println("------------------------");
+					}
+				}
+			}
+			count += pageCount;
+			
+			if (!hasNext) {
+				return count;
+			}
+			
+			System.out.print("다음 페이지: Enter, 그만 보기: 0 > ");
+			if ("0".equals(sc.nextLine().trim())) {
+				return count;
+			}
+		}
+	}
+	
 	// 가격대별 조회
 	private static void showProductsByPriceRange(Scanner sc) {
 		System.out.println();
@@ -343,43 +401,22 @@ public class ProductViewer {
 			}
 		}
 		
-		String sql = "SELECT * FROM shopdatatable WHERE Price >= ? AND Price <= ? ORDER BY Price";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
-			
-			pstmt.setDouble(1, minPrice);
-			pstmt.setDouble(2, maxPrice);
+		try {
+			// 가격 색인에서 이진 탐색으로 범위의 물품만 찾음 (가격순)
+			final double min = minPrice;
+			final double max = maxPrice;
+			int[] productIds = ProductRangeIndex.byPrice(minPrice, maxPrice);
 			
-			try (ResultSet rs = pstmt.executeQuery()) {
 			System.out.println();
 			System.out.println("========= " + (int)minPrice + "원 ~ " + (int)maxPrice + "원 가격대 물품 =========");
 			
-			boolean hasProducts = false;
-			int count = 0;
-			while (rs.next()) {
-				hasProducts = true;
-				count++;
-				int productId = rs.getInt("ProductID");
-				String productName = rs.getString("ProductName");
-				double price = rs.getDouble("Price");
-				int stockQuantity = rs.getInt("StockQuantity");
-				String origin = rs.getString("Origin");
-				
-				System.out.println("품목ID: " + productId);
-				System.out.println("품목명: " + productName);
-				System.out.println("가격: " + (int)price + "원");
-				System.out.println("재고량: " + stockQuantity);
-				System.out.println("원산지: " + origin);
-				System.out.println("------------------------");
-			}
+			int count = printIndexedProducts(productIds, false, (price, stock) -> price >= min && price <= max);
 			
-			if (!hasProducts) {
+			if (count == 0) {
 				System.out.println("해당 가격대에 등록된 물품이 없습니다.");
 			} else {
 				System.out.println("총 " + count + "개의 물품이 있습니다.");
 			}
-			}
 			
 		} catch (SQLException e) {
 			System.out.println("가격대별 조회 중 오류가 발생했습니다.");
@@ -400,20 +437,26 @@ public class ProductViewer {
 		
 		try {
 			int choice = Integer.parseInt(sc.nextLine().trim());
-			String sql = "";
+			int minStock;
+			int maxStock;
+			boolean descending = false;
 			String title = "";
 			
 			switch (choice) {
 				case 1:
-					sql = "SELECT * FROM shopdatatable WHERE StockQuantity < 10 ORDER BY StockQuantity";
+					minStock = Integer.MIN_VALUE;
+					maxStock = 9;
 					title = "재고 부족 물품 (10개 미만)";
 					break;
 				case 2:
-					sql = "SELECT * FROM shopdatatable WHERE StockQuantity >= 10 ORDER BY StockQuantity DESC";
+					minStock = 10;
+					maxStock = Integer.MAX_VALUE;
+					descending = true;
 					title = "재고 충분 물품 (10개 이상)";
 					break;
 				case 3:
-					sql = "SELECT * FROM shopdatatable WHERE StockQuantity = 0 ORDER BY ProductID";
+					minStock = 0;
+					maxStock = 0;
 					title = "재고 없음 물품 (0개)";
 					break;
 				case 4:
@@ -423,7 +466,8 @@ public class ProductViewer {
 						System.out.println("재고량은 0개 이상이어야 합니다.");
 						return;
 					}
-					sql = "SELECT * FROM shopdatatable WHERE StockQuantity = " + stock + " ORDER BY ProductID";
+					minStock = stock;
+					maxStock = stock;
 					title = "재고량 " + stock + "개 물품";
 					break;
 				default:
@@ -431,38 +475,21 @@ public class ProductViewer {
 					return;
 			}
 			
-			try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-			     PreparedStatement pstmt = conn.prepareStatement(sql);
-			     ResultSet rs = pstmt.executeQuery()) {
-				
+			// 재고 색인에서 이진 탐색으로 범위의 물품만 찾음 (재고순, 같은 재고는 ProductID순)
+			int[] productIds = ProductRangeIndex.byStock(minStock, maxStock);
+			
 			System.out.println();
 			System.out.println("========= " + title + " =========");
 			
-			boolean hasProducts = false;
-			int count = 0;
-			while (rs.next()) {
-				hasProducts = true;
-				count++;
-				int productId = rs.getInt("ProductID");
-				String productName = rs.getString("ProductName");
-				double price = rs.getDouble("Price");
-				int stockQuantity = rs.getInt("StockQuantity");
-				String origin = rs.getString("Origin");
-				
-				System.out.println("품목ID: " + productId);
-				System.out.println("품목명: " + productName);
-				System.out.println("가격: " + (int)price + "원");
-				System.out.println("재고량: " + stockQuantity);
-				System.out.println("원산지: " + origin);
-				System.out.println("------------------------");
-			}
+			final int min = minStock;
+			final int max = maxStock;
+			int count = printIndexedProducts(productIds, descending, (price, stock) -> stock >= min && stock <= max);
 			
-			if (!hasProducts) {
+			if (count == 0) {
 				System.out.println("해당 조건에 맞는 물품이 없습니다.");
 			} else {
 				System.out.println("총 " + count + "개의 물품이 있습니다.");
 			}
-			}
 			
 		} catch (NumberFormatException e) {
 			System.out.println("올바른 숫자를 입력해주세요.");
@@ -471,5 +498,150 @@ public class ProductViewer {
 			e.printStackTrace();
 		}
 	}
+
+	/**
+	 * 색인에서 찾은 물품들의 상세 정보를 ProductID로 묶어 조회한 뒤 색인 순서대로 출력합니다.
+	 * 색인은 최대 TTL만큼 늦을 수 있으므로 조회한 현재 가격/재고가 조건에 맞지 않는 물품은 건너뜁니다.
+	 * @param reverse 색인 순서의 역순으로 출력할지 여부
+	 * @param stillMatches 현재 (가격, 재고량)이 조건에 맞는지
+	 * @return 출력한 물품 수
+	 */
+	private static int printIndexedProducts(int[] productIds, boolean reverse,
+	                                        BiPredicate<Double, Integer> stillMatches) throws SQLException {
+		int count = 0;
+		try (Connection conn = Main.getConnection()) {
+			for (int start = 0; start < productIds.length; start += DETAIL_CHUNK) {
+				int end = Math.min(start + DETAIL_CHUNK, productIds.length);
+				
+				// 출력할 순서대로 이번 묶음의 ProductID
+				int[] chunk = new int[end - start];
+				for (int i = 0; i < chunk.length; i++) {
+					chunk[i] = reverse ? productIds[productIds.length - 1 - (start + i)] : productIds[start + i];
+				}
+				
+				StringBuilder sql = new StringBuilder("SELECT ProductID, ProductName, Price, StockQuantity, Origin FROM shopdatatable WHERE ProductID IN (");
+				for (int i = 0; i < chunk.length; i++) {
+					sql.append(i == 0 ? "?" : ", ?");
+				}
+				sql.append(')');
+				
+				// 현재 값이 여전히 조건에 맞는 물품만 담음 (색인 이후 다른 곳에서 삭제/변경된 물품 제외)
+				Map<Integer, String> details = new HashMap<>();
+				try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+					for (int i = 0; i < chunk.length; i++) {
+						pstmt.setInt(i + 1, chunk[i]);
+					}
+					try (ResultSet rs = pstmt.executeQuery()) {
+						while (rs.next()) {
+							double price = rs.getDouble("Price");
+							int stock = rs.getInt("StockQuantity");
+							if (stillMatches.test(price, stock)) {
+								details.put(rs.getInt("ProductID"),
+										"품목명: " + rs.getString("ProductName") + "\n" +
+										"가격: " + (int)price + "원\n" +
+										"재고량: " + stock + "\n" +
+										"원산지: " + rs.getString("Origin"));
+							}
+						}
+					}
+				}
+				
+				for (int productId : chunk) {
+					String detail = details.get(productId);
+					if (detail == null) {
+						continue;
+					}
+					count++;
+					System.out.println("품목ID: " + productId);
+					System.out.println(detail);
+					System.out.println("------------------------");
+				}
+			}
+		}
+		return count;
+	}
+	
+	// 판매 분석 - 집계 테이블(SALES_ROLLUP)에서 조회
+	private static void showSalesAnalytics(Scanner sc) {
+		System.out.println();
+		System.out.println("========== 판매 분석 ==========");
+		System.out.println("1. 많이 팔린 상품 (상위 " + TOP_SELLERS + "개)");
+		System.out.println("2. 카테고리별 매출");
+		System.out.println("3. 고객 등급별 구매액");
+		System.out.println("4. 시간대별 매출 (최근 " + RECENT_HOURS + "시간)");
+		System.out.println("===============================");
+		System.out.print("선택하세요: ");
+		
+		int choice;
+		String sql;
+		String title;
+		try {
+			choice = Integer.parseInt(sc.nextLine().trim());
+			switch (choice) {
+				case 1:
+					sql = "SELECT ProductID, MAX(ProductName) AS Label, SUM(Quantity) AS Quantity, SUM(Revenue) AS Revenue " +
+					      "FROM SALES_ROLLUP GROUP BY ProductID ORDER BY Quantity DESC, Revenue DESC LIMIT " + TOP_SELLERS;
+					title = "많이 팔린 상품";
+					break;
+				case 2:
+					sql = "SELECT CategoryID AS Label, SUM(Quantity) AS Quantity, SUM(Revenue) AS Revenue " +
+					      "FROM SALES_ROLLUP GROUP BY CategoryID ORDER BY Revenue DESC";
+					title = "카테고리별 매출";
+					break;
+				case 3:
+					sql = "SELECT Grade AS Label, SUM(Quantity) AS Quantity, SUM(Revenue) AS Revenue " +
+					      "FROM SALES_ROLLUP GROUP BY Grade ORDER BY Revenue DESC";
+					title = "고객 등급별 구매액";
+					break;
+				case 4:
+					sql = "SELECT DATE_FORMAT(HourBucket, '%Y-%m-%d %H시') AS Label, SUM(Quantity) AS Quantity, SUM(Revenue) AS Revenue " +
+					      "FROM SALES_ROLLUP WHERE HourBucket >= NOW() - INTERVAL " + RECENT_HOURS + " HOUR " +
+					      "GROUP BY HourBucket ORDER BY HourBucket";
+					title = "시간대별 매출";
+					break;
+				default:
+					System.out.println("잘못된 선택입니다.");
+					return;
+			}
+		} catch (NumberFormatException e) {
+			System.out.println("올바른 숫자를 입력해주세요.");
+			return;
+		}
+		
+		try {
+			SalesRollup.ensureTables();
+			
+			try (Connection conn = Main.getConnection();
+			     Statement stmt = conn.createStatement();
+			     ResultSet rs = stmt.executeQuery(sql)) {
+				
+				System.out.println();
+				System.out.println("========= " + title + " =========");
+				
+				int count = 0;
+				while (rs.next()) {
+					count++;
+					String label = rs.getString("Label");
+					if (choice == 2) {
+						String categoryName = label != null ? CategoryIndex.nameOf(Integer.parseInt(label)) : null;
+						label = categoryName != null ? categoryName : "(카테고리 없음)";
+					} else if (label == null || label.isEmpty()) {
+						label = "(없음)";
+					}
+					System.out.println(count + ". " + label + " - 판매 " + rs.getLong("Quantity") + "개, 매출 " +
+							rs.getBigDecimal("Revenue").setScale(0, RoundingMode.HALF_UP) + "원");
+				}
+				
+				if (count == 0) {
+					System.out.println("집계된 판매 내역이 없습니다.");
+				}
+				System.out.println("(판매 집계는 주기적으로 반영되며, 최근 1분 이내 주문은 아직 포함되지 않을 수 있습니다.)");
+			}
+			
+		} catch (SQLException e) {
+			System.out.println("판매 분석 조회 중 오류가 발생했습니다.");
+			e.printStackTrace();
+		}
+	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+import java.sql.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 고객 구매 시 쌓이는 주문 내역(ORDER_HISTORY)을 판매 집계 테이블(SALES_ROLLUP)로 미리 합산
+ *   집계 단위: 시간(정시 기준) x 상품 x 고객 등급 (카테고리는 상품과 함께 저장)
+ *   -> 많이 팔린 상품, 카테고리별 매출, 등급별 구매액, 시간대별 매출을 집계 테이블만 읽어 바로 계산
+ * - 백그라운드 스레드가 주기적으로 새 주문 줄만 읽어 반영 (구매 처리는 집계를 기다리지 않음)
+ *   어디까지 반영했는지는 SALES_ROLLUP_STATE에 마지막 OrderLineID로 저장하며, 집계 반영과 같은 트랜잭션으로 갱신
+ *   (구매는 ORDER_HISTORY_LOCK을 잠그고 주문 줄을 추가하므로 OrderLineID가 커밋 순서와 같음
+ *    -> 보이는 가장 큰 번호까지 반영해도 그보다 작은 번호가 나중에 커밋되어 빠지는 일이 없음)
+ *   -> 여러 직원용 프로그램이 동시에 실행해도 같은 주문 줄을 두 번 더하지 않음
+ * - 주문 줄 하나하나를 가져오지 않고 서버에서 GROUP BY로 합산한 결과만 받아 일괄(batch) 반영
+ *   주문 내역은 잠그지 않는 일반 SELECT로 읽으므로 집계 중에도 구매(주문 내역 INSERT)가 기다리지 않음
+ *
+ * 포함된 메소드:
+ * - start(): 백그라운드 집계 시작
+ * - catchUp(): 지금까지 쌓인 주문 줄을 집계에 반영
+ *
+ * ===========================================
+ */
+public class SalesRollup {
+
+	// 백그라운드 집계 주기
+	private static final long PERIOD_MS = 5_000;
+
+	// 한 트랜잭션에서 반영할 최대 주문 줄 수
+	private static final int BATCH_LINES = 10_000;
+
+	private static final String STATE_NAME = "SALES_ROLLUP";
+
+	private static final String CREATE_ROLLUP_SQL =
+			"CREATE TABLE IF NOT EXISTS SALES_ROLLUP (" +
+			"HourBucket DATETIME NOT NULL, " +
+			"ProductID INT NOT NULL, " +
+			"Grade VARCHAR(20) NOT NULL, " +
+			"CategoryID INT NULL, " +
+			"ProductName VARCHAR(100) NOT NULL, " +
+			"Quantity BIGINT NOT NULL, " +
+			"Revenue DECIMAL(15, 2) NOT NULL, " +
+			"OrderLines BIGINT NOT NULL, " +
+			"PRIMARY KEY (HourBucket, ProductID, Grade), " +
+			"INDEX IDX_SALES_ROLLUP_PRODUCT (ProductID), " +
+			"INDEX IDX_SALES_ROLLUP_CATEGORY (CategoryID))";
+
+	private static final String CREATE_STATE_SQL =
+			"CREATE TABLE IF NOT EXISTS SALES_ROLLUP_STATE (" +
+			"Name VARCHAR(64) NOT NULL PRIMARY KEY, " +
+			"LastOrderLineID BIGINT NOT NULL)";
+
+	private static final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "SalesRollup-worker");
+		t.setDaemon(true);
+		return t;
+	});
+
+	private static volatile boolean tablesReady = false;
+	private static volatile boolean started = false;
+
+	// 백그라운드 집계 시작 (여러 번 호출해도 한 번만 시작)
+	public static synchronized void start() {
+		if (started) {
+			return;
+		}
+		started = true;
+		worker.scheduleWithFixedDelay(() -> {
+			try {
+				catchUp();
+			} catch (SQLException e) {
+				// 다음 주기에 다시 시도
+			}
+		}, 0, PERIOD_MS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 반영되지 않은 주문 줄을 BATCH_LINES개씩 집계에 더합니다.
+	 * 상태 행을 잠그고(FOR UPDATE) 집계와 상태를 같은 트랜잭션으로 갱신하므로 동시에 실행되어도 안전합니다.
+	 */
+	public static synchronized void catchUp() throws SQLException {
+		ensureTables();
+
+		try (Connection conn = Main.getConnection()) {
+			conn.setAutoCommit(false);
+			try {
+				boolean applied;
+				do {
+					applied = applyBatch(conn);
+					conn.commit();
+				} while (applied);
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+		}
+	}
+
+	// 다음 구간(마지막 반영 번호 이후 BATCH_LINES개 이내)을 집계에 더하고 상태를 옮김 - 반영할 줄이 없으면 false
+	private static boolean applyBatch(Connection conn) throws SQLException {
+		long last;
+		try (PreparedStatement pstmt = conn.prepareStatement(
+				"SELECT LastOrderLineID FROM SALES_ROLLUP_STATE WHERE Name = ? FOR UPDATE")) {
+			pstmt.setString(1, STATE_NAME);
+			try (ResultSet rs = pstmt.executeQuery()) {
+				rs.next();
+				last = rs.getLong(1);
+			}
+		}
+
+		// 이번 구간의 끝 - 지금 보이는 주문 줄까지 (OrderLineID가 커밋 순서이므로 그 앞 번호는 모두 커밋되었거나 롤백되어 없음)
+		long upTo;
+		try (PreparedStatement pstmt = conn.prepareStatement(
+				"SELECT MAX(OrderLineID) FROM (SELECT OrderLineID FROM ORDER_HISTORY " +
+				"WHERE OrderLineID > ? ORDER BY OrderLineID LIMIT ?) t")) {
+			pstmt.setLong(1, last);
+			pstmt.setInt(2, BATCH_LINES);
+			try (ResultSet rs = pstmt.executeQuery()) {
+				rs.next();
+				upTo = rs.getLong(1);
+				if (rs.wasNull()) {
+					return false;
+				}
+			}
+		}
+
+		// 구간 합산은 잠그지 않는 SELECT로 (INSERT ... SELECT는 주문 내역에 공유 잠금을 걸어 구매 INSERT를 막을 수 있음)
+		String selectSql =
+				"SELECT DATE_FORMAT(OrderedAt, '%Y-%m-%d %H:00:00') AS HourBucket, ProductID, Grade, " +
+				"MAX(CategoryID) AS CategoryID, MAX(ProductName) AS ProductName, " +
+				"SUM(Quantity) AS Quantity, SUM(Quantity * UnitPrice) AS Revenue, COUNT(*) AS OrderLines " +
+				"FROM ORDER_HISTORY WHERE OrderLineID > ? AND OrderLineID <= ? " +
+				"GROUP BY DATE_FORMAT(OrderedAt, '%Y-%m-%d %H:00:00'), ProductID, Grade";
+		String upsertSql =
+				"INSERT INTO SALES_ROLLUP (HourBucket, ProductID, Grade, CategoryID, ProductName, Quantity, Revenue, OrderLines) " +
+				"VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+				"ON DUPLICATE KEY UPDATE Quantity = Quantity + VALUES(Quantity), Revenue = Revenue + VALUES(Revenue), " +
+				"OrderLines = OrderLines + VALUES(OrderLines), CategoryID = VALUES(CategoryID), ProductName = VALUES(ProductName)";
+		try (PreparedStatement select = conn.prepareStatement(selectSql);
+		     PreparedStatement upsert = conn.prepareStatement(upsertSql)) {
+			select.setLong(1, last);
+			select.setLong(2, upTo);
+			try (ResultSet rs = select.executeQuery()) {
+				while (rs.next()) {
+					upsert.setString(1, rs.getString("HourBucket"));
+					upsert.setInt(2, rs.getInt("ProductID"));
+					upsert.setString(3, rs.getString("Grade"));
+					upsert.setObject(4, rs.getObject("CategoryID"));
+					upsert.setString(5, rs.getString("ProductName"));
+					upsert.setLong(6, rs.getLong("Quantity"));
+					upsert.setBigDecimal(7, rs.getBigDecimal("Revenue"));
+					upsert.setLong(8, rs.getLong("OrderLines"));
+					upsert.addBatch();
+				}
+			}
+			upsert.executeBatch();
+		}
+
+		try (PreparedStatement pstmt = conn.prepareStatement(
+				"UPDATE SALES_ROLLUP_STATE SET LastOrderLineID = ? WHERE Name = ?")) {
+			pstmt.setLong(1, upTo);
+			pstmt.setString(2, STATE_NAME);
+			pstmt.executeUpdate();
+		}
+		return true;
+	}
+
+	// 집계/상태 테이블과 상태 행이 없으면 생성 (주문 내역 테이블은 Schema.ensure()가 만듦)
+	static void ensureTables() throws SQLException {
+		if (tablesReady) {
+			return;
+		}
+		try (Connection conn = Main.getConnection();
+		     Statement stmt = conn.createStatement()) {
+			stmt.executeUpdate(CREATE_ROLLUP_SQL);
+			stmt.executeUpdate(CREATE_STATE_SQL);
+			try (PreparedStatement pstmt = conn.prepareStatement(
+					"INSERT IGNORE INTO SALES_ROLLUP_STATE (Name, LastOrderLineID) VALUES (?, 0)")) {
+				pstmt.setString(1, STATE_NAME);
+				pstmt.executeUpdate();
+			}
+		}
+		tablesReady = true;
+	}
+}
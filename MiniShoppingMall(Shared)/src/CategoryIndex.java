@@ -0,0 +1,205 @@
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 카테고리 전용 테이블(CATEGORY) 관리와 메모리 카테고리 색인
+ *   (공용 소스 폴더 MiniShoppingMall(Shared)/src - 고객용/직원용 프로젝트가 함께 사용)
+ * - 카테고리 목록/이름/ID 조회는 색인에서 바로 처리 (물품 수와 무관하게 카테고리 수만큼의 비용)
+ *   색인은 CATEGORY 테이블만 읽어 만들고, TTL이 지나거나 추가/삭제 시 다시 만듦
+ * - 이전 구조(shopdatatable의 ProductID가 NULL인 카테고리 행)에서 CATEGORY 테이블로 옮기는 마이그레이션
+ *   처음 사용할 때 CATEGORY 테이블이 비어 있으면 한 번만 실행
+ *
+ * 포함된 메소드:
+ * - all(): 전체 카테고리 (CategoryID 순)
+ * - names(): 카테고리명 목록 (이름 순)
+ * - nameOf()/idOf()/exists(): 카테고리 조회
+ * - add()/remove(): 카테고리 추가/삭제 (색인 함께 갱신)
+ * - invalidate(): 색인 폐기 (다음 조회 시 다시 적재)
+ *
+ * ===========================================
+ */
+public class CategoryIndex {
+
+	// 색인 유지 시간 - 다른 프로그램에서 추가/삭제한 카테고리는 이 시간 안에 반영됨
+	private static final long TTL_MS = 60_000;
+
+	private static final String CREATE_TABLE_SQL =
+			"CREATE TABLE IF NOT EXISTS CATEGORY (" +
+			"CategoryID INT NOT NULL PRIMARY KEY, " +
+			"CategoryName VARCHAR(100) NOT NULL, " +
+			"UNIQUE KEY UK_CATEGORY_NAME (CategoryName))";
+
+	private static final AtomicReference<Snapshot> current = new AtomicReference<>();
+	private static final Object reloadLock = new Object();
+
+	private static volatile boolean migrated = false;
+
+	// 전체 카테고리 (CategoryID 순)
+	public static List<Category> all() throws SQLException {
+		return snapshot().byId;
+	}
+
+	// 카테고리명 목록 (이름 순)
+	public static List<String> names() throws SQLException {
+		return snapshot().sortedNames;
+	}
+
+	// CategoryID의 카테고리명 (없으면 null)
+	public static String nameOf(int categoryId) throws SQLException {
+		Category category = snapshot().idToCategory.get(categoryId);
+		return category != null ? category.name : null;
+	}
+
+	// 카테고리명의 CategoryID (대소문자 구분 없음, 없으면 null)
+	public static Integer idOf(String categoryName) throws SQLException {
+		Category category = snapshot().nameToCategory.get(categoryName);
+		return category != null ? category.id : null;
+	}
+
+	public static boolean exists(int categoryId) throws SQLException {
+		return snapshot().idToCategory.containsKey(categoryId);
+	}
+
+	// 카테고리 추가 (이름이 중복되면 SQLIntegrityConstraintViolationException)
+	public static void add(int categoryId, String categoryName) throws SQLException {
+		try (Connection conn = Main.getConnection()) {
+			ensureMigrated(conn);
+			try (PreparedStatement pstmt = conn.prepareStatement("INSERT INTO CATEGORY (CategoryID, CategoryName) VALUES (?, ?)")) {
+				pstmt.setInt(1, categoryId);
+				pstmt.setString(2, categoryName);
+				pstmt.executeUpdate();
+			}
+		}
+		invalidate();
+	}
+
+	// 카테고리 삭제 - 삭제되었으면 true
+	public static boolean remove(int categoryId) throws SQLException {
+		int rows;
+		try (Connection conn = Main.getConnection()) {
+			ensureMigrated(conn);
+			try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM CATEGORY WHERE CategoryID = ?")) {
+				pstmt.setInt(1, categoryId);
+				rows = pstmt.executeUpdate();
+			}
+		}
+		invalidate();
+		return rows > 0;
+	}
+
+	// 색인 폐기
+	public static void invalidate() {
+		current.set(null);
+	}
+
+	// 유효한 색인 반환 (만료 시 한 스레드만 다시 적재)
+	private static Snapshot snapshot() throws SQLException {
+		Snapshot s = current.get();
+		if (s != null && !s.isExpired()) {
+			return s;
+		}
+
+		synchronized (reloadLock) {
+			s = current.get();
+			if (s == null || s.isExpired()) {
+				s = load();
+				current.set(s);
+			}
+			return s;
+		}
+	}
+
+	// CATEGORY 테이블 전체 적재 (카테고리 수만큼만 읽음)
+	private static Snapshot load() throws SQLException {
+		List<Category> categories = new ArrayList<>();
+		try (Connection conn = Main.getConnection()) {
+			ensureMigrated(conn);
+			try (Statement stmt = conn.createStatement();
+			     ResultSet rs = stmt.executeQuery("SELECT CategoryID, CategoryName FROM CATEGORY ORDER BY CategoryID")) {
+				while (rs.next()) {
+					categories.add(new Category(rs.getInt("CategoryID"), rs.getString("CategoryName")));
+				}
+			}
+		}
+		return new Snapshot(categories);
+	}
+
+	/**
+	 * CATEGORY 테이블이 없으면 만들고, 비어 있으면 shopdatatable의 카테고리를 옮깁니다.
+	 * 옮긴 뒤에는 카테고리 표시용으로만 쓰이던 shopdatatable의 빈 카테고리 행(ProductID가 NULL)을 삭제합니다.
+	 * 모두 한 트랜잭션으로 처리하며, 여러 프로그램이 동시에 실행해도 INSERT IGNORE로 한 번만 반영됩니다.
+	 */
+	private static void ensureMigrated(Connection conn) throws SQLException {
+		if (migrated) {
+			return;
+		}
+		try (Statement stmt = conn.createStatement()) {
+			stmt.executeUpdate(CREATE_TABLE_SQL);
+
+			boolean empty;
+			try (ResultSet rs = stmt.executeQuery("SELECT NOT EXISTS (SELECT 1 FROM CATEGORY)")) {
+				empty = rs.next() && rs.getBoolean(1);
+			}
+			if (empty) {
+				boolean autoCommit = conn.getAutoCommit();
+				conn.setAutoCommit(false);
+				try {
+					stmt.executeUpdate("INSERT IGNORE INTO CATEGORY (CategoryID, CategoryName) " +
+					                   "SELECT CategoryID, MIN(CategoryName) FROM shopdatatable " +
+					                   "WHERE CategoryID IS NOT NULL AND CategoryName IS NOT NULL GROUP BY CategoryID");
+					stmt.executeUpdate("DELETE FROM shopdatatable WHERE ProductID IS NULL");
+					conn.commit();
+				} catch (SQLException e) {
+					conn.rollback();
+					throw e;
+				} finally {
+					conn.setAutoCommit(autoCommit);
+				}
+			}
+		}
+		migrated = true;
+	}
+
+	// 카테고리 한 개
+	public static final class Category {
+		final int id;
+		final String name;
+
+		Category(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	// 한 시점의 카테고리 색인 (불변)
+	private static final class Snapshot {
+		final List<Category> byId;
+		final List<String> sortedNames;
+		final Map<Integer, Category> idToCategory = new HashMap<>();
+		// 대소문자 구분 없이 찾음 (CATEGORY 테이블의 기본 정렬 규칙과 UNIQUE 키도 대소문자를 구분하지 않음)
+		final Map<String, Category> nameToCategory = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		final long loadedAt = System.currentTimeMillis();
+
+		Snapshot(List<Category> categories) {
+			for (Category category : categories) {
+				idToCategory.put(category.id, category);
+				nameToCategory.put(category.name, category);
+			}
+			this.byId = Collections.unmodifiableList(categories);
+			this.sortedNames = Collections.unmodifiableList(new ArrayList<>(nameToCategory.keySet()));
+		}
+
+		boolean isExpired() {
+			return System.currentTimeMillis() - loadedAt >= TTL_MS;
+		}
+	}
+}
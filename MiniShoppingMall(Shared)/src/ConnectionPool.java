@@ -0,0 +1,278 @@
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.MysqlDataSource;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 번들된 Connector/J(MysqlDataSource) 기반의 JDBC 연결 풀
+ * - 최대 연결 수 제한 (Semaphore 허가 + 락 없는 유휴 연결 큐)
+ * - 대여 시 연결 유효성 검사 (COM_PING)
+ * - 유휴 연결 제거 및 최대 수명 초과 연결 교체
+ * - 반환되지 않는 연결(누수) 감지 및 경고
+ *
+ * 포함된 메소드:
+ * - getConnection(): 풀에서 연결 대여 (close() 호출 시 풀로 반환)
+ * - shutdown(): 풀 종료 및 모든 유휴 연결 닫기
+ * - getIdleCount()/getBorrowedCount(): 풀 상태 조회
+ *
+ * ===========================================
+ */
+public class ConnectionPool {
+
+	// 풀 설정 기본값
+	private static final int DEFAULT_MAX_SIZE = 10;
+	private static final long CONNECTION_TIMEOUT_MS = 30_000;      // 연결 대기 최대 시간
+	private static final long IDLE_TIMEOUT_MS = 10 * 60_000;       // 유휴 연결 제거 기준
+	private static final long MAX_LIFETIME_MS = 30 * 60_000;       // 연결 최대 수명
+	private static final long LEAK_THRESHOLD_MS = 60_000;          // 누수 경고 기준
+	private static final long VALIDATION_INTERVAL_MS = 5_000;      // 이 시간 이상 쉬었던 연결만 검사
+	private static final int VALIDATION_TIMEOUT_MS = 3_000;
+	private static final long HOUSEKEEPING_PERIOD_MS = 30_000;
+
+	private final MysqlDataSource dataSource;
+	private final int maxSize;
+	private final Semaphore permits;
+	private final ConcurrentLinkedDeque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+	private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService housekeeper;
+	private volatile boolean closed = false;
+
+	public ConnectionPool(String url, String user, String pass) {
+		this(url, user, pass, DEFAULT_MAX_SIZE);
+	}
+
+	public ConnectionPool(String url, String user, String pass, int maxSize) {
+		this.dataSource = new MysqlDataSource();
+		this.dataSource.setURL(url);
+		this.dataSource.setUser(user);
+		this.dataSource.setPassword(pass);
+		this.maxSize = maxSize;
+		this.permits = new Semaphore(maxSize);
+
+		this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "ConnectionPool-housekeeper");
+			t.setDaemon(true);
+			return t;
+		});
+		this.housekeeper.scheduleWithFixedDelay(this::houseKeep, HOUSEKEEPING_PERIOD_MS, HOUSEKEEPING_PERIOD_MS, TimeUnit.MILLISECONDS);
+	}
+
+	// 풀에서 연결 대여 - 반환된 연결의 close()는 물리 연결을 닫지 않고 풀로 돌려보냄
+	public Connection getConnection() throws SQLException {
+		if (closed) {
+			throw new SQLException("연결 풀이 이미 종료되었습니다.");
+		}
+
+		try {
+			if (!permits.tryAcquire(CONNECTION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+				throw new SQLException("연결 대기 시간이 초과되었습니다. (사용 중: " + borrowed.size() + "/" + maxSize + ")");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("연결 대기 중 인터럽트가 발생했습니다.", e);
+		}
+
+		try {
+			PooledConnection pc = takeIdleOrCreate();
+			pc.borrowedAt = System.currentTimeMillis();
+			pc.leakReported = false;
+			pc.borrowTrace = new Throwable("연결 대여 위치 (" + Thread.currentThread().getName() + ")");
+			borrowed.add(pc);
+			return pc.newHandle();
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	// 유휴 연결을 꺼내거나(최근 사용 순) 새 물리 연결 생성
+	private PooledConnection takeIdleOrCreate() throws SQLException {
+		PooledConnection pc;
+		while ((pc = idle.pollFirst()) != null) {
+			long now = System.currentTimeMillis();
+			if (now - pc.createdAt >= MAX_LIFETIME_MS) {
+				closePhysical(pc);
+				continue;
+			}
+			if (now - pc.lastUsedAt >= VALIDATION_INTERVAL_MS && !isAlive(pc)) {
+				closePhysical(pc);
+				continue;
+			}
+			return pc;
+		}
+		return new PooledConnection(dataSource.getConnection());
+	}
+
+	// COM_PING으로 연결이 살아있는지 확인
+	private boolean isAlive(PooledConnection pc) {
+		try {
+			if (pc.physical.isClosed()) {
+				return false;
+			}
+			pc.physical.unwrap(JdbcConnection.class).pingInternal(true, VALIDATION_TIMEOUT_MS);
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	// 대여한 연결을 풀로 반환
+	private void release(PooledConnection pc) {
+		borrowed.remove(pc);
+		pc.borrowTrace = null;
+
+		boolean reusable = !closed;
+		try {
+			if (pc.physical.isClosed()) {
+				reusable = false;
+			} else if (!pc.physical.getAutoCommit()) {
+				// 커밋되지 않은 트랜잭션은 다음 사용자에게 넘기지 않음
+				pc.physical.rollback();
+				pc.physical.setAutoCommit(true);
+			}
+			if (reusable) {
+				pc.physical.clearWarnings();
+			}
+		} catch (SQLException e) {
+			reusable = false;
+		}
+
+		if (reusable) {
+			pc.lastUsedAt = System.currentTimeMillis();
+			idle.offerFirst(pc);
+		} else {
+			closePhysical(pc);
+		}
+		permits.release();
+	}
+
+	// 주기적으로 유휴/수명 초과 연결을 정리하고 누수를 감지
+	private void houseKeep() {
+		long now = System.currentTimeMillis();
+
+		Iterator<PooledConnection> it = idle.descendingIterator();
+		while (it.hasNext()) {
+			PooledConnection pc = it.next();
+			if (now - pc.lastUsedAt >= IDLE_TIMEOUT_MS || now - pc.createdAt >= MAX_LIFETIME_MS) {
+				if (idle.removeFirstOccurrence(pc)) {
+					closePhysical(pc);
+				}
+			}
+		}
+
+		for (PooledConnection pc : borrowed) {
+			Throwable trace = pc.borrowTrace;
+			if (!pc.leakReported && trace != null && now - pc.borrowedAt >= LEAK_THRESHOLD_MS) {
+				pc.leakReported = true;
+				System.err.println("[ConnectionPool] " + (now - pc.borrowedAt) / 1000 + "초 이상 반환되지 않은 연결이 있습니다.");
+				trace.printStackTrace();
+			}
+		}
+	}
+
+	private void closePhysical(PooledConnection pc) {
+		try {
+			pc.physical.close();
+		} catch (SQLException e) {
+			// 이미 끊어진 연결은 무시
+		}
+	}
+
+	// 풀 종료 - 유휴 연결을 모두 닫고 새 대여를 거부
+	public void shutdown() {
+		closed = true;
+		housekeeper.shutdownNow();
+		PooledConnection pc;
+		while ((pc = idle.pollFirst()) != null) {
+			closePhysical(pc);
+		}
+	}
+
+	public int getIdleCount() {
+		return idle.size();
+	}
+
+	public int getBorrowedCount() {
+		return borrowed.size();
+	}
+
+	// 풀이 관리하는 물리 연결
+	private final class PooledConnection {
+		final Connection physical;
+		final long createdAt;
+		volatile long lastUsedAt;
+		volatile long borrowedAt;
+		volatile boolean leakReported;
+		volatile Throwable borrowTrace;
+
+		PooledConnection(Connection physical) {
+			this.physical = physical;
+			this.createdAt = System.currentTimeMillis();
+			this.lastUsedAt = this.createdAt;
+		}
+
+		// 대여마다 새 핸들을 만들어 반환 후 재사용(중복 close 등)을 막음
+		Connection newHandle() {
+			return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+					new Class<?>[] { Connection.class }, new Handle(this));
+		}
+	}
+
+	// 사용자에게 전달되는 연결 핸들 - close()/isClosed()만 가로채고 나머지는 물리 연결에 위임
+	private final class Handle implements InvocationHandler {
+		private PooledConnection pc;
+
+		Handle(PooledConnection pc) {
+			this.pc = pc;
+		}
+
+		@Override
+		public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("close".equals(name)) {
+				if (pc != null) {
+					PooledConnection returning = pc;
+					pc = null;
+					release(returning);
+				}
+				return null;
+			}
+			if ("isClosed".equals(name)) {
+				return pc == null || pc.physical.isClosed();
+			}
+			if ("equals".equals(name)) {
+				return proxy == args[0];
+			}
+			if ("hashCode".equals(name)) {
+				return System.identityHashCode(proxy);
+			}
+			if ("toString".equals(name)) {
+				return "PooledConnection[" + (pc == null ? "returned" : pc.physical) + "]";
+			}
+			if (pc == null) {
+				throw new SQLException("이미 풀로 반환된 연결입니다.");
+			}
+			try {
+				return method.invoke(pc.physical, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+}
@@ -0,0 +1,126 @@
+import java.sql.*;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - MAX(ID)+1 조회 없이 새 ID를 발급하는 블록 임대 방식 ID 할당기
+ * - ID_SEQUENCE 테이블의 시퀀스 행 하나를 원자적으로 증가시켜 ID 구간(블록)을 임대
+ *   (UPDATE ... SET NextValue = LAST_INSERT_ID(NextValue + 블록 크기))
+ * - 임대한 블록은 메모리에서 차례로 발급하므로 블록 크기만큼의 발급마다 DB 왕복 1회
+ *   (증가된 값은 UPDATE 응답의 LAST_INSERT_ID로 받으므로 별도 조회 없음)
+ * - 여러 프로세스/스레드가 동시에 발급해도 같은 ID가 나오지 않음 (발급되지 않은 ID는 건너뛸 수 있음)
+ * - 시퀀스가 없으면 처음 사용할 때 기존 데이터의 최댓값 다음 값으로 생성
+ *
+ * 포함된 메소드:
+ * - next(): 다음 ID 발급
+ * - reserve(): 연속된 ID n개를 한 번에 임대 (대량 등록용)
+ *
+ * ===========================================
+ */
+public class IdAllocator {
+
+	private static final String CREATE_TABLE_SQL =
+			"CREATE TABLE IF NOT EXISTS ID_SEQUENCE (" +
+			"Name VARCHAR(64) NOT NULL PRIMARY KEY, " +
+			"NextValue BIGINT NOT NULL)";
+
+	private static volatile boolean tableReady = false;
+
+	private final String name;
+	private final String seedSql;
+	private final Object[] seedParams;
+	private final int blockSize;
+	private volatile boolean seeded = false;
+
+	// 현재 임대 중인 블록 [nextId, blockEnd)
+	private long nextId;
+	private long blockEnd;
+
+	/**
+	 * @param name 시퀀스 이름 (ID_SEQUENCE.Name)
+	 * @param seedSql 시퀀스가 없을 때 시작 값을 구하는 조회 (결과 첫 컬럼)
+	 * @param blockSize 한 번에 임대할 ID 수
+	 * @param seedParams seedSql의 ? 에 들어갈 값
+	 */
+	public IdAllocator(String name, String seedSql, int blockSize, Object... seedParams) {
+		this.name = name;
+		this.seedSql = seedSql;
+		this.blockSize = blockSize;
+		this.seedParams = seedParams;
+	}
+
+	// 다음 ID 발급 - 임대한 블록을 다 쓰면 새 블록 임대
+	public synchronized long next() throws SQLException {
+		if (nextId >= blockEnd) {
+			nextId = lease(blockSize);
+			blockEnd = nextId + blockSize;
+		}
+		return nextId++;
+	}
+
+	// 연속된 ID count개를 임대하고 첫 ID를 반환 (현재 블록과는 별개)
+	public long reserve(int count) throws SQLException {
+		if (count <= 0) {
+			throw new IllegalArgumentException("임대할 ID 수는 1 이상이어야 합니다: " + count);
+		}
+		return lease(count);
+	}
+
+	// 시퀀스를 count만큼 증가시키고 증가 전 값(임대 구간의 시작)을 반환
+	private long lease(int count) throws SQLException {
+		ensureSequence();
+
+		String sql = "UPDATE ID_SEQUENCE SET NextValue = LAST_INSERT_ID(NextValue + ?) WHERE Name = ?";
+
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+			pstmt.setInt(1, count);
+			pstmt.setString(2, name);
+			if (pstmt.executeUpdate() != 1) {
+				throw new SQLException("ID 시퀀스를 찾을 수 없습니다: " + name);
+			}
+
+			// LAST_INSERT_ID(식)으로 지정한 값은 UPDATE 응답에 함께 오므로 추가 조회 없이 읽을 수 있음
+			try (ResultSet keys = pstmt.getGeneratedKeys()) {
+				if (keys.next()) {
+					return keys.getLong(1) - count;
+				}
+			}
+
+			// 응답에 값이 없으면 같은 연결에서 직접 조회 (LAST_INSERT_ID()는 연결마다 따로 유지됨)
+			try (Statement stmt = conn.createStatement();
+			     ResultSet rs = stmt.executeQuery("SELECT LAST_INSERT_ID()")) {
+				rs.next();
+				return rs.getLong(1) - count;
+			}
+		}
+	}
+
+	// ID_SEQUENCE 테이블과 시퀀스 행이 없으면 생성 (기존 데이터의 최댓값 다음부터 시작)
+	private void ensureSequence() throws SQLException {
+		if (seeded) {
+			return;
+		}
+
+		try (Connection conn = Main.getConnection()) {
+			if (!tableReady) {
+				try (Statement stmt = conn.createStatement()) {
+					stmt.executeUpdate(CREATE_TABLE_SQL);
+				}
+				tableReady = true;
+			}
+
+			// 이미 있으면 무시되므로 여러 곳에서 동시에 실행해도 안전
+			String sql = "INSERT IGNORE INTO ID_SEQUENCE (Name, NextValue) SELECT ?, (" + seedSql + ")";
+			try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+				pstmt.setString(1, name);
+				for (int i = 0; i < seedParams.length; i++) {
+					pstmt.setObject(i + 2, seedParams[i]);
+				}
+				pstmt.executeUpdate();
+			}
+		}
+		seeded = true;
+	}
+}
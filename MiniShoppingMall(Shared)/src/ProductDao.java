@@ -0,0 +1,206 @@
+import java.sql.*;
+import java.util.function.Consumer;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 물품 테이블(shopdatatable) 데이터 접근 - 물품 조회/추가/수정/삭제 SQL을 한 곳에 모음
+ *   (공용 소스 폴더 MiniShoppingMall(Shared)/src - 고객용/직원용 프로젝트가 함께 사용)
+ * - SQL은 상수 문자열로만 사용하고 연결 풀(Main.getConnection())의 연결로 실행
+ *   연결 URL의 useServerPrepStmts/cachePrepStmts 설정으로 서버 측 prepared statement가 연결마다 캐시되므로
+ *   같은 SQL의 파싱/준비는 연결마다 한 번만 하고, 이후 호출은 캐시된 문장에 값만 바꿔 실행
+ * - 조회 결과는 Product 객체로 변환 (목록 조회는 한 객체를 재사용하여 행마다 새 객체를 만들지 않음)
+ * - 추가/수정 시 재고는 직접 쓰지 않고 같은 트랜잭션에서 StockLedger로 증감 (재고 변동 내역에 남도록)
+ *
+ * 포함된 메소드:
+ * - findById(): ProductID로 물품 한 건 조회
+ * - stockOf(): 현재 재고량 조회
+ * - forEach(): 모든 물품을 ProductID 순으로 하나씩 전달
+ * - existsInCategory(): 카테고리에 물품이 있는지 확인
+ * - insert()/update()/delete(): 물품 추가/수정/삭제
+ *
+ * ===========================================
+ */
+public class ProductDao {
+
+	private static final String COLUMNS =
+			"ProductID, ProductName, Price, StockQuantity, Origin, CategoryID, CategoryName";
+
+	private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM shopdatatable WHERE ProductID = ?";
+	private static final String STOCK_SQL = "SELECT StockQuantity FROM shopdatatable WHERE ProductID = ?";
+	private static final String ALL_SQL = "SELECT " + COLUMNS + " FROM shopdatatable ORDER BY ProductID";
+	private static final String EXISTS_IN_CATEGORY_SQL =
+			"SELECT EXISTS (SELECT 1 FROM shopdatatable WHERE CategoryID = ?)";
+	private static final String INSERT_SQL =
+			"INSERT INTO shopdatatable (CategoryID, CategoryName, ProductID, ProductName, Price, StockQuantity, Origin) " +
+			"VALUES (?, ?, ?, ?, ?, 0, ?)";
+	private static final String UPDATE_SQL =
+			"UPDATE shopdatatable SET ProductName = ?, Price = ?, " +
+			"Origin = ?, CategoryName = ?, CategoryID = ? WHERE ProductID = ?";
+	private static final String DELETE_SQL = "DELETE FROM shopdatatable WHERE ProductID = ?";
+
+	// ProductID로 물품 조회 (없으면 null)
+	public static Product findById(int productId) throws SQLException {
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(FIND_BY_ID_SQL)) {
+			pstmt.setInt(1, productId);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				return rs.next() ? new Product().readFrom(rs) : null;
+			}
+		}
+	}
+
+	// 현재 재고량 (없는 물품이면 0)
+	public static int stockOf(int productId) throws SQLException {
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(STOCK_SQL)) {
+			pstmt.setInt(1, productId);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				return rs.next() ? rs.getInt(1) : 0;
+			}
+		}
+	}
+
+	/**
+	 * 모든 물품을 ProductID 순으로 하나씩 전달합니다.
+	 * 결과는 스트리밍으로 받고 같은 Product 객체에 행마다 값을 다시 채워 전달하므로,
+	 * 전달받은 객체를 보관하려면 copy()로 복사해야 합니다.
+	 * @return 전달한 물품 수
+	 */
+	public static int forEach(Consumer<Product> action) throws SQLException {
+		int count = 0;
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(ALL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+			pstmt.setFetchSize(Integer.MIN_VALUE);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				Product row = new Product();
+				while (rs.next()) {
+					action.accept(row.readFrom(rs));
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	// 카테고리에 물품이 하나라도 있는지 확인
+	public static boolean existsInCategory(int categoryId) throws SQLException {
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(EXISTS_IN_CATEGORY_SQL)) {
+			pstmt.setInt(1, categoryId);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				return rs.next() && rs.getBoolean(1);
+			}
+		}
+	}
+
+	// 물품 추가 - 재고 0으로 추가한 뒤 처음 재고를 입고로 기록 (한 트랜잭션), 추가되면 true
+	public static boolean insert(Product p) throws SQLException {
+		try (Connection conn = Main.getConnection()) {
+			conn.setAutoCommit(false);
+			try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+				pstmt.setInt(1, p.categoryId);
+				pstmt.setString(2, p.category);
+				pstmt.setInt(3, p.productId);
+				pstmt.setString(4, p.productName);
+				pstmt.setDouble(5, p.price);
+				pstmt.setString(6, p.origin);
+				if (pstmt.executeUpdate() == 0
+						|| !StockLedger.applyDelta(conn, p.productId, p.stockQuantity, "물품 추가")) {
+					conn.rollback();
+					return false;
+				}
+				conn.commit();
+				return true;
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+		}
+	}
+
+	// 물품 수정 (ProductID 기준) - 재고는 입력한 값과의 차이만큼 증감으로 기록 (한 트랜잭션), 수정되면 true
+	public static boolean update(Product p) throws SQLException {
+		try (Connection conn = Main.getConnection()) {
+			conn.setAutoCommit(false);
+			try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+				// 행을 먼저 잠그고 재고를 맞춤 (없는 물품이면 false)
+				if (!StockLedger.setStock(conn, p.productId, p.stockQuantity, "물품 수정")) {
+					conn.rollback();
+					return false;
+				}
+				pstmt.setString(1, p.productName);
+				pstmt.setDouble(2, p.price);
+				pstmt.setString(3, p.origin);
+				pstmt.setString(4, p.category);
+				pstmt.setInt(5, p.categoryId);
+				pstmt.setInt(6, p.productId);
+				pstmt.executeUpdate();
+				conn.commit();
+				return true;
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+		}
+	}
+
+	// 물품 삭제 - 삭제되면 true
+	public static boolean delete(int productId) throws SQLException {
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+			pstmt.setInt(1, productId);
+			return pstmt.executeUpdate() > 0;
+		}
+	}
+
+	// 물품 한 행
+	public static class Product {
+		int productId;
+		String productName;
+		double price;
+		int stockQuantity;
+		String origin;
+		int categoryId;
+		String category;
+
+		public Product() {
+		}
+
+		public Product(int productId, String productName, double price, int stockQuantity,
+		               String origin, int categoryId, String category) {
+			this.productId = productId;
+			this.productName = productName;
+			this.price = price;
+			this.stockQuantity = stockQuantity;
+			this.origin = origin;
+			this.categoryId = categoryId;
+			this.category = category;
+		}
+
+		// 현재 행의 값으로 채움 (COLUMNS 순서)
+		Product readFrom(ResultSet rs) throws SQLException {
+			productId = rs.getInt(1);
+			productName = rs.getString(2);
+			price = rs.getDouble(3);
+			stockQuantity = rs.getInt(4);
+			origin = rs.getString(5);
+			categoryId = rs.getInt(6);
+			category = rs.getString(7);
+			return this;
+		}
+
+		public Product copy() {
+			return new Product(productId, productName, price, stockQuantity, origin, categoryId, category);
+		}
+	}
+}
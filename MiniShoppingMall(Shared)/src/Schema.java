@@ -0,0 +1,131 @@
+import java.sql.*;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 고객용/직원용 프로그램이 함께 쓰는 테이블을 프로그램 시작 시 한 번 생성 (CREATE TABLE IF NOT EXISTS)
+ *   메뉴 선택이나 구매 처리 도중에는 DDL을 실행하지 않도록 각 프로그램의 main()에서 호출
+ *   (공용 소스 폴더 MiniShoppingMall(Shared)/src - 어느 프로그램이 먼저 실행되어도 같은 정의로 생성)
+ * - 테이블 정의는 이 클래스에만 둠
+ * - shopdatatable.ProductID의 UNIQUE 키 확인/추가 (일괄 가져오기의 ON DUPLICATE KEY UPDATE가 ProductID로 기존 물품을 찾음)
+ *   같은 ProductID가 이미 여러 행에 있으면 키를 만들 수 없으므로 안내만 하고 일괄 가져오기를 막음
+ *
+ * 포함된 메소드:
+ * - ensure(): 필요한 테이블/키 생성 (프로그램 실행 중 한 번)
+ * - hasProductIdKey(): ProductID UNIQUE 키가 있는지
+ *
+ * ===========================================
+ */
+public class Schema {
+
+	// 재고 변동 내역 - 재고를 바꾸는 모든 곳이 StockLedger를 거쳐 추가만 함 (수정/삭제하지 않음)
+	private static final String CREATE_STOCK_LEDGER_SQL =
+			"CREATE TABLE IF NOT EXISTS STOCK_LEDGER (" +
+			"LedgerID BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+			"ProductID INT NOT NULL, " +
+			"Delta INT NOT NULL, " +
+			"Reason VARCHAR(200) NOT NULL, " +
+			"CreatedAt TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+			"INDEX IDX_STOCK_LEDGER_PRODUCT (ProductID, LedgerID))";
+
+	// 주문 내역 - 한 번의 구매(여러 줄)는 같은 OrderID를 가짐 (고객용 CheckoutEngine이 추가, 직원용 SalesRollup이 집계)
+	private static final String CREATE_ORDER_HISTORY_SQL =
+			"CREATE TABLE IF NOT EXISTS ORDER_HISTORY (" +
+			"OrderLineID BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+			"OrderID BIGINT NOT NULL, " +
+			"CustomerID INT NOT NULL, " +
+			"Grade VARCHAR(20) NOT NULL, " +
+			"ProductID INT NOT NULL, " +
+			"ProductName VARCHAR(100) NOT NULL, " +
+			"CategoryID INT NULL, " +
+			"Quantity INT NOT NULL, " +
+			"UnitPrice DECIMAL(12, 2) NOT NULL, " +
+			"OrderedAt DATETIME NOT NULL, " +
+			"INDEX IDX_ORDER_HISTORY_CUSTOMER (CustomerID, OrderID))";
+
+	// 주문 내역 기록 잠금 - 구매가 주문 줄을 추가하기 전에 이 행을 잠그고 커밋할 때까지 가짐
+	// -> OrderLineID가 커밋 순서대로 매겨지므로, 보이는 번호보다 작은 번호가 나중에 커밋되는 일이 없음 (SalesRollup이 번호로 반영 위치를 정함)
+	private static final String CREATE_ORDER_HISTORY_LOCK_SQL =
+			"CREATE TABLE IF NOT EXISTS ORDER_HISTORY_LOCK (LockID INT NOT NULL PRIMARY KEY)";
+	private static final String INSERT_ORDER_HISTORY_LOCK_SQL = "INSERT IGNORE INTO ORDER_HISTORY_LOCK (LockID) VALUES (1)";
+
+	// 재고 부족 알림 - 상태가 바뀔 때만 추가하고 물품당 최신 한 건만 남김 (StockWatcher가 AlertID 이후만 읽음)
+	private static final String CREATE_STOCK_ALERT_SQL =
+			"CREATE TABLE IF NOT EXISTS STOCK_ALERT (" +
+			"AlertID BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+			"ProductID INT NOT NULL, " +
+			"ProductName VARCHAR(100) NOT NULL, " +
+			"StockQuantity INT NOT NULL, " +
+			"CreatedAt TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+			"KEY IDX_STOCK_ALERT_PRODUCT (ProductID))";
+
+	// 물품별 마지막 알림 상태 - StockWatcher가 이 행을 잠그고 상태가 바뀌었는지 판단 (알림이 없던 물품은 행 없음)
+	private static final String CREATE_STOCK_ALERT_STATE_SQL =
+			"CREATE TABLE IF NOT EXISTS STOCK_ALERT_STATE (" +
+			"ProductID INT NOT NULL PRIMARY KEY, " +
+			"Below BOOLEAN NOT NULL, " +
+			"AlertID BIGINT NOT NULL)";
+
+	// 순서대로 실행 (테이블 생성 + 처음부터 있어야 하는 행)
+	private static final String[] CREATE_TABLES = {
+			CREATE_STOCK_LEDGER_SQL,
+			CREATE_ORDER_HISTORY_SQL,
+			CREATE_ORDER_HISTORY_LOCK_SQL,
+			INSERT_ORDER_HISTORY_LOCK_SQL,
+			CREATE_STOCK_ALERT_SQL,
+			CREATE_STOCK_ALERT_STATE_SQL,
+	};
+
+	// 단일 컬럼 UNIQUE 키가 ProductID에 있는지 확인
+	private static final String PRODUCT_ID_KEY_SQL =
+			"SELECT 1 FROM information_schema.STATISTICS " +
+			"WHERE TABLE_SCHEMA = DATABASE() AND LOWER(TABLE_NAME) = 'shopdatatable' AND NON_UNIQUE = 0 " +
+			"GROUP BY INDEX_NAME HAVING COUNT(*) = 1 AND MAX(COLUMN_NAME) = 'ProductID'";
+
+	// MySQL 오류 코드 - 키를 만들 수 없는 중복 값
+	private static final int ER_DUP_ENTRY = 1062;
+
+	private static boolean ready = false;
+	private static boolean productIdKey = false;
+
+	// 필요한 테이블/키 생성 - 여러 번 호출해도 한 번만 실행
+	public static synchronized void ensure() throws SQLException {
+		if (ready) {
+			return;
+		}
+		try (Connection conn = Main.getConnection();
+		     Statement stmt = conn.createStatement()) {
+			for (String sql : CREATE_TABLES) {
+				stmt.executeUpdate(sql);
+			}
+			productIdKey = ensureProductIdKey(stmt);
+		}
+		ready = true;
+	}
+
+	// ProductID UNIQUE 키가 있는지 (ensure() 이후에만 의미 있음)
+	public static synchronized boolean hasProductIdKey() {
+		return productIdKey;
+	}
+
+	// ProductID에 UNIQUE 키가 없으면 추가 - 같은 ProductID가 여러 행에 있어 만들 수 없으면 안내 후 false
+	private static boolean ensureProductIdKey(Statement stmt) throws SQLException {
+		try (ResultSet rs = stmt.executeQuery(PRODUCT_ID_KEY_SQL)) {
+			if (rs.next()) {
+				return true;
+			}
+		}
+		try {
+			stmt.executeUpdate("ALTER TABLE shopdatatable ADD UNIQUE KEY UK_PRODUCT_ID (ProductID)");
+			return true;
+		} catch (SQLException e) {
+			if (e.getErrorCode() != ER_DUP_ENTRY) {
+				throw e;
+			}
+			System.err.println("[Schema] 같은 ProductID를 가진 물품이 여러 개 있어 ProductID UNIQUE 키를 만들지 못했습니다. " +
+			                   "(중복된 물품을 정리할 때까지 물품 일괄 가져오기를 사용할 수 없습니다)");
+			return false;
+		}
+	}
+}
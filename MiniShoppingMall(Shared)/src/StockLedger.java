@@ -0,0 +1,119 @@
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 재고(StockQuantity)를 바꾸는 모든 곳(재고 관리, 구매, 물품 추가/수정, 일괄 가져오기)이 거치는 재고 변동 처리
+ *   (공용 소스 폴더 MiniShoppingMall(Shared)/src - 고객용/직원용 프로젝트가 함께 사용)
+ * - 조건부 증감 UPDATE(재고가 0 미만이 되면 조건에서 빠져 0행)와 변동 내역(STOCK_LEDGER) INSERT를
+ *   호출한 쪽이 넘긴 연결의 같은 트랜잭션에서 실행 -> 변동 내역의 합계가 항상 현재 재고와 같음
+ * - 커밋/롤백은 호출한 쪽에서 함 (물품 수정, 주문 기록 등 다른 변경과 한 트랜잭션으로 묶을 수 있도록)
+ * - 여러 물품을 한 문장으로 차감하는 구매 처리(CheckoutEngine)를 위해 집합 기반 변동 내역 INSERT 문도 제공
+ *
+ * 포함된 메소드:
+ * - applyDeltas(): 물품별 증감을 배치로 반영하고 반영된 물품의 변동 내역 기록 (반영되지 않은 ProductID 반환)
+ * - applyDelta(): 물품 한 개 증감
+ * - setStock(): 재고를 입력한 값으로 맞춤 (현재 재고와의 차이를 증감으로 반영)
+ * - insertSelectSql(): 집합 기반 차감의 변동 내역 INSERT ... SELECT 문
+ *
+ * ===========================================
+ */
+public class StockLedger {
+
+	// STOCK_LEDGER.Reason 최대 길이
+	private static final int MAX_REASON = 200;
+
+	private static final String DELTA_SQL =
+			"UPDATE shopdatatable SET StockQuantity = StockQuantity + ? " +
+			"WHERE ProductID = ? AND StockQuantity + ? >= 0";
+	private static final String LEDGER_SQL = "INSERT INTO STOCK_LEDGER (ProductID, Delta, Reason) VALUES (?, ?, ?)";
+	private static final String LOCK_STOCK_SQL = "SELECT StockQuantity FROM shopdatatable WHERE ProductID = ? FOR UPDATE";
+
+	/**
+	 * 물품별 증감을 conn의 트랜잭션에서 반영하고, 반영된 물품만 변동 내역에 기록합니다.
+	 * 증감이 0인 물품은 건너뜁니다.
+	 * @param productIds 물품 ID (ProductID 오름차순이어야 잠금 순서가 일정함)
+	 * @param deltas productIds와 같은 순서의 증감 수량
+	 * @param reason 변동 사유 (STOCK_LEDGER.Reason)
+	 * @return 없는 물품이거나 재고가 0 미만이 되어 반영되지 않은 ProductID (모두 반영되면 빈 목록)
+	 */
+	public static List<Integer> applyDeltas(Connection conn, int[] productIds, int[] deltas, String reason) throws SQLException {
+		String trimmedReason = reason.length() > MAX_REASON ? reason.substring(0, MAX_REASON) : reason;
+
+		List<Integer> batched = new ArrayList<>(productIds.length); // 배치에 넣은 순서의 인덱스
+		List<Integer> failed = new ArrayList<>();
+		try (PreparedStatement update = conn.prepareStatement(DELTA_SQL);
+		     PreparedStatement ledger = conn.prepareStatement(LEDGER_SQL)) {
+
+			for (int i = 0; i < productIds.length; i++) {
+				if (deltas[i] == 0) {
+					continue;
+				}
+				update.setInt(1, deltas[i]);
+				update.setInt(2, productIds[i]);
+				update.setInt(3, deltas[i]);
+				update.addBatch();
+				batched.add(i);
+			}
+			if (batched.isEmpty()) {
+				return failed;
+			}
+
+			// 조건에서 빠진 물품(없는 물품/재고 부족)은 영향받은 행 수가 0
+			int[] counts = update.executeBatch();
+			boolean recorded = false;
+			for (int k = 0; k < counts.length; k++) {
+				int i = batched.get(k);
+				if (counts[k] == 0) {
+					failed.add(productIds[i]);
+					continue;
+				}
+				ledger.setInt(1, productIds[i]);
+				ledger.setInt(2, deltas[i]);
+				ledger.setString(3, trimmedReason);
+				ledger.addBatch();
+				recorded = true;
+			}
+			if (recorded) {
+				ledger.executeBatch();
+			}
+		}
+		return failed;
+	}
+
+	// 물품 한 개 증감 - 반영되면 true (없는 물품이거나 재고가 0 미만이 되면 false)
+	public static boolean applyDelta(Connection conn, int productId, int delta, String reason) throws SQLException {
+		return applyDeltas(conn, new int[] { productId }, new int[] { delta }, reason).isEmpty();
+	}
+
+	/**
+	 * 재고를 입력한 값으로 맞춥니다. 행을 잠그고 현재 재고를 읽어 차이만큼 증감으로 반영하므로
+	 * 그 사이의 구매로 줄어든 수량도 변동 내역에 그대로 남습니다. (conn은 자동 커밋이 꺼져 있어야 함)
+	 * @return 물품이 있으면 true
+	 */
+	public static boolean setStock(Connection conn, int productId, int stock, String reason) throws SQLException {
+		int current;
+		try (PreparedStatement pstmt = conn.prepareStatement(LOCK_STOCK_SQL)) {
+			pstmt.setInt(1, productId);
+			try (ResultSet rs = pstmt.executeQuery()) {
+				if (!rs.next()) {
+					return false;
+				}
+				current = rs.getInt(1);
+			}
+		}
+		return stock == current || applyDelta(conn, productId, stock - current, reason);
+	}
+
+	/**
+	 * 여러 물품을 한 문장으로 증감하는 경우의 변동 내역 INSERT 문을 만듭니다.
+	 * 증감 UPDATE와 같은 트랜잭션에서, 같은 조건으로 실행해야 합니다.
+	 * @param select (ProductID, 증감 수량, 사유) 세 컬럼을 돌려주는 SELECT 문
+	 */
+	public static String insertSelectSql(String select) {
+		return "INSERT INTO STOCK_LEDGER (ProductID, Delta, Reason) " + select;
+	}
+}
@@ -0,0 +1,372 @@
+import java.sql.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 재고 부족 감시 (직원이 재고량별 조회를 직접 실행하지 않아도 재고 부족을 바로 알림)
+ * - 재고를 바꾸는 곳(구매 처리, 물품 수정/추가, 재고 관리)이 바뀐 재고를 이벤트로 보냄
+ *   이벤트는 크기가 정해진 큐에 넣기만 하므로 구매/수정 처리는 감시를 기다리지 않음
+ *   (큐가 가득 차면 이벤트를 버림 - 이벤트에는 바뀐 뒤의 재고가 들어 있어 다음 이벤트가 상태를 바로잡음)
+ * - 백그라운드 스레드가 이벤트를 받아 재고 부족(THRESHOLD 미만) 물품을 재고가 적은 순의 최소 힙으로 관리
+ *   기준 아래로 처음 내려간 순간에만 알림을 만들고, 기준 이상으로 채워지면 목록에서 뺌
+ * - 기준 아래로 새로 내려간 경우와 다시 채워진 경우만 STOCK_ALERT 테이블에 기록하여 다른 프로그램(고객용 구매 -> 직원용)에서도 확인
+ *   (새로 내려갔는지는 물품별 상태 행(STOCK_ALERT_STATE)을 트랜잭션에서 잠그고 판단 -> 두 프로그램이 동시에 기록해도 알림은 한 번)
+ *   (기록 후 그 물품의 이전 알림은 지움 -> 물품당 최신 한 건만 유지)
+ *   (읽을 때는 마지막으로 확인한 번호 이후만, 물품의 현재 재고와 함께 읽음)
+ *   (테이블은 프로그램 시작 시 Schema.ensure()가 만듦)
+ * - 감시(직원용, start() 호출): 전체 물품 조회는 시작할 때 한 번만 (기존 재고 부족 물품을 목록에 올림), 이후에는 이벤트로만 갱신
+ * - 보내기만(고객용, start() 없이 publish()만 호출): 목록 없이 STOCK_ALERT 기록만 함 (시작 시 전체 조회 없음)
+ *
+ * 포함된 메소드:
+ * - start(): 감시 시작 (여러 번 호출해도 한 번만 시작, 재고 부족 목록이 필요한 프로그램에서 publish() 전에 호출)
+ * - publish(): 재고 변경 이벤트 보내기 (감시를 시작하지 않았으면 보내기만 하는 모드로 시작)
+ * - lowStock(): 현재 재고 부족 물품 목록 (재고가 적은 순)
+ * - takeNewAlerts(): 아직 표시하지 않은 알림 가져오기 (다른 프로그램에서 기록한 알림 포함)
+ *
+ * ===========================================
+ */
+public class StockWatcher {
+
+	// 재고 부족 기준 (이 수량 미만이면 재고 부족)
+	public static final int THRESHOLD = 10;
+
+	// 처리를 기다리는 이벤트 최대 수
+	private static final int QUEUE_CAPACITY = 10_000;
+
+	// 물품의 상태 행을 만들거나(처음이면 기준 이상으로) 이미 있으면 그대로 두고 잠금
+	private static final String LOCK_STATE_SQL =
+			"INSERT INTO STOCK_ALERT_STATE (ProductID, Below, AlertID) VALUES (?, FALSE, 0) " +
+			"ON DUPLICATE KEY UPDATE ProductID = ProductID";
+	private static final String READ_STATE_SQL = "SELECT Below, AlertID FROM STOCK_ALERT_STATE WHERE ProductID = ? FOR UPDATE";
+	private static final String INSERT_ALERT_SQL = "INSERT INTO STOCK_ALERT (ProductID, ProductName, StockQuantity) VALUES (?, ?, ?)";
+	private static final String UPDATE_STATE_SQL = "UPDATE STOCK_ALERT_STATE SET Below = ?, AlertID = ? WHERE ProductID = ?";
+	private static final String DELETE_ALERT_SQL = "DELETE FROM STOCK_ALERT WHERE AlertID = ?";
+
+	private static final BlockingQueue<StockEvent> events = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private static final AtomicLong droppedEvents = new AtomicLong();
+
+	// 재고 부족 물품 (아래 상태는 모두 StockWatcher.class로 잠금)
+	// 힙에서 중간 항목을 빼는 대신 항목을 비활성으로 표시하고, 꺼낼 때 건너뜀
+	private static final Map<Integer, Breach> breaches = new HashMap<>();
+	private static final PriorityQueue<Breach> heap = new PriorityQueue<>(
+			Comparator.<Breach>comparingInt(b -> b.stock).thenComparingInt(b -> b.productId));
+	private static final Deque<Breach> newAlerts = new ArrayDeque<>();
+
+	// 이미 확인한 STOCK_ALERT의 마지막 번호 (다른 프로그램이 기록한 알림만 새로 읽음)
+	private static long lastAlertId = 0;
+
+	private static volatile boolean started = false;
+	private static volatile boolean monitoring = false; // false이면 보내기만 함 (재고 부족 목록 없음)
+	private static volatile boolean loaded = false; // 시작 시 조회가 끝났는지
+
+	// 감시 시작 - 기존 재고 부족 물품을 한 번 읽은 뒤 이벤트 처리
+	public static void start() {
+		startWorker(true);
+	}
+
+	// 이벤트 처리 스레드 시작 - monitor가 false이면 시작 시 조회와 재고 부족 목록 없이 기록만 함
+	private static synchronized void startWorker(boolean monitor) {
+		if (started) {
+			return;
+		}
+		started = true;
+		monitoring = monitor;
+		Thread worker = new Thread(() -> {
+			if (monitor) {
+				try {
+					loadInitial();
+					loaded = true;
+				} catch (SQLException e) {
+					// 기존 재고 부족 목록 없이 이벤트만으로 감시
+				}
+			}
+			while (true) {
+				try {
+					apply(events.take(), true);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		}, monitor ? "StockWatcher-worker" : "StockWatcher-publisher");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * 바뀐 뒤의 재고를 이벤트로 보냅니다. 큐가 가득 차 있으면 기다리지 않고 버립니다.
+	 */
+	public static void publish(int productId, String productName, int stock) {
+		startWorker(false);
+		if (!events.offer(new StockEvent(productId, productName, stock))) {
+			droppedEvents.incrementAndGet();
+		}
+	}
+
+	// 큐가 가득 차 버린 이벤트 수
+	public static long getDroppedEvents() {
+		return droppedEvents.get();
+	}
+
+	// 현재 재고 부족 물품 (재고가 적은 순, 같은 재고는 ProductID순)
+	public static synchronized List<Breach> lowStock() {
+		PriorityQueue<Breach> copy = new PriorityQueue<>(heap);
+		List<Breach> list = new ArrayList<>(breaches.size());
+		while (!copy.isEmpty()) {
+			Breach b = copy.poll();
+			if (b.active) {
+				list.add(b);
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * 아직 가져가지 않은 알림을 반환합니다.
+	 * 다른 프로그램이 STOCK_ALERT에 기록한 알림도 마지막으로 확인한 번호 이후만 읽어 함께 반영합니다.
+	 */
+	public static List<Breach> takeNewAlerts() throws SQLException {
+		start();
+		if (!loaded) {
+			return new ArrayList<>(); // 알림 번호 위치를 잡기 전에는 지난 알림까지 읽지 않도록 기다림
+		}
+		long after;
+		synchronized (StockWatcher.class) {
+			after = lastAlertId;
+		}
+
+		// 알림 이후 재고가 다시 바뀌었을 수 있으므로 물품의 현재 재고와 함께 읽음
+		String sql = "SELECT a.AlertID, a.ProductID, sd.ProductName, sd.StockQuantity FROM STOCK_ALERT a " +
+		             "JOIN shopdatatable sd ON sd.ProductID = a.ProductID " +
+		             "WHERE a.AlertID > ? ORDER BY a.AlertID";
+
+		List<StockEvent> remote = new ArrayList<>();
+		long maxId = after;
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+			pstmt.setLong(1, after);
+			try (ResultSet rs = pstmt.executeQuery()) {
+				while (rs.next()) {
+					maxId = rs.getLong("AlertID");
+					remote.add(new StockEvent(rs.getInt("ProductID"), rs.getString("ProductName"), rs.getInt("StockQuantity")));
+				}
+			}
+		}
+
+		synchronized (StockWatcher.class) {
+			if (maxId > lastAlertId) {
+				lastAlertId = maxId;
+			}
+			// 이미 재고 부족으로 알고 있는 물품(이 프로그램이 기록한 알림 포함)은 다시 알리지 않음
+			for (StockEvent event : remote) {
+				apply(event, false);
+			}
+			List<Breach> list = new ArrayList<>(newAlerts);
+			newAlerts.clear();
+			return list;
+		}
+	}
+
+	// 이벤트 한 건 반영 - 기준 아래로 새로 내려가면 알림
+	// record가 true이면 새로 내려가거나 다시 채워진 경우 STOCK_ALERT에도 기록 (다른 프로그램의 목록도 갱신되도록)
+	private static void apply(StockEvent event, boolean record) {
+		if (!monitoring) {
+			// 보내기만 하는 프로그램 - 이전 재고를 모르므로 기준 미만이면 기록을 시도하고 새로 내려간 것인지는 recordAlert()가 판단
+			// (고객용 구매는 재고를 줄이기만 하므로 다시 채워지는 경우는 없음)
+			if (record && event.stock < THRESHOLD) {
+				recordQuietly(event);
+			}
+			return;
+		}
+
+		boolean crossed;
+		synchronized (StockWatcher.class) {
+			Breach old = breaches.get(event.productId);
+			if (old != null && old.stock == event.stock) {
+				return;
+			}
+			if (old != null) {
+				old.active = false; // 힙에서는 꺼낼 때 건너뜀
+				breaches.remove(event.productId);
+			}
+			boolean below = event.stock < THRESHOLD;
+			if (below) {
+				Breach b = new Breach(event.productId, event.productName, event.stock);
+				breaches.put(b.productId, b);
+				heap.add(b);
+				if (old == null) {
+					newAlerts.add(b);
+				}
+			}
+			crossed = below ? old == null : old != null; // 새로 내려감 또는 다시 채워짐
+			compactHeap();
+		}
+
+		if (crossed && record) {
+			recordQuietly(event);
+		}
+	}
+
+	private static void recordQuietly(StockEvent event) {
+		try {
+			recordAlert(event);
+		} catch (SQLException e) {
+			// 이 프로그램의 알림 목록에는 남아 있으므로 기록만 건너뜀
+		}
+	}
+
+	// 비활성 항목이 많이 쌓이면 힙을 다시 만듦
+	private static void compactHeap() {
+		if (heap.size() > 2 * breaches.size() + 64) {
+			heap.clear();
+			heap.addAll(breaches.values());
+		}
+	}
+
+	// 시작 시 한 번 - 현재 재고 부족 물품을 목록에 올리고(알림 없이) 알림 번호 위치를 잡음
+	private static void loadInitial() throws SQLException {
+		try (Connection conn = Main.getConnection()) {
+			try (PreparedStatement pstmt = conn.prepareStatement(
+					"SELECT ProductID, ProductName, StockQuantity FROM shopdatatable WHERE StockQuantity < ?")) {
+				pstmt.setInt(1, THRESHOLD);
+				try (ResultSet rs = pstmt.executeQuery()) {
+					synchronized (StockWatcher.class) {
+						while (rs.next()) {
+							int productId = rs.getInt("ProductID");
+							if (!breaches.containsKey(productId)) {
+								Breach b = new Breach(productId, rs.getString("ProductName"), rs.getInt("StockQuantity"));
+								breaches.put(productId, b);
+								heap.add(b);
+							}
+						}
+					}
+				}
+			}
+
+			try (Statement stmt = conn.createStatement();
+			     ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(AlertID), 0) FROM STOCK_ALERT")) {
+				rs.next();
+				synchronized (StockWatcher.class) {
+					lastAlertId = Math.max(lastAlertId, rs.getLong(1));
+				}
+			}
+		}
+	}
+
+	/**
+	 * 재고 부족 상태가 바뀐 경우에만 STOCK_ALERT에 기록하고, 그 물품의 이전 알림은 지웁니다 (물품당 최신 한 건).
+	 * 바뀌었는지는 STOCK_ALERT_STATE의 물품 행을 잠그고 판단하므로, 두 프로그램이 같은 물품을 동시에 기록해도
+	 * 나중 트랜잭션은 앞 트랜잭션이 바꾼 상태를 보고 건너뜁니다.
+	 * 해소 기록은 다른 프로그램이 읽을 때 현재 재고와 함께 반영되어 목록에서 빠집니다.
+	 */
+	private static void recordAlert(StockEvent event) throws SQLException {
+		boolean below = event.stock < THRESHOLD;
+
+		try (Connection conn = Main.getConnection()) {
+			conn.setAutoCommit(false);
+			try {
+				try (PreparedStatement pstmt = conn.prepareStatement(LOCK_STATE_SQL)) {
+					pstmt.setInt(1, event.productId);
+					pstmt.executeUpdate();
+				}
+
+				boolean wasBelow;
+				long oldAlertId;
+				try (PreparedStatement pstmt = conn.prepareStatement(READ_STATE_SQL)) {
+					pstmt.setInt(1, event.productId);
+					try (ResultSet rs = pstmt.executeQuery()) {
+						rs.next();
+						wasBelow = rs.getBoolean("Below");
+						oldAlertId = rs.getLong("AlertID");
+					}
+				}
+				if (wasBelow == below) {
+					conn.commit();
+					return; // 상태가 그대로 (이미 알린 재고 부족 또는 알린 적 없는 물품의 입고)
+				}
+
+				long alertId = 0;
+				try (PreparedStatement pstmt = conn.prepareStatement(INSERT_ALERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+					pstmt.setInt(1, event.productId);
+					pstmt.setString(2, event.productName);
+					pstmt.setInt(3, event.stock);
+					pstmt.executeUpdate();
+					try (ResultSet keys = pstmt.getGeneratedKeys()) {
+						if (keys.next()) {
+							alertId = keys.getLong(1);
+						}
+					}
+				}
+				try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_STATE_SQL)) {
+					pstmt.setBoolean(1, below);
+					pstmt.setLong(2, alertId);
+					pstmt.setInt(3, event.productId);
+					pstmt.executeUpdate();
+				}
+				if (oldAlertId > 0) {
+					// 기본 키로만 지우므로 다른 물품의 기록과 범위 잠금이 겹치지 않음
+					try (PreparedStatement pstmt = conn.prepareStatement(DELETE_ALERT_SQL)) {
+						pstmt.setLong(1, oldAlertId);
+						pstmt.executeUpdate();
+					}
+				}
+				conn.commit();
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+		}
+	}
+
+	// 재고 변경 이벤트 (바뀐 뒤의 재고)
+	private static class StockEvent {
+		final int productId;
+		final String productName;
+		final int stock;
+
+		StockEvent(int productId, String productName, int stock) {
+			this.productId = productId;
+			this.productName = productName;
+			this.stock = stock;
+		}
+	}
+
+	// 재고 부족 물품 한 건
+	public static class Breach {
+		final int productId;
+		final String productName;
+		final int stock;
+		boolean active = true;
+
+		Breach(int productId, String productName, int stock) {
+			this.productId = productId;
+			this.productName = productName;
+			this.stock = stock;
+		}
+
+		public int getProductId() {
+			return productId;
+		}
+
+		public String getProductName() {
+			return productName;
+		}
+
+		public int getStock() {
+			return stock;
+		}
+	}
+}
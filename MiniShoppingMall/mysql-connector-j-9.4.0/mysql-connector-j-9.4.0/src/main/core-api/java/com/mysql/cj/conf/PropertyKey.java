@@ -238,6 +238,7 @@ public enum PropertyKey {
     trustManagerFactoryProvider("trustManagerFactoryProvider", true), //
     ultraDevHack("ultraDevHack", true), //
     useAffectedRows("useAffectedRows", true), //
+    useColumnarResultStorage("useColumnarResultStorage", true), //
     useColumnNamesInFindColumn("useColumnNamesInFindColumn", true), //
     useCompression("useCompression", true), //
     useConfigs("useConfigs", true), //
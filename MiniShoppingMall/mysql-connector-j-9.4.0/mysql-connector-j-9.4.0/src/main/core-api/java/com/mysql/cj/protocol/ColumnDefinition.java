@@ -20,8 +20,10 @@
 
 package com.mysql.cj.protocol;
 
+import java.util.HashMap;
 import java.util.Map;
 
+import com.mysql.cj.result.ColumnNameIndex;
 import com.mysql.cj.result.Field;
 
 /**
@@ -45,21 +47,96 @@ public interface ColumnDefinition extends ProtocolEntity {
 
     boolean hasBuiltIndexMapping();
 
-    public Map<String, Integer> getColumnLabelToIndex();
+    /**
+     * Returns the index used to look up columns by label or name. It is built by {@link #buildIndexMapping()} and is immutable, so it can be shared
+     * between column definitions describing the same fields.
+     *
+     * @return {@link ColumnNameIndex}, or null if it hasn't been built yet or this implementation doesn't share one
+     */
+    default ColumnNameIndex getColumnNameIndex() {
+        return null;
+    }
+
+    default void setColumnNameIndex(ColumnNameIndex columnNameIndex) {
+    }
+
+    /**
+     * Returns a case-insensitive map from column labels to column indices, built from {@link #getFields()}.
+     *
+     * @return map of column labels to the index of the first matching column
+     * @deprecated Columns are looked up through {@link #getColumnNameIndex()}; the returned map is a copy and changing it has no effect.
+     */
+    @Deprecated
+    default Map<String, Integer> getColumnLabelToIndex() {
+        return ColumnNameIndex.toMap(getFields(), ColumnNameIndex.LABELS);
+    }
 
-    void setColumnLabelToIndex(Map<String, Integer> columnLabelToIndex);
+    /**
+     * @param columnLabelToIndex
+     *            ignored
+     * @deprecated The lookup index is built from the fields; this method has no effect.
+     */
+    @Deprecated
+    default void setColumnLabelToIndex(Map<String, Integer> columnLabelToIndex) {
+    }
 
-    public Map<String, Integer> getFullColumnNameToIndex();
+    /**
+     * Returns a case-insensitive map from fully-qualified column names to column indices, built from {@link #getFields()}.
+     *
+     * @return map of fully-qualified column names to the index of the first matching column
+     * @deprecated Columns are looked up through {@link #getColumnNameIndex()}; the returned map is a copy and changing it has no effect.
+     */
+    @Deprecated
+    default Map<String, Integer> getFullColumnNameToIndex() {
+        return ColumnNameIndex.toMap(getFields(), ColumnNameIndex.FULL_NAMES);
+    }
 
-    void setFullColumnNameToIndex(Map<String, Integer> fullColNameToIndex);
+    /**
+     * @param fullColNameToIndex
+     *            ignored
+     * @deprecated The lookup index is built from the fields; this method has no effect.
+     */
+    @Deprecated
+    default void setFullColumnNameToIndex(Map<String, Integer> fullColNameToIndex) {
+    }
 
-    public Map<String, Integer> getColumnNameToIndex();
+    /**
+     * Returns a case-insensitive map from original column names to column indices, built from {@link #getFields()}.
+     *
+     * @return map of original column names to the index of the first matching column
+     * @deprecated Columns are looked up through {@link #getColumnNameIndex()}; the returned map is a copy and changing it has no effect.
+     */
+    @Deprecated
+    default Map<String, Integer> getColumnNameToIndex() {
+        return ColumnNameIndex.toMap(getFields(), ColumnNameIndex.NAMES);
+    }
 
-    void setColumnNameToIndex(Map<String, Integer> colNameToIndex);
+    /**
+     * @param colNameToIndex
+     *            ignored
+     * @deprecated The lookup index is built from the fields; this method has no effect.
+     */
+    @Deprecated
+    default void setColumnNameToIndex(Map<String, Integer> colNameToIndex) {
+    }
 
-    public Map<String, Integer> getColumnToIndexCache();
+    /**
+     * @return an empty map
+     * @deprecated {@link ColumnNameIndex} answers repeated lookups without a separate cache.
+     */
+    @Deprecated
+    default Map<String, Integer> getColumnToIndexCache() {
+        return new HashMap<>();
+    }
 
-    public void setColumnToIndexCache(Map<String, Integer> columnToIndexCache);
+    /**
+     * @param columnToIndexCache
+     *            ignored
+     * @deprecated {@link ColumnNameIndex} answers repeated lookups without a separate cache; this method has no effect.
+     */
+    @Deprecated
+    default void setColumnToIndexCache(Map<String, Integer> columnToIndexCache) {
+    }
 
     void initializeFrom(ColumnDefinition columnDefinition);
 
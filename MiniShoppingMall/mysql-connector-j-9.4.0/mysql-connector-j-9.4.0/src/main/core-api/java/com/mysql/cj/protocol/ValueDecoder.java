@@ -20,6 +20,9 @@
 
 package com.mysql.cj.protocol;
 
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.CJOperationNotSupportedException;
+import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.ValueFactory;
 
@@ -69,4 +72,40 @@ public interface ValueDecoder {
 
     <T> T decodeYear(byte[] bytes, int offset, int length, ValueFactory<T> vf);
 
+    /**
+     * Decode a value of an integer type (TINYINT, SMALLINT, MEDIUMINT, INT, BIGINT or YEAR) directly to a primitive <code>long</code>, bypassing the
+     * {@link ValueFactory} chain so that primitive getters don't create any intermediate objects.
+     *
+     * @param bytes
+     *            bytes array with result data
+     * @param offset
+     *            offset in array
+     * @param length
+     *            data length
+     * @param f
+     *            field the value belongs to
+     * @return decoded value
+     */
+    default long decodeAsLong(byte[] bytes, int offset, int length, Field f) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
+
+    /**
+     * Decode a value of a floating point type (FLOAT or DOUBLE) directly to a primitive <code>double</code>, bypassing the {@link ValueFactory} chain so
+     * that primitive getters don't create any intermediate objects.
+     *
+     * @param bytes
+     *            bytes array with result data
+     * @param offset
+     *            offset in array
+     * @param length
+     *            data length
+     * @param f
+     *            field the value belongs to
+     * @return decoded value
+     */
+    default double decodeAsDouble(byte[] bytes, int offset, int length, Field f) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
+
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable lookup index from column labels, column names and fully-qualified column names to column indices.
+ *
+ * Lookups are case-insensitive and return the first matching column, as required by JDBC for getter methods called with a column name. Names are kept in
+ * open-addressing hash tables keyed by a case-folded hash. Labels, by far the most looked up, are also kept in a table keyed by the exact string, which
+ * answers repeated lookups with the same spelling from the string's cached hash code. Other spellings of a label are added to that table when first
+ * looked up, up to a limit. Repeated lookups don't allocate, so an index can be built once per result set metadata and shared by all result sets using
+ * that metadata. The tables for column names and fully-qualified names are only built when first needed.
+ */
+public class ColumnNameIndex {
+
+    /** Maximum number of other label spellings remembered, per column. */
+    private static final int MAX_SPELLINGS_PER_COLUMN = 2;
+
+    private final Field[] fields;
+
+    private final Table labels;
+    /** Replaced by a copy when a spelling is added, so lookups never see a table being modified. */
+    private volatile Table exactLabels;
+    private final int maxExactLabels;
+    /** Built on first use; the tables are only read once published, so a racing lookup at most builds its own copy. */
+    private volatile Table names = null;
+    private volatile Table fullNames = null;
+
+    /**
+     * Builds the index for the given fields.
+     *
+     * @param fields
+     *            {@link Field}s array
+     */
+    public ColumnNameIndex(Field[] fields) {
+        this.fields = fields;
+
+        int numFields = fields.length;
+        Table exact = new Table(false, numFields);
+        this.labels = new Table(true, numFields);
+        for (int i = 0; i < numFields; i++) {
+            String label = fields[i].getName();
+            if (label != null) {
+                // the exact spelling maps to the first column matching it case-insensitively
+                exact.putIfAbsent(label, this.labels.putIfAbsent(label, i));
+            }
+        }
+        this.exactLabels = exact;
+        this.maxExactLabels = exact.size() + MAX_SPELLINGS_PER_COLUMN * numFields;
+    }
+
+    /**
+     * Finds the first column with the given label, or, failing that, with the given name (if <code>useColumnNames</code> is set) or fully-qualified
+     * name.
+     *
+     * @param columnName
+     *            the column label or name, case-insensitive
+     * @param useColumnNames
+     *            should column names be searched after labels?
+     * @return the column index (starting at 0), or -1 if there is no such column
+     */
+    public int indexOf(String columnName, boolean useColumnNames) {
+        Table exact = this.exactLabels;
+        int index = exact.get(columnName);
+
+        if (index == -1) {
+            index = this.labels.get(columnName);
+
+            if (index != -1 && exact.size() < this.maxExactLabels) {
+                // concurrent lookups may each add a spelling and only one copy wins, which merely costs another lookup later
+                this.exactLabels = exact.copyWith(columnName, index);
+            }
+        }
+
+        if (index == -1 && useColumnNames) {
+            Table t = this.names;
+            if (t == null) {
+                this.names = t = buildTable(false);
+            }
+            index = t.get(columnName);
+        }
+
+        if (index == -1) {
+            Table t = this.fullNames;
+            if (t == null) {
+                this.fullNames = t = buildTable(true);
+            }
+            index = t.get(columnName);
+        }
+
+        return index;
+    }
+
+    /** Column labels, for {@link #toMap(Field[], int)}. */
+    public static final int LABELS = 0;
+    /** Original column names, for {@link #toMap(Field[], int)}. */
+    public static final int NAMES = 1;
+    /** Fully-qualified column names, for {@link #toMap(Field[], int)}. */
+    public static final int FULL_NAMES = 2;
+
+    /**
+     * Builds a case-insensitive map from column labels or names to the index of the first matching column, in the form the Map accessors of
+     * {@link com.mysql.cj.protocol.ColumnDefinition} used to return.
+     *
+     * @param fields
+     *            {@link Field}s array, may be null
+     * @param kind
+     *            {@link #LABELS}, {@link #NAMES} or {@link #FULL_NAMES}
+     * @return a new map
+     */
+    public static Map<String, Integer> toMap(Field[] fields, int kind) {
+        Map<String, Integer> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (fields != null) {
+            for (int i = 0; i < fields.length; i++) {
+                String name = kind == LABELS ? fields[i].getName() : kind == NAMES ? fields[i].getOriginalName() : fields[i].getFullName();
+                if (name != null) {
+                    map.putIfAbsent(name, i);
+                }
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Builds a case-insensitive table of the original column names or of the fully-qualified column names. The table is immutable, so concurrent
+     * lookups building it twice are harmless.
+     */
+    private Table buildTable(boolean fullNames) {
+        Table table = new Table(true, this.fields.length);
+        for (int i = 0; i < this.fields.length; i++) {
+            String name = fullNames ? this.fields[i].getFullName() : this.fields[i].getOriginalName();
+            if (name != null) {
+                table.putIfAbsent(name, i);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Open-addressing (linear probing) hash table from strings to column indices, kept at most half full.
+     */
+    private static final class Table {
+
+        private final boolean ignoreCase;
+        private final String[] keys;
+        private final int[] columns;
+        private final int mask;
+        private int size = 0;
+
+        Table(boolean ignoreCase, int numKeys) {
+            int capacity = 2;
+            while (capacity < numKeys * 2) {
+                capacity <<= 1;
+            }
+            this.ignoreCase = ignoreCase;
+            this.keys = new String[capacity];
+            this.columns = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        /**
+         * Maps the key to the column unless an equal key is already mapped.
+         *
+         * @return the column the key is mapped to
+         */
+        int putIfAbsent(String key, int column) {
+            int slot = slot(key);
+            String k;
+            while ((k = this.keys[slot]) != null) {
+                if (matches(k, key)) {
+                    return this.columns[slot];
+                }
+                slot = (slot + 1) & this.mask;
+            }
+            this.keys[slot] = key;
+            this.columns[slot] = column;
+            this.size++;
+            return column;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        /**
+         * Returns a new table with the entries of this one plus the given one.
+         */
+        Table copyWith(String key, int column) {
+            Table copy = new Table(this.ignoreCase, this.size + 1);
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i] != null) {
+                    copy.putIfAbsent(this.keys[i], this.columns[i]);
+                }
+            }
+            copy.putIfAbsent(key, column);
+            return copy;
+        }
+
+        int get(String key) {
+            int slot = slot(key);
+            String k;
+            while ((k = this.keys[slot]) != null) {
+                if (matches(k, key)) {
+                    return this.columns[slot];
+                }
+                slot = (slot + 1) & this.mask;
+            }
+            return -1;
+        }
+
+        private boolean matches(String k, String key) {
+            return this.ignoreCase ? equalsIgnoreCase(k, key) : k.equals(key);
+        }
+
+        /**
+         * Same as {@link String#equalsIgnoreCase(String)}, with a shortcut for ASCII chars.
+         */
+        private static boolean equalsIgnoreCase(String a, String b) {
+            int length = a.length();
+            if (b.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char ca = a.charAt(i);
+                char cb = b.charAt(i);
+                if (ca == cb) {
+                    continue;
+                }
+                if (ca >= 0x80 || cb >= 0x80) {
+                    return a.regionMatches(true, i, b, i, length - i);
+                }
+                if (ca >= 'A' && ca <= 'Z') {
+                    ca += 'a' - 'A';
+                }
+                if (cb >= 'A' && cb <= 'Z') {
+                    cb += 'a' - 'A';
+                }
+                if (ca != cb) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int slot(String key) {
+            int h = this.ignoreCase ? foldedHashCode(key) : key.hashCode();
+            return (h ^ (h >>> 16)) & this.mask;
+        }
+
+        /**
+         * Hash code consistent with {@link String#equalsIgnoreCase(String)}, which compares chars by their upper and lower case forms.
+         */
+        private static int foldedHashCode(String s) {
+            int h = 0;
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    if (c >= 'A' && c <= 'Z') {
+                        c += 'a' - 'A';
+                    }
+                } else {
+                    c = Character.toLowerCase(Character.toUpperCase(c));
+                }
+                h = 31 * h + c;
+            }
+            return h;
+        }
+
+    }
+
+}
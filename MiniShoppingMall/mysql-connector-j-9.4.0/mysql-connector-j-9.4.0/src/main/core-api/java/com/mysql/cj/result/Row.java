@@ -81,6 +81,53 @@ public interface Row extends ProtocolEntity {
         throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
     }
 
+    /**
+     * Can the values of the given column be read with {@link #getLong(int)}? This is the case for columns of the integer protocol types (TINYINT,
+     * SMALLINT, MEDIUMINT, INT, signed BIGINT and YEAR). BIGINT UNSIGNED is excluded because its values may not fit into <code>long</code>.
+     *
+     * @param columnIndex
+     *            index of column (starting at 0)
+     * @return true if the column value can be decoded to a primitive <code>long</code>
+     */
+    default boolean hasIntegerType(int columnIndex) {
+        return false;
+    }
+
+    /**
+     * Can the values of the given column be read with {@link #getDouble(int)}? This is the case for columns of the FLOAT and DOUBLE protocol types.
+     *
+     * @param columnIndex
+     *            index of column (starting at 0)
+     * @return true if the column value can be decoded to a primitive <code>double</code>
+     */
+    default boolean hasFloatingPointType(int columnIndex) {
+        return false;
+    }
+
+    /**
+     * Returns the value at the given column as a primitive <code>long</code>, without going through a {@link ValueFactory}. Only valid for columns
+     * where {@link #hasIntegerType(int)} is true. Updates the 'wasNull' status.
+     *
+     * @param columnIndex
+     *            index of column (starting at 0)
+     * @return the value for the given column; if the value is SQL <code>NULL</code>, the value returned is <code>0</code>
+     */
+    default long getLong(int columnIndex) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
+
+    /**
+     * Returns the value at the given column as a primitive <code>double</code>, without going through a {@link ValueFactory}. Only valid for columns
+     * where {@link #hasFloatingPointType(int)} is true. Updates the 'wasNull' status.
+     *
+     * @param columnIndex
+     *            index of column (starting at 0)
+     * @return the value for the given column; if the value is SQL <code>NULL</code>, the value returned is <code>0</code>
+     */
+    default double getDouble(int columnIndex) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
+
     /**
      * Check whether a column is NULL and update the 'wasNull' status.
      *
@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A hierarchical timing wheel for timeouts that are usually cancelled before they expire, like query timeouts.
+ * <p>
+ * Pending timeouts are linked into the slots of a set of wheels of increasing granularity: the root wheel has one slot per tick and each slot of an upper
+ * wheel covers a whole turn of the wheel below it. Whenever a wheel completes a turn, the timeouts of the next slot of the wheel above are cascaded down.
+ * Scheduling and cancelling are O(1) and a pending timeout takes no memory besides the {@link Timeout} object itself.
+ * <p>
+ * A single daemon thread, started on first use, advances the wheels and passes expired timeouts to an {@link Executor}. It doesn't tick while no timeouts are
+ * pending. If the thread was stopped, by {@link #shutdown()} or otherwise, the next {@link #schedule(Timeout, long)} starts a new one.
+ */
+public class TimingWheel {
+
+    private static final int ROOT_BITS = 8;
+    private static final int ROOT_SIZE = 1 << ROOT_BITS;
+    private static final int ROOT_MASK = ROOT_SIZE - 1;
+
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+    private static final int LEVEL_MASK = LEVEL_SIZE - 1;
+
+    /** Root wheel plus upper wheels. */
+    private static final int LEVELS = 4;
+
+    /** The longest delay in ticks the wheels can hold; timeouts with longer delays are re-cascaded until they fit. */
+    private static final long MAX_TICKS = (1L << (ROOT_BITS + (LEVELS - 1) * LEVEL_BITS)) - 1;
+
+    private final String threadName;
+    private final long tickNanos;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition timeoutsPending = this.lock.newCondition();
+
+    /** Slot list heads of every wheel, [0] being the root wheel. */
+    private final Timeout[][] wheels = new Timeout[LEVELS][];
+
+    /** The next tick to process. */
+    private long currentTick = 0;
+    private int pendingCount = 0;
+    private Thread timerThread = null;
+
+    /**
+     * Creates a timing wheel driven by its own daemon thread.
+     *
+     * @param threadName
+     *            name of the timer thread
+     * @param tickMillis
+     *            the wheel granularity; timeouts expire up to one tick late
+     * @param executor
+     *            executor that runs the expired timeouts
+     */
+    public TimingWheel(String threadName, long tickMillis, Executor executor) {
+        this(threadName, tickMillis, executor, System::nanoTime);
+    }
+
+    /**
+     * Creates a timing wheel with the given time source. Without a thread name no timer thread is started and the wheel only advances in
+     * {@link #expireTimeouts()}.
+     *
+     * @param threadName
+     *            name of the timer thread, or null
+     * @param tickMillis
+     *            the wheel granularity
+     * @param executor
+     *            executor that runs the expired timeouts
+     * @param nanoClock
+     *            time source, in nanoseconds
+     */
+    TimingWheel(String threadName, long tickMillis, Executor executor, LongSupplier nanoClock) {
+        this.threadName = threadName;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+
+        for (int level = 0; level < LEVELS; level++) {
+            Timeout[] slots = new Timeout[level == 0 ? ROOT_SIZE : LEVEL_SIZE];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = new SlotHead();
+            }
+            this.wheels[level] = slots;
+        }
+    }
+
+    /**
+     * Schedules the timeout to run once the delay has elapsed.
+     *
+     * @param timeout
+     *            a timeout which isn't pending
+     * @param delayMillis
+     *            delay in milliseconds
+     */
+    public void schedule(Timeout timeout, long delayMillis) {
+        this.lock.lock();
+        try {
+            if (timeout.wheel != null) {
+                throw new IllegalStateException("Timeout is already scheduled.");
+            }
+            long now = elapsedTicks();
+            if (this.pendingCount == 0 && this.currentTick < now) {
+                // the wheels are empty, so there is nothing to cascade in the ticks that passed while idle
+                this.currentTick = now;
+            }
+
+            // the current tick has already partly elapsed, so count one more to never expire early
+            long delayTicks = (TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0)) + this.tickNanos - 1) / this.tickNanos + 1;
+            timeout.deadline = Math.max(now + delayTicks, this.currentTick);
+            timeout.wheel = this;
+            add(timeout);
+
+            this.pendingCount++;
+            if (this.timerThread == null && this.threadName != null) {
+                // first use, or the thread stopped; it may have left earlier timeouts pending
+                this.timerThread = new Thread(this::runTimer, this.threadName);
+                this.timerThread.setDaemon(true);
+                this.timerThread.start();
+            } else if (this.pendingCount == 1) {
+                this.timeoutsPending.signal();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the timer thread. Pending timeouts stay scheduled; they expire once a later {@link #schedule(Timeout, long)} starts a new timer thread.
+     */
+    public void shutdown() {
+        Thread thread;
+        this.lock.lock();
+        try {
+            thread = this.timerThread;
+            this.timerThread = null;
+        } finally {
+            this.lock.unlock();
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of timeouts that are scheduled and neither cancelled nor expired yet.
+     *
+     * @return pending timeouts
+     */
+    public int getPendingCount() {
+        this.lock.lock();
+        try {
+            return this.pendingCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Processes all ticks up to the current time and passes the expired timeouts to the executor.
+     *
+     * @return nanoseconds until the next tick is due, or -1 if no timeouts are pending
+     */
+    long expireTimeouts() {
+        List<Timeout> expired = new ArrayList<>();
+        long waitNanos;
+        this.lock.lock();
+        try {
+            long now = elapsedTicks();
+            while (this.pendingCount > 0 && this.currentTick <= now) {
+                processTick(expired);
+            }
+            waitNanos = this.pendingCount == 0 ? -1 : Math.max(this.startNanos + this.currentTick * this.tickNanos - this.nanoClock.getAsLong(), 1);
+        } finally {
+            this.lock.unlock();
+        }
+
+        for (Timeout timeout : expired) {
+            try {
+                try {
+                    this.executor.execute(timeout);
+                } catch (RejectedExecutionException e) {
+                    // the executor refused it, run it here rather than lose it
+                    timeout.run();
+                }
+            } catch (RuntimeException e) {
+                // a failing timeout must neither stop the timer thread nor keep the remaining ones from running
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+        return waitNanos;
+    }
+
+    private void runTimer() {
+        try {
+            for (;;) {
+                long waitNanos = expireTimeouts();
+                this.lock.lock();
+                try {
+                    if (waitNanos < 0) {
+                        while (this.pendingCount == 0) {
+                            this.timeoutsPending.await();
+                        }
+                    } else {
+                        this.timeoutsPending.awaitNanos(waitNanos);
+                    }
+                } finally {
+                    this.lock.unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            // stopped by shutdown()
+        } finally {
+            this.lock.lock();
+            try {
+                if (this.timerThread == Thread.currentThread()) {
+                    this.timerThread = null;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private long elapsedTicks() {
+        return (this.nanoClock.getAsLong() - this.startNanos) / this.tickNanos;
+    }
+
+    /**
+     * Expires the root slot of the current tick, cascading the upper wheels first if the root wheel starts a new turn. Called with the lock held.
+     *
+     * @param expired
+     *            list to add expired timeouts to
+     */
+    private void processTick(List<Timeout> expired) {
+        long tick = this.currentTick;
+        if ((tick & ROOT_MASK) == 0) {
+            for (int level = 1; level < LEVELS; level++) {
+                int index = (int) ((tick >>> (ROOT_BITS + (level - 1) * LEVEL_BITS)) & LEVEL_MASK);
+                cascade(this.wheels[level][index]);
+                if (index != 0) {
+                    break;
+                }
+            }
+        }
+
+        Timeout head = this.wheels[0][(int) (tick & ROOT_MASK)];
+        for (Timeout t = head.next; t != head; t = t.next) {
+            t.wheel = null;
+            expired.add(t);
+            this.pendingCount--;
+        }
+        head.next = head;
+        head.prev = head;
+        this.currentTick = tick + 1;
+    }
+
+    /**
+     * Re-adds the timeouts of an upper wheel slot, which moves them to lower wheels as their deadline approaches.
+     *
+     * @param head
+     *            slot list head
+     */
+    private void cascade(Timeout head) {
+        Timeout t = head.next;
+        head.next = head;
+        head.prev = head;
+        while (t != head) {
+            Timeout next = t.next;
+            add(t);
+            t = next;
+        }
+    }
+
+    private void add(Timeout timeout) {
+        long delta = timeout.deadline - this.currentTick;
+        Timeout head;
+        if (delta < ROOT_SIZE) {
+            head = this.wheels[0][(int) (timeout.deadline & ROOT_MASK)];
+        } else {
+            long deadline = timeout.deadline;
+            if (delta > MAX_TICKS) {
+                delta = MAX_TICKS;
+                deadline = this.currentTick + MAX_TICKS;
+            }
+            int level = 1;
+            while (delta >= 1L << (ROOT_BITS + level * LEVEL_BITS)) {
+                level++;
+            }
+            head = this.wheels[level][(int) ((deadline >>> (ROOT_BITS + (level - 1) * LEVEL_BITS)) & LEVEL_MASK)];
+        }
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+    }
+
+    private boolean remove(Timeout timeout) {
+        this.lock.lock();
+        try {
+            if (timeout.wheel != this) {
+                return false;
+            }
+            timeout.prev.next = timeout.next;
+            timeout.next.prev = timeout.prev;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.wheel = null;
+            this.pendingCount--;
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * A task that can be scheduled on a {@link TimingWheel}. It's linked directly into the wheel slot, so a timeout can be pending on one wheel at a time
+     * but can be scheduled again after it expired or was cancelled.
+     */
+    public abstract static class Timeout implements Runnable {
+
+        private Timeout prev;
+        private Timeout next;
+        private long deadline;
+
+        /** The wheel this timeout is pending on, null if it isn't pending. */
+        private volatile TimingWheel wheel;
+
+        /**
+         * Removes this timeout from its wheel.
+         *
+         * @return true if the timeout was pending and now won't run, false if it already expired, was cancelled or was never scheduled
+         */
+        public boolean cancel() {
+            TimingWheel w = this.wheel;
+            return w != null && w.remove(this);
+        }
+
+        /**
+         * Is this timeout scheduled and neither cancelled nor expired yet?
+         *
+         * @return true if pending
+         */
+        public boolean isPending() {
+            return this.wheel != null;
+        }
+
+    }
+
+    private static class SlotHead extends Timeout {
+
+        SlotHead() {
+            super.prev = this;
+            super.next = this;
+        }
+
+        @Override
+        public void run() {
+        }
+
+    }
+
+}
@@ -20,7 +20,20 @@
 
 package com.mysql.cj;
 
-import java.util.TimerTask;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.mysql.cj.Query.CancelStatus;
 import com.mysql.cj.conf.HostInfo;
@@ -31,15 +44,42 @@ import com.mysql.cj.telemetry.TelemetryAttribute;
 import com.mysql.cj.telemetry.TelemetryScope;
 import com.mysql.cj.telemetry.TelemetrySpan;
 import com.mysql.cj.telemetry.TelemetrySpanName;
+import com.mysql.cj.util.TimingWheel;
 
 //TODO should not be protocol-specific
 
 /**
- * Thread used to implement query timeouts...Eventually we could be more
- * efficient and have one thread with timers, but this is a straightforward
- * and simple way to implement a feature that isn't used all that often.
+ * Query timeout task. All timeouts of the driver share one {@link TimingWheel} and its timer thread, and expired timeouts are cancelled by a small pool of
+ * threads that send KILL QUERY over sessions kept open per host and user, so a statement with a query timeout costs only this object and no threads or
+ * connections of its own.
  */
-public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
+public class CancelQueryTaskImpl extends TimingWheel.Timeout implements CancelQueryTask {
+
+    /** Granularity of query timeouts. */
+    private static final long TIMER_TICK_MILLIS = 10;
+
+    /** Max number of cancellations running at the same time; further expired timeouts wait for a free thread. */
+    private static final int MAX_CANCEL_THREADS = 4;
+
+    /** Sessions used for KILL QUERY are closed after being idle for this long. */
+    private static final long KILL_SESSION_IDLE_MILLIS = 60000;
+
+    private static final ThreadPoolExecutor cancelExecutor;
+    private static final TimingWheel cancelTimer;
+    private static final KillSessions killSessions = new KillSessions();
+
+    static {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "MySQL Statement Cancellation Thread-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        cancelExecutor = new ThreadPoolExecutor(MAX_CANCEL_THREADS, MAX_CANCEL_THREADS, KILL_SESSION_IDLE_MILLIS, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        cancelExecutor.allowCoreThreadTimeOut(true);
+        cancelTimer = new TimingWheel("MySQL Statement Cancellation Timer", TIMER_TICK_MILLIS, cancelExecutor);
+    }
 
     Query queryToCancel;
     Throwable caughtWhileCancelling = null;
@@ -51,6 +91,27 @@ public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
         this.queryTimeoutKillsConnection = session.getPropertySet().getBooleanProperty(PropertyKey.queryTimeoutKillsConnection).getValue();
     }
 
+    /**
+     * Starts the timeout.
+     *
+     * @param timeout
+     *            timeout in milliseconds
+     */
+    public void schedule(long timeout) {
+        cancelTimer.schedule(this, timeout);
+    }
+
+    /**
+     * Stops the shared timer thread and the cancellation threads and closes the idle KILL QUERY sessions, so that they don't keep the driver's class loader
+     * alive after the application that loaded it has stopped. Called by {@link com.mysql.cj.jdbc.AbandonedConnectionCleanupThread} on shutdown. Query
+     * timeouts scheduled afterwards start a new timer thread and run their cancellation on it.
+     */
+    public static void shutdown() {
+        cancelTimer.shutdown();
+        cancelExecutor.shutdownNow();
+        killSessions.closeAll();
+    }
+
     @Override
     public boolean cancel() {
         boolean res = super.cancel();
@@ -60,90 +121,36 @@ public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
 
     @Override
     public void run() {
-        Thread cancelThread = new Thread() {
+        Query localQueryToCancel = this.queryToCancel;
+        if (localQueryToCancel == null) {
+            return;
+        }
+        NativeSession session = (NativeSession) localQueryToCancel.getSession();
+        if (session == null || session.isClosed()) {
+            return;
+        }
 
-            @Override
-            public void run() {
-                Query localQueryToCancel = CancelQueryTaskImpl.this.queryToCancel;
-                if (localQueryToCancel == null) {
-                    return;
-                }
-                NativeSession session = (NativeSession) localQueryToCancel.getSession();
-                if (session == null) {
-                    return;
-                }
-
-                try {
-                    localQueryToCancel.getCancelTimeoutLock().lock();
-                    try {
-                        long origConnId = session.getThreadId();
-                        HostInfo hostInfo = session.getHostInfo();
-                        String database = hostInfo.getDatabase();
-                        String user = hostInfo.getUser();
-                        String password = hostInfo.getPassword();
-
-                        NativeSession newSession = null;
-                        try {
-                            newSession = new NativeSession(hostInfo, session.getPropertySet());
-
-                            TelemetrySpan span = newSession.getTelemetryHandler().startSpan(TelemetrySpanName.CANCEL_QUERY);
-                            try (TelemetryScope scope = span.makeCurrent()) {
-                                span.setAttribute(TelemetryAttribute.DB_NAME, database);
-                                span.setAttribute(TelemetryAttribute.DB_OPERATION, TelemetryAttribute.OPERATION_KILL);
-                                span.setAttribute(TelemetryAttribute.DB_STATEMENT, TelemetryAttribute.OPERATION_KILL + TelemetryAttribute.STATEMENT_SUFFIX);
-                                span.setAttribute(TelemetryAttribute.DB_SYSTEM, TelemetryAttribute.DB_SYSTEM_DEFAULT);
-                                span.setAttribute(TelemetryAttribute.DB_USER, user);
-                                span.setAttribute(TelemetryAttribute.THREAD_ID, () -> Thread.currentThread().getId());
-                                span.setAttribute(TelemetryAttribute.THREAD_NAME, () -> Thread.currentThread().getName());
-
-                                newSession.connect(hostInfo, user, password, database, 30000, new TransactionEventHandler() {
-
-                                    @Override
-                                    public void transactionCompleted() {
-                                    }
-
-                                    @Override
-                                    public void transactionBegun() {
-                                    }
-
-                                });
-                                newSession.getProtocol().sendCommand(new NativeMessageBuilder(newSession.getServerSession().supportsQueryAttributes())
-                                        .buildComQuery(newSession.getSharedSendPacket(), newSession, "KILL QUERY " + origConnId), false, 0);
-                            } catch (Throwable t) {
-                                span.setError(t);
-                                throw t;
-                            } finally {
-                                span.end();
-                            }
-                        } finally {
-                            try {
-                                newSession.forceClose();
-                            } catch (Throwable t) {
-                                // no-op.
-                            }
-                        }
-                        localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
-                    } finally {
-                        localQueryToCancel.getCancelTimeoutLock().unlock();
-                    }
-
-                    if (CancelQueryTaskImpl.this.queryTimeoutKillsConnection) {
-                        session.invokeCleanupListeners(new OperationCancelledException(Messages.getString("Statement.ConnectionKilledDueToTimeout")));
-                    }
-                } catch (NullPointerException npe) {
-                    // Case when connection closed while starting to cancel.
-                    // We can't easily synchronize this, because then one thread can't cancel() a running query.
-                    // Ignore, we shouldn't re-throw this, because the connection's already closed, so the statement has been timed out.
-                } catch (Throwable t) {
-                    CancelQueryTaskImpl.this.caughtWhileCancelling = t;
-                } finally {
-                    setQueryToCancel(null);
-                }
+        try {
+            localQueryToCancel.getCancelTimeoutLock().lock();
+            try {
+                killSessions.killQuery(session);
+                localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
+            } finally {
+                localQueryToCancel.getCancelTimeoutLock().unlock();
             }
 
-        };
-
-        cancelThread.start();
+            if (this.queryTimeoutKillsConnection) {
+                session.invokeCleanupListeners(new OperationCancelledException(Messages.getString("Statement.ConnectionKilledDueToTimeout")));
+            }
+        } catch (NullPointerException npe) {
+            // Case when connection closed while starting to cancel.
+            // We can't easily synchronize this, because then one thread can't cancel() a running query.
+            // Ignore, we shouldn't re-throw this, because the connection's already closed, so the statement has been timed out.
+        } catch (Throwable t) {
+            this.caughtWhileCancelling = t;
+        } finally {
+            setQueryToCancel(null);
+        }
     }
 
     @Override
@@ -166,4 +173,186 @@ public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
         this.queryToCancel = queryToCancel;
     }
 
+    /**
+     * Sessions for sending KILL QUERY, kept open per host and user between cancellations. A session is used by one cancellation at a time; idle ones are
+     * closed by a timeout on the shared timer.
+     */
+    private static class KillSessions {
+
+        private final Lock lock = new ReentrantLock();
+        private final Map<String, Deque<IdleSession>> idleSessions = new HashMap<>();
+
+        void killQuery(NativeSession session) throws Throwable {
+            long origConnId = session.getThreadId();
+            HostInfo hostInfo = session.getHostInfo();
+            String key = hostInfo.getHostPortPair() + "/" + hostInfo.getUser();
+
+            IdleSession idle = borrow(key, hostInfo.getPassword());
+            if (idle != null) {
+                try {
+                    sendKill(idle.session, hostInfo, origConnId, false);
+                    release(key, idle.session, hostInfo.getPassword());
+                    return;
+                } catch (Throwable t) {
+                    // the server may have closed the idle session, retry on a new one
+                    forceClose(idle.session);
+                }
+            }
+
+            NativeSession newSession = new NativeSession(hostInfo, session.getPropertySet());
+            try {
+                sendKill(newSession, hostInfo, origConnId, true);
+            } catch (Throwable t) {
+                forceClose(newSession);
+                throw t;
+            }
+            release(key, newSession, hostInfo.getPassword());
+        }
+
+        private void sendKill(NativeSession killSession, HostInfo hostInfo, long origConnId, boolean connect) throws Throwable {
+            String database = hostInfo.getDatabase();
+            String user = hostInfo.getUser();
+
+            TelemetrySpan span = killSession.getTelemetryHandler().startSpan(TelemetrySpanName.CANCEL_QUERY);
+            try (TelemetryScope scope = span.makeCurrent()) {
+                span.setAttribute(TelemetryAttribute.DB_NAME, database);
+                span.setAttribute(TelemetryAttribute.DB_OPERATION, TelemetryAttribute.OPERATION_KILL);
+                span.setAttribute(TelemetryAttribute.DB_STATEMENT, TelemetryAttribute.OPERATION_KILL + TelemetryAttribute.STATEMENT_SUFFIX);
+                span.setAttribute(TelemetryAttribute.DB_SYSTEM, TelemetryAttribute.DB_SYSTEM_DEFAULT);
+                span.setAttribute(TelemetryAttribute.DB_USER, user);
+                span.setAttribute(TelemetryAttribute.THREAD_ID, () -> Thread.currentThread().getId());
+                span.setAttribute(TelemetryAttribute.THREAD_NAME, () -> Thread.currentThread().getName());
+
+                if (connect) {
+                    killSession.connect(hostInfo, user, hostInfo.getPassword(), database, 30000, new TransactionEventHandler() {
+
+                        @Override
+                        public void transactionCompleted() {
+                        }
+
+                        @Override
+                        public void transactionBegun() {
+                        }
+
+                    });
+                }
+                killSession.getProtocol().sendCommand(new NativeMessageBuilder(killSession.getServerSession().supportsQueryAttributes())
+                        .buildComQuery(killSession.getSharedSendPacket(), killSession, "KILL QUERY " + origConnId), false, 0);
+            } catch (Throwable t) {
+                span.setError(t);
+                throw t;
+            } finally {
+                span.end();
+            }
+        }
+
+        private IdleSession borrow(String key, String password) {
+            // sessions of a stale password are closed after unlocking, closing one may block on the network
+            List<NativeSession> stale = new ArrayList<>();
+            IdleSession found = null;
+            this.lock.lock();
+            try {
+                Deque<IdleSession> sessions = this.idleSessions.get(key);
+                while (found == null && sessions != null && !sessions.isEmpty()) {
+                    IdleSession idle = sessions.pollLast();
+                    if (!idle.cancel()) {
+                        continue; // its idle timeout already expired and is closing it
+                    }
+                    if (Objects.equals(idle.password, password)) {
+                        found = idle;
+                    } else {
+                        stale.add(idle.session);
+                    }
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            stale.forEach(KillSessions::forceClose);
+            return found;
+        }
+
+        private void release(String key, NativeSession killSession, String password) {
+            IdleSession idle = new IdleSession(this, key, killSession, password);
+            this.lock.lock();
+            try {
+                Deque<IdleSession> sessions = this.idleSessions.computeIfAbsent(key, k -> new ArrayDeque<>());
+                if (sessions.size() < MAX_CANCEL_THREADS) {
+                    sessions.addLast(idle);
+                    cancelTimer.schedule(idle, KILL_SESSION_IDLE_MILLIS);
+                    return;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            forceClose(killSession);
+        }
+
+        void closeAll() {
+            List<NativeSession> closing = new ArrayList<>();
+            this.lock.lock();
+            try {
+                for (Deque<IdleSession> sessions : this.idleSessions.values()) {
+                    for (IdleSession idle : sessions) {
+                        if (idle.cancel()) {
+                            closing.add(idle.session);
+                        } // else its idle timeout already expired and is closing it
+                    }
+                }
+                this.idleSessions.clear();
+            } finally {
+                this.lock.unlock();
+            }
+            closing.forEach(KillSessions::forceClose);
+        }
+
+        private void expire(IdleSession idle) {
+            this.lock.lock();
+            try {
+                Deque<IdleSession> sessions = this.idleSessions.get(idle.key);
+                if (sessions != null) {
+                    sessions.remove(idle);
+                    if (sessions.isEmpty()) {
+                        this.idleSessions.remove(idle.key);
+                    }
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            forceClose(idle.session);
+        }
+
+        private static void forceClose(NativeSession killSession) {
+            try {
+                killSession.forceClose();
+            } catch (Throwable t) {
+                // no-op.
+            }
+        }
+
+    }
+
+    /**
+     * An open KILL QUERY session waiting for the next cancellation; runs when it has been idle for too long.
+     */
+    private static class IdleSession extends TimingWheel.Timeout {
+
+        final KillSessions owner;
+        final String key;
+        final NativeSession session;
+        final String password;
+
+        IdleSession(KillSessions owner, String key, NativeSession session, String password) {
+            this.owner = owner;
+            this.key = key;
+            this.session = session;
+            this.password = password;
+        }
+
+        @Override
+        public void run() {
+            this.owner.expire(this);
+        }
+
+    }
+
 }
@@ -32,7 +32,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Timer;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
@@ -106,8 +105,6 @@ public class NativeSession extends CoreSession implements Serializable {
 
     private CopyOnWriteArrayList<WeakReference<SessionEventListener>> listeners = new CopyOnWriteArrayList<>();
 
-    private transient Timer cancelTimer;
-
     public NativeSession(HostInfo hostInfo, PropertySet propSet) {
         super(hostInfo, propSet);
 
@@ -173,15 +170,6 @@ public class NativeSession extends CoreSession implements Serializable {
             }
 
         }
-        getSessionLock().lock();
-        try {
-            if (this.cancelTimer != null) {
-                this.cancelTimer.cancel();
-                this.cancelTimer = null;
-            }
-        } finally {
-            getSessionLock().unlock();
-        }
         this.isClosed = true;
         super.quit();
     }
@@ -202,15 +190,6 @@ public class NativeSession extends CoreSession implements Serializable {
             }
             //this.protocol = null; // TODO actually we shouldn't remove protocol instance because some of its methods can be called after closing the socket
         }
-        getSessionLock().lock();
-        try {
-            if (this.cancelTimer != null) {
-                this.cancelTimer.cancel();
-                this.cancelTimer = null;
-            }
-        } finally {
-            getSessionLock().unlock();
-        }
         this.isClosed = true;
         super.forceClose();
     }
@@ -993,18 +972,6 @@ public class NativeSession extends CoreSession implements Serializable {
         return this.protocol != null && this.protocol.getServerSession().useAnsiQuotedIdentifiers() ? "\"" : "`";
     }
 
-    public Timer getCancelTimer() {
-        getSessionLock().lock();
-        try {
-            if (this.cancelTimer == null) {
-                this.cancelTimer = new Timer("MySQL Statement Cancellation Timer", true);
-            }
-            return this.cancelTimer;
-        } finally {
-            getSessionLock().unlock();
-        }
-    }
-
     public void resetSessionState() {
         checkClosed();
         NativePacketPayload message = this.commandBuilder.buildComResetConnection(((NativeProtocol) this.protocol).getSharedSendPacket());
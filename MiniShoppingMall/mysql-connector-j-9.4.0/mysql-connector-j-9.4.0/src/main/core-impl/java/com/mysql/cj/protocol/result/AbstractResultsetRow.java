@@ -237,6 +237,74 @@ public abstract class AbstractResultsetRow implements ResultsetRow {
         return retVal;
     }
 
+    /**
+     * Get a primitive long value from a byte array of a column for which {@link #hasIntegerType(int)} is true.
+     *
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @return value, 0 for NULL
+     */
+    protected long getLongFromBytes(int columnIndex, byte[] bytes, int offset, int length) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        return this.valueDecoder.decodeAsLong(bytes, offset, length, this.metadata.getFields()[columnIndex]);
+    }
+
+    /**
+     * Get a primitive double value from a byte array of a column for which {@link #hasFloatingPointType(int)} is true.
+     *
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @return value, 0 for NULL
+     */
+    protected double getDoubleFromBytes(int columnIndex, byte[] bytes, int offset, int length) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        return this.valueDecoder.decodeAsDouble(bytes, offset, length, this.metadata.getFields()[columnIndex]);
+    }
+
+    @Override
+    public boolean hasIntegerType(int columnIndex) {
+        // only protocol types are considered; rows built from MysqlType only keep using the ValueFactory chain
+        Field f = this.metadata.getFields()[columnIndex];
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_TINY:
+            case MysqlType.FIELD_TYPE_SHORT:
+            case MysqlType.FIELD_TYPE_INT24:
+            case MysqlType.FIELD_TYPE_LONG:
+            case MysqlType.FIELD_TYPE_YEAR:
+                return true;
+
+            case MysqlType.FIELD_TYPE_LONGLONG:
+                return !f.isUnsigned();
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasFloatingPointType(int columnIndex) {
+        switch (this.metadata.getFields()[columnIndex].getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_FLOAT:
+            case MysqlType.FIELD_TYPE_DOUBLE:
+                return true;
+        }
+        return false;
+    }
+
     @Override
     public Row setMetadata(ColumnDefinition f) {
         this.metadata = f;
@@ -52,6 +52,17 @@ public class BooleanValueFactory extends DefaultValueFactory<Boolean> {
 
     @Override
     public Boolean createFromLong(long l) {
+        return createBooleanFromLong(l);
+    }
+
+    /**
+     * Primitive variant of {@link #createFromLong(long)}, used by <code>ResultSet.getBoolean()</code> to avoid boxing.
+     *
+     * @param l
+     *            value
+     * @return boolean value
+     */
+    public boolean createBooleanFromLong(long l) {
         // Goes back to ODBC driver compatibility, and VB/Automation Languages/COM, where in Windows "-1" can mean true as well.
         return l == -1 || l > 0;
     }
@@ -64,6 +75,17 @@ public class BooleanValueFactory extends DefaultValueFactory<Boolean> {
     @Override
     // getBoolean() from DOUBLE, DECIMAL are required by JDBC spec....
     public Boolean createFromDouble(double d) {
+        return createBooleanFromDouble(d);
+    }
+
+    /**
+     * Primitive variant of {@link #createFromDouble(double)}, used by <code>ResultSet.getBoolean()</code> to avoid boxing.
+     *
+     * @param d
+     *            value
+     * @return boolean value
+     */
+    public boolean createBooleanFromDouble(double d) {
         // this means that 0.1 or -1 will be TRUE
         return d > 0 || d == -1.0d;
     }
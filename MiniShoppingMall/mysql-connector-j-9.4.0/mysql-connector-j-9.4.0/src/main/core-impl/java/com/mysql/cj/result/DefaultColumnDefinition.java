@@ -20,10 +20,6 @@
 
 package com.mysql.cj.result;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
-
 import com.mysql.cj.protocol.ColumnDefinition;
 
 /**
@@ -34,22 +30,8 @@ public class DefaultColumnDefinition implements ColumnDefinition {
 
     protected Field[] fields;
 
-    /** Map column names (and all of their permutations) to column indices */
-    private Map<String, Integer> columnLabelToIndex = null;
-
-    /**
-     * The above map is a case-insensitive tree-map, it can be slow, this caches lookups into that map, because the other alternative is to create new
-     * object instances for every call to findColumn()....
-     */
-    private Map<String, Integer> columnToIndexCache = new HashMap<>();
-
-    /** Map of fully-specified column names to column indices */
-    private Map<String, Integer> fullColumnNameToIndex = null;
-
-    /** Map column names (and all of their permutations) to column indices */
-    private Map<String, Integer> columnNameToIndex = null;
-
-    private boolean builtIndexMapping = false;
+    /** Case-insensitive index of column labels and names, shared with the cached metadata of the same query */
+    private ColumnNameIndex columnNameIndex = null;
 
     public DefaultColumnDefinition() {
     }
@@ -66,137 +48,67 @@ public class DefaultColumnDefinition implements ColumnDefinition {
     @Override
     public void setFields(Field[] fields) {
         this.fields = fields;
+        this.columnNameIndex = null;
     }
 
-    @Override
-
     /**
      * Builds a hash between column names and their indices for fast retrieval.
      */
+    @Override
     public void buildIndexMapping() {
-        int numFields = this.fields.length;
-        this.columnLabelToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        this.fullColumnNameToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        this.columnNameToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-
-        // We do this in reverse order, so that the 'first' column with a given name ends up as the final mapping in the hashtable...
-        //
         // Quoting the JDBC Spec:
         //
         // "Column names used as input to getter methods are case insensitive. When a getter method is called with a column name and several columns have the
         // same name, the value of the first matching column will be returned. "
         //
-        for (int i = numFields - 1; i >= 0; i--) {
-            Integer index = Integer.valueOf(i);
-            String columnName = this.fields[i].getOriginalName();
-            String columnLabel = this.fields[i].getName();
-            String fullColumnName = this.fields[i].getFullName();
-
-            if (columnLabel != null) {
-                this.columnLabelToIndex.put(columnLabel, index);
-            }
-
-            if (fullColumnName != null) {
-                this.fullColumnNameToIndex.put(fullColumnName, index);
-            }
-
-            if (columnName != null) {
-                this.columnNameToIndex.put(columnName, index);
-            }
-        }
-
-        // set the flag to prevent rebuilding...
-        this.builtIndexMapping = true;
+        this.columnNameIndex = new ColumnNameIndex(this.fields);
     }
 
     @Override
     public boolean hasBuiltIndexMapping() {
-        return this.builtIndexMapping;
-    }
-
-    @Override
-    public Map<String, Integer> getColumnLabelToIndex() {
-        return this.columnLabelToIndex;
-    }
-
-    @Override
-    public void setColumnLabelToIndex(Map<String, Integer> columnLabelToIndex) {
-        this.columnLabelToIndex = columnLabelToIndex;
-    }
-
-    @Override
-    public Map<String, Integer> getFullColumnNameToIndex() {
-        return this.fullColumnNameToIndex;
-    }
-
-    @Override
-    public void setFullColumnNameToIndex(Map<String, Integer> fullColNameToIndex) {
-        this.fullColumnNameToIndex = fullColNameToIndex;
-    }
-
-    @Override
-    public Map<String, Integer> getColumnNameToIndex() {
-        return this.columnNameToIndex;
+        return this.columnNameIndex != null;
     }
 
     @Override
-    public void setColumnNameToIndex(Map<String, Integer> colNameToIndex) {
-        this.columnNameToIndex = colNameToIndex;
+    public ColumnNameIndex getColumnNameIndex() {
+        return this.columnNameIndex;
     }
 
     @Override
-    public Map<String, Integer> getColumnToIndexCache() {
-        return this.columnToIndexCache;
-    }
-
-    @Override
-    public void setColumnToIndexCache(Map<String, Integer> columnToIndexCache) {
-        this.columnToIndexCache = columnToIndexCache;
+    public void setColumnNameIndex(ColumnNameIndex columnNameIndex) {
+        this.columnNameIndex = columnNameIndex;
     }
 
     @Override
     public void initializeFrom(ColumnDefinition columnDefinition) {
         this.fields = columnDefinition.getFields();
-        this.columnLabelToIndex = columnDefinition.getColumnNameToIndex();
-        this.fullColumnNameToIndex = columnDefinition.getFullColumnNameToIndex();
-        this.builtIndexMapping = true;
+        this.columnNameIndex = columnDefinition.getColumnNameIndex();
+        if (this.columnNameIndex == null) {
+            buildIndexMapping();
+        }
     }
 
     @Override
     public void exportTo(ColumnDefinition columnDefinition) {
         columnDefinition.setFields(this.fields);
-        columnDefinition.setColumnNameToIndex(this.columnLabelToIndex);
-        columnDefinition.setFullColumnNameToIndex(this.fullColumnNameToIndex);
-    }
-
-    @Override
-    public int findColumn(String columnName, boolean useColumnNamesInFindColumn, int indexBase) {
-        Integer index;
-
         if (!hasBuiltIndexMapping()) {
             buildIndexMapping();
         }
+        columnDefinition.setColumnNameIndex(this.columnNameIndex);
+    }
 
-        index = this.columnToIndexCache.get(columnName);
-
-        if (index != null) {
-            return index.intValue() + indexBase;
-        }
-
-        index = this.columnLabelToIndex.get(columnName);
-
-        if (index == null && useColumnNamesInFindColumn) {
-            index = this.columnNameToIndex.get(columnName);
-        }
-
+    @Override
+    public int findColumn(String columnName, boolean useColumnNamesInFindColumn, int indexBase) {
+        ColumnNameIndex index = this.columnNameIndex;
         if (index == null) {
-            index = this.fullColumnNameToIndex.get(columnName);
+            buildIndexMapping();
+            index = this.columnNameIndex;
         }
 
-        if (index != null) {
-            this.columnToIndexCache.put(columnName, index);
+        int columnIndex = index.indexOf(columnName, useColumnNamesInFindColumn);
 
-            return index.intValue() + indexBase;
+        if (columnIndex != -1) {
+            return columnIndex + indexBase;
         }
 
         // Try this inefficient way, now
@@ -40,10 +40,21 @@ public class DoubleValueFactory extends AbstractNumericValueFactory<Double> {
 
     @Override
     public Double createFromLong(long l) {
+        return createDoubleFromLong(l);
+    }
+
+    /**
+     * Primitive variant of {@link #createFromLong(long)}, used by <code>ResultSet.getDouble()</code> to avoid boxing.
+     *
+     * @param l
+     *            value
+     * @return double value
+     */
+    public double createDoubleFromLong(long l) {
         if (this.jdbcCompliantTruncationForReads && (l < -Double.MAX_VALUE || l > Double.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { l, getTargetTypeName() }));
         }
-        return (double) l;
+        return l;
     }
 
     @Override
@@ -57,6 +68,17 @@ public class DoubleValueFactory extends AbstractNumericValueFactory<Double> {
 
     @Override
     public Double createFromDouble(double d) {
+        return createDoubleFromDouble(d);
+    }
+
+    /**
+     * Primitive variant of {@link #createFromDouble(double)}, used by <code>ResultSet.getDouble()</code> to avoid boxing.
+     *
+     * @param d
+     *            value
+     * @return double value
+     */
+    public double createDoubleFromDouble(double d) {
         if (this.jdbcCompliantTruncationForReads && (d < -Double.MAX_VALUE || d > Double.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { d, getTargetTypeName() }));
         }
@@ -40,6 +40,17 @@ public class IntegerValueFactory extends AbstractNumericValueFactory<Integer> {
 
     @Override
     public Integer createFromLong(long l) {
+        return createIntFromLong(l);
+    }
+
+    /**
+     * Primitive variant of {@link #createFromLong(long)}, used by <code>ResultSet.getInt()</code> to avoid boxing.
+     *
+     * @param l
+     *            value
+     * @return int value
+     */
+    public int createIntFromLong(long l) {
         if (this.jdbcCompliantTruncationForReads && (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { Long.valueOf(l).toString(), getTargetTypeName() }));
         }
@@ -57,6 +68,17 @@ public class IntegerValueFactory extends AbstractNumericValueFactory<Integer> {
 
     @Override
     public Integer createFromDouble(double d) {
+        return createIntFromDouble(d);
+    }
+
+    /**
+     * Primitive variant of {@link #createFromDouble(double)}, used by <code>ResultSet.getInt()</code> to avoid boxing.
+     *
+     * @param d
+     *            value
+     * @return int value
+     */
+    public int createIntFromDouble(double d) {
         if (this.jdbcCompliantTruncationForReads && (d < Integer.MIN_VALUE || d > Integer.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { d, getTargetTypeName() }));
         }
@@ -40,6 +40,17 @@ public class LongValueFactory extends AbstractNumericValueFactory<Long> {
 
     @Override
     public Long createFromLong(long l) {
+        return createLongFromLong(l);
+    }
+
+    /**
+     * Primitive variant of {@link #createFromLong(long)}, used by <code>ResultSet.getLong()</code> to avoid boxing.
+     *
+     * @param l
+     *            value
+     * @return long value
+     */
+    public long createLongFromLong(long l) {
         if (this.jdbcCompliantTruncationForReads && (l < Long.MIN_VALUE || l > Long.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { Long.valueOf(l).toString(), getTargetTypeName() }));
         }
@@ -57,6 +68,17 @@ public class LongValueFactory extends AbstractNumericValueFactory<Long> {
 
     @Override
     public Long createFromDouble(double d) {
+        return createLongFromDouble(d);
+    }
+
+    /**
+     * Primitive variant of {@link #createFromDouble(double)}, used by <code>ResultSet.getLong()</code> to avoid boxing.
+     *
+     * @param d
+     *            value
+     * @return long value
+     */
+    public long createLongFromDouble(double d) {
         if (this.jdbcCompliantTruncationForReads && (d < Long.MIN_VALUE || d > Long.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { d, getTargetTypeName() }));
         }
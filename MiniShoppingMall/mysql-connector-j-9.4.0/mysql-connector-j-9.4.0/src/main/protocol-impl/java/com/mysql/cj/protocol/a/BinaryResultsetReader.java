@@ -28,6 +28,7 @@ import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.Resultset.Concurrency;
 import com.mysql.cj.protocol.Resultset.Type;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
@@ -88,6 +89,16 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
             if (isCursorPossible && this.protocol.getServerSession().cursorExists()) {
                 rows = new ResultsetRowsCursor(this.protocol, cdef);
 
+            } else if (!streamResults && this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useColumnarResultStorage).getValue()
+                    && resultSetFactory.getResultSetConcurrency() == Concurrency.READ_ONLY) {
+                ColumnarRowFactory crf = new ColumnarRowFactory(cdef, true, maxRows, this.protocol.getExceptionInterceptor());
+                while (this.protocol.read(ResultsetRow.class, crf) != null) {
+                    // rows are stored by the factory
+                }
+                crf.getRows().trimToSize();
+
+                rows = new ResultsetRowsStatic(crf.getRows(), cdef);
+
             } else if (!streamResults) {
                 BinaryRowFactory brf = new BinaryRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), false);
 
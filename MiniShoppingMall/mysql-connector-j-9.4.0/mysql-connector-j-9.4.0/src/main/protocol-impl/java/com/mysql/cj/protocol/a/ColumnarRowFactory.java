@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ProtocolEntityFactory;
+import com.mysql.cj.protocol.Resultset.Concurrency;
+import com.mysql.cj.protocol.ResultsetRow;
+import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
+import com.mysql.cj.protocol.a.result.ColumnarRow;
+import com.mysql.cj.protocol.a.result.ColumnarRowList;
+import com.mysql.cj.result.Field;
+
+/**
+ * Reads the rows of a fully buffered, read-only result into a {@link ColumnarRowList} instead of creating one {@link ResultsetRow} per row. Handles
+ * both text-encoded rows and binary-encoded rows of server-side PreparedStatements.
+ *
+ * Values are copied out of the row packet before the next one is read, so the protocol's reusable packet is used for reading rows.
+ */
+public class ColumnarRowFactory extends AbstractRowFactory implements ProtocolEntityFactory<ResultsetRow, NativePacketPayload> {
+
+    private final boolean binaryEncoded;
+    private final int maxRows;
+    private final ColumnarRowList rows;
+
+    private final int[] valueOffsets;
+    private final int[] valueLengths;
+
+    /** Returned for rows past maxRows, which are read off the wire but not stored. */
+    private ColumnarRow skippedRow = null;
+
+    /**
+     * Constructor.
+     *
+     * @param columnDefinition
+     *            {@link ColumnDefinition} of the result
+     * @param binaryEncoded
+     *            are rows binary-encoded (server-side PreparedStatement results)?
+     * @param maxRows
+     *            maximum number of rows to store, -1 for all
+     * @param exceptionInterceptor
+     *            {@link ExceptionInterceptor}
+     */
+    public ColumnarRowFactory(ColumnDefinition columnDefinition, boolean binaryEncoded, int maxRows, ExceptionInterceptor exceptionInterceptor) {
+        this.columnDefinition = columnDefinition;
+        this.resultSetConcurrency = Concurrency.READ_ONLY;
+        this.canReuseRowPacketForBufferRow = true;
+        this.exceptionInterceptor = exceptionInterceptor;
+        this.valueDecoder = binaryEncoded ? new MysqlBinaryValueDecoder() : new MysqlTextValueDecoder();
+        this.binaryEncoded = binaryEncoded;
+        this.maxRows = maxRows;
+
+        int columnCount = columnDefinition.getFields().length;
+        this.rows = new ColumnarRowList(columnCount, exceptionInterceptor, this.valueDecoder);
+        this.valueOffsets = new int[columnCount];
+        this.valueLengths = new int[columnCount];
+    }
+
+    /**
+     * Returns the rows stored so far.
+     *
+     * @return {@link ColumnarRowList}
+     */
+    public ColumnarRowList getRows() {
+        return this.rows;
+    }
+
+    @Override
+    public ResultsetRow createFromMessage(NativePacketPayload rowPacket) {
+        if (this.maxRows != -1 && this.rows.size() >= this.maxRows) {
+            if (this.skippedRow == null) {
+                this.skippedRow = new ColumnarRow(this.rows, -1, this.exceptionInterceptor, this.valueDecoder);
+            }
+            return this.skippedRow;
+        }
+
+        if (this.binaryEncoded) {
+            locateBinaryValues(this.columnDefinition.getFields(), rowPacket);
+        } else {
+            locateTextValues(rowPacket);
+        }
+
+        int row = this.rows.addRow(rowPacket.getByteBuffer(), this.valueOffsets, this.valueLengths);
+        return this.rows.get(row);
+    }
+
+    /**
+     * Finds the values of a ProtocolText::ResultsetRow, a sequence of length-encoded strings.
+     *
+     * @param rowPacket
+     *            row packet positioned at the first value
+     */
+    private void locateTextValues(NativePacketPayload rowPacket) {
+        for (int i = 0; i < this.valueLengths.length; i++) {
+            long length = rowPacket.readInteger(IntegerDataType.INT_LENENC);
+            if (length == NativePacketPayload.NULL_LENGTH) {
+                this.valueLengths[i] = -1;
+            } else {
+                skipValue(rowPacket, i, (int) length);
+            }
+        }
+    }
+
+    /**
+     * Finds the values of a ProtocolBinary::ResultsetRow, see {@link BinaryRowFactory} for the layout.
+     *
+     * @param fields
+     *            {@link Field}s array
+     * @param rowPacket
+     *            row packet positioned at the packet header
+     */
+    private void locateBinaryValues(Field[] fields, NativePacketPayload rowPacket) {
+        int numFields = fields.length;
+
+        // bump past ProtocolBinary::ResultsetRow packet header
+        int nullMaskPos = rowPacket.getPosition() + 1;
+        rowPacket.setPosition(nullMaskPos + (numFields + 9) / 8);
+        int bit = 4; // first two bits are reserved for future use
+
+        byte[] buf = rowPacket.getByteBuffer();
+        for (int i = 0; i < numFields; i++) {
+            int type = fields[i].getMysqlTypeId();
+
+            if ((buf[nullMaskPos] & bit) != 0 || type == MysqlType.FIELD_TYPE_NULL) {
+                this.valueLengths[i] = -1;
+            } else {
+                int len = NativeUtils.getBinaryEncodedLength(type);
+                if (len == 0) {
+                    skipValue(rowPacket, i, (int) rowPacket.readInteger(IntegerDataType.INT_LENENC));
+                } else if (len > 0) {
+                    skipValue(rowPacket, i, len);
+                } else {
+                    throw ExceptionFactory.createException(Messages.getString("MysqlIO.97", new Object[] { type, i, numFields }));
+                }
+            }
+
+            if (((bit <<= 1) & 255) == 0) {
+                bit = 1; /* To next byte */
+
+                nullMaskPos++;
+            }
+        }
+    }
+
+    private void skipValue(NativePacketPayload rowPacket, int columnIndex, int length) {
+        int position = rowPacket.getPosition();
+        this.valueOffsets[columnIndex] = position;
+        this.valueLengths[columnIndex] = length;
+        rowPacket.setPosition(position + length);
+    }
+
+}
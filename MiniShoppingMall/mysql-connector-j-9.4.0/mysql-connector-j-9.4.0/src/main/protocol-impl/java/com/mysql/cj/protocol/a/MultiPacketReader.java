@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.util.Optional;
 
 import com.mysql.cj.Messages;
+import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.protocol.MessageReader;
 import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 
@@ -35,9 +36,28 @@ import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 public class MultiPacketReader implements MessageReader<NativePacketHeader, NativePacketPayload> {
 
     private MessageReader<NativePacketHeader, NativePacketPayload> packetReader;
+    private PacketBufferPool bufferPool;
+    private RuntimeProperty<Integer> maxAllowedPacket;
 
     public MultiPacketReader(MessageReader<NativePacketHeader, NativePacketPayload> packetReader) {
+        this(packetReader, null, null);
+    }
+
+    /**
+     * Creates a reader which takes the continuation packet buffer and the growing buffer of the reassembled message from the given pool.
+     *
+     * @param packetReader
+     *            the underlying {@link MessageReader}
+     * @param bufferPool
+     *            {@link PacketBufferPool}; if null, buffers are allocated for every multi-packet message
+     * @param maxAllowedPacket
+     *            the maxAllowedPacket property; pooled buffers are not rounded up beyond it. May be null if <code>bufferPool</code> is null
+     */
+    public MultiPacketReader(MessageReader<NativePacketHeader, NativePacketPayload> packetReader, PacketBufferPool bufferPool,
+            RuntimeProperty<Integer> maxAllowedPacket) {
         this.packetReader = packetReader;
+        this.bufferPool = bufferPool;
+        this.maxAllowedPacket = maxAllowedPacket;
     }
 
     @Override
@@ -68,7 +88,8 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
                 multiPacketLength = hdr.getMessageSize();
 
                 if (multiPacket == null) {
-                    multiPacket = new NativePacketPayload(multiPacketLength);
+                    multiPacket = this.bufferPool != null ? new NativePacketPayload(this.bufferPool.acquire(multiPacketLength, maxBufferLength()))
+                            : new NativePacketPayload(multiPacketLength);
                 }
 
                 multiPacketSeq++;
@@ -78,10 +99,16 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
 
                 this.packetReader.readMessage(Optional.of(multiPacket), hdr);
 
+                if (this.bufferPool != null) {
+                    this.bufferPool.ensureCapacity(buf, buf.getPosition() + multiPacketLength, buf.getPosition(), maxBufferLength());
+                }
                 buf.writeBytes(StringLengthDataType.STRING_FIXED, multiPacket.getByteBuffer(), 0, multiPacketLength);
 
             } while (multiPacketLength == NativeConstants.MAX_PACKET_SIZE);
 
+            if (this.bufferPool != null) {
+                this.bufferPool.release(multiPacket.getByteBuffer());
+            }
             buf.setPosition(0);
         }
 
@@ -106,7 +133,8 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
                 multiPacketLength = hdr.getMessageSize();
 
                 if (multiPacket == null) {
-                    multiPacket = new NativePacketPayload(multiPacketLength);
+                    multiPacket = this.bufferPool != null ? new NativePacketPayload(this.bufferPool.acquire(multiPacketLength, maxBufferLength()))
+                            : new NativePacketPayload(multiPacketLength);
                 }
 
                 multiPacketSeq++;
@@ -116,16 +144,26 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
 
                 this.packetReader.probeMessage(Optional.of(multiPacket), hdr);
 
+                if (this.bufferPool != null) {
+                    this.bufferPool.ensureCapacity(buf, buf.getPosition() + multiPacketLength, buf.getPosition(), maxBufferLength());
+                }
                 buf.writeBytes(StringLengthDataType.STRING_FIXED, multiPacket.getByteBuffer(), 0, multiPacketLength);
 
             } while (multiPacketLength == NativeConstants.MAX_PACKET_SIZE);
 
+            if (this.bufferPool != null) {
+                this.bufferPool.release(multiPacket.getByteBuffer());
+            }
             buf.setPosition(0);
         }
 
         return buf;
     }
 
+    private int maxBufferLength() {
+        return this.maxAllowedPacket != null ? this.maxAllowedPacket.getValue() : Integer.MAX_VALUE;
+    }
+
     @Override
     public byte getMessageSequence() {
         return this.packetReader.getMessageSequence();
@@ -25,6 +25,7 @@ import java.math.BigInteger;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.exceptions.DataReadException;
+import com.mysql.cj.exceptions.NumberOutOfRange;
 import com.mysql.cj.protocol.InternalDate;
 import com.mysql.cj.protocol.InternalTime;
 import com.mysql.cj.protocol.InternalTimestamp;
@@ -291,4 +292,48 @@ public class MysqlBinaryValueDecoder implements ValueDecoder {
         return vf.createFromYear(asShort);
     }
 
+    @Override
+    public long decodeAsLong(byte[] bytes, int offset, int length, Field f) {
+        // the value width is given by the protocol type, so the length selects the layout
+        switch (length) {
+            case NativeConstants.BIN_LEN_INT1:
+                return f.isUnsigned() ? bytes[offset] & 0xff : bytes[offset];
+
+            case NativeConstants.BIN_LEN_INT2:
+                int asInt = bytes[offset] & 0xff | (bytes[offset + 1] & 0xff) << 8;
+                return f.isUnsigned() ? asInt : (short) asInt;
+
+            case NativeConstants.BIN_LEN_INT4:
+                asInt = bytes[offset] & 0xff | (bytes[offset + 1] & 0xff) << 8 | (bytes[offset + 2] & 0xff) << 16 | (bytes[offset + 3] & 0xff) << 24;
+                return f.isUnsigned() ? asInt & 0xffffffffL : asInt;
+
+            case NativeConstants.BIN_LEN_INT8:
+                long asLong = bytes[offset] & 0xff | (long) (bytes[offset + 1] & 0xff) << 8 | (long) (bytes[offset + 2] & 0xff) << 16
+                        | (long) (bytes[offset + 3] & 0xff) << 24 | (long) (bytes[offset + 4] & 0xff) << 32 | (long) (bytes[offset + 5] & 0xff) << 40
+                        | (long) (bytes[offset + 6] & 0xff) << 48 | (long) (bytes[offset + 7] & 0xff) << 56;
+                if (f.isUnsigned() && asLong < 0) {
+                    throw new NumberOutOfRange(
+                            Messages.getString("ResultSet.NumberOutOfRange", new Object[] { Long.toUnsignedString(asLong), Long.class.getName() }));
+                }
+                return asLong;
+        }
+        throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, f.getMysqlType().getName() }));
+    }
+
+    @Override
+    public double decodeAsDouble(byte[] bytes, int offset, int length, Field f) {
+        switch (length) {
+            case NativeConstants.BIN_LEN_FLOAT:
+                int asInt = bytes[offset] & 0xff | (bytes[offset + 1] & 0xff) << 8 | (bytes[offset + 2] & 0xff) << 16 | (bytes[offset + 3] & 0xff) << 24;
+                return Float.intBitsToFloat(asInt);
+
+            case NativeConstants.BIN_LEN_DOUBLE:
+                long valueAsLong = bytes[offset + 0] & 0xff | (long) (bytes[offset + 1] & 0xff) << 8 | (long) (bytes[offset + 2] & 0xff) << 16
+                        | (long) (bytes[offset + 3] & 0xff) << 24 | (long) (bytes[offset + 4] & 0xff) << 32 | (long) (bytes[offset + 5] & 0xff) << 40
+                        | (long) (bytes[offset + 6] & 0xff) << 48 | (long) (bytes[offset + 7] & 0xff) << 56;
+                return Double.longBitsToDouble(valueAsLong);
+        }
+        throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, f.getMysqlType().getName() }));
+    }
+
 }
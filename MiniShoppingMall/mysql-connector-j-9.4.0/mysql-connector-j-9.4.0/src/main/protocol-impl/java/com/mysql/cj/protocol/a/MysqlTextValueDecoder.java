@@ -66,6 +66,13 @@ public class MysqlTextValueDecoder implements ValueDecoder {
     /** Max string length of a signed long = 9223372036854775807 (19+1 for minus sign) */
     public static final int MAX_SIGNED_LONG_LEN = 20;
 
+    /** Max number of significant digits of a floating point value parsed without creating a String; such mantissa is exact in a double */
+    private static final int MAX_FAST_DOUBLE_DIGITS = 15;
+
+    /** Powers of ten exactly representable as double */
+    private static final double[] EXACT_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17,
+            1e18, 1e19, 1e20, 1e21, 1e22 };
+
     @Override
     public <T> T decodeDate(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
         return vf.createFromDate(getDate(bytes, offset, length));
@@ -137,7 +144,7 @@ public class MysqlTextValueDecoder implements ValueDecoder {
 
     @Override
     public <T> T decodeDouble(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        return vf.createFromDouble(getDouble(bytes, offset, length));
+        return vf.createFromDouble(parseDouble(bytes, offset, length));
     }
 
     @Override
@@ -166,6 +173,16 @@ public class MysqlTextValueDecoder implements ValueDecoder {
         return vf.createFromYear(getLong(bytes, offset, offset + length));
     }
 
+    @Override
+    public long decodeAsLong(byte[] bytes, int offset, int length, Field f) {
+        return getLong(bytes, offset, offset + length);
+    }
+
+    @Override
+    public double decodeAsDouble(byte[] bytes, int offset, int length, Field f) {
+        return parseDouble(bytes, offset, length);
+    }
+
     public static int getInt(byte[] buf, int offset, int endpos) throws NumberFormatException {
         long l = getLong(buf, offset, endpos);
         if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
@@ -255,7 +272,93 @@ public class MysqlTextValueDecoder implements ValueDecoder {
     }
 
     public static Double getDouble(byte[] bytes, int offset, int length) {
-        return Double.parseDouble(StringUtils.toAsciiString(bytes, offset, length));
+        return parseDouble(bytes, offset, length);
+    }
+
+    /**
+     * Parses an ASCII floating point value. Values with at most {@value #MAX_FAST_DOUBLE_DIGITS} significant digits and a decimal exponent within the range
+     * of exactly representable powers of ten, which covers what the server sends for FLOAT and DOUBLE columns, are computed without creating a String:
+     * the digits are accumulated into a long and scaled by a single multiplication or division, so the result is rounded exactly like
+     * {@link Double#parseDouble(String)}. Any other value is passed to {@link Double#parseDouble(String)}.
+     *
+     * @param bytes
+     *            bytes array with result data
+     * @param offset
+     *            offset in array
+     * @param length
+     *            data length
+     * @return parsed value
+     */
+    public static double parseDouble(byte[] bytes, int offset, int length) {
+        int pos = offset;
+        int end = offset + length;
+
+        boolean negative = false;
+        if (pos < end && (bytes[pos] == '-' || bytes[pos] == '+')) {
+            negative = bytes[pos] == '-';
+            pos++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean anyDigit = false;
+        boolean fraction = false;
+        for (; pos < end; pos++) {
+            byte b = bytes[pos];
+            if (b >= '0' && b <= '9') {
+                anyDigit = true;
+                if (mantissa == 0 && b == '0') {
+                    // leading zero
+                    if (fraction) {
+                        scale--;
+                    }
+                    continue;
+                }
+                if (digits == MAX_FAST_DOUBLE_DIGITS) {
+                    return Double.parseDouble(StringUtils.toAsciiString(bytes, offset, length));
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fraction) {
+                    scale--;
+                }
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+
+        if (anyDigit && pos < end && (bytes[pos] == 'e' || bytes[pos] == 'E')) {
+            pos++;
+            boolean negativeExponent = false;
+            if (pos < end && (bytes[pos] == '-' || bytes[pos] == '+')) {
+                negativeExponent = bytes[pos] == '-';
+                pos++;
+            }
+            int exponent = 0;
+            int exponentDigits = 0;
+            // stop before the exponent can overflow; the remaining digits make the value go to Double.parseDouble()
+            for (; pos < end && bytes[pos] >= '0' && bytes[pos] <= '9' && exponent < 100000; pos++) {
+                exponent = exponent * 10 + (bytes[pos] - '0');
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                anyDigit = false;
+            }
+            scale += negativeExponent ? -exponent : exponent;
+        }
+
+        if (!anyDigit || pos < end || scale >= EXACT_POWERS_OF_TEN.length || scale <= -EXACT_POWERS_OF_TEN.length) {
+            if (anyDigit && pos == end && mantissa == 0) {
+                return negative ? -0.0d : 0.0d;
+            }
+            return Double.parseDouble(StringUtils.toAsciiString(bytes, offset, length));
+        }
+
+        double value = scale < 0 ? mantissa / EXACT_POWERS_OF_TEN[-scale] : mantissa * EXACT_POWERS_OF_TEN[scale];
+        return negative ? -value : value;
     }
 
     public static boolean isDate(String s) {
@@ -167,6 +167,9 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     /** Use this when reading in rows to avoid thousands of new() calls, because the byte arrays just get copied out of the packet anyway */
     protected NativePacketPayload reusablePacket = null;
 
+    /** Size-classed buffers for growing the reusable packet and for reassembling multi-packet rows */
+    protected PacketBufferPool packetBufferPool = new PacketBufferPool();
+
     /**
      * Packet used for 'LOAD DATA LOCAL INFILE'
      * We use a SoftReference, so that we don't penalize intermittent use of this feature
@@ -269,7 +272,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
         try {
             this.packetSender = new SimplePacketSender(this.socketConnection.getMysqlOutput());
-            this.packetReader = new SimplePacketReader(this.socketConnection, this.maxAllowedPacket);
+            this.packetReader = new SimplePacketReader(this.socketConnection, this.maxAllowedPacket, this.packetBufferPool);
         } catch (IOException ioEx) {
             throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, getPacketSentTimeHolder(), getPacketReceivedTimeHolder(),
                     ioEx, getExceptionInterceptor());
@@ -358,7 +361,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
             // i/o streams were replaced, build new packet sender/reader
             this.packetSender = new SimplePacketSender(this.socketConnection.getMysqlOutput());
-            this.packetReader = new SimplePacketReader(this.socketConnection, this.maxAllowedPacket);
+            this.packetReader = new SimplePacketReader(this.socketConnection, this.maxAllowedPacket, this.packetBufferPool);
 
         } catch (FeatureNotAvailableException e) {
             throw new CJConnectionFeatureNotAvailableException(getPropertySet(), this.serverSession, getPacketSentTimeHolder(), e);
@@ -498,7 +501,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
 
         // do it after other decorators to have trace and debug applied to individual packets
-        messageReader = new MultiPacketReader(messageReader);
+        messageReader = new MultiPacketReader(messageReader, this.packetBufferPool, this.maxAllowedPacket);
 
         this.packetReader = messageReader;
         this.packetDebugRingBuffer = debugRingBuffer;
@@ -584,8 +587,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     public final NativePacketPayload readMessage(NativePacketPayload reuse) {
         try {
             NativePacketHeader header = this.packetReader.readHeader();
+            // the reader reuses its header instance for the continuation packets of a multi-packet message
+            byte sequence = header.getMessageSequence();
             NativePacketPayload buf = this.packetReader.readMessage(Optional.ofNullable(reuse), header);
-            this.packetSequence = header.getMessageSequence();
+            this.packetSequence = sequence;
             return buf;
 
         } catch (IOException ioEx) {
@@ -600,8 +605,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     public final NativePacketPayload probeMessage(NativePacketPayload reuse) {
         try {
             NativePacketHeader header = this.packetReader.probeHeader();
+            // the reader reuses its header instance for the continuation packets of a multi-packet message
+            byte sequence = header.getMessageSequence();
             NativePacketPayload buf = this.packetReader.probeMessage(Optional.ofNullable(reuse), header);
-            this.packetSequence = header.getMessageSequence();
+            this.packetSequence = sequence;
             return buf;
 
         } catch (IOException ioEx) {
@@ -885,6 +892,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         if (this.reusablePacket != null && this.reusablePacket.getCapacity() > 1048576) {
             this.reusablePacket = new NativePacketPayload(INITIAL_PACKET_SIZE);
         }
+        this.packetBufferPool.trim(1048576);
     }
 
     /**
@@ -1346,6 +1354,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         return this.reusablePacket;
     }
 
+    public PacketBufferPool getPacketBufferPool() {
+        return this.packetBufferPool;
+    }
+
     public int getWarningCount() {
         return this.warningCount;
     }
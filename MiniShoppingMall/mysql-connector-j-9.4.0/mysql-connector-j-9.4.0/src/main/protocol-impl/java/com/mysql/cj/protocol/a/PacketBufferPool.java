@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+/**
+ * A small per-connection pool of packet buffers grouped in power-of-two size classes. It backs the buffers that are only needed until the next packet is read:
+ * the protocol's reusable packet, which holds the current row of a streaming result set, and the scratch buffer used to reassemble rows that the server
+ * splits into several packets. Growing one of these buffers takes the next size class from the pool and gives the old buffer back, so a streaming read of
+ * large rows settles on a few buffers instead of allocating for every row.
+ *
+ * A buffer given back with {@link #release(byte[])} may be handed out again by the next {@link #acquire(int)}, so its former owner must not use it anymore.
+ * Instances are not thread-safe; they are used by the thread that reads from the connection.
+ */
+public class PacketBufferPool {
+
+    private static final int MIN_SIZE_CLASS_SHIFT = 14;
+    private static final int MAX_SIZE_CLASS_SHIFT = 30;
+
+    /**
+     * The smallest size class. Requests for smaller buffers are rounded up to it.
+     */
+    public static final int MIN_SIZE_CLASS = 1 << MIN_SIZE_CLASS_SHIFT;
+
+    /**
+     * The largest size class. Bigger buffers are allocated with their exact length and never pooled.
+     */
+    public static final int MAX_SIZE_CLASS = 1 << MAX_SIZE_CLASS_SHIFT;
+
+    /**
+     * Default limit for the total length of the free buffers kept by a pool: room for one continuation packet of a multi-packet row plus its successor.
+     */
+    public static final long DEFAULT_MAX_RETAINED_BYTES = 2L * (NativeConstants.MAX_PACKET_SIZE + 1);
+
+    private static final int BUFFERS_PER_SIZE_CLASS = 2;
+
+    private final byte[][][] freeBuffers = new byte[MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1][BUFFERS_PER_SIZE_CLASS][];
+    private final int[] freeCounts = new int[MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1];
+    private final long maxRetainedBytes;
+    private long retainedBytes = 0;
+
+    public PacketBufferPool() {
+        this(DEFAULT_MAX_RETAINED_BYTES);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param maxRetainedBytes
+     *            the maximum total length of the free buffers kept by this pool; buffers released beyond it are left to the garbage collector
+     */
+    public PacketBufferPool(long maxRetainedBytes) {
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    /**
+     * Returns the length of the buffer {@link #acquire(int)} hands out for the given length.
+     *
+     * @param length
+     *            the required buffer length
+     * @return the smallest size class not less than <code>length</code>, or <code>length</code> itself if it is bigger than {@link #MAX_SIZE_CLASS}
+     */
+    public static int sizeClassFor(int length) {
+        if (length <= MIN_SIZE_CLASS) {
+            return MIN_SIZE_CLASS;
+        }
+        if (length > MAX_SIZE_CLASS) {
+            return length;
+        }
+        return Integer.highestOneBit(length - 1) << 1;
+    }
+
+    /**
+     * Returns the length of the buffer {@link #acquire(int, int)} hands out for the given lengths.
+     *
+     * @param length
+     *            the required buffer length
+     * @param maxLength
+     *            the length the buffer is not rounded up beyond, usually maxAllowedPacket
+     * @return {@link #sizeClassFor(int)} if it is not bigger than <code>maxLength</code>, otherwise the bigger of <code>length</code> and
+     *         <code>maxLength</code>
+     */
+    public static int sizeClassFor(int length, int maxLength) {
+        int sizeClass = sizeClassFor(length);
+        return sizeClass <= maxLength ? sizeClass : Math.max(length, maxLength);
+    }
+
+    /**
+     * Takes a buffer of at least the given length, reusing a free one of the right size class when there is one.
+     *
+     * @param minLength
+     *            the required buffer length
+     * @return a buffer of {@link #sizeClassFor(int)} length; its contents are undefined
+     */
+    public byte[] acquire(int minLength) {
+        return acquire(minLength, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Takes a buffer of at least the given length, reusing a free one of the right size class when there is one. The length is not rounded up beyond
+     * <code>maxLength</code>: a message can't be longer than maxAllowedPacket, so the memory of a bigger size class would never be used. A capped buffer is
+     * only kept by {@link #release(byte[])} if its length happens to be a size class.
+     *
+     * @param minLength
+     *            the required buffer length
+     * @param maxLength
+     *            the length the buffer is not rounded up beyond, usually maxAllowedPacket
+     * @return a buffer of {@link #sizeClassFor(int, int)} length; its contents are undefined
+     */
+    public byte[] acquire(int minLength, int maxLength) {
+        int length = sizeClassFor(minLength, maxLength);
+        int index = sizeClassIndex(length);
+        if (index >= 0 && this.freeCounts[index] > 0) {
+            int slot = --this.freeCounts[index];
+            byte[] buf = this.freeBuffers[index][slot];
+            this.freeBuffers[index][slot] = null;
+            this.retainedBytes -= buf.length;
+            return buf;
+        }
+        return new byte[length];
+    }
+
+    /**
+     * Gives a buffer back to the pool. Only buffers whose length is a size class are kept, and only as long as the pool stays within its limits.
+     *
+     * @param buf
+     *            the buffer, which the caller must not use anymore; may be null
+     * @return true if the buffer was kept for reuse
+     */
+    public boolean release(byte[] buf) {
+        if (buf == null) {
+            return false;
+        }
+        int index = sizeClassIndex(buf.length);
+        if (index < 0 || this.freeCounts[index] == BUFFERS_PER_SIZE_CLASS || this.retainedBytes + buf.length > this.maxRetainedBytes) {
+            return false;
+        }
+        this.freeBuffers[index][this.freeCounts[index]++] = buf;
+        this.retainedBytes += buf.length;
+        return true;
+    }
+
+    /**
+     * Makes sure the packet's buffer can hold the given number of bytes. If it can't, the buffer is replaced by a pooled one of a large enough size class,
+     * the first <code>preserveLength</code> bytes are copied over and the old buffer is released to the pool.
+     *
+     * @param packet
+     *            the packet whose buffer is checked
+     * @param minLength
+     *            the required buffer length
+     * @param preserveLength
+     *            the number of leading bytes to keep
+     */
+    public void ensureCapacity(NativePacketPayload packet, int minLength, int preserveLength) {
+        ensureCapacity(packet, minLength, preserveLength, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Same as {@link #ensureCapacity(NativePacketPayload, int, int)}, but the new buffer is not rounded up beyond <code>maxLength</code>.
+     *
+     * @param packet
+     *            the packet whose buffer is checked
+     * @param minLength
+     *            the required buffer length
+     * @param preserveLength
+     *            the number of leading bytes to keep
+     * @param maxLength
+     *            the length the new buffer is not rounded up beyond, usually maxAllowedPacket
+     */
+    public void ensureCapacity(NativePacketPayload packet, int minLength, int preserveLength, int maxLength) {
+        byte[] old = packet.getByteBuffer();
+        if (old.length >= minLength) {
+            return;
+        }
+        byte[] buf = acquire(minLength, maxLength);
+        if (preserveLength > 0) {
+            System.arraycopy(old, 0, buf, 0, preserveLength);
+        }
+        packet.setByteBuffer(buf);
+        release(old);
+    }
+
+    /**
+     * Drops the free buffers longer than the given length, so that a connection doesn't hold on to the memory of a past large row.
+     *
+     * @param maxLength
+     *            the length of the longest free buffer to keep
+     */
+    public void trim(int maxLength) {
+        for (int index = this.freeCounts.length - 1; index >= 0 && 1 << (index + MIN_SIZE_CLASS_SHIFT) > maxLength; index--) {
+            for (int slot = 0; slot < this.freeCounts[index]; slot++) {
+                this.retainedBytes -= this.freeBuffers[index][slot].length;
+                this.freeBuffers[index][slot] = null;
+            }
+            this.freeCounts[index] = 0;
+        }
+    }
+
+    /**
+     * Returns the total length of the free buffers kept by this pool.
+     *
+     * @return number of bytes
+     */
+    public long getRetainedBytes() {
+        return this.retainedBytes;
+    }
+
+    private static int sizeClassIndex(int length) {
+        if (length < MIN_SIZE_CLASS || length > MAX_SIZE_CLASS || (length & (length - 1)) != 0) {
+            return -1;
+        }
+        return Integer.numberOfTrailingZeros(length) - MIN_SIZE_CLASS_SHIFT;
+    }
+
+}
@@ -38,6 +38,9 @@ public class ResultsetRowReader implements ProtocolEntityReader<ResultsetRow, Na
 
     protected RuntimeProperty<Integer> useBufferRowSizeThreshold;
 
+    /** The protocol's reusable packet wrapped once, instead of once per row */
+    private Optional<NativePacketPayload> reusablePacket = Optional.empty();
+
     public ResultsetRowReader(NativeProtocol prot) {
         this.protocol = prot;
 
@@ -62,8 +65,7 @@ public class ResultsetRowReader implements ProtocolEntityReader<ResultsetRow, Na
         NativePacketHeader hdr = this.protocol.getPacketReader().readHeader();
 
         // read the entire packet(s)
-        rowPacket = this.protocol.getPacketReader()
-                .readMessage(rf.canReuseRowPacketForBufferRow() ? Optional.ofNullable(this.protocol.getReusablePacket()) : Optional.empty(), hdr);
+        rowPacket = this.protocol.getPacketReader().readMessage(rf.canReuseRowPacketForBufferRow() ? getReusablePacket() : Optional.empty(), hdr);
         this.protocol.checkErrorMessage(rowPacket);
         // Didn't read an error, so re-position to beginning of packet in order to read result set data
         rowPacket.setPosition(rowPacket.getPosition() - 1);
@@ -78,4 +80,13 @@ public class ResultsetRowReader implements ProtocolEntityReader<ResultsetRow, Na
         return sf.createFromMessage(rowPacket);
     }
 
+    private Optional<NativePacketPayload> getReusablePacket() {
+        NativePacketPayload packet = this.protocol.getReusablePacket();
+        if (this.reusablePacket.orElse(null) != packet) {
+            // the protocol replaces its reusable packet after an overly large row
+            this.reusablePacket = Optional.ofNullable(packet);
+        }
+        return this.reusablePacket;
+    }
+
 }
@@ -37,15 +37,39 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
 
     protected SocketConnection socketConnection;
     protected RuntimeProperty<Integer> maxAllowedPacket;
+    protected PacketBufferPool bufferPool;
 
     private byte readPacketSequence = -1;
 
+    /**
+     * Header instance filled by every header read. A header returned by {@link #readHeader()} or {@link #probeHeader()} is only valid until the next header
+     * read, which includes the continuation headers {@link MultiPacketReader} reads while it reassembles a message. Callers that need a header field after
+     * reading the message it describes must copy the field first.
+     */
+    private final NativePacketHeader header = new NativePacketHeader();
+
     NativePacketHeader lastHeader = null;
     NativePacketPayload lastMessage = null;
 
     public SimplePacketReader(SocketConnection socketConnection, RuntimeProperty<Integer> maxAllowedPacket) {
+        this(socketConnection, maxAllowedPacket, null);
+    }
+
+    /**
+     * Creates a reader which grows reused packets with buffers from the given pool.
+     *
+     * @param socketConnection
+     *            {@link SocketConnection}
+     * @param maxAllowedPacket
+     *            the maxAllowedPacket property
+     * @param bufferPool
+     *            {@link PacketBufferPool} to take larger buffers from and give outgrown ones back to; if null, reused packets are grown with exact-size
+     *            buffers
+     */
+    public SimplePacketReader(SocketConnection socketConnection, RuntimeProperty<Integer> maxAllowedPacket, PacketBufferPool bufferPool) {
         this.socketConnection = socketConnection;
         this.maxAllowedPacket = maxAllowedPacket;
+        this.bufferPool = bufferPool;
     }
 
     @Override
@@ -66,7 +90,7 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
     }
 
     private NativePacketHeader readHeaderLocal() throws IOException {
-        NativePacketHeader hdr = new NativePacketHeader();
+        NativePacketHeader hdr = this.header;
 
         try {
             this.socketConnection.getMysqlInput().readFully(hdr.getBuffer().array(), 0, NativeConstants.HEADER_LENGTH);
@@ -115,7 +139,11 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
                 if (message.getByteBuffer().length < packetLength) {
                     // Note: We actually check the length of the buffer, rather than getBufLength(), because getBufLength()
                     // is not necessarily the actual length of the byte array used as the buffer
-                    message.setByteBuffer(new byte[packetLength]);
+                    if (this.bufferPool != null) {
+                        this.bufferPool.ensureCapacity(message, packetLength, 0, this.maxAllowedPacket.getValue());
+                    } else {
+                        message.setByteBuffer(new byte[packetLength]);
+                    }
                 }
 
                 // Set the new length
@@ -28,6 +28,7 @@ import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.Resultset.Concurrency;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
@@ -65,7 +66,17 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
 
             ResultsetRows rows = null;
 
-            if (!streamResults) {
+            if (!streamResults && this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useColumnarResultStorage).getValue()
+                    && resultSetFactory.getResultSetConcurrency() == Concurrency.READ_ONLY) {
+                ColumnarRowFactory crf = new ColumnarRowFactory(cdef, false, maxRows, this.protocol.getExceptionInterceptor());
+                while (this.protocol.read(ResultsetRow.class, crf) != null) {
+                    // rows are stored by the factory
+                }
+                crf.getRows().trimToSize();
+
+                rows = new ResultsetRowsStatic(crf.getRows(), cdef);
+
+            } else if (!streamResults) {
                 TextRowFactory trf = new TextRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), false);
                 ArrayList<ResultsetRow> rowList = new ArrayList<>();
 
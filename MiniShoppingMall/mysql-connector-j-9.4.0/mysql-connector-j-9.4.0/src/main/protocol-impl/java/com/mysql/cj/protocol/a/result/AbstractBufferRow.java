@@ -29,6 +29,10 @@ import com.mysql.cj.protocol.result.AbstractResultsetRow;
  * allocations to break out the results as individual byte[]s.
  *
  * (this isn't possible when doing things like reading floating point values).
+ *
+ * The row doesn't own the bytes of its packet: when the packet is the protocol's reusable one (streaming result sets), reading the next row overwrites it,
+ * and its buffer may be handed back to the protocol's buffer pool. Values must therefore be read, or copied out, before the result set is advanced. Rows of
+ * fully buffered result sets get a packet of their own and stay valid.
  */
 public abstract class AbstractBufferRow extends AbstractResultsetRow {
 
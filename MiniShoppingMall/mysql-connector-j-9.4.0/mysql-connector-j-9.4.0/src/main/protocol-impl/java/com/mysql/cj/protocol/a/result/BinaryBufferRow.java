@@ -219,6 +219,30 @@ public class BinaryBufferRow extends AbstractBufferRow {
      */
     @Override
     public <T> T getValue(int columnIndex, ValueFactory<T> vf) {
+        int length = seekToValue(columnIndex);
+        return getValueFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        int length = seekToValue(columnIndex);
+        return getLongFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        int length = seekToValue(columnIndex);
+        return getDoubleFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length);
+    }
+
+    /**
+     * Positions the row buffer at the start of the column value.
+     *
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @return length of the value
+     */
+    private int seekToValue(int columnIndex) {
         findAndSeekToOffset(columnIndex);
 
         // field length is type-specific in binary-encoded results
@@ -232,7 +256,7 @@ public class BinaryBufferRow extends AbstractBufferRow {
                         Messages.getString("MysqlIO.97", new Object[] { type, columnIndex + 1, this.metadata.getFields().length }), this.exceptionInterceptor);
             }
         }
-        return getValueFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+        return length;
     }
 
     @Override
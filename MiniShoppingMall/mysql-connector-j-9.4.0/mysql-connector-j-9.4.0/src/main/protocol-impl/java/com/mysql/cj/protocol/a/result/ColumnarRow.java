@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import java.util.Arrays;
+
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.protocol.result.AbstractResultsetRow;
+import com.mysql.cj.result.ValueFactory;
+
+/**
+ * A view of one row of a {@link ColumnarRowList}. Values are decoded directly from the list's slabs.
+ */
+public class ColumnarRow extends AbstractResultsetRow {
+
+    private final ColumnarRowList rows;
+    private final int rowIndex;
+
+    public ColumnarRow(ColumnarRowList rows, int rowIndex, ExceptionInterceptor exceptionInterceptor, ValueDecoder valueDecoder) {
+        super(exceptionInterceptor);
+
+        this.rows = rows;
+        this.rowIndex = rowIndex;
+        this.valueDecoder = valueDecoder;
+    }
+
+    @Override
+    public boolean isBinaryEncoded() {
+        return this.valueDecoder instanceof MysqlBinaryValueDecoder;
+    }
+
+    @Override
+    public byte[] getBytes(int index) {
+        if (getNull(index)) {
+            return null;
+        }
+        int offset = this.rows.getOffset(index, this.rowIndex);
+        return Arrays.copyOfRange(this.rows.getSlab(this.rowIndex), offset, offset + this.rows.getLength(index, this.rowIndex));
+    }
+
+    @Override
+    public boolean getNull(int columnIndex) {
+        this.wasNull = this.rows.getLength(columnIndex, this.rowIndex) == ColumnarRowList.NULL_LENGTH;
+        return this.wasNull;
+    }
+
+    /**
+     * Implementation of getValue() based on the slab holding this row. Delegate to superclass for decoding.
+     */
+    @Override
+    public <T> T getValue(int columnIndex, ValueFactory<T> vf) {
+        return getValueFromBytes(columnIndex, this.rows.getSlab(this.rowIndex), this.rows.getOffset(columnIndex, this.rowIndex),
+                Math.max(this.rows.getLength(columnIndex, this.rowIndex), 0), vf);
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        return getLongFromBytes(columnIndex, this.rows.getSlab(this.rowIndex), this.rows.getOffset(columnIndex, this.rowIndex),
+                Math.max(this.rows.getLength(columnIndex, this.rowIndex), 0));
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        return getDoubleFromBytes(columnIndex, this.rows.getSlab(this.rowIndex), this.rows.getOffset(columnIndex, this.rowIndex),
+                Math.max(this.rows.getLength(columnIndex, this.rowIndex), 0));
+    }
+
+}
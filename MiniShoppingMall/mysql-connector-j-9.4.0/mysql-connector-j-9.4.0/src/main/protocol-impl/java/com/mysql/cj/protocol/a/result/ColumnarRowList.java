@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.result.Row;
+
+/**
+ * Column-oriented storage for fully buffered (a-la mysql_store_result()) results.
+ *
+ * Instead of one {@link ByteArrayRow} and one <code>byte[]</code> per value, the values of all rows are copied into a few large byte slabs and located
+ * through one offset array per column. The values of a row are stored back to back in column order, so the length of a value is the distance to the
+ * offset of the next one (or to the end of the row for the last column). A result of any size is thus held in a handful of arrays; the {@link Row}s
+ * returned by {@link #get(int)} are light views created on demand.
+ *
+ * Rows are appended by {@link #addRow(byte[], int[], int[])} while the result is read and are not modified afterwards, so this list does not support
+ * adding or removing {@link Row} instances (updatable result sets keep using {@link ByteArrayRow}s).
+ */
+public class ColumnarRowList extends AbstractList<Row> implements RandomAccess {
+
+    private static final int MIN_SLAB_SIZE = 8 * 1024;
+    private static final int MAX_SLAB_SIZE = 1024 * 1024;
+    private static final int INITIAL_ROW_CAPACITY = 16;
+
+    /** Length marking an SQL <code>NULL</code> value. */
+    static final int NULL_LENGTH = -1;
+
+    private final int columnCount;
+    private final ExceptionInterceptor exceptionInterceptor;
+    private final ValueDecoder valueDecoder;
+
+    private byte[][] slabs = new byte[4][];
+    private int slabCount = 0;
+    private int slabPosition = 0;
+
+    /** Slab holding the values of each row; all values of a row are stored in the same slab. */
+    private int[] rowSlabs = new int[0];
+    /** Offset of the end of each row in its slab. */
+    private int[] rowEnds = new int[0];
+    /** Per-column offsets of the values into their row's slab, bitwise complemented (negative) for SQL <code>NULL</code>. */
+    private final int[][] offsets;
+    private int rowCount = 0;
+
+    /**
+     * Creates an empty list.
+     *
+     * @param columnCount
+     *            number of columns of the result
+     * @param exceptionInterceptor
+     *            {@link ExceptionInterceptor} for the returned rows
+     * @param valueDecoder
+     *            {@link ValueDecoder} matching the encoding of the stored values (text or binary)
+     */
+    public ColumnarRowList(int columnCount, ExceptionInterceptor exceptionInterceptor, ValueDecoder valueDecoder) {
+        this.columnCount = columnCount;
+        this.exceptionInterceptor = exceptionInterceptor;
+        this.valueDecoder = valueDecoder;
+        this.offsets = new int[columnCount][];
+        for (int i = 0; i < columnCount; i++) {
+            this.offsets[i] = new int[0];
+        }
+    }
+
+    /**
+     * Appends a row by copying its values from the given buffer.
+     *
+     * @param source
+     *            buffer holding the encoded values, usually the payload of the row packet
+     * @param valueOffsets
+     *            offset of each column value in <code>source</code>
+     * @param valueLengths
+     *            length of each column value, {@link #NULL_LENGTH} for SQL <code>NULL</code>
+     * @return index of the new row
+     */
+    public int addRow(byte[] source, int[] valueOffsets, int[] valueLengths) {
+        int rowLength = 0;
+        for (int i = 0; i < this.columnCount; i++) {
+            if (valueLengths[i] > 0) {
+                rowLength += valueLengths[i];
+            }
+        }
+
+        byte[] slab = reserve(rowLength);
+        int row = this.rowCount;
+        if (row == this.rowSlabs.length) {
+            growRows();
+        }
+        this.rowSlabs[row] = this.slabCount - 1;
+
+        for (int i = 0; i < this.columnCount; i++) {
+            int length = valueLengths[i];
+            if (length == NULL_LENGTH) {
+                this.offsets[i][row] = ~this.slabPosition;
+            } else {
+                this.offsets[i][row] = this.slabPosition;
+                System.arraycopy(source, valueOffsets[i], slab, this.slabPosition, length);
+                this.slabPosition += length;
+            }
+        }
+        this.rowEnds[row] = this.slabPosition;
+
+        this.rowCount++;
+        return row;
+    }
+
+    /**
+     * Returns a slab with at least <code>length</code> free bytes at {@link #slabPosition}, starting a new one if the current slab is too small. Slabs
+     * double in size up to {@link #MAX_SLAB_SIZE}; a row larger than that gets a slab of its own size.
+     *
+     * @param length
+     *            number of bytes needed
+     * @return the slab to copy into
+     */
+    private byte[] reserve(int length) {
+        if (this.slabCount > 0) {
+            byte[] slab = this.slabs[this.slabCount - 1];
+            if (slab.length - this.slabPosition >= length) {
+                return slab;
+            }
+        }
+
+        int size = this.slabCount == 0 ? MIN_SLAB_SIZE : Math.min(MAX_SLAB_SIZE, this.slabs[this.slabCount - 1].length * 2);
+        byte[] slab = new byte[Math.max(size, length)];
+        if (this.slabCount == this.slabs.length) {
+            this.slabs = Arrays.copyOf(this.slabs, this.slabCount * 2);
+        }
+        this.slabs[this.slabCount++] = slab;
+        this.slabPosition = 0;
+        return slab;
+    }
+
+    private void growRows() {
+        resizeRows(Math.max(INITIAL_ROW_CAPACITY, this.rowSlabs.length + (this.rowSlabs.length >> 1)));
+    }
+
+    private void resizeRows(int capacity) {
+        this.rowSlabs = Arrays.copyOf(this.rowSlabs, capacity);
+        this.rowEnds = Arrays.copyOf(this.rowEnds, capacity);
+        for (int i = 0; i < this.columnCount; i++) {
+            this.offsets[i] = Arrays.copyOf(this.offsets[i], capacity);
+        }
+    }
+
+    /**
+     * Releases the spare capacity left by growing the arrays, including the unused tail of the last slab. To be called once all rows are added.
+     */
+    public void trimToSize() {
+        if (this.rowSlabs.length > this.rowCount) {
+            resizeRows(this.rowCount);
+        }
+        if (this.slabCount > 0 && this.slabs[this.slabCount - 1].length > this.slabPosition) {
+            this.slabs[this.slabCount - 1] = Arrays.copyOf(this.slabs[this.slabCount - 1], this.slabPosition);
+        }
+        if (this.slabs.length > this.slabCount) {
+            this.slabs = Arrays.copyOf(this.slabs, Math.max(this.slabCount, 1));
+        }
+    }
+
+    byte[] getSlab(int row) {
+        return this.slabs[this.rowSlabs[row]];
+    }
+
+    int getOffset(int column, int row) {
+        int offset = this.offsets[column][row];
+        return offset < 0 ? ~offset : offset;
+    }
+
+    int getLength(int column, int row) {
+        int offset = this.offsets[column][row];
+        if (offset < 0) {
+            return NULL_LENGTH;
+        }
+        int end = column + 1 < this.columnCount ? this.offsets[column + 1][row] : this.rowEnds[row];
+        return (end < 0 ? ~end : end) - offset;
+    }
+
+    /**
+     * Returns a view of the given row. Views are created on each call and read the values directly from the slabs.
+     *
+     * @param index
+     *            row index (starting at 0)
+     * @return {@link ColumnarRow}
+     */
+    @Override
+    public ColumnarRow get(int index) {
+        if (index < 0 || index >= this.rowCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.rowCount);
+        }
+        return new ColumnarRow(this, index, this.exceptionInterceptor, this.valueDecoder);
+    }
+
+    @Override
+    public int size() {
+        return this.rowCount;
+    }
+
+}
@@ -20,7 +20,6 @@
 
 package com.mysql.cj.protocol.a.result;
 
-import java.util.HashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -118,7 +117,6 @@ public class NativeResultset implements Resultset {
         if (this.rowData != null) {
             this.rowData.setMetadata(this.columnDefinition);
         }
-        this.columnDefinition.setColumnToIndexCache(new HashMap<>());
     }
 
     @Override
@@ -53,6 +53,10 @@ import com.mysql.cj.util.Util;
  * Provides streaming of Resultset rows. Each next row is consumed from the input stream only on {@link #next()} call. Consumed rows are not cached thus result
  * sets are streamed only when they are forward-only, read-only, and the fetch size has been set to Integer.MIN_VALUE (rows are read one by one).
  *
+ * All rows are read into the protocol's reusable packet, so a row returned by {@link #next()} is only valid until the following call, which overwrites its
+ * bytes and may swap its buffer for a larger one from the protocol's {@link com.mysql.cj.protocol.a.PacketBufferPool}. Oversized buffers are dropped once
+ * the last row has been read.
+ *
  * @param <T>
  *            ProtocolEntity type
  */
@@ -175,6 +179,7 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
 
         if (!hasNext && !this.streamerClosed) {
             this.protocol.unsetStreamingData(this);
+            this.protocol.reclaimLargeReusablePacket();
             this.streamerClosed = true;
         }
 
@@ -231,6 +236,7 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
                     this.protocol.readNextResultset((T) this.owner, this.owner.getOwningStatementMaxRows(), true, this.isBinaryEncoded, this.resultSetFactory);
                 } else {
                     this.protocol.unsetStreamingData(this);
+                    this.protocol.reclaimLargeReusablePacket();
                     this.streamerClosed = true;
                 }
             }
@@ -255,6 +261,7 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
             this.isAfterEnd = true;
             if (!this.streamerClosed) {
                 this.protocol.unsetStreamingData(this);
+                this.protocol.reclaimLargeReusablePacket();
                 this.streamerClosed = true;
             }
 
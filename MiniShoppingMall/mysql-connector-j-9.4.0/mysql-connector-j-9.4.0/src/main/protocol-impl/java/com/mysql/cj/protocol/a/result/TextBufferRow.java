@@ -122,4 +122,18 @@ public class TextBufferRow extends AbstractBufferRow {
         return getValueFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
     }
 
+    @Override
+    public long getLong(int columnIndex) {
+        findAndSeekToOffset(columnIndex);
+        int length = (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
+        return getLongFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        findAndSeekToOffset(columnIndex);
+        int length = (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
+        return getDoubleFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length);
+    }
+
 }
@@ -30,6 +30,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import com.mysql.cj.CancelQueryTaskImpl;
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.conf.PropertyDefinitions;
 import com.mysql.cj.protocol.NetworkResources;
@@ -140,13 +141,13 @@ public class AbandonedConnectionCleanupThread implements Runnable {
     }
 
     /**
-     * Shuts down this thread either checking or not the context ClassLoaders from the involved threads.
+     * Shuts down this thread, and the shared query timeout threads along with it, either checking or not the context ClassLoaders from the involved threads.
      *
      * @param checked
      *            does a checked shutdown if true, unchecked otherwise
      */
     private static void shutdown(boolean checked) {
-        if (checked && !consistentClassLoaders()) {
+        if (checked && !abandonedConnectionCleanupDisabled && !consistentClassLoaders()) {
             // This thread can't be shutdown from the current thread's context ClassLoader. Doing so would most probably prevent from restarting this thread
             // later on. An unchecked shutdown can still be done if needed by calling shutdown(false).
             return;
@@ -154,6 +155,7 @@ public class AbandonedConnectionCleanupThread implements Runnable {
         if (cleanupThreadExecutorService != null) {
             cleanupThreadExecutorService.shutdownNow();
         }
+        CancelQueryTaskImpl.shutdown();
     }
 
     /**
@@ -185,13 +185,13 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     private ExceptionInterceptor exceptionInterceptor;
 
-    private ValueFactory<Boolean> booleanValueFactory;
+    private BooleanValueFactory booleanValueFactory;
     private ValueFactory<Byte> byteValueFactory;
     private ValueFactory<Short> shortValueFactory;
-    private ValueFactory<Integer> integerValueFactory;
-    private ValueFactory<Long> longValueFactory;
+    private IntegerValueFactory integerValueFactory;
+    private LongValueFactory longValueFactory;
     private ValueFactory<Float> floatValueFactory;
-    private ValueFactory<Double> doubleValueFactory;
+    private DoubleValueFactory doubleValueFactory;
     private ValueFactory<BigDecimal> bigDecimalValueFactory;
     private ValueFactory<InputStream> binaryStreamValueFactory;
     private ValueFactory<UUID> uuidValueFactory;
@@ -730,8 +730,24 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean getBoolean(int columnIndex) throws SQLException {
-        Boolean res = getObject(columnIndex, Boolean.TYPE);
-        return res == null ? false : res;
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkRowPos();
+            checkColumnBounds(columnIndex);
+            // numeric columns are decoded to primitives without boxing, everything else goes through the value factory
+            if (this.thisRow.hasIntegerType(columnIndex - 1)) {
+                long l = this.thisRow.getLong(columnIndex - 1);
+                return !this.thisRow.wasNull() && this.booleanValueFactory.createBooleanFromLong(l);
+            } else if (this.thisRow.hasFloatingPointType(columnIndex - 1)) {
+                double d = this.thisRow.getDouble(columnIndex - 1);
+                return !this.thisRow.wasNull() && this.booleanValueFactory.createBooleanFromDouble(d);
+            }
+            Boolean res = this.thisRow.getValue(columnIndex - 1, this.booleanValueFactory);
+            return res == null ? false : res;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -831,8 +847,23 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public double getDouble(int columnIndex) throws SQLException {
-        Double res = getObject(columnIndex, Double.TYPE);
-        return res == null ? (double) 0 : res;
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkRowPos();
+            checkColumnBounds(columnIndex);
+            if (this.thisRow.hasFloatingPointType(columnIndex - 1)) {
+                double d = this.thisRow.getDouble(columnIndex - 1);
+                return this.thisRow.wasNull() ? 0 : this.doubleValueFactory.createDoubleFromDouble(d);
+            } else if (this.thisRow.hasIntegerType(columnIndex - 1)) {
+                long l = this.thisRow.getLong(columnIndex - 1);
+                return this.thisRow.wasNull() ? 0 : this.doubleValueFactory.createDoubleFromLong(l);
+            }
+            Double res = this.thisRow.getValue(columnIndex - 1, this.doubleValueFactory);
+            return res == null ? (double) 0 : res;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -853,8 +884,23 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int getInt(int columnIndex) throws SQLException {
-        Integer res = getObject(columnIndex, Integer.TYPE);
-        return res == null ? 0 : res;
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkRowPos();
+            checkColumnBounds(columnIndex);
+            if (this.thisRow.hasIntegerType(columnIndex - 1)) {
+                long l = this.thisRow.getLong(columnIndex - 1);
+                return this.thisRow.wasNull() ? 0 : this.integerValueFactory.createIntFromLong(l);
+            } else if (this.thisRow.hasFloatingPointType(columnIndex - 1)) {
+                double d = this.thisRow.getDouble(columnIndex - 1);
+                return this.thisRow.wasNull() ? 0 : this.integerValueFactory.createIntFromDouble(d);
+            }
+            Integer res = this.thisRow.getValue(columnIndex - 1, this.integerValueFactory);
+            return res == null ? 0 : res;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -879,8 +925,23 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public long getLong(int columnIndex) throws SQLException {
-        Long res = getObject(columnIndex, Long.TYPE);
-        return res == null ? 0L : res;
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkRowPos();
+            checkColumnBounds(columnIndex);
+            if (this.thisRow.hasIntegerType(columnIndex - 1)) {
+                long l = this.thisRow.getLong(columnIndex - 1);
+                return this.thisRow.wasNull() ? 0L : this.longValueFactory.createLongFromLong(l);
+            } else if (this.thisRow.hasFloatingPointType(columnIndex - 1)) {
+                double d = this.thisRow.getDouble(columnIndex - 1);
+                return this.thisRow.wasNull() ? 0L : this.longValueFactory.createLongFromDouble(d);
+            }
+            Long res = this.thisRow.getValue(columnIndex - 1, this.longValueFactory);
+            return res == null ? 0L : res;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
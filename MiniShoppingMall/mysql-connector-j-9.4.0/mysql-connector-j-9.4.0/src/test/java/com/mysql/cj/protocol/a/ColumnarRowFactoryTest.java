@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ResultsetRow;
+import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
+import com.mysql.cj.protocol.a.result.ColumnarRowList;
+import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.DoubleValueFactory;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.Row;
+import com.mysql.cj.result.StringValueFactory;
+import com.mysql.cj.util.LazyString;
+
+/**
+ * Tests for {@link ColumnarRowFactory} and {@link ColumnarRowList}.
+ */
+public class ColumnarRowFactoryTest {
+
+    private final IntegerValueFactory intVf = new IntegerValueFactory(new DefaultPropertySet());
+    private final DoubleValueFactory doubleVf = new DoubleValueFactory(new DefaultPropertySet());
+    private final StringValueFactory stringVf = new StringValueFactory(new DefaultPropertySet());
+
+    private static Field field(String name, MysqlType mysqlType, int mysqlTypeId) {
+        return new Field(new LazyString("db"), new LazyString("t"), new LazyString("t"), new LazyString(name), new LazyString(name), 255, mysqlTypeId,
+                (short) 0, 0, 255, "UTF-8", mysqlType);
+    }
+
+    private static String name(int row) {
+        if (row % 7 == 0) {
+            return null;
+        }
+        if (row % 11 == 0) {
+            return "";
+        }
+        return "product #" + row;
+    }
+
+    private static NativePacketPayload textRow(String... values) {
+        NativePacketPayload packet = new NativePacketPayload(16);
+        packet.setPosition(0);
+        for (String value : values) {
+            if (value == null) {
+                packet.writeInteger(IntegerDataType.INT1, 251);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                packet.writeInteger(IntegerDataType.INT_LENENC, bytes.length);
+                packet.writeBytes(StringLengthDataType.STRING_FIXED, bytes, 0, bytes.length);
+            }
+        }
+        packet.setPosition(0);
+        return packet;
+    }
+
+    @Test
+    public void testTextRows() {
+        ColumnDefinition cdef = new DefaultColumnDefinition(new Field[] { field("id", MysqlType.INT, MysqlType.FIELD_TYPE_LONG),
+                field("name", MysqlType.VARCHAR, MysqlType.FIELD_TYPE_VAR_STRING), field("price", MysqlType.DOUBLE, MysqlType.FIELD_TYPE_DOUBLE) });
+        ColumnarRowFactory factory = new ColumnarRowFactory(cdef, false, -1, null);
+        assertTrue(factory.canReuseRowPacketForBufferRow());
+
+        // enough rows to span several slabs, plus a row larger than a slab
+        int numRows = 50000;
+        char[] big = new char[3 * 1024 * 1024];
+        Arrays.fill(big, 'x');
+        String bigName = new String(big);
+        for (int i = 0; i < numRows; i++) {
+            String n = i == 1234 ? bigName : name(i);
+            assertNotNull(factory.createFromMessage(textRow(String.valueOf(i), n, i % 5 == 0 ? null : i + ".25")));
+        }
+
+        ResultsetRowsStatic rows = new ResultsetRowsStatic(factory.getRows(), cdef);
+        assertEquals(numRows, rows.size());
+        int i = 0;
+        while (rows.hasNext()) {
+            Row row = rows.next();
+            assertEquals(Integer.valueOf(i), row.getValue(0, this.intVf));
+            assertTrue(row.hasIntegerType(0));
+            assertEquals(i, row.getLong(0));
+
+            String expectedName = i == 1234 ? bigName : name(i);
+            assertEquals(expectedName, row.getValue(1, this.stringVf));
+            assertEquals(expectedName == null, row.wasNull());
+            assertEquals(expectedName == null, row.getNull(1));
+            if (expectedName == null) {
+                assertNull(row.getBytes(1));
+            } else if (i != 1234) {
+                assertArrayEquals(expectedName.getBytes(StandardCharsets.UTF_8), row.getBytes(1));
+            }
+
+            if (i % 5 == 0) {
+                assertNull(row.getValue(2, this.doubleVf));
+                assertEquals(0, row.getDouble(2));
+                assertTrue(row.wasNull());
+            } else {
+                assertEquals(i + 0.25, row.getDouble(2));
+                assertFalse(row.wasNull());
+            }
+            i++;
+        }
+        assertEquals(numRows, i);
+
+        // random access and a second pass see the same values
+        assertEquals("product #9", rows.get(9).getValue(1, this.stringVf));
+        assertNull(rows.get(numRows));
+        assertFalse(((ResultsetRow) rows.get(0)).isBinaryEncoded());
+
+        assertThrows(UnsupportedOperationException.class, () -> rows.addRow(rows.get(0)));
+    }
+
+    @Test
+    public void testBinaryRows() {
+        ColumnDefinition cdef = new DefaultColumnDefinition(new Field[] { field("tiny", MysqlType.TINYINT, MysqlType.FIELD_TYPE_TINY),
+                field("id", MysqlType.BIGINT, MysqlType.FIELD_TYPE_LONGLONG), field("name", MysqlType.VARCHAR, MysqlType.FIELD_TYPE_VAR_STRING),
+                field("price", MysqlType.DOUBLE, MysqlType.FIELD_TYPE_DOUBLE), field("nothing", MysqlType.NULL, MysqlType.FIELD_TYPE_NULL),
+                field("qty", MysqlType.INT, MysqlType.FIELD_TYPE_LONG), field("short", MysqlType.SMALLINT, MysqlType.FIELD_TYPE_SHORT) });
+        ColumnarRowFactory factory = new ColumnarRowFactory(cdef, true, -1, null);
+
+        int numRows = 5000;
+        for (int i = 0; i < numRows; i++) {
+            String n = name(i);
+            boolean nullPrice = i % 3 == 0;
+
+            ByteBuffer bb = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+            bb.put((byte) 0); // packet header
+            // null bitmap with 2 bits offset: "name" is column 2 (bit 4), "price" column 3 (bit 5), "nothing" column 4 (bit 6)
+            int nullMask = (n == null ? 1 << 4 : 0) | (nullPrice ? 1 << 5 : 0) | 1 << 6;
+            bb.put((byte) nullMask);
+            bb.put((byte) 0);
+            bb.put((byte) (i % 100));
+            bb.putLong(100000L * i);
+            if (n != null) {
+                byte[] bytes = n.getBytes(StandardCharsets.UTF_8);
+                bb.put((byte) bytes.length);
+                bb.put(bytes);
+            }
+            if (!nullPrice) {
+                bb.putDouble(i / 4.0);
+            }
+            bb.putInt(-i);
+            bb.putShort((short) i);
+
+            assertNotNull(factory.createFromMessage(new NativePacketPayload(Arrays.copyOf(bb.array(), bb.position()))));
+        }
+
+        ResultsetRowsStatic rows = new ResultsetRowsStatic(factory.getRows(), cdef);
+        assertEquals(numRows, rows.size());
+        for (int i = 0; i < numRows; i++) {
+            Row row = rows.get(i);
+            assertTrue(((ResultsetRow) row).isBinaryEncoded());
+            assertEquals(Integer.valueOf(i % 100), row.getValue(0, this.intVf));
+            assertEquals(100000L * i, row.getLong(1));
+            assertEquals(name(i), row.getValue(2, this.stringVf));
+            if (i % 3 == 0) {
+                assertTrue(row.getNull(3));
+            } else {
+                assertEquals(i / 4.0, row.getDouble(3));
+            }
+            assertTrue(row.getNull(4));
+            assertEquals(Integer.valueOf(-i), row.getValue(5, this.intVf));
+            assertEquals(Integer.valueOf(i), row.getValue(6, this.intVf));
+        }
+    }
+
+    @Test
+    public void testMaxRows() {
+        ColumnDefinition cdef = new DefaultColumnDefinition(new Field[] { field("id", MysqlType.INT, MysqlType.FIELD_TYPE_LONG) });
+        ColumnarRowFactory factory = new ColumnarRowFactory(cdef, false, 2, null);
+
+        for (int i = 0; i < 5; i++) {
+            // rows past maxRows are still consumed, but not stored
+            assertNotNull(factory.createFromMessage(textRow(String.valueOf(i))));
+        }
+        ColumnarRowList rows = factory.getRows();
+        assertEquals(2, rows.size());
+        assertEquals(Integer.valueOf(1), rows.get(1).setMetadata(cdef).getValue(0, this.intVf));
+        assertThrows(IndexOutOfBoundsException.class, () -> rows.get(2));
+    }
+
+}
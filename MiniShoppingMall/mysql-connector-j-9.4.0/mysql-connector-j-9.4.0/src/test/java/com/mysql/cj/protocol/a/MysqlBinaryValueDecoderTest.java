@@ -21,6 +21,7 @@
 package com.mysql.cj.protocol.a;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -29,7 +30,11 @@ import java.nio.ByteOrder;
 import org.junit.jupiter.api.Test;
 
 import com.mysql.cj.Constants;
+import com.mysql.cj.MysqlType;
 import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.exceptions.DataReadException;
+import com.mysql.cj.exceptions.NumberOutOfRange;
+import com.mysql.cj.result.Field;
 import com.mysql.cj.result.StringValueFactory;
 import com.mysql.cj.result.ValueFactory;
 
@@ -97,4 +102,46 @@ public class MysqlBinaryValueDecoderTest {
         assertEquals("18446744073709551615", decoded);
     }
 
+    @Test
+    public void testDecodeAsLong() {
+        Field signed = new Field("test", "test", 63, "US-ASCII", MysqlType.BIGINT, 20);
+        Field unsigned = new Field("test", "test", 63, "US-ASCII", MysqlType.BIGINT_UNSIGNED, 20);
+
+        assertEquals(-1L, this.valueDecoder.decodeAsLong(new byte[] { (byte) 0xff }, 0, 1, signed));
+        assertEquals(255L, this.valueDecoder.decodeAsLong(new byte[] { (byte) 0xff }, 0, 1, unsigned));
+        assertEquals(-2L, this.valueDecoder.decodeAsLong(new byte[] { (byte) 0xfe, (byte) 0xff }, 0, 2, signed));
+        assertEquals(65534L, this.valueDecoder.decodeAsLong(new byte[] { (byte) 0xfe, (byte) 0xff }, 0, 2, unsigned));
+
+        byte[] int4 = ByteBuffer.allocate(5).order(ByteOrder.LITTLE_ENDIAN).put((byte) 0x7F).putInt(Integer.MIN_VALUE).array();
+        assertEquals(Integer.MIN_VALUE, this.valueDecoder.decodeAsLong(int4, 1, 4, signed));
+        assertEquals(2147483648L, this.valueDecoder.decodeAsLong(int4, 1, 4, unsigned));
+
+        byte[] int8 = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(Long.MIN_VALUE).array();
+        assertEquals(Long.MIN_VALUE, this.valueDecoder.decodeAsLong(int8, 0, 8, signed));
+        byte[] maxInt8 = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(Long.MAX_VALUE).array();
+        assertEquals(Long.MAX_VALUE, this.valueDecoder.decodeAsLong(maxInt8, 0, 8, unsigned));
+
+        assertThrows(NumberOutOfRange.class, () -> {
+            this.valueDecoder.decodeAsLong(int8, 0, 8, unsigned);
+        }, "Exception should be thrown for BIGINT UNSIGNED values above Long.MAX_VALUE");
+        assertThrows(DataReadException.class, () -> {
+            this.valueDecoder.decodeAsLong(int8, 0, 3, signed);
+        });
+    }
+
+    @Test
+    public void testDecodeAsDouble() {
+        Field f = new Field("test", "test", 63, "US-ASCII", MysqlType.DOUBLE, 22);
+
+        byte[] float4 = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putFloat(1.1f).array();
+        assertEquals(1.1f, this.valueDecoder.decodeAsDouble(float4, 0, 4, f));
+
+        byte[] double8 = ByteBuffer.allocate(9).order(ByteOrder.LITTLE_ENDIAN).put((byte) 0).putDouble(-Math.PI).array();
+        assertEquals(-Math.PI, this.valueDecoder.decodeAsDouble(double8, 1, 8, f));
+
+        assertThrows(DataReadException.class, () -> {
+            this.valueDecoder.decodeAsDouble(double8, 0, 2, f);
+        });
+    }
+
 }
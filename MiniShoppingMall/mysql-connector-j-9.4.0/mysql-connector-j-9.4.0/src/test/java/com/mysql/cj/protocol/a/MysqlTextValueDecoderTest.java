@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 import com.mysql.cj.Constants;
+import com.mysql.cj.MysqlType;
 import com.mysql.cj.conf.DefaultPropertySet;
 import com.mysql.cj.exceptions.NumberOutOfRange;
 import com.mysql.cj.protocol.InternalTime;
@@ -121,6 +122,40 @@ public class MysqlTextValueDecoderTest {
         assertEquals("18223372036854775807", this.valueDecoder.decodeUInt8(uint8MoreThanMaxLong2, 0, uint8MoreThanMaxLong2.length, vf));
     }
 
+    @Test
+    public void testDecodeAsLong() {
+        Field f = new Field("test", "test", 63, "US-ASCII", MysqlType.INT, 11);
+        assertEquals(0L, this.valueDecoder.decodeAsLong("0".getBytes(), 0, 1, f));
+        assertEquals(-42L, this.valueDecoder.decodeAsLong("x-42".getBytes(), 1, 3, f));
+        assertEquals(Long.MIN_VALUE, this.valueDecoder.decodeAsLong(String.valueOf(Long.MIN_VALUE).getBytes(), 0, 20, f));
+        assertEquals(Long.MAX_VALUE, this.valueDecoder.decodeAsLong(String.valueOf(Long.MAX_VALUE).getBytes(), 0, 19, f));
+
+        assertThrows(NumberOutOfRange.class, () -> {
+            this.valueDecoder.decodeAsLong("18223372036854775807".getBytes(), 0, 20, f);
+        }, "Exception should be thrown for decodeAsLong(Long.MAX_VALUE + 1)");
+    }
+
+    @Test
+    public void testDecodeAsDouble() {
+        Field f = new Field("test", "test", 63, "US-ASCII", MysqlType.DOUBLE, 22);
+        // every value must be rounded exactly as Double.parseDouble() does, including the ones that take the String fallback
+        String[] values = new String[] { "0", "-0", "0.0", "1", "-1", "1.5", "0.1", "0.05", "3.14159", "-2.718281828", "123456789012345",
+                "1234567890123456", "12345678901234567890", "0.000001234", "1e10", "1E-10", "-1.5e+300", "4.9e-324", "1.7976931348623157e308", "1e22",
+                "1e23", "9007199254740993", "0.30000000000000004", "100.", ".25", "1e0", "0e999", "2.5e-7", "99999.99" };
+        for (String v : values) {
+            byte[] bytes = ("x" + v).getBytes();
+            assertEquals(Double.doubleToLongBits(Double.parseDouble(v)), Double.doubleToLongBits(this.valueDecoder.decodeAsDouble(bytes, 1, v.length(), f)),
+                    v);
+        }
+
+        assertThrows(NumberFormatException.class, () -> {
+            this.valueDecoder.decodeAsDouble("1e".getBytes(), 0, 2, f);
+        });
+        assertThrows(NumberFormatException.class, () -> {
+            this.valueDecoder.decodeAsDouble("abc".getBytes(), 0, 3, f);
+        });
+    }
+
     @Test
     public void testIsTime() {
         assertTrue(MysqlTextValueDecoder.isTime("10:00:00"));
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PacketBufferPool}.
+ */
+public class PacketBufferPoolTest {
+
+    @Test
+    public void sizeClasses() {
+        assertEquals(PacketBufferPool.MIN_SIZE_CLASS, PacketBufferPool.sizeClassFor(1));
+        assertEquals(PacketBufferPool.MIN_SIZE_CLASS, PacketBufferPool.sizeClassFor(PacketBufferPool.MIN_SIZE_CLASS));
+        assertEquals(2 * PacketBufferPool.MIN_SIZE_CLASS, PacketBufferPool.sizeClassFor(PacketBufferPool.MIN_SIZE_CLASS + 1));
+        assertEquals(NativeConstants.MAX_PACKET_SIZE + 1, PacketBufferPool.sizeClassFor(NativeConstants.MAX_PACKET_SIZE));
+        assertEquals(PacketBufferPool.MAX_SIZE_CLASS, PacketBufferPool.sizeClassFor(PacketBufferPool.MAX_SIZE_CLASS));
+        assertEquals(PacketBufferPool.MAX_SIZE_CLASS + 1, PacketBufferPool.sizeClassFor(PacketBufferPool.MAX_SIZE_CLASS + 1));
+    }
+
+    @Test
+    public void cappedSizeClasses() {
+        assertEquals(32768, PacketBufferPool.sizeClassFor(20000, 65536));
+        assertEquals(32768, PacketBufferPool.sizeClassFor(20000, 32768));
+        assertEquals(25000, PacketBufferPool.sizeClassFor(20000, 25000));
+        assertEquals(20000, PacketBufferPool.sizeClassFor(20000, 1024), "never shorter than the required length");
+        assertEquals(NativeConstants.MAX_PACKET_SIZE + 10,
+                PacketBufferPool.sizeClassFor(NativeConstants.MAX_PACKET_SIZE + 10, NativeConstants.MAX_PACKET_SIZE + 10));
+
+        PacketBufferPool pool = new PacketBufferPool();
+        byte[] buf = pool.acquire(20000, 25000);
+        assertEquals(25000, buf.length);
+        assertFalse(pool.release(buf), "not a size class");
+
+        NativePacketPayload packet = new NativePacketPayload(new byte[100]);
+        pool.ensureCapacity(packet, 40000, 100, 50000);
+        assertEquals(50000, packet.getCapacity());
+    }
+
+    @Test
+    public void releasedBuffersAreReused() {
+        PacketBufferPool pool = new PacketBufferPool();
+        byte[] buf = pool.acquire(20000);
+        assertEquals(32768, buf.length);
+        assertEquals(0, pool.getRetainedBytes());
+
+        assertTrue(pool.release(buf));
+        assertEquals(32768, pool.getRetainedBytes());
+        assertSame(buf, pool.acquire(30000));
+        assertEquals(0, pool.getRetainedBytes());
+
+        // empty size class
+        assertNotSame(buf, pool.acquire(30000));
+    }
+
+    @Test
+    public void releaseLimits() {
+        PacketBufferPool pool = new PacketBufferPool(3 * 32768);
+        assertFalse(pool.release(null));
+        assertFalse(pool.release(new byte[1024]), "smaller than the smallest size class");
+        assertFalse(pool.release(new byte[20000]), "not a size class");
+
+        assertTrue(pool.release(new byte[32768]));
+        assertTrue(pool.release(new byte[32768]));
+        assertFalse(pool.release(new byte[32768]), "size class already full");
+        assertEquals(2 * 32768, pool.getRetainedBytes());
+
+        assertTrue(pool.release(new byte[16384]));
+        assertFalse(pool.release(new byte[65536]), "over the retained bytes limit");
+        assertEquals(2 * 32768 + 16384, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void ensureCapacity() {
+        PacketBufferPool pool = new PacketBufferPool();
+        NativePacketPayload packet = new NativePacketPayload(new byte[100]);
+        for (int i = 0; i < 100; i++) {
+            packet.getByteBuffer()[i] = (byte) i;
+        }
+
+        // big enough, nothing changes
+        byte[] old = packet.getByteBuffer();
+        pool.ensureCapacity(packet, 100, 100);
+        assertSame(old, packet.getByteBuffer());
+
+        pool.ensureCapacity(packet, 20000, 100);
+        assertEquals(32768, packet.getCapacity());
+        for (int i = 0; i < 100; i++) {
+            assertEquals((byte) i, packet.getByteBuffer()[i]);
+        }
+        assertEquals(0, pool.getRetainedBytes(), "the initial buffer is not a size class");
+
+        // the outgrown pooled buffer goes back to the pool
+        old = packet.getByteBuffer();
+        pool.ensureCapacity(packet, 40000, 0);
+        assertEquals(65536, packet.getCapacity());
+        assertEquals(32768, pool.getRetainedBytes());
+        assertSame(old, pool.acquire(32768));
+    }
+
+    @Test
+    public void trim() {
+        PacketBufferPool pool = new PacketBufferPool();
+        pool.release(new byte[16384]);
+        pool.release(new byte[1 << 20]);
+        pool.release(new byte[1 << 21]);
+        pool.release(new byte[1 << 21]);
+        assertEquals(16384 + (1 << 20) + 2 * (1 << 21), pool.getRetainedBytes());
+
+        pool.trim(1 << 20);
+        assertEquals(16384 + (1 << 20), pool.getRetainedBytes());
+        assertEquals(1 << 21, pool.acquire((1 << 20) + 1).length);
+        assertEquals(16384 + (1 << 20), pool.getRetainedBytes());
+
+        pool.trim(0);
+        assertEquals(0, pool.getRetainedBytes());
+    }
+
+}
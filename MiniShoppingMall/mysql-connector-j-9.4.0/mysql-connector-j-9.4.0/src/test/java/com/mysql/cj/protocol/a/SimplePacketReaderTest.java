@@ -21,6 +21,7 @@
 package com.mysql.cj.protocol.a;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -212,6 +213,84 @@ public class SimplePacketReaderTest {
         }
     }
 
+    // reused packets outgrowing their buffer take the next size class from the pool and give the old buffer back
+    @Test
+    public void pooledGrowthOfReusedPacket() throws IOException {
+        int[] packetLengths = { 100, 20000, 40000, 30000 };
+        ByteBuffer buffer = ByteBuffer.allocate(4 * NativeConstants.HEADER_LENGTH + 90100);
+        for (int i = 0; i < packetLengths.length; ++i) {
+            buffer.put((byte) packetLengths[i]);
+            buffer.put((byte) (packetLengths[i] >>> 8));
+            buffer.put((byte) 0);
+            buffer.put((byte) i);
+            for (int j = 0; j < packetLengths[i]; ++j) {
+                buffer.put((byte) i);
+            }
+        }
+
+        RuntimeProperty<Integer> maxAllowedPacket = new JdbcPropertySetImpl().getProperty(PropertyKey.maxAllowedPacket);
+        maxAllowedPacket.setValue(1 << 20);
+        PacketBufferPool pool = new PacketBufferPool();
+        MessageReader<NativePacketHeader, NativePacketPayload> reader = new SimplePacketReader(new FixedBufferSocketConnection(buffer.array()),
+                maxAllowedPacket, pool);
+        NativePacketPayload readBuffer = new NativePacketPayload(1024);
+        int[] capacities = { 1024, 32768, 65536, 65536 };
+        NativePacketHeader firstHdr = null;
+        for (int i = 0; i < packetLengths.length; ++i) {
+            NativePacketHeader hdr = reader.readHeader();
+            if (firstHdr == null) {
+                firstHdr = hdr;
+            }
+            assertSame(firstHdr, hdr, "header instance should be reused");
+            assertEquals(packetLengths[i], hdr.getMessageSize());
+            assertSame(readBuffer, reader.readMessage(Optional.of(readBuffer), hdr));
+            assertEquals(capacities[i], readBuffer.getCapacity());
+            assertEquals(packetLengths[i], readBuffer.getPayloadLength());
+            assertEquals(i, readBuffer.getByteBuffer()[packetLengths[i] - 1]);
+        }
+        // the 32K buffer outgrown by the third packet
+        assertEquals(32768, pool.getRetainedBytes());
+    }
+
+    // a row split into a max-size packet and a continuation is reassembled into the reused packet, which is not rounded up beyond maxAllowedPacket
+    @Test
+    public void pooledMultiPacketRead() throws IOException {
+        int continuationLength = 10;
+        ByteBuffer buffer = ByteBuffer.allocate(2 * NativeConstants.HEADER_LENGTH + NativeConstants.MAX_PACKET_SIZE + continuationLength);
+        buffer.put(new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff, 0 });
+        buffer.put(NativeConstants.MAX_PACKET_SIZE - 1, (byte) 1);
+        buffer.position(NativeConstants.HEADER_LENGTH + NativeConstants.MAX_PACKET_SIZE);
+        buffer.put(new byte[] { (byte) continuationLength, 0, 0, 1 });
+        for (int j = 0; j < continuationLength; ++j) {
+            buffer.put((byte) 2);
+        }
+
+        RuntimeProperty<Integer> maxAllowedPacket = new JdbcPropertySetImpl().getProperty(PropertyKey.maxAllowedPacket);
+        int maxAllowedPacketLength = 20 << 20;
+        maxAllowedPacket.setValue(maxAllowedPacketLength);
+        PacketBufferPool pool = new PacketBufferPool();
+        MessageReader<NativePacketHeader, NativePacketPayload> reader = new MultiPacketReader(
+                new SimplePacketReader(new FixedBufferSocketConnection(buffer.array()), maxAllowedPacket, pool), pool, maxAllowedPacket);
+        NativePacketPayload readBuffer = new NativePacketPayload(1024);
+        NativePacketHeader hdr = reader.readHeader();
+        byte sequence = hdr.getMessageSequence();
+        assertSame(readBuffer, reader.readMessage(Optional.of(readBuffer), hdr));
+
+        // the header instance was refilled with the continuation header, so the first packet's sequence must be taken before reading the message
+        assertEquals(0, sequence);
+        assertEquals(1, hdr.getMessageSequence());
+
+        assertEquals(NativeConstants.MAX_PACKET_SIZE + continuationLength, readBuffer.getPayloadLength());
+        // the next size class would be 32M
+        assertEquals(maxAllowedPacketLength, readBuffer.getCapacity());
+        assertEquals(0, readBuffer.getPosition());
+        assertEquals(1, readBuffer.getByteBuffer()[NativeConstants.MAX_PACKET_SIZE - 1 - NativeConstants.HEADER_LENGTH]);
+        assertEquals(2, readBuffer.getByteBuffer()[NativeConstants.MAX_PACKET_SIZE]);
+        assertEquals(2, readBuffer.getByteBuffer()[NativeConstants.MAX_PACKET_SIZE + continuationLength - 1]);
+        // the continuation packet buffer and the outgrown first packet buffer went back to the pool
+        assertEquals(PacketBufferPool.MIN_SIZE_CLASS + NativeConstants.MAX_PACKET_SIZE + 1, pool.getRetainedBytes());
+    }
+
     // TODO any boundary conditions or large packet issues?
 
     public static class FixedBufferSocketConnection extends MockSocketConnection {
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.util.LazyString;
+
+/**
+ * Tests for {@link ColumnNameIndex} and its use in {@link DefaultColumnDefinition}.
+ */
+public class ColumnNameIndexTest {
+
+    private static Field field(String table, String label, String name) {
+        return new Field(new LazyString("db"), new LazyString(table), new LazyString(table), new LazyString(label), new LazyString(name), 11,
+                MysqlType.FIELD_TYPE_LONG, (short) 0, 0, 63, "US-ASCII", MysqlType.INT);
+    }
+
+    @Test
+    public void testLookup() {
+        Field[] fields = new Field[] { field("sd", "ProductID", "ProductID"), field("sd", "name", "ProductName"), field("sd", "Price", "Price"),
+                field("sc", "productid", "ProductID"), field("sc", "QTY", "Quantity") };
+        ColumnNameIndex index = new ColumnNameIndex(fields);
+
+        assertEquals(0, index.indexOf("ProductID", false));
+        assertEquals(2, index.indexOf("price", false));
+        assertEquals(2, index.indexOf("PRICE", false));
+        assertEquals(4, index.indexOf("Qty", false));
+        assertEquals(1, index.indexOf("name", false));
+
+        // the first matching column wins, whatever the spelling
+        assertEquals(0, index.indexOf("productid", false));
+        assertEquals(0, index.indexOf("PRODUCTID", false));
+
+        // original column names only when asked for, after labels
+        assertEquals(-1, index.indexOf("ProductName", false));
+        assertEquals(1, index.indexOf("productname", true));
+        assertEquals(4, index.indexOf("quantity", true));
+        assertEquals(1, index.indexOf("name", true));
+
+        // fully-qualified names
+        assertEquals(4, index.indexOf("sc.qty", false));
+        assertEquals(3, index.indexOf("SC.ProductID", false));
+
+        assertEquals(-1, index.indexOf("missing", true));
+        assertEquals(-1, index.indexOf("", true));
+    }
+
+    @Test
+    public void testManyColumns() {
+        Field[] fields = new Field[500];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = field("t", "Col_" + i, "c" + i);
+        }
+        ColumnNameIndex index = new ColumnNameIndex(fields);
+        for (int i = 0; i < fields.length; i++) {
+            assertEquals(i, index.indexOf("Col_" + i, false));
+            assertEquals(i, index.indexOf("COL_" + i, false));
+            assertEquals(i, index.indexOf("C" + i, true));
+            assertEquals(i, index.indexOf("t.col_" + i, false));
+        }
+        assertEquals(-1, index.indexOf("Col_500", true));
+        assertEquals(-1, new ColumnNameIndex(new Field[0]).indexOf("any", true));
+    }
+
+    @Test
+    public void testOtherSpellings() {
+        Field[] fields = new Field[] { field("t", "a", "a"), field("t", "A", "A"), field("t", "ProductName", "ProductName") };
+        ColumnNameIndex index = new ColumnNameIndex(fields);
+
+        // every spelling is looked up repeatedly, more spellings than are remembered
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            char[] chars = "productname".toCharArray();
+            for (int j = 0; j < chars.length; j++) {
+                if (random.nextBoolean()) {
+                    chars[j] = Character.toUpperCase(chars[j]);
+                }
+            }
+            String spelling = new String(chars);
+            assertEquals(2, index.indexOf(spelling, false), spelling);
+            assertEquals(2, index.indexOf(spelling, false), spelling);
+            // "A" and "t.A" match the first column "a" case-insensitively
+            assertEquals(0, index.indexOf(i % 2 == 0 ? "A" : "t.A", false));
+        }
+        assertEquals(0, index.indexOf("a", false));
+        assertEquals(-1, index.indexOf("ProductNam", false));
+        assertEquals(-1, index.indexOf("ProductNamee", false));
+    }
+
+    @Test
+    public void testColumnDefinition() {
+        Field[] fields = new Field[] { field("t", "id", "id"), field("t", "total", "amount") };
+        DefaultColumnDefinition cdef = new DefaultColumnDefinition(fields);
+        assertFalse(cdef.hasBuiltIndexMapping());
+        assertEquals(2, cdef.findColumn("TOTAL", false, 1));
+        assertEquals(2, cdef.findColumn("amount", true, 1));
+        assertEquals(-1, cdef.findColumn("amount", false, 1));
+        assertTrue(cdef.hasBuiltIndexMapping());
+
+        // the index is shared through the cached metadata
+        DefaultColumnDefinition cached = new DefaultColumnDefinition();
+        cdef.exportTo(cached);
+        assertSame(fields, cached.getFields());
+        assertSame(cdef.getColumnNameIndex(), cached.getColumnNameIndex());
+
+        DefaultColumnDefinition next = new DefaultColumnDefinition(new Field[] { field("t", "id", "id"), field("t", "total", "amount") });
+        next.initializeFrom(cached);
+        assertSame(cdef.getColumnNameIndex(), next.getColumnNameIndex());
+        assertEquals(0, next.findColumn("ID", false, 0));
+
+        // new fields need a new index
+        next.setFields(new Field[] { field("t", "other", "other") });
+        assertNull(next.getColumnNameIndex());
+        assertEquals(0, next.findColumn("OTHER", false, 0));
+        assertNotNull(next.getColumnNameIndex());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedMapAccessors() {
+        Field[] fields = new Field[] { field("t", "id", "id"), field("t", "ID", "other"), field("t", "total", "amount") };
+        ColumnDefinition cdef = new DefaultColumnDefinition(fields);
+
+        Map<String, Integer> labels = cdef.getColumnLabelToIndex();
+        assertEquals(2, labels.size());
+        assertEquals(0, labels.get("Id").intValue());
+        assertEquals(2, labels.get("TOTAL").intValue());
+        assertEquals(2, cdef.getColumnNameToIndex().get("AMOUNT").intValue());
+        assertEquals(2, cdef.getFullColumnNameToIndex().get("T.TOTAL").intValue());
+        assertTrue(cdef.getColumnToIndexCache().isEmpty());
+
+        // the setters are ignored, lookups still use the fields
+        cdef.setColumnLabelToIndex(labels);
+        labels.put("total", 0);
+        assertEquals(3, cdef.findColumn("total", false, 1));
+    }
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TimingWheel}.
+ */
+public class TimingWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+
+    private long nowNanos = 0;
+
+    private TimingWheel newWheel() {
+        return new TimingWheel(null, TICK_MILLIS, Runnable::run, () -> this.nowNanos);
+    }
+
+    private void advance(TimingWheel wheel, long millis) {
+        this.nowNanos += TimeUnit.MILLISECONDS.toNanos(millis);
+        wheel.expireTimeouts();
+    }
+
+    private class RecordingTimeout extends TimingWheel.Timeout {
+
+        final long scheduledAtNanos = TimingWheelTest.this.nowNanos;
+        long ranAtNanos = -1;
+
+        @Override
+        public void run() {
+            assertEquals(-1, this.ranAtNanos, "Timeout ran twice");
+            this.ranAtNanos = TimingWheelTest.this.nowNanos;
+        }
+
+        long ranAfterMillis() {
+            return this.ranAtNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(this.ranAtNanos - this.scheduledAtNanos);
+        }
+
+    }
+
+    @Test
+    public void testExpiresAfterDelay() {
+        TimingWheel wheel = newWheel();
+        RecordingTimeout t = new RecordingTimeout();
+        wheel.schedule(t, 100);
+        assertTrue(t.isPending());
+        assertEquals(1, wheel.getPendingCount());
+
+        advance(wheel, 99);
+        assertEquals(-1, t.ranAfterMillis());
+        while (t.ranAfterMillis() < 0) {
+            advance(wheel, 1);
+        }
+        assertTrue(t.ranAfterMillis() >= 100 && t.ranAfterMillis() < 100 + 2 * TICK_MILLIS, "Ran after " + t.ranAfterMillis() + " ms");
+        assertFalse(t.isPending());
+        assertEquals(0, wheel.getPendingCount());
+        assertEquals(-1, wheel.expireTimeouts());
+
+        // can be scheduled again once expired
+        RecordingTimeout zero = new RecordingTimeout();
+        wheel.schedule(zero, 0);
+        advance(wheel, 2 * TICK_MILLIS);
+        assertTrue(zero.ranAfterMillis() >= 0);
+    }
+
+    @Test
+    public void testCancel() {
+        TimingWheel wheel = newWheel();
+        RecordingTimeout cancelled = new RecordingTimeout();
+        RecordingTimeout kept = new RecordingTimeout();
+        wheel.schedule(cancelled, 50);
+        wheel.schedule(kept, 50);
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(kept, 10));
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertFalse(cancelled.isPending());
+        assertEquals(1, wheel.getPendingCount());
+
+        advance(wheel, 100);
+        assertEquals(-1, cancelled.ranAfterMillis());
+        assertTrue(kept.ranAfterMillis() >= 50);
+        assertFalse(kept.cancel(), "Expired timeout can't be cancelled");
+        assertFalse(new RecordingTimeout().cancel(), "Timeout that was never scheduled can't be cancelled");
+    }
+
+    @Test
+    public void testLongDelaysAreCascaded() {
+        TimingWheel wheel = newWheel();
+        // one delay for every wheel level, plus one longer than the wheels can hold
+        long[] delays = new long[] { 1500, 90_000, TimeUnit.HOURS.toMillis(2), TimeUnit.DAYS.toMillis(5), TimeUnit.DAYS.toMillis(12) };
+        List<RecordingTimeout> timeouts = new ArrayList<>();
+        for (long delay : delays) {
+            RecordingTimeout t = new RecordingTimeout();
+            wheel.schedule(t, delay);
+            timeouts.add(t);
+        }
+
+        for (int i = 0; i < delays.length; i++) {
+            RecordingTimeout t = timeouts.get(i);
+            long untilDue = delays[i] - TimeUnit.NANOSECONDS.toMillis(this.nowNanos - t.scheduledAtNanos);
+            advance(wheel, untilDue - 1);
+            assertEquals(-1, t.ranAfterMillis(), "Delay " + delays[i] + " expired early");
+            advance(wheel, 2 * TICK_MILLIS);
+            assertTrue(t.ranAfterMillis() >= delays[i] && t.ranAfterMillis() < delays[i] + 2 * TICK_MILLIS,
+                    "Delay " + delays[i] + " ran after " + t.ranAfterMillis() + " ms");
+            assertEquals(delays.length - i - 1, wheel.getPendingCount());
+        }
+    }
+
+    @Test
+    public void testRandomSchedule() {
+        TimingWheel wheel = newWheel();
+        Random random = new Random(42);
+        List<RecordingTimeout> timeouts = new ArrayList<>();
+        List<Long> delays = new ArrayList<>();
+        List<Boolean> cancelled = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            for (int i = random.nextInt(4); i > 0; i--) {
+                long delay = random.nextInt(4) == 0 ? random.nextInt(600_000) : random.nextInt(5000);
+                RecordingTimeout t = new RecordingTimeout();
+                wheel.schedule(t, delay);
+                timeouts.add(t);
+                delays.add(delay);
+                cancelled.add(false);
+            }
+            if (!timeouts.isEmpty() && random.nextInt(3) == 0) {
+                int victim = random.nextInt(timeouts.size());
+                if (timeouts.get(victim).cancel()) {
+                    cancelled.set(victim, true);
+                }
+            }
+            advance(wheel, random.nextInt(400));
+        }
+        advance(wheel, 700_000);
+
+        assertEquals(0, wheel.getPendingCount());
+        for (int i = 0; i < timeouts.size(); i++) {
+            long ran = timeouts.get(i).ranAfterMillis();
+            if (cancelled.get(i)) {
+                assertEquals(-1, ran);
+            } else {
+                // expired within the advance() call that first reached the deadline
+                assertTrue(ran >= delays.get(i), "Delay " + delays.get(i) + " ran after " + ran + " ms");
+            }
+        }
+    }
+
+    @Test
+    public void testTimerThread() throws Exception {
+        TimingWheel wheel = new TimingWheel("TimingWheelTest timer", TICK_MILLIS, Runnable::run);
+        CountDownLatch expired = new CountDownLatch(2);
+        long start = System.nanoTime();
+        for (long delay : new long[] { 30, 60 }) {
+            wheel.schedule(new TimingWheel.Timeout() {
+
+                @Override
+                public void run() {
+                    expired.countDown();
+                }
+
+            }, delay);
+        }
+        assertTrue(expired.await(10, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(60));
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    public void testTimerThreadRestartsAfterShutdown() throws Exception {
+        TimingWheel wheel = new TimingWheel("TimingWheelTest timer", TICK_MILLIS, Runnable::run);
+        CountDownLatch expired = new CountDownLatch(2);
+        TimingWheel.Timeout early = new TimingWheel.Timeout() {
+
+            @Override
+            public void run() {
+                expired.countDown();
+            }
+
+        };
+        wheel.schedule(early, 200);
+        wheel.shutdown();
+        Thread.sleep(300);
+        // nothing ticks until the next timeout starts a new timer thread
+        assertEquals(1, wheel.getPendingCount());
+
+        wheel.schedule(new TimingWheel.Timeout() {
+
+            @Override
+            public void run() {
+                expired.countDown();
+            }
+
+        }, 30);
+        assertTrue(expired.await(10, TimeUnit.SECONDS));
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    public void testFailingTimeoutDoesNotStopTimer() throws Exception {
+        TimingWheel wheel = new TimingWheel("TimingWheelTest timer", TICK_MILLIS, Runnable::run);
+        CountDownLatch expired = new CountDownLatch(3);
+        for (int i = 0; i < 2; i++) {
+            wheel.schedule(new TimingWheel.Timeout() {
+
+                @Override
+                public void run() {
+                    expired.countDown();
+                    throw new IllegalStateException("expected by the test");
+                }
+
+            }, 30);
+        }
+        wheel.schedule(new TimingWheel.Timeout() {
+
+            @Override
+            public void run() {
+                expired.countDown();
+            }
+
+        }, 100);
+        // the later timeout still runs on the same timer thread
+        assertTrue(expired.await(10, TimeUnit.SECONDS));
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+}
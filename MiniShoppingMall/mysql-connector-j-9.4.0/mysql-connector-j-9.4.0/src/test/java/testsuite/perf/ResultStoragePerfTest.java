@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package testsuite.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.PropertyDefinitions.SslMode;
+import com.mysql.cj.conf.PropertyKey;
+
+import testsuite.BaseTestCase;
+
+/**
+ * Compares the heap retained by fully buffered result sets stored as a list of rows and with 'useColumnarResultStorage=true'.
+ */
+public class ResultStoragePerfTest extends BaseTestCase {
+
+    private static final int NUM_ROWS = 200000;
+
+    private static final int NUM_COLUMNS = 10;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createTable("resultStoragePerfTest", "(id INT NOT NULL PRIMARY KEY, i1 INT, i2 INT, i3 BIGINT, d1 DOUBLE, s1 VARCHAR(32), s2 VARCHAR(32), "
+                + "s3 VARCHAR(32), s4 VARCHAR(32), s5 VARCHAR(32))");
+        this.stmt.executeUpdate("INSERT INTO resultStoragePerfTest VALUES (0, 0, 0, 0, 0.5, 's1-0', 's2-0', 's3-0', 's4-0', 's5-0')");
+        for (int rows = 1; rows < NUM_ROWS; rows *= 2) {
+            this.stmt.executeUpdate("INSERT INTO resultStoragePerfTest SELECT id + " + rows + ", i1 + 1, i2 * 2, i3 + id, d1 * 1.5, "
+                    + "CONCAT('s1-', id), CONCAT('s2-', id), CONCAT('s3-', id), CONCAT('s4-', id), CONCAT('s5-', id) FROM resultStoragePerfTest WHERE id + "
+                    + rows + " < " + NUM_ROWS);
+        }
+    }
+
+    /**
+     * Tests the heap retained by a large text protocol result.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRetainedHeapText() throws Exception {
+        long rowsBytes = measure(false, false);
+        long columnarBytes = measure(true, false);
+        assertTrue(columnarBytes < rowsBytes, "Columnar storage retained " + columnarBytes + " bytes, rows " + rowsBytes + " bytes");
+    }
+
+    /**
+     * Tests the heap retained by a large binary protocol (server-side PreparedStatement) result.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRetainedHeapBinary() throws Exception {
+        long rowsBytes = measure(false, true);
+        long columnarBytes = measure(true, true);
+        assertTrue(columnarBytes < rowsBytes, "Columnar storage retained " + columnarBytes + " bytes, rows " + rowsBytes + " bytes");
+    }
+
+    private long measure(boolean columnar, boolean serverPrepStmts) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.toString());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useColumnarResultStorage.getKeyName(), String.valueOf(columnar));
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), String.valueOf(serverPrepStmts));
+
+        try (Connection testConn = getConnectionWithProps(props)) {
+            long heapBefore = usedHeap();
+            long queryBegin = System.currentTimeMillis();
+
+            Statement testStmt;
+            ResultSet testRs;
+            if (serverPrepStmts) {
+                PreparedStatement pstmt = testConn.prepareStatement("SELECT * FROM resultStoragePerfTest WHERE id >= ?");
+                pstmt.setInt(1, 0);
+                testStmt = pstmt;
+                testRs = pstmt.executeQuery();
+            } else {
+                testStmt = testConn.createStatement();
+                testRs = testStmt.executeQuery("SELECT * FROM resultStoragePerfTest");
+            }
+            long queryEnd = System.currentTimeMillis();
+            long retained = usedHeap() - heapBefore;
+
+            long traverseBegin = System.currentTimeMillis();
+            int rows = 0;
+            long checksum = 0;
+            while (testRs.next()) {
+                checksum += testRs.getInt(1) + testRs.getLong(4);
+                for (int i = 6; i <= NUM_COLUMNS; i++) {
+                    checksum += testRs.getString(i).length();
+                }
+                rows++;
+            }
+            long traverseEnd = System.currentTimeMillis();
+            assertEquals(NUM_ROWS, rows);
+
+            System.out.println("\n" + (columnar ? "Columnar" : "Row") + " storage, " + (serverPrepStmts ? "binary" : "text") + " protocol\n");
+            System.out.println("Retained heap: " + retained / 1024 + " KiB (" + retained / NUM_ROWS + " bytes/row)");
+            System.out.println("Query Exec Time: " + (queryEnd - queryBegin) + " ms");
+            System.out.println("Traversal Time: " + (traverseEnd - traverseBegin) + " ms (checksum " + checksum + ")");
+
+            testRs.close();
+            testStmt.close();
+            return retained;
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package testsuite.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.NativeSession;
+import com.mysql.cj.conf.PropertyDefinitions.SslMode;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.protocol.a.NativeProtocol;
+
+import testsuite.BaseTestCase;
+
+/**
+ * Reports the memory allocated and the garbage collections caused by large streaming reads, whose row packets are read into the protocol's reusable packet
+ * and grown with buffers from its packet buffer pool.
+ */
+public class StreamingReadPerfTest extends BaseTestCase {
+
+    private static final int NUM_ROWS = 200000;
+
+    private static final int NUM_LARGE_ROWS = 400;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createTable("streamingReadPerfTest", "(id INT NOT NULL PRIMARY KEY, i1 INT, i2 BIGINT, d1 DOUBLE)");
+        this.stmt.executeUpdate("INSERT INTO streamingReadPerfTest VALUES (0, 0, 0, 0.5)");
+        for (int rows = 1; rows < NUM_ROWS; rows *= 2) {
+            this.stmt.executeUpdate("INSERT INTO streamingReadPerfTest SELECT id + " + rows + ", i1 + 1, i2 + id, d1 * 1.5 FROM streamingReadPerfTest WHERE id + "
+                    + rows + " < " + NUM_ROWS);
+        }
+
+        // rows of 1 KiB up to about 2 MiB, in increasing size
+        createTable("streamingReadPerfTestLarge", "(id INT NOT NULL PRIMARY KEY, b LONGBLOB)");
+        for (int i = 0; i < NUM_LARGE_ROWS; i++) {
+            this.stmt.executeUpdate("INSERT INTO streamingReadPerfTestLarge VALUES (" + i + ", REPEAT('x', " + (1024 + i * 5000) + "))");
+        }
+    }
+
+    /**
+     * Tests a streaming read of many small rows.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testStreamingSmallRows() throws Exception {
+        try (Connection testConn = getStreamingConnection(); Statement testStmt = createStreamingStatement(testConn)) {
+            long[] before = snapshot();
+            ResultSet testRs = testStmt.executeQuery("SELECT * FROM streamingReadPerfTest");
+            int rows = 0;
+            long checksum = 0;
+            while (testRs.next()) {
+                checksum += testRs.getInt(1) + testRs.getInt(2) + testRs.getLong(3) + (long) testRs.getDouble(4);
+                rows++;
+            }
+            testRs.close();
+            report("Small rows", before, rows, checksum);
+            assertEquals(NUM_ROWS, rows);
+        }
+    }
+
+    /**
+     * Tests a streaming read of rows growing up to about 2 MiB, and that the connection doesn't hold on to the large buffers afterwards.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testStreamingLargeRows() throws Exception {
+        try (Connection testConn = getStreamingConnection(); Statement testStmt = createStreamingStatement(testConn)) {
+            long[] before = snapshot();
+            ResultSet testRs = testStmt.executeQuery("SELECT * FROM streamingReadPerfTestLarge ORDER BY id");
+            int rows = 0;
+            long checksum = 0;
+            while (testRs.next()) {
+                checksum += testRs.getInt(1) + testRs.getBlob(2).length();
+                rows++;
+            }
+            testRs.close();
+            report("Large rows", before, rows, checksum);
+            assertEquals(NUM_LARGE_ROWS, rows);
+
+            NativeProtocol protocol = ((NativeSession) ((JdbcConnection) testConn).getSession()).getProtocol();
+            assertTrue(protocol.getReusablePacket().getCapacity() <= 1048576);
+            assertTrue(protocol.getPacketBufferPool().getRetainedBytes() <= 2 * 1048576);
+        }
+    }
+
+    private Connection getStreamingConnection() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.toString());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        return getConnectionWithProps(props);
+    }
+
+    private static Statement createStreamingStatement(Connection testConn) throws Exception {
+        Statement testStmt = testConn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        testStmt.setFetchSize(Integer.MIN_VALUE);
+        return testStmt;
+    }
+
+    private static long[] snapshot() {
+        long collections = 0;
+        long collectionTime = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections += Math.max(0, gc.getCollectionCount());
+            collectionTime += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[] { allocatedBytes(), collections, collectionTime, System.currentTimeMillis() };
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static void report(String name, long[] before, int rows, long checksum) {
+        long[] after = snapshot();
+        System.out.println("\n" + name + ", " + rows + " rows\n");
+        if (before[0] >= 0) {
+            System.out.println("Allocated: " + (after[0] - before[0]) / 1024 + " KiB (" + (after[0] - before[0]) / rows + " bytes/row)");
+        }
+        System.out.println("GC: " + (after[1] - before[1]) + " collections, " + (after[2] - before[2]) + " ms");
+        System.out.println("Read Time: " + (after[3] - before[3]) + " ms (checksum " + checksum + ")");
+    }
+
+}
@@ -1,448 +1,240 @@
 import java.sql.*;
+import java.util.Arrays;
 import java.util.Scanner;
 
 /**
  * ===========================================
- * 
+ *
  * 주요 기능:
  * - 장바구니 상품 구매 처리
  * - 전체 구매 (장바구니의 모든 상품 구매)
  * - 선택 구매 (특정 상품만 선택하여 구매)
  * - 구매 시 충전액 차감 및 잔액 확인
  * - 구매 완료 후 장바구니에서 상품 제거
- * - 안전한 트랜잭션 처리
- * 
+ * - 안전한 트랜잭션 처리 (CheckoutEngine의 집합 기반 구매 처리 사용)
+ *
  * 포함된 메소드:
- * - purchaseAll(): 전체 구매 (충전액 차감, 장바구니 비우기)
+ * - purchaseAll(): 전체 구매 (충전액 차감, 장바구니 비우기) - 다음 화면 반환
  * - purchaseSelected(): 선택 구매 (특정 상품만 구매)
- * 
+ *
  * ===========================================
  */
 public class BuyProductInCart {
-	
-	// 전체 구매 메소드 - 장바구니의 모든 상품을 구매
-	public static void purchaseAll() {
-		Scanner sc = new Scanner(System.in);
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass)) 
+
+	// 전체 구매 메소드 - 장바구니의 모든 상품을 구매 (완료 시 메인 화면, 아니면 장바구니 화면을 반환)
+	public static Screen purchaseAll() {
+		// 구매 처리 중 사용한 연결을 모두 반환한 뒤 다음 화면으로 이동
+		return doPurchaseAll() ? Screen.MAIN : Screen.CART;
+	}
+
+	// 전체 구매 처리 - 구매 완료 시 true (메인 화면으로 이동)
+	private static boolean doPurchaseAll() {
+		Scanner sc = CustomerSession.input();
+		try
 		{
 			// 현재 고객 정보 가져오기
 			int customerId = Login.getCurrentCustomerId();
 			String loginId = Login.getCurrentLoginId();
 			String nickName = Login.getCurrentNickName();
-			
-			// 장바구니 총 금액 계산
-			String cartSql = "SELECT sc.ProductID, sc.ProductName, sc.Quantity, sd.Price " +
-			                 "FROM SHOPCART sc " +
-			                 "JOIN SHOPDATATABLE sd ON sc.ProductID = sd.ProductID AND sc.ProductName = sd.ProductName " +
-			                 "WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ?";
-			
-			try (PreparedStatement cartPstmt = conn.prepareStatement(cartSql)) {
-				cartPstmt.setInt(1, customerId);
-				cartPstmt.setString(2, loginId);
-				cartPstmt.setString(3, nickName);
-				
-				ResultSet cartRs = cartPstmt.executeQuery();
-				int totalAmount = 0;
-				
-				// 총 금액 계산
-				while (cartRs.next()) {
-					int quantity = cartRs.getInt("Quantity");
-					double price = cartRs.getDouble("Price");
-					totalAmount += (int)(price * quantity);
-				}
-				
-				if (totalAmount == 0) {
-					System.out.println("장바구니가 비어있습니다.");
-					ShopCart.CartInfo();
-					return;
-				}
-				
-				// 현재 잔액 확인
-				String balanceSql = "SELECT PayCharge FROM Customer WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
-				try (PreparedStatement balancePstmt = conn.prepareStatement(balanceSql)) {
-					balancePstmt.setInt(1, customerId);
-					balancePstmt.setString(2, loginId);
-					balancePstmt.setString(3, nickName);
-					
-					ResultSet balanceRs = balancePstmt.executeQuery();
-					if (balanceRs.next()) {
-						int currentBalance = (int)balanceRs.getDouble("PayCharge");
-						
-						System.out.println();
-						System.out.println("======= 구매 확인 =======");
-						System.out.println("구매 총액: " + totalAmount + "원");
-						System.out.println("현재 잔액: " + currentBalance + "원");
-						
-						if (currentBalance < totalAmount) {
-							System.out.println("잔액이 부족합니다.");
-							System.out.println("부족한 금액: " + (totalAmount - currentBalance) + "원");
-							System.out.println("=====================");
-							ShopCart.CartInfo();
-							return;
-						}
-						
-						System.out.println("구매 후 잔액: " + (currentBalance - totalAmount) + "원");
-						System.out.println("=====================");
-						System.out.print("정말로 구매하시겠습니까? (y/n): ");
-						
-						String confirm = sc.nextLine().trim();
-						if (confirm.equalsIgnoreCase("y") || confirm.equalsIgnoreCase("yes")) {
-							// 트랜잭션 시작
-							conn.setAutoCommit(false);
-							
-							try {
-								// 재고 확인 및 차감
-								String stockCheckSql = "SELECT sc.ProductID, sc.ProductName, sc.Quantity, sd.StockQuantity " +
-								                      "FROM SHOPCART sc " +
-								                      "JOIN SHOPDATATABLE sd ON sc.ProductID = sd.ProductID AND sc.ProductName = sd.ProductName " +
-								                      "WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ?";
-								
-								try (PreparedStatement stockCheckPstmt = conn.prepareStatement(stockCheckSql)) {
-									stockCheckPstmt.setInt(1, customerId);
-									stockCheckPstmt.setString(2, loginId);
-									stockCheckPstmt.setString(3, nickName);
-									
-									ResultSet stockRs = stockCheckPstmt.executeQuery();
-									
-									// 재고 부족 상품 확인
-									while (stockRs.next()) {
-										int cartQuantity = stockRs.getInt("Quantity");
-										int currentStock = stockRs.getInt("StockQuantity");
-										String productName = stockRs.getString("ProductName");
-										
-										if (currentStock < cartQuantity) {
-											System.out.println("재고 부족으로 구매할 수 없습니다.");
-											System.out.println("상품: " + productName + " (요청: " + cartQuantity + "개, 재고: " + currentStock + "개)");
-											conn.rollback();
-											ShopCart.CartInfo();
-											return;
-										}
-									}
-								}
-								
-								// 재고 차감
-								String stockUpdateSql = "UPDATE SHOPDATATABLE sd " +
-								                       "JOIN SHOPCART sc ON sd.ProductID = sc.ProductID AND sd.ProductName = sc.ProductName " +
-								                       "SET sd.StockQuantity = sd.StockQuantity - sc.Quantity " +
-								                       "WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ?";
-								
-								try (PreparedStatement stockUpdatePstmt = conn.prepareStatement(stockUpdateSql)) {
-									stockUpdatePstmt.setInt(1, customerId);
-									stockUpdatePstmt.setString(2, loginId);
-									stockUpdatePstmt.setString(3, nickName);
-									stockUpdatePstmt.executeUpdate();
-								}
-								
-								// 잔액 차감
-								String updateSql = "UPDATE Customer SET PayCharge = PayCharge - ? WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
-								try (PreparedStatement updatePstmt = conn.prepareStatement(updateSql)) {
-									updatePstmt.setInt(1, totalAmount);
-									updatePstmt.setInt(2, customerId);
-									updatePstmt.setString(3, loginId);
-									updatePstmt.setString(4, nickName);
-									updatePstmt.executeUpdate();
-								}
-								
-								// 장바구니 비우기
-								String clearSql = "DELETE FROM SHOPCART WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
-								try (PreparedStatement clearPstmt = conn.prepareStatement(clearSql)) {
-									clearPstmt.setInt(1, customerId);
-									clearPstmt.setString(2, loginId);
-									clearPstmt.setString(3, nickName);
-									clearPstmt.executeUpdate();
-								}
-								
-								// 트랜잭션 커밋
-								conn.commit();
-								
-								System.out.println();
-								System.out.println("구매가 완료되었습니다!");
-								System.out.println("구매 금액: " + totalAmount + "원");
-								System.out.println("남은 잔액: " + (currentBalance - totalAmount) + "원");
-								System.out.println("감사합니다!");
-								Main.MainInterface();
-								
-							} catch (SQLException e) {
-								// 트랜잭션 롤백
-								conn.rollback();
-								throw e;
-							} finally {
-								conn.setAutoCommit(true);
-							}
-							
-						} else {
-							System.out.println("구매가 취소되었습니다.");
-							ShopCart.CartInfo();
-						}
-					}
-				}
+
+			// 장바구니 상품과 잔액을 한 번에 조회
+			CheckoutEngine.CartSnapshot cart = CheckoutEngine.loadCart(customerId, loginId, nickName);
+
+			// 총 금액 계산
+			int totalAmount = 0;
+			for (CheckoutEngine.CartLine line : cart.lines) {
+				totalAmount += line.getItemTotal();
+			}
+
+			if (totalAmount == 0) {
+				System.out.println("장바구니가 비어있습니다.");
+				return false;
+			}
+
+			int currentBalance = cart.balance;
+			if (!confirmPurchase(sc, totalAmount, currentBalance)) {
+				return false;
+			}
+
+			// 재고 차감, 잔액 차감, 장바구니 비우기를 한 번에 처리
+			CheckoutEngine.Result result = CheckoutEngine.checkout(customerId, loginId, nickName,
+					null, cart.lines.size(), totalAmount);
+			if (!printFailure(result, cart, null)) {
+				return false;
 			}
-			
+
+			System.out.println();
+			System.out.println("구매가 완료되었습니다!");
+			System.out.println("구매 금액: " + totalAmount + "원");
+			System.out.println("남은 잔액: " + (currentBalance - totalAmount) + "원");
+			System.out.println("감사합니다!");
+			return true;
+
 		} catch (SQLException e) {
 			System.out.println("\n데이터베이스 오류가 발생했습니다.");
 			e.printStackTrace();
-		} finally {
-			sc.close();
 		}
-		
-		ShopCart.CartInfo(); // 장바구니 다시 표시
+
+		return false;
 	}
-	
-	// 선택 구매 메소드 - 장바구니에서 특정 상품만 선택하여 구매
+
+	// 선택 구매 메소드 - 장바구니에서 특정 상품만 선택하여 구매 (이후 장바구니를 다시 표시)
 	public static void purchaseSelected() {
-		Scanner sc = new Scanner(System.in);
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass)) 
+		Scanner sc = CustomerSession.input();
+		try
 		{
 			// 현재 고객 정보 가져오기
 			int customerId = Login.getCurrentCustomerId();
 			String loginId = Login.getCurrentLoginId();
 			String nickName = Login.getCurrentNickName();
-			
-			// 장바구니 상품 목록 표시
-			String cartSql = "SELECT sc.ProductID, sc.ProductName, sc.Quantity, sd.Price " +
-			                 "FROM SHOPCART sc " +
-			                 "JOIN SHOPDATATABLE sd ON sc.ProductID = sd.ProductID AND sc.ProductName = sd.ProductName " +
-			                 "WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ? " +
-			                 "ORDER BY sc.ProductName DESC";
-			
-			try (PreparedStatement cartPstmt = conn.prepareStatement(cartSql)) {
-				cartPstmt.setInt(1, customerId);
-				cartPstmt.setString(2, loginId);
-				cartPstmt.setString(3, nickName);
-				
-				ResultSet cartRs = cartPstmt.executeQuery();
-				
-				System.out.println();
-				System.out.println("======= 선택 구매 =======");
-				System.out.println("구매할 상품의 번호를 입력하세요.");
-				System.out.println("여러 상품을 구매하려면 쉼표로 구분하세요. (예: 1,3,5)");
-				System.out.println("=====================");
-				
-				int itemNumber = 1;
-				while (cartRs.next()) {
-					int productId = cartRs.getInt("ProductID");
-					String productName = cartRs.getString("ProductName");
-					int quantity = cartRs.getInt("Quantity");
-					double price = cartRs.getDouble("Price");
-					int itemTotal = (int)(price * quantity);
-					
-					System.out.println("[" + itemNumber + "] ProductID: " + productId);
-					System.out.println("    상품명: " + productName);
-					System.out.println("    단가: " + Math.round(price) + "원");
-					System.out.println("    수량: " + quantity + "개");
-					System.out.println("    소계: " + itemTotal + "원");
-					System.out.println("----------------------");
-					itemNumber++;
-				}
-				
-				System.out.print("구매할 상품의 번호를 입력하세요(취소 : 0 입력): ");
-				String input = sc.nextLine().trim();
-				
-				if (input.equals("0")) {
-					ShopCart.CartInfo();
-					return;
-				}
-				
-				// 입력된 itemNumber들을 파싱
-				String[] itemNumbers = input.split(",");
-				int totalAmount = 0;
-				
-				// 선택된 상품들의 총 금액 계산 및 유효성 검사
-				for (String itemNumberStr : itemNumbers) {
-					try {
-						int selectedItemNumber = Integer.parseInt(itemNumberStr.trim());
-						
-						// itemNumber로 ProductID와 ProductName 찾기
-						Integer productId = ShopCart.getProductIdByItemNumber(selectedItemNumber);
-						String productName = ShopCart.getProductNameByItemNumber(selectedItemNumber);
-						
-						if (productId == null || productName == null) {
-							System.out.println("번호 " + selectedItemNumber + "에 해당하는 상품을 찾을 수 없습니다.");
-							ShopCart.CartInfo();
-							return;
-						}
-						
-						// 해당 상품의 정보 조회
-						String checkSql = "SELECT sc.ProductID, sc.ProductName, sc.Quantity, sd.Price " +
-						                 "FROM SHOPCART sc " +
-						                 "JOIN SHOPDATATABLE sd ON sc.ProductID = sd.ProductID AND sc.ProductName = sd.ProductName " +
-						                 "WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ? AND sc.ProductID = ?";
-						
-						try (PreparedStatement checkPstmt = conn.prepareStatement(checkSql)) {
-							checkPstmt.setInt(1, customerId);
-							checkPstmt.setString(2, loginId);
-							checkPstmt.setString(3, nickName);
-							checkPstmt.setInt(4, productId);
-							
-							ResultSet checkRs = checkPstmt.executeQuery();
-							if (checkRs.next()) {
-								int quantity = checkRs.getInt("Quantity");
-								double price = checkRs.getDouble("Price");
-								totalAmount += (int)(price * quantity);
-							} else {
-								System.out.println("번호 " + selectedItemNumber + "에 해당하는 상품을 찾을 수 없습니다.");
-								ShopCart.CartInfo();
-								return;
-							}
-						}
-					} catch (NumberFormatException e) {
-						System.out.println("올바른 번호를 입력해주세요: " + itemNumberStr);
-						ShopCart.CartInfo();
+
+			// 장바구니 상품과 잔액을 한 번에 조회
+			CheckoutEngine.CartSnapshot cart = CheckoutEngine.loadCart(customerId, loginId, nickName);
+
+			System.out.println();
+			System.out.println("======= 선택 구매 =======");
+			System.out.println("구매할 상품의 번호를 입력하세요.");
+			System.out.println("여러 상품을 구매하려면 쉼표로 구분하세요. (예: 1,3,5)");
+			System.out.println("=====================");
+
+			int itemNumber = 1;
+			for (CheckoutEngine.CartLine line : cart.lines) {
+				System.out.println("[" + itemNumber + "] ProductID: " + line.productId);
+				System.out.println("    상품명: " + line.productName);
+				System.out.println("    단가: " + Math.round(line.price) + "원");
+				System.out.println("    수량: " + line.quantity + "개");
+				System.out.println("    소계: " + line.getItemTotal() + "원");
+				System.out.println("----------------------");
+				itemNumber++;
+			}
+
+			System.out.print("구매할 상품의 번호를 입력하세요(취소 : 0 입력): ");
+			String input = sc.nextLine().trim();
+
+			if (input.equals("0")) {
+				return;
+			}
+
+			// 입력된 itemNumber들을 파싱
+			String[] itemNumbers = input.split(",");
+			int[] productIds = new int[itemNumbers.length];
+			int selectedCount = 0;
+			int totalAmount = 0;
+
+			// 선택된 상품들의 총 금액 계산 및 유효성 검사 (조회해 둔 장바구니에서 계산)
+			for (String itemNumberStr : itemNumbers) {
+				try {
+					int selectedItemNumber = Integer.parseInt(itemNumberStr.trim());
+
+					// itemNumber로 ProductID 찾기
+					Integer productId = ShopCart.getProductIdByItemNumber(selectedItemNumber);
+					CheckoutEngine.CartLine line = productId != null ? cart.findByProductId(productId) : null;
+
+					if (line == null) {
+						System.out.println("번호 " + selectedItemNumber + "에 해당하는 상품을 찾을 수 없습니다.");
 						return;
 					}
-				}
-				
-				if (totalAmount == 0) {
-					System.out.println("구매할 상품이 없습니다.");
-					ShopCart.CartInfo();
-					return;
-				}
-				
-				// 현재 잔액 확인
-				String balanceSql = "SELECT PayCharge FROM Customer WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
-				try (PreparedStatement balancePstmt = conn.prepareStatement(balanceSql)) {
-					balancePstmt.setInt(1, customerId);
-					balancePstmt.setString(2, loginId);
-					balancePstmt.setString(3, nickName);
-					
-					ResultSet balanceRs = balancePstmt.executeQuery();
-					if (balanceRs.next()) {
-						int currentBalance = (int)balanceRs.getDouble("PayCharge");
-						
-						System.out.println();
-						System.out.println("======= 구매 확인 =======");
-						System.out.println("구매 총액: " + totalAmount + "원");
-						System.out.println("현재 잔액: " + currentBalance + "원");
-						
-						if (currentBalance < totalAmount) {
-							System.out.println("잔액이 부족합니다.");
-							System.out.println("부족한 금액: " + (totalAmount - currentBalance) + "원");
-							System.out.println("=====================");
-							ShopCart.CartInfo();
-							return;
-						}
-						
-						System.out.println("구매 후 잔액: " + (currentBalance - totalAmount) + "원");
-						System.out.println("=====================");
-						System.out.print("정말로 구매하시겠습니까? (y/n): ");
-						
-						String confirm = sc.nextLine().trim();
-						if (confirm.equalsIgnoreCase("y") || confirm.equalsIgnoreCase("yes")) {
-							// 트랜잭션 시작
-							conn.setAutoCommit(false);
-							
-							try {
-								// 선택된 상품들의 재고 확인
-								for (String itemNumberStr : itemNumbers) {
-									int selectedItemNumber = Integer.parseInt(itemNumberStr.trim());
-									Integer productId = ShopCart.getProductIdByItemNumber(selectedItemNumber);
-									String productName = ShopCart.getProductNameByItemNumber(selectedItemNumber);
-									
-									// 해당 상품의 재고 확인
-									String stockCheckSql = "SELECT sc.Quantity, sd.StockQuantity " +
-									                      "FROM SHOPCART sc " +
-									                      "JOIN SHOPDATATABLE sd ON sc.ProductID = sd.ProductID AND sc.ProductName = sd.ProductName " +
-									                      "WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ? AND sc.ProductID = ?";
-									
-									try (PreparedStatement stockCheckPstmt = conn.prepareStatement(stockCheckSql)) {
-										stockCheckPstmt.setInt(1, customerId);
-										stockCheckPstmt.setString(2, loginId);
-										stockCheckPstmt.setString(3, nickName);
-										stockCheckPstmt.setInt(4, productId);
-										
-										ResultSet stockRs = stockCheckPstmt.executeQuery();
-										if (stockRs.next()) {
-											int cartQuantity = stockRs.getInt("Quantity");
-											int currentStock = stockRs.getInt("StockQuantity");
-											
-											if (currentStock < cartQuantity) {
-												System.out.println("재고 부족으로 구매할 수 없습니다.");
-												System.out.println("상품: " + productName + " (요청: " + cartQuantity + "개, 재고: " + currentStock + "개)");
-												conn.rollback();
-												ShopCart.CartInfo();
-												return;
-											}
-										}
-									}
-								}
-								
-								// 선택된 상품들의 재고 차감
-								for (String itemNumberStr : itemNumbers) {
-									int selectedItemNumber = Integer.parseInt(itemNumberStr.trim());
-									Integer productId = ShopCart.getProductIdByItemNumber(selectedItemNumber);
-									
-									String stockUpdateSql = "UPDATE SHOPDATATABLE sd " +
-									                       "JOIN SHOPCART sc ON sd.ProductID = sc.ProductID AND sd.ProductName = sc.ProductName " +
-									                       "SET sd.StockQuantity = sd.StockQuantity - sc.Quantity " +
-									                       "WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ? AND sc.ProductID = ?";
-									
-									try (PreparedStatement stockUpdatePstmt = conn.prepareStatement(stockUpdateSql)) {
-										stockUpdatePstmt.setInt(1, customerId);
-										stockUpdatePstmt.setString(2, loginId);
-										stockUpdatePstmt.setString(3, nickName);
-										stockUpdatePstmt.setInt(4, productId);
-										stockUpdatePstmt.executeUpdate();
-									}
-								}
-								
-								// 잔액 차감
-								String updateSql = "UPDATE Customer SET PayCharge = PayCharge - ? WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
-								try (PreparedStatement updatePstmt = conn.prepareStatement(updateSql)) {
-									updatePstmt.setInt(1, totalAmount);
-									updatePstmt.setInt(2, customerId);
-									updatePstmt.setString(3, loginId);
-									updatePstmt.setString(4, nickName);
-									updatePstmt.executeUpdate();
-								}
-								
-								// 선택된 상품들만 장바구니에서 삭제
-								for (String itemNumberStr : itemNumbers) {
-									int selectedItemNumber = Integer.parseInt(itemNumberStr.trim());
-									Integer productId = ShopCart.getProductIdByItemNumber(selectedItemNumber);
-									String productName = ShopCart.getProductNameByItemNumber(selectedItemNumber);
-									
-									String deleteSql = "DELETE FROM SHOPCART WHERE CustomerID = ? AND LoginID = ? AND NickName = ? AND ProductID = ? AND ProductName = ?";
-									try (PreparedStatement deletePstmt = conn.prepareStatement(deleteSql)) {
-										deletePstmt.setInt(1, customerId);
-										deletePstmt.setString(2, loginId);
-										deletePstmt.setString(3, nickName);
-										deletePstmt.setInt(4, productId);
-										deletePstmt.setString(5, productName);
-										deletePstmt.executeUpdate();
-									}
-								}
-								
-								// 트랜잭션 커밋
-								conn.commit();
-								
-								System.out.println();
-								System.out.println("선택 구매가 완료되었습니다!");
-								System.out.println("구매 금액: " + totalAmount + "원");
-								System.out.println("남은 잔액: " + (currentBalance - totalAmount) + "원");
-								System.out.println("감사합니다!");
-								
-							} catch (SQLException e) {
-								// 트랜잭션 롤백
-								conn.rollback();
-								throw e;
-							} finally {
-								conn.setAutoCommit(true);
-							}
-							
-						} else {
-							System.out.println("구매가 취소되었습니다.");
-						}
+
+					// 같은 번호를 여러 번 입력한 경우 한 번만 계산
+					if (!contains(productIds, selectedCount, productId)) {
+						productIds[selectedCount++] = productId;
+						totalAmount += line.getItemTotal();
 					}
+				} catch (NumberFormatException e) {
+					System.out.println("올바른 번호를 입력해주세요: " + itemNumberStr);
+					return;
 				}
 			}
-			
+
+			if (totalAmount == 0) {
+				System.out.println("구매할 상품이 없습니다.");
+				return;
+			}
+
+			int currentBalance = cart.balance;
+			if (!confirmPurchase(sc, totalAmount, currentBalance)) {
+				return;
+			}
+
+			// 선택된 상품들만 재고 차감, 잔액 차감, 장바구니 삭제를 한 번에 처리
+			int[] selectedIds = Arrays.copyOf(productIds, selectedCount);
+			CheckoutEngine.Result result = CheckoutEngine.checkout(customerId, loginId, nickName,
+					selectedIds, selectedCount, totalAmount);
+			if (!printFailure(result, cart, selectedIds)) {
+				return;
+			}
+
+			System.out.println();
+			System.out.println("선택 구매가 완료되었습니다!");
+			System.out.println("구매 금액: " + totalAmount + "원");
+			System.out.println("남은 잔액: " + (currentBalance - totalAmount) + "원");
+			System.out.println("감사합니다!");
+
 		} catch (SQLException e) {
 			System.out.println("\n데이터베이스 오류가 발생했습니다.");
 			e.printStackTrace();
-		} finally {
-			sc.close();
 		}
-		
-		ShopCart.CartInfo(); // 장바구니 다시 표시
+	}
+
+	// 구매 확인 화면 - 잔액이 충분하고 사용자가 y를 입력하면 true
+	private static boolean confirmPurchase(Scanner sc, int totalAmount, int currentBalance) {
+		System.out.println();
+		System.out.println("======= 구매 확인 =======");
+		System.out.println("구매 총액: " + totalAmount + "원");
+		System.out.println("현재 잔액: " + currentBalance + "원");
+
+		if (currentBalance < totalAmount) {
+			System.out.println("잔액이 부족합니다.");
+			System.out.println("부족한 금액: " + (totalAmount - currentBalance) + "원");
+			System.out.println("=====================");
+			return false;
+		}
+
+		System.out.println("구매 후 잔액: " + (currentBalance - totalAmount) + "원");
+		System.out.println("=====================");
+		System.out.print("정말로 구매하시겠습니까? (y/n): ");
+
+		String confirm = sc.nextLine().trim();
+		if (confirm.equalsIgnoreCase("y") || confirm.equalsIgnoreCase("yes")) {
+			return true;
+		}
+		System.out.println("구매가 취소되었습니다.");
+		return false;
+	}
+
+	// 구매 실패 사유 출력 - 구매에 성공했으면 true
+	private static boolean printFailure(CheckoutEngine.Result result, CheckoutEngine.CartSnapshot cart, int[] productIds) {
+		switch (result) {
+			case SUCCESS:
+				return true;
+			case OUT_OF_STOCK:
+				System.out.println("재고 부족으로 구매할 수 없습니다.");
+				for (CheckoutEngine.CartLine line : cart.lines) {
+					if (productIds != null && !contains(productIds, productIds.length, line.productId)) {
+						continue;
+					}
+					if (line.stock < line.quantity) {
+						System.out.println("상품: " + line.productName + " (요청: " + line.quantity + "개, 재고: " + line.stock + "개)");
+					}
+				}
+				return false;
+			case INSUFFICIENT_BALANCE:
+				// 확인 이후 다른 곳에서 잔액이 사용된 경우
+				System.out.println("잔액이 부족합니다. 현재 잔액을 다시 확인해주세요.");
+				return false;
+			default:
+				System.out.println("장바구니가 변경되었습니다. 장바구니를 다시 확인해주세요.");
+				return false;
+		}
+	}
+
+	// 배열 앞부분(count개)에 id가 있는지 확인
+	private static boolean contains(int[] ids, int count, int id) {
+		for (int i = 0; i < count; i++) {
+			if (ids[i] == id) {
+				return true;
+			}
+		}
+		return false;
 	}
 }
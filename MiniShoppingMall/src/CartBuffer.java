@@ -0,0 +1,569 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 고객(세션)별 장바구니 쓰기 버퍼 (write-behind)
+ * - 상품 담기/삭제/수량 변경/비우기를 메모리에서 합쳐 두었다가 한 트랜잭션의 배치로 반영
+ *   (같은 상품을 여러 번 담으면 한 번의 upsert로 합쳐짐)
+ * - 반영 시점: 장바구니 조회, 구매, 로그아웃/접속 종료, 일정 시간 입력이 없을 때, 프로그램 종료
+ * - 장애 대비: 모든 변경은 반영 전에 버퍼(세션)별 저널 파일(<CustomerID>-<UUID>.journal)에 먼저 기록하고,
+ *   반영 트랜잭션 안에서 그 저널의 CART_JOURNAL_SEQ.LastSeq를 함께 갱신
+ *   같은 고객이 여러 세션으로 접속해도(SessionServer) 저널과 순번이 세션마다 따로라 서로의 기록을 지우지 않음
+ * - 저널 파일은 버퍼가 쓰는 동안 열고 잠가(FileLock) 둠 - 변경마다 파일을 열지 않고 한 줄 쓰기만 함
+ *   디스크 강제 기록(fsync)은 변경마다 하지 않고 JOURNAL_SYNC_MS마다 모아서 한 번
+ *   (변경마다 fsync하면 DB에 한 문장 반영하는 것보다 싸지 않음)
+ *   -> 프로그램이 비정상 종료되어도 쓴 줄은 OS에 남아 유실 없음, OS/전원 장애 시에만 마지막 JOURNAL_SYNC_MS 동안의 변경이 유실될 수 있음
+ * - 로그인하면 같은 고객의 저널 중 잠금이 풀린 것(주인 세션이 반영하지 못하고 종료됨)에서
+ *   아직 반영되지 않은 변경(LastSeq 이후)만 다시 적용 (중복 없음)
+ *
+ * 포함된 메소드:
+ * - current(): 현재 세션 고객의 버퍼
+ * - add()/setQuantity()/remove()/clear(): 장바구니 변경 (버퍼에 기록)
+ * - flush(): 버퍼 내용을 DB에 반영
+ * - discard(): 버퍼와 저널 폐기 (회원 탈퇴 시)
+ * - flushCurrent()/closeCurrent()/discardCurrent(): 현재 세션 버퍼가 있으면 반영/종료/폐기
+ * - flushAll(): 모든 버퍼 반영 (프로그램 종료 시)
+ *
+ * ===========================================
+ */
+public class CartBuffer {
+
+	// 마지막 변경 후 이 시간 동안 입력이 없으면 자동 반영
+	private static final long IDLE_FLUSH_MS = 30_000;
+	private static final long IDLE_CHECK_PERIOD_MS = 5_000;
+
+	// 저널에 쓴 변경을 디스크에 강제 기록하는 주기
+	private static final long JOURNAL_SYNC_MS = 1_000;
+
+	// 저널 파일 위치 (버퍼별 <CustomerID>-<UUID>.journal)
+	private static final Path JOURNAL_DIR = Paths.get("cart-journal");
+	private static final String JOURNAL_SUFFIX = ".journal";
+
+	private static final String CREATE_TABLE_SQL =
+			"CREATE TABLE IF NOT EXISTS CART_JOURNAL_SEQ (" +
+			"JournalID VARCHAR(64) NOT NULL PRIMARY KEY, " +
+			"CustomerID INT NOT NULL, " +
+			"LastSeq BIGINT NOT NULL)";
+
+	// 반영되지 않은 변경이 있을 수 있는 열린 버퍼들 (자동 반영/종료 시 반영 대상)
+	private static final Set<CartBuffer> openBuffers = ConcurrentHashMap.newKeySet();
+
+	// 저널 파일을 열고 있는 버퍼들 (주기적 디스크 기록/종료 시 정리 대상)
+	private static final Set<CartBuffer> journaledBuffers = ConcurrentHashMap.newKeySet();
+
+	private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "CartBuffer-scheduler");
+		t.setDaemon(true);
+		return t;
+	});
+
+	static {
+		scheduler.scheduleWithFixedDelay(CartBuffer::flushIdle, IDLE_CHECK_PERIOD_MS, IDLE_CHECK_PERIOD_MS, TimeUnit.MILLISECONDS);
+		scheduler.scheduleWithFixedDelay(CartBuffer::syncJournals, JOURNAL_SYNC_MS, JOURNAL_SYNC_MS, TimeUnit.MILLISECONDS);
+	}
+
+	private static volatile boolean tableReady = false;
+
+	// 변경 종류
+	private enum Op { ADD, SET, REMOVE, CLEAR }
+
+	// 상품 하나에 대해 합쳐진 변경
+	private static final class Pending {
+		Op op;
+		int quantity; // ADD: 더할 수량, SET: 최종 수량
+		final String productName;
+
+		Pending(Op op, int quantity, String productName) {
+			this.op = op;
+			this.quantity = quantity;
+			this.productName = productName;
+		}
+	}
+
+	private final int customerId;
+	private final String loginId;
+	private final String nickName;
+	private final String journalId;
+	private final Path journalPath;
+
+	private final Map<Integer, Pending> pending = new LinkedHashMap<>();
+	private boolean clearAll = false;
+	private long nextSeq = 1;
+	private volatile long lastChangedAt;
+
+	// 이 버퍼의 저널 (처음 변경 때 열고 잠가서 버퍼를 닫을 때까지 유지)
+	private volatile FileChannel journal;
+	private FileLock journalLock;
+	private volatile boolean journalDirty = false;
+
+	private CartBuffer(int customerId, String loginId, String nickName, String journalId) {
+		this.customerId = customerId;
+		this.loginId = loginId;
+		this.nickName = nickName;
+		this.journalId = journalId;
+		this.journalPath = JOURNAL_DIR.resolve(journalId + JOURNAL_SUFFIX);
+	}
+
+	/**
+	 * 현재 세션 고객의 장바구니 버퍼를 반환합니다.
+	 * 처음 사용할 때 이전 비정상 종료로 남은 같은 고객의 저널을 확인하여 반영되지 않은 변경을 먼저 적용합니다.
+	 */
+	public static CartBuffer current() throws SQLException {
+		CustomerSession session = CustomerSession.current();
+		CartBuffer buffer = session.cartBuffer;
+		if (buffer != null && buffer.customerId == session.customerId) {
+			return buffer;
+		}
+		if (buffer != null) {
+			buffer.close(); // 다른 고객으로 바뀐 경우 이전 고객의 변경을 먼저 반영
+		}
+
+		recoverOrphans(session.customerId, session.loginId, session.customerName);
+		buffer = new CartBuffer(session.customerId, session.loginId, session.customerName,
+				session.customerId + "-" + UUID.randomUUID());
+		session.cartBuffer = buffer;
+		return buffer;
+	}
+
+	// 상품 담기 (이미 담긴 상품이면 수량 추가)
+	public synchronized void add(int productId, String productName, int quantity) throws SQLException {
+		append(Op.ADD, productId, quantity, productName);
+		apply(Op.ADD, productId, quantity, productName);
+	}
+
+	// 수량 변경
+	public synchronized void setQuantity(int productId, String productName, int quantity) throws SQLException {
+		append(Op.SET, productId, quantity, productName);
+		apply(Op.SET, productId, quantity, productName);
+	}
+
+	// 상품 삭제
+	public synchronized void remove(int productId, String productName) throws SQLException {
+		append(Op.REMOVE, productId, 0, productName);
+		apply(Op.REMOVE, productId, 0, productName);
+	}
+
+	// 장바구니 비우기
+	public synchronized void clear() throws SQLException {
+		append(Op.CLEAR, 0, 0, "");
+		apply(Op.CLEAR, 0, 0, "");
+	}
+
+	// 변경을 버퍼에 합침
+	private void apply(Op op, int productId, int quantity, String productName) {
+		lastChangedAt = System.currentTimeMillis();
+		openBuffers.add(this);
+
+		if (op == Op.CLEAR) {
+			pending.clear();
+			clearAll = true;
+			return;
+		}
+
+		Pending p = pending.get(productId);
+		if (op == Op.ADD && p != null) {
+			if (p.op == Op.REMOVE) {
+				// 삭제 후 다시 담은 경우 - 담은 수량으로 설정
+				p.op = Op.SET;
+				p.quantity = quantity;
+			} else {
+				p.quantity += quantity; // ADD + ADD, SET + ADD
+			}
+			return;
+		}
+		pending.put(productId, new Pending(op, quantity, productName));
+	}
+
+	/**
+	 * 버퍼 내용을 한 트랜잭션으로 DB에 반영합니다.
+	 * 비우기 -> 삭제 -> 담기(수량 추가) -> 수량 설정 순서의 배치 + 저널 위치 기록
+	 */
+	public synchronized void flush() throws SQLException {
+		if (pending.isEmpty() && !clearAll) {
+			openBuffers.remove(this);
+			return;
+		}
+
+		String deleteAllSql = "DELETE FROM SHOPCART WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
+		String deleteSql = "DELETE FROM SHOPCART WHERE CustomerID = ? AND LoginID = ? AND NickName = ? AND ProductID = ? AND ProductName = ?";
+		String addSql = "INSERT INTO SHOPCART (CustomerID, LoginID, NickName, ProductID, ProductName, Quantity) VALUES (?, ?, ?, ?, ?, ?) " +
+		                "ON DUPLICATE KEY UPDATE Quantity = Quantity + ?";
+		String setSql = "INSERT INTO SHOPCART (CustomerID, LoginID, NickName, ProductID, ProductName, Quantity) VALUES (?, ?, ?, ?, ?, ?) " +
+		                "ON DUPLICATE KEY UPDATE Quantity = ?";
+		String seqSql = "INSERT INTO CART_JOURNAL_SEQ (JournalID, CustomerID, LastSeq) VALUES (?, ?, ?) " +
+		                "ON DUPLICATE KEY UPDATE LastSeq = GREATEST(LastSeq, VALUES(LastSeq))";
+
+		try (Connection conn = Main.getConnection()) {
+			conn.setAutoCommit(false);
+			try (PreparedStatement deleteAll = conn.prepareStatement(deleteAllSql);
+			     PreparedStatement delete = conn.prepareStatement(deleteSql);
+			     PreparedStatement add = conn.prepareStatement(addSql);
+			     PreparedStatement set = conn.prepareStatement(setSql);
+			     PreparedStatement seq = conn.prepareStatement(seqSql)) {
+
+				if (clearAll) {
+					bindCustomer(deleteAll);
+					deleteAll.executeUpdate();
+				}
+
+				for (Map.Entry<Integer, Pending> e : pending.entrySet()) {
+					int productId = e.getKey();
+					Pending p = e.getValue();
+					switch (p.op) {
+						case REMOVE:
+							bindCustomer(delete);
+							delete.setInt(4, productId);
+							delete.setString(5, p.productName);
+							delete.addBatch();
+							break;
+						case ADD:
+							bindCustomer(add);
+							add.setInt(4, productId);
+							add.setString(5, p.productName);
+							add.setInt(6, p.quantity);
+							add.setInt(7, p.quantity);
+							add.addBatch();
+							break;
+						default:
+							bindCustomer(set);
+							set.setInt(4, productId);
+							set.setString(5, p.productName);
+							set.setInt(6, p.quantity);
+							set.setInt(7, p.quantity);
+							set.addBatch();
+					}
+				}
+				delete.executeBatch();
+				add.executeBatch();
+				set.executeBatch();
+
+				// 여기까지의 저널 기록이 반영되었음을 같은 트랜잭션에 남김
+				seq.setString(1, journalId);
+				seq.setInt(2, customerId);
+				seq.setLong(3, nextSeq - 1);
+				seq.executeUpdate();
+
+				conn.commit();
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+		}
+
+		pending.clear();
+		clearAll = false;
+		openBuffers.remove(this);
+
+		// 반영이 끝난 저널은 비움 (비우기 전에 죽어도 LastSeq 덕분에 다시 적용되지 않음)
+		FileChannel ch = journal;
+		if (ch != null) {
+			try {
+				ch.truncate(0);
+			} catch (IOException e) {
+				// 남아 있어도 다음 복구 시 LastSeq 이전 기록은 무시됨
+			}
+		}
+	}
+
+	// 반영 후 버퍼 사용 종료 (로그아웃/접속 종료)
+	public synchronized void close() {
+		try {
+			flush();
+			deleteJournal();
+		} catch (SQLException e) {
+			// 저널이 남아 있으므로 다음 로그인 시 복구됨 (잠금을 풀어 다른 세션이 복구할 수 있게 함)
+			System.err.println("[CartBuffer] 장바구니 반영에 실패했습니다. 다음 로그인 시 다시 반영합니다. (CustomerID: " + customerId + ")");
+			e.printStackTrace();
+			closeJournal();
+		}
+		openBuffers.remove(this);
+	}
+
+	// 버퍼와 저널 폐기 (회원 탈퇴 등 반영할 필요가 없는 경우)
+	public synchronized void discard() {
+		pending.clear();
+		clearAll = false;
+		openBuffers.remove(this);
+		deleteJournal();
+	}
+
+	// 현재 세션에 버퍼가 있으면 반영 (구매 직전 - 버퍼를 새로 만들지 않음)
+	public static void flushCurrent() throws SQLException {
+		CartBuffer buffer = CustomerSession.current().cartBuffer;
+		if (buffer != null && buffer.customerId == CustomerSession.current().customerId) {
+			buffer.flush();
+		}
+	}
+
+	// 현재 세션의 버퍼를 폐기하고 세션에서 분리 (회원 탈퇴)
+	public static void discardCurrent() {
+		CustomerSession session = CustomerSession.current();
+		if (session.cartBuffer != null) {
+			session.cartBuffer.discard();
+			session.cartBuffer = null;
+		}
+	}
+
+	// 현재 세션의 버퍼를 반영하고 세션에서 분리
+	public static void closeCurrent() {
+		CustomerSession session = CustomerSession.current();
+		if (session.cartBuffer != null) {
+			session.cartBuffer.close();
+			session.cartBuffer = null;
+		}
+	}
+
+	// 모든 열린 버퍼 반영 후 저널 정리 (프로그램 종료 시)
+	public static void flushAll() {
+		for (CartBuffer buffer : openBuffers) {
+			buffer.close();
+		}
+		for (CartBuffer buffer : journaledBuffers) {
+			buffer.close();
+		}
+	}
+
+	// 일정 시간 변경이 없는 버퍼 자동 반영
+	private static void flushIdle() {
+		long now = System.currentTimeMillis();
+		Iterator<CartBuffer> it = openBuffers.iterator();
+		while (it.hasNext()) {
+			CartBuffer buffer = it.next();
+			if (now - buffer.lastChangedAt >= IDLE_FLUSH_MS) {
+				try {
+					buffer.flush();
+				} catch (SQLException e) {
+					// 다음 주기에 다시 시도
+				}
+			}
+		}
+	}
+
+	// 저널에 쓴 변경을 모아서 디스크에 강제 기록
+	private static void syncJournals() {
+		for (CartBuffer buffer : journaledBuffers) {
+			FileChannel ch = buffer.journal;
+			if (ch == null || !buffer.journalDirty) {
+				continue;
+			}
+			buffer.journalDirty = false;
+			try {
+				ch.force(false);
+			} catch (IOException e) {
+				// 닫힌 저널 (반영 후 삭제됨) - 기록할 필요 없음
+			}
+		}
+	}
+
+	private void bindCustomer(PreparedStatement pstmt) throws SQLException {
+		pstmt.setInt(1, customerId);
+		pstmt.setString(2, loginId);
+		pstmt.setString(3, nickName);
+	}
+
+	// 저널에 변경 한 줄 기록 - 기록에 실패하면 변경을 받지 않음 (디스크 강제 기록은 syncJournals()가 모아서 처리)
+	// 형식: 순번 \t 종류 \t ProductID \t 수량 \t 상품명
+	private void append(Op op, int productId, int quantity, String productName) throws SQLException {
+		String line = nextSeq + "\t" + op + "\t" + productId + "\t" + quantity + "\t"
+				+ productName.replace('\t', ' ').replace('\n', ' ') + "\n";
+		try {
+			openJournal();
+			ByteBuffer bytes = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+			while (bytes.hasRemaining()) {
+				journal.write(bytes);
+			}
+		} catch (IOException e) {
+			throw new SQLException("장바구니 저널 기록에 실패했습니다.", e);
+		}
+		journalDirty = true;
+		nextSeq++;
+	}
+
+	// 처음 변경할 때 저널 파일을 만들고 잠금
+	// 잠근 뒤에 저널 이름으로 바꾸므로, 다른 세션의 복구가 잠기기 전의 새 저널을 주인 없는 저널로 보지 않음
+	private void openJournal() throws IOException {
+		if (journal != null) {
+			return;
+		}
+		Files.createDirectories(JOURNAL_DIR);
+		Path newPath = JOURNAL_DIR.resolve(journalId + JOURNAL_SUFFIX + ".new");
+		FileChannel ch = FileChannel.open(newPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		try {
+			journalLock = ch.lock();
+			Files.move(newPath, journalPath, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			ch.close();
+			Files.deleteIfExists(newPath);
+			throw e;
+		}
+		journal = ch;
+		journaledBuffers.add(this);
+	}
+
+	// 저널 파일을 닫고 잠금 해제 (파일은 남김 - 다음 로그인 때 복구 대상)
+	private void closeJournal() {
+		FileChannel ch = journal;
+		journal = null;
+		journalLock = null;
+		journaledBuffers.remove(this);
+		if (ch != null) {
+			try {
+				ch.close(); // 잠금도 함께 풀림
+			} catch (IOException e) {
+				// 무시
+			}
+		}
+	}
+
+	// 반영이 끝났거나 폐기한 저널 삭제
+	// 잠근 채로 파일을 먼저 지우고 순번 기록은 마지막에 지움 - 그 사이 다른 세션이 저널을 열어 LastSeq 없이 다시 적용하지 않도록
+	private void deleteJournal() {
+		boolean deleted;
+		try {
+			deleted = journal != null ? Files.deleteIfExists(journalPath) : !Files.exists(journalPath);
+		} catch (IOException e) {
+			deleted = false; // 남아 있어도 LastSeq 이전 기록은 다시 적용되지 않음
+		}
+		closeJournal();
+		if (!deleted) {
+			return;
+		}
+
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement("DELETE FROM CART_JOURNAL_SEQ WHERE JournalID = ?")) {
+			pstmt.setString(1, journalId);
+			pstmt.executeUpdate();
+		} catch (SQLException e) {
+			// 남은 행은 저널 파일이 없으므로 쓰이지 않음
+		}
+	}
+
+	// CART_JOURNAL_SEQ 테이블이 없으면 생성
+	private static void ensureTable() throws SQLException {
+		if (tableReady) {
+			return;
+		}
+		try (Connection conn = Main.getConnection();
+		     Statement stmt = conn.createStatement()) {
+			stmt.executeUpdate(CREATE_TABLE_SQL);
+		}
+		tableReady = true;
+	}
+
+	/**
+	 * 같은 고객의 저널 중 주인 세션이 반영하지 못하고 종료된 것(잠금이 풀린 것)을 찾아
+	 * 아직 반영되지 않은 변경(그 저널의 LastSeq 이후)을 다시 적용하고 반영한 뒤 저널을 지웁니다.
+	 * 다른 세션이 쓰고 있는 저널은 잠겨 있으므로 건너뜁니다.
+	 */
+	private static void recoverOrphans(int customerId, String loginId, String nickName) throws SQLException {
+		ensureTable();
+		if (!Files.isDirectory(JOURNAL_DIR)) {
+			return;
+		}
+
+		try (DirectoryStream<Path> journals = Files.newDirectoryStream(JOURNAL_DIR, customerId + "-*" + JOURNAL_SUFFIX)) {
+			for (Path path : journals) {
+				String fileName = path.getFileName().toString();
+				CartBuffer orphan = new CartBuffer(customerId, loginId, nickName,
+						fileName.substring(0, fileName.length() - JOURNAL_SUFFIX.length()));
+				if (orphan.adopt()) {
+					try {
+						orphan.replay();
+						orphan.flush();
+						orphan.deleteJournal();
+					} finally {
+						orphan.closeJournal();
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new SQLException("장바구니 저널을 읽을 수 없습니다.", e);
+		}
+	}
+
+	// 주인 없는 저널을 열어 잠금 - 다른 세션(이 프로그램 또는 다른 프로그램)이 잠그고 있으면 false
+	private boolean adopt() throws IOException {
+		FileChannel ch;
+		try {
+			ch = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		} catch (NoSuchFileException e) {
+			return false; // 그 사이 다른 세션이 복구하여 지움
+		}
+		try {
+			journalLock = ch.tryLock();
+		} catch (OverlappingFileLockException e) {
+			journalLock = null; // 이 프로그램의 다른 세션이 잠금
+		}
+		if (journalLock == null) {
+			ch.close();
+			return false;
+		}
+		journal = ch;
+		return true;
+	}
+
+	// 잠근 저널에서 LastSeq 이후의 변경을 버퍼에 다시 적용
+	private synchronized void replay() throws SQLException, IOException {
+		long lastSeq = 0;
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement("SELECT LastSeq FROM CART_JOURNAL_SEQ WHERE JournalID = ?")) {
+			pstmt.setString(1, journalId);
+			try (ResultSet rs = pstmt.executeQuery()) {
+				if (rs.next()) {
+					lastSeq = rs.getLong("LastSeq");
+				}
+			}
+		}
+
+		ByteBuffer bytes = ByteBuffer.allocate((int) journal.size());
+		while (bytes.hasRemaining()) {
+			if (journal.read(bytes, bytes.position()) < 0) {
+				break;
+			}
+		}
+		String content = new String(bytes.array(), 0, bytes.position(), StandardCharsets.UTF_8);
+
+		for (String line : content.split("\n")) {
+			String[] f = line.split("\t", 5);
+			if (f.length < 5) {
+				continue; // 기록 도중 종료된 마지막 줄
+			}
+			try {
+				long seq = Long.parseLong(f[0]);
+				nextSeq = Math.max(nextSeq, seq + 1);
+				if (seq <= lastSeq) {
+					continue; // 이미 반영된 변경
+				}
+				apply(Op.valueOf(f[1]), Integer.parseInt(f[2]), Integer.parseInt(f[3]), f[4]);
+			} catch (IllegalArgumentException e) {
+				// 손상된 줄은 건너뜀
+			}
+		}
+	}
+}
@@ -0,0 +1,68 @@
+import java.sql.*;
+import java.util.function.Consumer;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 장바구니 테이블(SHOPCART) 조회 - 고객의 장바구니 줄을 현재 가격과 함께 읽는 SQL을 한 곳에 모음
+ *   (장바구니 변경은 CartBuffer, 구매는 CheckoutEngine에서 처리)
+ * - SQL은 상수 문자열로만 사용하고 연결 풀(Main.getConnection())의 연결로 실행
+ *   (연결 URL의 useServerPrepStmts/cachePrepStmts 설정으로 같은 SQL은 연결마다 한 번만 준비)
+ * - 조회 결과는 CartItem 객체 하나를 재사용하여 행마다 새 객체를 만들지 않음
+ *
+ * 포함된 메소드:
+ * - forEachItem(): 고객의 장바구니 줄을 상품명 내림차순으로 하나씩 전달
+ *
+ * ===========================================
+ */
+public class CartDao {
+
+	private static final String ITEMS_SQL =
+			"SELECT sc.ProductID, sc.ProductName, sc.Quantity, sd.Price " +
+			"FROM SHOPCART sc " +
+			"JOIN SHOPDATATABLE sd ON sc.ProductID = sd.ProductID AND sc.ProductName = sd.ProductName " +
+			"WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ? " +
+			"ORDER BY sc.ProductName DESC";
+
+	/**
+	 * 고객의 장바구니 줄을 상품명 내림차순으로 하나씩 전달합니다.
+	 * 같은 CartItem 객체에 행마다 값을 다시 채워 전달하므로 보관하려면 값을 복사해야 합니다.
+	 * @return 전달한 줄 수
+	 */
+	public static int forEachItem(int customerId, String loginId, String nickName,
+	                              Consumer<CartItem> action) throws SQLException {
+		int count = 0;
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(ITEMS_SQL)) {
+			pstmt.setInt(1, customerId);
+			pstmt.setString(2, loginId);
+			pstmt.setString(3, nickName);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				CartItem item = new CartItem();
+				while (rs.next()) {
+					item.productId = rs.getInt(1);
+					item.productName = rs.getString(2);
+					item.quantity = rs.getInt(3);
+					item.price = rs.getDouble(4);
+					action.accept(item);
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	// 장바구니 한 줄 (현재 가격 포함)
+	public static class CartItem {
+		int productId;
+		String productName;
+		int quantity;
+		double price;
+
+		int getItemTotal() {
+			return (int) (price * quantity);
+		}
+	}
+}
@@ -0,0 +1,313 @@
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 장바구니 상품과 현재 잔액을 한 번의 조회로 읽기
+ * - 장바구니 전체(또는 선택 상품)를 한 번에 결제하는 집합 기반 구매 처리
+ *   0) 행 잠금: 구매할 상품 행을 ProductID 순서로 잠금 (SELECT ... FOR UPDATE)
+ *   1) 재고 차감: 재고가 모자란 줄이 하나라도 있으면 실패하는 조건부 UPDATE 한 문장
+ *   1-1) 차감 후 재고 조회: 구매 완료 후 카탈로그 캐시의 재고를 갱신하고 재고 감시(StockWatcher)에 보냄
+ *   2) 잔액 차감: 잔액이 모자라면 실패하는 조건부 UPDATE 한 문장
+ *   3) 주문 기록: 구매한 줄을 주문 내역(ORDER_HISTORY)에 INSERT ... SELECT 한 문장으로 추가
+ *      (먼저 ORDER_HISTORY_LOCK 행을 잠가 OrderLineID가 커밋 순서대로 매겨지도록 함 - 직원용 SalesRollup이 번호로 반영 위치를 정함)
+ *   3-1) 재고 변동 내역: 차감한 수량을 STOCK_LEDGER에 INSERT ... SELECT 한 문장으로 추가 (StockLedger)
+ *   4) 장바구니 삭제: DELETE 한 문장
+ *   여덟 문장을 하나의 멀티 스테이트먼트로 묶어 한 번의 왕복으로 전송
+ *   (주문 내역은 추가만 하고, 판매 집계는 직원용 프로그램의 SalesRollup이 따로 처리하므로 구매를 기다리게 하지 않음)
+ * - 동시 구매 처리
+ *   모든 구매가 같은 순서(ProductID 오름차순)로 상품 행을 잠가 교착 상태를 줄이고,
+ *   그래도 교착 상태/잠금 대기 시간 초과가 나면 정해진 횟수만큼 다시 시도
+ *
+ * 포함된 메소드:
+ * - loadCart(): 장바구니 상품 + 잔액 조회
+ * - checkout(): 구매 실행 (결과를 Result로 반환)
+ * - getRetryCount(): 지금까지 재시도한 횟수 (부하 테스트용)
+ *
+ * 장바구니 줄 수가 늘어나도 구매 처리 왕복 횟수는 일정합니다.
+ * (Main.url에 allowMultiQueries=true 필요)
+ *
+ * ===========================================
+ */
+public class CheckoutEngine {
+
+	// 교착 상태/잠금 대기 시간 초과 시 최대 시도 횟수
+	private static final int MAX_ATTEMPTS = 5;
+	private static final long RETRY_BACKOFF_MS = 20;
+
+	// MySQL 오류 코드 - 다시 시도하면 성공할 수 있는 경우
+	private static final int ER_LOCK_DEADLOCK = 1213;
+	private static final int ER_LOCK_WAIT_TIMEOUT = 1205;
+
+	private static final AtomicLong retryCount = new AtomicLong();
+
+	// 주문 번호 - 한 번의 구매(여러 줄)는 같은 OrderID를 가짐 (ORDER_HISTORY 테이블은 Schema.ensure()가 만듦)
+	private static final IdAllocator orderIds = new IdAllocator("OrderHistory",
+			"SELECT COALESCE(MAX(OrderID), 0) + 1 FROM ORDER_HISTORY", 100);
+
+	// 구매 결과
+	public enum Result {
+		SUCCESS,              // 구매 완료
+		EMPTY,                // 구매할 상품 없음
+		OUT_OF_STOCK,         // 재고 부족 상품 존재
+		INSUFFICIENT_BALANCE  // 잔액 부족
+	}
+
+	// 장바구니 상품과 잔액을 한 번에 조회 (상품명 내림차순, ShopCart 화면의 번호와 동일한 순서)
+	public static CartSnapshot loadCart(int customerId, String loginId, String nickName) throws SQLException {
+		String sql = "SELECT sc.ProductID, sc.ProductName, sc.Quantity, sd.Price, sd.StockQuantity, c.PayCharge " +
+		             "FROM SHOPCART sc " +
+		             "JOIN SHOPDATATABLE sd ON sc.ProductID = sd.ProductID AND sc.ProductName = sd.ProductName " +
+		             "JOIN Customer c ON c.CustomerID = sc.CustomerID AND c.LoginID = sc.LoginID AND c.NickName = sc.NickName " +
+		             "WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ? " +
+		             "ORDER BY sc.ProductName DESC";
+
+		CartBuffer.flushCurrent(); // 버퍼에 남은 장바구니 변경을 먼저 반영
+
+		CartSnapshot cart = new CartSnapshot();
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+			pstmt.setInt(1, customerId);
+			pstmt.setString(2, loginId);
+			pstmt.setString(3, nickName);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				while (rs.next()) {
+					cart.lines.add(new CartLine(
+							rs.getInt("ProductID"),
+							rs.getString("ProductName"),
+							rs.getInt("Quantity"),
+							rs.getDouble("Price"),
+							rs.getInt("StockQuantity")));
+					cart.balance = (int) rs.getDouble("PayCharge");
+				}
+			}
+		}
+		return cart;
+	}
+
+	/**
+	 * 장바구니 상품을 구매합니다.
+	 * 교착 상태나 잠금 대기 시간 초과로 실패하면 트랜잭션 전체를 최대 MAX_ATTEMPTS번까지 다시 시도합니다.
+	 * @param productIds 구매할 상품 ID 목록 (null이면 장바구니 전체)
+	 * @param lineCount 구매할 장바구니 줄 수 (재고 차감/삭제 결과 확인용)
+	 * @param totalAmount 차감할 결제 금액
+	 * @return 구매 결과
+	 */
+	public static Result checkout(int customerId, String loginId, String nickName,
+	                              int[] productIds, int lineCount, int totalAmount) throws SQLException {
+		if (lineCount == 0 || (productIds != null && productIds.length == 0)) {
+			return Result.EMPTY;
+		}
+		long orderId = orderIds.next(); // 재시도해도 같은 주문 번호 사용 (실패한 시도는 롤백됨)
+
+		String sql =
+				// 0) 행 잠금 - 모든 구매가 ProductID 오름차순으로 잠가 서로 엇갈려 기다리지 않도록 함
+				"SELECT ProductID FROM SHOPDATATABLE WHERE ProductID IN (" +
+				"SELECT ProductID FROM SHOPCART WHERE CustomerID = ? AND LoginID = ? AND NickName = ?" + inClause("ProductID", productIds) +
+				") ORDER BY ProductID FOR UPDATE; " +
+				// 1) 재고 차감 - 모자란 줄은 조건에서 빠지므로 영향받은 행 수로 판단
+				"UPDATE SHOPDATATABLE sd " +
+				"JOIN SHOPCART sc ON sd.ProductID = sc.ProductID AND sd.ProductName = sc.ProductName " +
+				"SET sd.StockQuantity = sd.StockQuantity - sc.Quantity " +
+				"WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ?" + inClause("sc.ProductID", productIds) +
+				" AND sd.StockQuantity >= sc.Quantity; " +
+				// 1-1) 차감 후 재고 조회 - 구매 완료 후 카탈로그 캐시와 재고 감시(StockWatcher)에 반영 (잠근 행이므로 잠금 대기 없음)
+				"SELECT ProductID, ProductName, StockQuantity FROM SHOPDATATABLE WHERE ProductID IN (" +
+				"SELECT ProductID FROM SHOPCART WHERE CustomerID = ? AND LoginID = ? AND NickName = ?" + inClause("ProductID", productIds) + "); " +
+				// 2) 잔액 차감 - 잔액이 부족하면 0행
+				"UPDATE Customer SET PayCharge = PayCharge - ? " +
+				"WHERE CustomerID = ? AND LoginID = ? AND NickName = ? AND PayCharge >= ?; " +
+				// 3) 주문 기록 - 구매 시점의 가격/카테고리/등급을 함께 남김
+				// 기록 잠금을 커밋까지 가지므로 다른 구매의 주문 줄 번호는 이 구매가 끝난 뒤에 매겨짐
+				"SELECT LockID FROM ORDER_HISTORY_LOCK WHERE LockID = 1 FOR UPDATE; " +
+				"INSERT INTO ORDER_HISTORY (OrderID, CustomerID, Grade, ProductID, ProductName, CategoryID, Quantity, UnitPrice, OrderedAt) " +
+				"SELECT ?, c.CustomerID, COALESCE(c.Grade, ''), sd.ProductID, sd.ProductName, sd.CategoryID, sc.Quantity, sd.Price, NOW() " +
+				"FROM SHOPCART sc " +
+				"JOIN SHOPDATATABLE sd ON sc.ProductID = sd.ProductID AND sc.ProductName = sd.ProductName " +
+				"JOIN Customer c ON c.CustomerID = sc.CustomerID AND c.LoginID = sc.LoginID AND c.NickName = sc.NickName " +
+				"WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ?" + inClause("sc.ProductID", productIds) + "; " +
+				// 3-1) 재고 변동 내역 - 1)에서 차감한 줄과 같은 조건
+				StockLedger.insertSelectSql(
+						"SELECT sc.ProductID, -sc.Quantity, CONCAT('주문 ', ?) " +
+						"FROM SHOPCART sc " +
+						"JOIN SHOPDATATABLE sd ON sc.ProductID = sd.ProductID AND sc.ProductName = sd.ProductName " +
+						"WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ?" + inClause("sc.ProductID", productIds)) + "; " +
+				// 4) 장바구니 비우기
+				"DELETE FROM SHOPCART WHERE CustomerID = ? AND LoginID = ? AND NickName = ?" + inClause("ProductID", productIds);
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return executeCheckout(sql, orderId, customerId, loginId, nickName, productIds, lineCount, totalAmount);
+			} catch (SQLException e) {
+				if (attempt >= MAX_ATTEMPTS || !isRetryable(e)) {
+					throw e;
+				}
+				retryCount.incrementAndGet();
+				backoff(attempt);
+			}
+		}
+	}
+
+	// 구매 트랜잭션 한 번 실행 (실패 시 롤백 후 예외를 그대로 전달)
+	private static Result executeCheckout(String sql, long orderId, int customerId, String loginId, String nickName,
+	                                      int[] productIds, int lineCount, int totalAmount) throws SQLException {
+		try (Connection conn = Main.getConnection()) {
+			conn.setAutoCommit(false);
+			try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+				int idx = 1;
+				idx = bindCartFilter(pstmt, idx, customerId, loginId, nickName, productIds);
+				idx = bindCartFilter(pstmt, idx, customerId, loginId, nickName, productIds);
+				idx = bindCartFilter(pstmt, idx, customerId, loginId, nickName, productIds);
+				pstmt.setInt(idx++, totalAmount);
+				pstmt.setInt(idx++, customerId);
+				pstmt.setString(idx++, loginId);
+				pstmt.setString(idx++, nickName);
+				pstmt.setInt(idx++, totalAmount);
+				pstmt.setLong(idx++, orderId);
+				idx = bindCartFilter(pstmt, idx, customerId, loginId, nickName, productIds);
+				pstmt.setLong(idx++, orderId);
+				idx = bindCartFilter(pstmt, idx, customerId, loginId, nickName, productIds);
+				bindCartFilter(pstmt, idx, customerId, loginId, nickName, productIds);
+
+				// 첫 결과는 잠금 조회, 이후 재고 차감 행 수, 차감 후 재고, 잔액 차감 행 수, 기록 잠금 조회, 나머지 세 문장의 영향받은 행 수를 차례로 읽음
+				pstmt.execute();
+				pstmt.getMoreResults();
+				int stockRows = pstmt.getUpdateCount();
+				pstmt.getMoreResults();
+				List<CartLine> stockAfter = new ArrayList<>();
+				try (ResultSet rs = pstmt.getResultSet()) {
+					while (rs.next()) {
+						stockAfter.add(new CartLine(rs.getInt("ProductID"), rs.getString("ProductName"), 0, 0, rs.getInt("StockQuantity")));
+					}
+				}
+				pstmt.getMoreResults();
+				int balanceRows = pstmt.getUpdateCount();
+				pstmt.getMoreResults(); // 기록 잠금 조회 결과는 읽지 않음
+				pstmt.getMoreResults();
+				int orderRows = pstmt.getUpdateCount();
+				pstmt.getMoreResults();
+				int ledgerRows = pstmt.getUpdateCount();
+				pstmt.getMoreResults();
+				int deletedRows = pstmt.getUpdateCount();
+
+				if (stockRows != lineCount) {
+					conn.rollback();
+					return Result.OUT_OF_STOCK;
+				}
+				if (balanceRows != 1) {
+					conn.rollback();
+					return Result.INSUFFICIENT_BALANCE;
+				}
+				if (orderRows != lineCount || ledgerRows != lineCount || deletedRows != lineCount) {
+					// 다른 곳에서 장바구니가 바뀐 경우 - 결제하지 않음
+					conn.rollback();
+					return Result.EMPTY;
+				}
+
+				conn.commit();
+				CustomerProfile.debit(customerId, totalAmount); // 캐시된 잔액도 같은 금액만큼 차감
+				for (CartLine line : stockAfter) {
+					ProductCatalog.updateStock(line.productId, line.stock); // 구매한 상품의 캐시 재고만 갱신 (카탈로그 전체는 유지)
+					StockWatcher.publish(line.productId, line.productName, line.stock); // 재고 부족 감시
+				}
+				return Result.SUCCESS;
+
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+		}
+	}
+
+	// 교착 상태, 잠금 대기 시간 초과, 직렬화 실패(SQLState 40001)는 다시 시도
+	private static boolean isRetryable(SQLException e) {
+		return e.getErrorCode() == ER_LOCK_DEADLOCK
+				|| e.getErrorCode() == ER_LOCK_WAIT_TIMEOUT
+				|| "40001".equals(e.getSQLState());
+	}
+
+	// 재시도 간격 - 시도할 때마다 늘리고, 동시에 실패한 구매끼리 같은 시점에 다시 부딪치지 않도록 무작위로 흩음
+	private static void backoff(int attempt) throws SQLException {
+		long delay = RETRY_BACKOFF_MS * attempt + ThreadLocalRandom.current().nextLong(RETRY_BACKOFF_MS);
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("구매 재시도 대기 중 인터럽트가 발생했습니다.", e);
+		}
+	}
+
+	// 지금까지 교착 상태 등으로 재시도한 횟수
+	public static long getRetryCount() {
+		return retryCount.get();
+	}
+
+	// "AND 컬럼 IN (?, ?, ...)" 조건 생성 (상품 목록이 없으면 빈 문자열)
+	private static String inClause(String column, int[] ids) {
+		if (ids == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(" AND ").append(column).append(" IN (");
+		for (int i = 0; i < ids.length; i++) {
+			sb.append(i == 0 ? "?" : ", ?");
+		}
+		return sb.append(')').toString();
+	}
+
+	private static int bindCartFilter(PreparedStatement pstmt, int idx, int customerId, String loginId,
+	                                  String nickName, int[] productIds) throws SQLException {
+		pstmt.setInt(idx++, customerId);
+		pstmt.setString(idx++, loginId);
+		pstmt.setString(idx++, nickName);
+		if (productIds != null) {
+			for (int productId : productIds) {
+				pstmt.setInt(idx++, productId);
+			}
+		}
+		return idx;
+	}
+
+	// 장바구니 한 줄
+	static class CartLine {
+		int productId;
+		String productName;
+		int quantity;
+		double price;
+		int stock;
+
+		public CartLine(int productId, String productName, int quantity, double price, int stock) {
+			this.productId = productId;
+			this.productName = productName;
+			this.quantity = quantity;
+			this.price = price;
+			this.stock = stock;
+		}
+
+		int getItemTotal() {
+			return (int) (price * quantity);
+		}
+	}
+
+	// 장바구니 조회 결과 (상품 목록 + 현재 잔액)
+	static class CartSnapshot {
+		List<CartLine> lines = new ArrayList<>();
+		int balance;
+
+		CartLine findByProductId(int productId) {
+			for (CartLine line : lines) {
+				if (line.productId == productId) {
+					return line;
+				}
+			}
+			return null;
+		}
+	}
+}
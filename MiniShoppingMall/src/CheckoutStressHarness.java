@@ -0,0 +1,262 @@
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 동시 구매 부하 테스트 (로컬 MySQL, Main.url 사용)
+ * - 테스트용 상품 2개와 고객 여러 명을 만들고, 모든 고객이 동시에 두 상품을 구매
+ *   (고객마다 장바구니 담는 순서를 다르게 해 잠금 순서 충돌을 유도)
+ * - 처리량(초당 구매 수), 결과별 건수, 재시도 횟수 출력
+ * - 초과 판매가 없는지 검증 (재고 >= 0, 차감된 재고 = 성공한 구매 수 x 수량)
+ * - 종료 시 테스트 데이터 삭제 (테스트 상품의 주문 내역, 판매 집계, 재고 부족 알림, 재고 변동 내역 포함)
+ *
+ * 실행 방법:
+ * - java CheckoutStressHarness [고객 수(기본 120)] [상품별 재고(기본 100)]
+ *
+ * 포함된 메소드:
+ * - main(): 부하 테스트 실행
+ * - setUp()/cleanUp(): 테스트 데이터 생성/삭제
+ * - verify(): 초과 판매 검증
+ *
+ * ===========================================
+ */
+public class CheckoutStressHarness {
+
+	// 테스트 데이터는 실제 데이터와 겹치지 않는 ID 범위를 사용
+	private static final int CATEGORY_ID = 99900;
+	private static final String CATEGORY_NAME = "STRESS_TEST";
+	private static final int[] PRODUCT_IDS = { 999001, 999002 };
+	private static final int PRICE = 1000;
+	private static final int QUANTITY = 1; // 고객 한 명이 상품마다 담는 수량
+	private static final int CUSTOMER_ID_BASE = 990000;
+	private static final String LOGIN_PREFIX = "stress_";
+
+	private static final int ER_NO_SUCH_TABLE = 1146;
+
+	public static void main(String[] args) throws Exception {
+		int shoppers = args.length > 0 ? Integer.parseInt(args[0]) : 120;
+		int stock = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+		System.out.println("======= 동시 구매 부하 테스트 =======");
+		System.out.println("고객 수: " + shoppers + "명, 상품별 재고: " + stock + "개, 상품 수: " + PRODUCT_IDS.length);
+
+		try {
+			Schema.ensure();
+			cleanUp();
+			setUp(shoppers, stock);
+
+			AtomicInteger success = new AtomicInteger();
+			AtomicInteger outOfStock = new AtomicInteger();
+			AtomicInteger otherFailure = new AtomicInteger();
+			AtomicInteger errors = new AtomicInteger();
+
+			ExecutorService executor = Executors.newFixedThreadPool(shoppers);
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (int i = 0; i < shoppers; i++) {
+				final int customerId = CUSTOMER_ID_BASE + i;
+				futures.add(executor.submit(() -> {
+					try {
+						start.await();
+						CheckoutEngine.Result result = CheckoutEngine.checkout(customerId, LOGIN_PREFIX + customerId,
+								LOGIN_PREFIX + customerId, null, PRODUCT_IDS.length, PRICE * QUANTITY * PRODUCT_IDS.length);
+						switch (result) {
+							case SUCCESS:
+								success.incrementAndGet();
+								break;
+							case OUT_OF_STOCK:
+								outOfStock.incrementAndGet();
+								break;
+							default:
+								otherFailure.incrementAndGet();
+						}
+					} catch (SQLException e) {
+						errors.incrementAndGet();
+						e.printStackTrace();
+					}
+					return null;
+				}));
+			}
+
+			long retriesBefore = CheckoutEngine.getRetryCount();
+			long startedAt = System.nanoTime();
+			start.countDown();
+			for (Future<?> f : futures) {
+				f.get();
+			}
+			long elapsedNanos = System.nanoTime() - startedAt;
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+
+			double seconds = elapsedNanos / 1_000_000_000.0;
+			System.out.println();
+			System.out.println("======= 결과 =======");
+			System.out.printf("소요 시간: %.3f초, 처리량: %.1f건/초%n", seconds, shoppers / seconds);
+			System.out.println("구매 성공: " + success.get() + "건");
+			System.out.println("재고 부족: " + outOfStock.get() + "건");
+			System.out.println("기타 실패: " + otherFailure.get() + "건");
+			System.out.println("오류: " + errors.get() + "건");
+			System.out.println("재시도: " + (CheckoutEngine.getRetryCount() - retriesBefore) + "회");
+
+			boolean ok = verify(stock, success.get());
+			System.out.println(ok ? "검증 통과: 초과 판매 없음" : "검증 실패: 초과 판매 또는 불일치 발생");
+			System.out.println("===================");
+
+		} catch (SQLException e) {
+			System.out.println("\n데이터베이스 오류가 발생했습니다.");
+			e.printStackTrace();
+		} finally {
+			try {
+				cleanUp();
+			} catch (SQLException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	// 테스트 상품, 고객, 장바구니 생성
+	private static void setUp(int shoppers, int stock) throws SQLException {
+		String productSql = "INSERT INTO shopdatatable (CategoryID, CategoryName, ProductID, ProductName, Price, StockQuantity, Origin) " +
+		                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+		String customerSql = "INSERT INTO Customer (CustomerID, LoginID, LoginPW, NickName, PayCharge, TotalCharge, Grade) " +
+		                     "VALUES (?, ?, ?, ?, ?, ?, ?)";
+		String cartSql = "INSERT INTO SHOPCART (CustomerID, LoginID, NickName, ProductID, ProductName, Quantity) VALUES (?, ?, ?, ?, ?, ?)";
+
+		try (Connection conn = Main.getConnection()) {
+			conn.setAutoCommit(false);
+			try (PreparedStatement productStmt = conn.prepareStatement(productSql);
+			     PreparedStatement customerStmt = conn.prepareStatement(customerSql);
+			     PreparedStatement cartStmt = conn.prepareStatement(cartSql)) {
+
+				for (int productId : PRODUCT_IDS) {
+					productStmt.setInt(1, CATEGORY_ID);
+					productStmt.setString(2, CATEGORY_NAME);
+					productStmt.setInt(3, productId);
+					productStmt.setString(4, productName(productId));
+					productStmt.setInt(5, PRICE);
+					productStmt.setInt(6, stock);
+					productStmt.setString(7, "TEST");
+					productStmt.addBatch();
+				}
+				productStmt.executeBatch();
+
+				for (int i = 0; i < shoppers; i++) {
+					int customerId = CUSTOMER_ID_BASE + i;
+					String loginId = LOGIN_PREFIX + customerId;
+
+					customerStmt.setInt(1, customerId);
+					customerStmt.setString(2, loginId);
+					customerStmt.setString(3, "stress");
+					customerStmt.setString(4, loginId);
+					customerStmt.setInt(5, PRICE * QUANTITY * PRODUCT_IDS.length * 10);
+					customerStmt.setInt(6, 0);
+					customerStmt.setString(7, "Bronze");
+					customerStmt.addBatch();
+
+					// 짝수 고객은 정순, 홀수 고객은 역순으로 장바구니에 담음
+					for (int j = 0; j < PRODUCT_IDS.length; j++) {
+						int productId = PRODUCT_IDS[i % 2 == 0 ? j : PRODUCT_IDS.length - 1 - j];
+						cartStmt.setInt(1, customerId);
+						cartStmt.setString(2, loginId);
+						cartStmt.setString(3, loginId);
+						cartStmt.setInt(4, productId);
+						cartStmt.setString(5, productName(productId));
+						cartStmt.setInt(6, QUANTITY);
+						cartStmt.addBatch();
+					}
+				}
+				customerStmt.executeBatch();
+				cartStmt.executeBatch();
+				conn.commit();
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+		}
+	}
+
+	// 남은 재고와 성공한 구매 수가 맞는지 확인
+	private static boolean verify(int initialStock, int successCount) throws SQLException {
+		String sql = "SELECT ProductID, StockQuantity FROM shopdatatable WHERE CategoryID = ? AND ProductID IS NOT NULL ORDER BY ProductID";
+		boolean ok = true;
+
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+			pstmt.setInt(1, CATEGORY_ID);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				while (rs.next()) {
+					int remaining = rs.getInt("StockQuantity");
+					int sold = initialStock - remaining;
+					System.out.println("ProductID " + rs.getInt("ProductID") + ": 판매 " + sold + "개, 남은 재고 " + remaining + "개");
+					if (remaining < 0 || sold != successCount * QUANTITY) {
+						ok = false;
+					}
+				}
+			}
+		}
+		return ok;
+	}
+
+	// 테스트 데이터 삭제 - 테스트 구매가 판매 집계(SalesRollup)와 재고 부족 알림에 남지 않도록 주문 내역/집계/알림/재고 변동 내역도 함께 삭제
+	private static void cleanUp() throws SQLException {
+		// LIKE에서 _는 임의의 한 글자이므로 이스케이프 (stress로 시작하는 실제 아이디를 지우지 않도록)
+		String loginPattern = LOGIN_PREFIX.replace("!", "!!").replace("_", "!_").replace("%", "!%") + "%";
+
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement cart = conn.prepareStatement("DELETE FROM SHOPCART WHERE CustomerID >= ? AND LoginID LIKE ? ESCAPE '!'");
+		     PreparedStatement customer = conn.prepareStatement("DELETE FROM Customer WHERE CustomerID >= ? AND LoginID LIKE ? ESCAPE '!'");
+		     PreparedStatement product = conn.prepareStatement("DELETE FROM shopdatatable WHERE CategoryID = ?")) {
+			cart.setInt(1, CUSTOMER_ID_BASE);
+			cart.setString(2, loginPattern);
+			cart.executeUpdate();
+			customer.setInt(1, CUSTOMER_ID_BASE);
+			customer.setString(2, loginPattern);
+			customer.executeUpdate();
+			deleteTestProductRows(conn, "ORDER_HISTORY");
+			deleteTestProductRows(conn, "SALES_ROLLUP");
+			deleteTestProductRows(conn, "STOCK_ALERT");
+			deleteTestProductRows(conn, "STOCK_ALERT_STATE");
+			deleteTestProductRows(conn, "STOCK_LEDGER");
+			product.setInt(1, CATEGORY_ID);
+			product.executeUpdate();
+		}
+		ProductCatalog.invalidate();
+	}
+
+	// 테스트 상품(PRODUCT_IDS)의 행 삭제 - 아직 만들어지지 않은 테이블은 건너뜀
+	private static void deleteTestProductRows(Connection conn, String table) throws SQLException {
+		StringBuilder sql = new StringBuilder("DELETE FROM ").append(table).append(" WHERE ProductID IN (");
+		for (int i = 0; i < PRODUCT_IDS.length; i++) {
+			sql.append(i == 0 ? "?" : ", ?");
+		}
+		sql.append(')');
+
+		try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+			for (int i = 0; i < PRODUCT_IDS.length; i++) {
+				pstmt.setInt(i + 1, PRODUCT_IDS[i]);
+			}
+			pstmt.executeUpdate();
+		} catch (SQLException e) {
+			if (e.getErrorCode() != ER_NO_SUCH_TABLE) {
+				throw e;
+			}
+		}
+	}
+
+	private static String productName(int productId) {
+		return "STRESS_" + productId;
+	}
+}
@@ -0,0 +1,88 @@
+import java.sql.*;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 고객 테이블(Customer) 데이터 접근 - 아이디/닉네임 중복 확인과 고객 프로필 조회 SQL을 한 곳에 모음
+ * - SQL은 상수 문자열로만 사용하고 연결 풀(Main.getConnection())의 연결로 실행
+ *   (연결 URL의 useServerPrepStmts/cachePrepStmts 설정으로 같은 SQL은 연결마다 한 번만 준비)
+ * - 조회 결과는 CustomerProfile 객체로 변환
+ *
+ * 포함된 메소드:
+ * - existsLoginId(): 로그인 아이디 사용 여부
+ * - existsNickName(): 닉네임 사용 여부
+ * - findProfileByNickName(): 닉네임으로 프로필 조회
+ * - findProfile(): 고객 키(CustomerID, LoginID, NickName)로 프로필 조회
+ *
+ * ===========================================
+ */
+public class CustomerDao {
+
+	private static final String PROFILE_COLUMNS = "CustomerID, LoginID, NickName, PayCharge, TotalCharge, Grade";
+
+	private static final String EXISTS_LOGIN_ID_SQL = "SELECT 1 FROM Customer WHERE LoginID = ? LIMIT 1";
+	private static final String EXISTS_NICKNAME_SQL = "SELECT 1 FROM Customer WHERE NickName = ? LIMIT 1";
+	private static final String PROFILE_BY_NICKNAME_SQL =
+			"SELECT " + PROFILE_COLUMNS + " FROM Customer WHERE NickName = ?";
+	private static final String PROFILE_BY_KEY_SQL =
+			"SELECT " + PROFILE_COLUMNS + " FROM Customer WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
+
+	// 로그인 아이디가 이미 있으면 true
+	public static boolean existsLoginId(String loginId) throws SQLException {
+		return exists(EXISTS_LOGIN_ID_SQL, loginId);
+	}
+
+	// 닉네임이 이미 있으면 true
+	public static boolean existsNickName(String nickName) throws SQLException {
+		return exists(EXISTS_NICKNAME_SQL, nickName);
+	}
+
+	// 닉네임으로 프로필 조회 (없으면 null)
+	public static CustomerProfile findProfileByNickName(String nickName) throws SQLException {
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(PROFILE_BY_NICKNAME_SQL)) {
+			pstmt.setString(1, nickName);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				return rs.next() ? readProfile(rs) : null;
+			}
+		}
+	}
+
+	// 고객 키로 프로필 조회 (없으면 null)
+	public static CustomerProfile findProfile(int customerId, String loginId, String nickName) throws SQLException {
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(PROFILE_BY_KEY_SQL)) {
+			pstmt.setInt(1, customerId);
+			pstmt.setString(2, loginId);
+			pstmt.setString(3, nickName);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				return rs.next() ? readProfile(rs) : null;
+			}
+		}
+	}
+
+	private static boolean exists(String sql, String value) throws SQLException {
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+			pstmt.setString(1, value);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				return rs.next();
+			}
+		}
+	}
+
+	// 현재 행을 프로필로 변환 (PROFILE_COLUMNS 순서)
+	private static CustomerProfile readProfile(ResultSet rs) throws SQLException {
+		return new CustomerProfile(
+				rs.getInt(1),
+				rs.getString(2),
+				rs.getString(3),
+				rs.getDouble(4),
+				rs.getDouble(5),
+				rs.getString(6));
+	}
+}
@@ -17,6 +17,7 @@ import java.sql.*;
  * 
  * 포함된 메소드:
  * - calculateGrade(): 누적 충전액에 따른 등급 계산
+ * - gradeCaseSql(): 같은 등급 기준의 SQL CASE 식 (UPDATE 안에서 등급을 함께 계산할 때 사용)
  * - updateCustomerGrade(): 고객 등급 업데이트
  * - getGradeInfo(): 등급 정보 조회
  * 
@@ -50,40 +51,38 @@ public class CustomerGrade {
     }
     
     /**
-     * 고객의 등급을 업데이트합니다.
+     * calculateGrade()와 같은 기준으로 등급을 계산하는 SQL CASE 식을 만듭니다.
+     * @param totalChargeColumn 누적 충전액 컬럼 (또는 식)
+     * @return CASE 식
+     */
+    public static String gradeCaseSql(String totalChargeColumn) {
+        return "CASE WHEN " + totalChargeColumn + " >= " + VIP_THRESHOLD + " THEN 'VIP' " +
+               "WHEN " + totalChargeColumn + " >= " + DIAMOND_THRESHOLD + " THEN 'Diamond' " +
+               "WHEN " + totalChargeColumn + " >= " + GOLD_THRESHOLD + " THEN 'Gold' " +
+               "WHEN " + totalChargeColumn + " >= " + SILVER_THRESHOLD + " THEN 'Silver' " +
+               "ELSE 'Bronze' END";
+    }
+    
+    /**
+     * 고객의 등급을 업데이트합니다. (누적 충전액 조회 없이 UPDATE 한 문장으로 계산)
      * @param customerId 고객 ID
      * @param loginId 로그인 ID
      * @param nickName 닉네임
      * @return 등급 업데이트 성공 여부
      */
     public static boolean updateCustomerGrade(int customerId, String loginId, String nickName) {
-        String sql = "UPDATE Customer SET Grade = ? WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
+        String sql = "UPDATE Customer SET Grade = " + gradeCaseSql("TotalCharge") +
+                     " WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
         
-        try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
+        try (Connection conn = Main.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            // 현재 누적 충전액 조회
-            String totalChargeSql = "SELECT TotalCharge FROM Customer WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
-            try (PreparedStatement totalChargePstmt = conn.prepareStatement(totalChargeSql)) {
-                totalChargePstmt.setInt(1, customerId);
-                totalChargePstmt.setString(2, loginId);
-                totalChargePstmt.setString(3, nickName);
-                
-                ResultSet rs = totalChargePstmt.executeQuery();
-                if (rs.next()) {
-                    double totalCharge = rs.getDouble("TotalCharge");
-                    String newGrade = calculateGrade(totalCharge);
-                    
-                    // 등급 업데이트
-                    pstmt.setString(1, newGrade);
-                    pstmt.setInt(2, customerId);
-                    pstmt.setString(3, loginId);
-                    pstmt.setString(4, nickName);
-                    
-                    int result = pstmt.executeUpdate();
-                    return result > 0;
-                }
-            }
+            pstmt.setInt(1, customerId);
+            pstmt.setString(2, loginId);
+            pstmt.setString(3, nickName);
+            
+            int result = pstmt.executeUpdate();
+            return result > 0;
         } catch (SQLException e) {
             System.out.println("\n등급 업데이트 중 오류가 발생했습니다.");
             e.printStackTrace();
@@ -100,35 +99,16 @@ public class CustomerGrade {
      * @return 등급 정보 (등급, 누적 충전액, 다음 등급까지 필요한 금액)
      */
     public static String getGradeInfo(int customerId, String loginId, String nickName) {
-        String sql = "SELECT Grade, TotalCharge FROM Customer WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
+        // 세션에 같은 고객의 프로필이 있으면 조회하지 않음
+        CustomerProfile profile = CustomerSession.current().profile;
+        if (profile != null && profile.customerId == customerId && profile.nickName.equals(nickName)) {
+            return formatGradeInfo(profile.grade, profile.totalCharge);
+        }
         
-        try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, customerId);
-            pstmt.setString(2, loginId);
-            pstmt.setString(3, nickName);
-            
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                String currentGrade = rs.getString("Grade");
-                double totalCharge = rs.getDouble("TotalCharge");
-                
-                // 다음 등급까지 필요한 금액 계산
-                int nextThreshold = getNextThreshold(currentGrade);
-                int remainingAmount = nextThreshold - (int)totalCharge;
-                
-                StringBuilder gradeInfo = new StringBuilder();
-                gradeInfo.append("현재 등급: ").append(currentGrade).append("\n");
-                gradeInfo.append("누적 충전액: ").append((int)totalCharge).append("원\n");
-                
-                if (remainingAmount > 0) {
-                    gradeInfo.append("다음 등급까지: ").append(remainingAmount).append("원");
-                } else {
-                    gradeInfo.append("최고 등급입니다!");
-                }
-                
-                return gradeInfo.toString();
+        try {
+            CustomerProfile found = CustomerDao.findProfile(customerId, loginId, nickName);
+            if (found != null) {
+                return formatGradeInfo(found.grade, found.totalCharge);
             }
         } catch (SQLException e) {
             System.out.println("\n등급 정보 조회 중 오류가 발생했습니다.");
@@ -138,6 +118,25 @@ public class CustomerGrade {
         return "등급 정보를 조회할 수 없습니다.";
     }
     
+    // 등급 정보 문자열 (등급, 누적 충전액, 다음 등급까지 필요한 금액)
+    private static String formatGradeInfo(String currentGrade, double totalCharge) {
+        // 다음 등급까지 필요한 금액 계산
+        int nextThreshold = getNextThreshold(currentGrade);
+        int remainingAmount = nextThreshold - (int)totalCharge;
+        
+        StringBuilder gradeInfo = new StringBuilder();
+        gradeInfo.append("현재 등급: ").append(currentGrade).append("\n");
+        gradeInfo.append("누적 충전액: ").append((int)totalCharge).append("원\n");
+        
+        if (remainingAmount > 0) {
+            gradeInfo.append("다음 등급까지: ").append(remainingAmount).append("원");
+        } else {
+            gradeInfo.append("최고 등급입니다!");
+        }
+        
+        return gradeInfo.toString();
+    }
+    
     /**
      * 현재 등급의 다음 등급까지 필요한 금액을 계산합니다.
      * @param currentGrade 현재 등급
@@ -0,0 +1,110 @@
+import java.sql.*;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 로그인한 고객의 잔액/누적 충전액/등급을 세션에 보관하는 캐시
+ * - 처음 필요할 때 한 번만 조회하고, 이후 메뉴 화면(등급 표시), 충전 화면(잔액 표시),
+ *   내 정보 조회는 DB를 읽지 않음
+ * - 충전은 잔액/누적 충전액/등급을 UPDATE 한 문장으로 갱신 (등급은 같은 UPDATE 안의 CASE 식으로 계산)
+ *   -> 충전 후 잔액/등급 확인과 별도의 등급 갱신 쿼리가 필요 없음
+ * - 충전/구매가 DB에 반영되면 캐시도 같은 계산으로 바로 갱신
+ *
+ * 포함된 메소드:
+ * - current(): 현재 세션 고객의 프로필 (없으면 한 번 조회)
+ * - seed(): 회원가입 직후 프로필 설정 (조회 없이)
+ * - charge(): 페이 충전 (UPDATE 한 문장) + 캐시 갱신
+ * - debit(): 구매 완료 후 캐시된 잔액 차감
+ * - invalidate(): 캐시 폐기
+ *
+ * ===========================================
+ */
+public class CustomerProfile {
+
+	final int customerId;
+	final String loginId;
+	final String nickName;
+	double payCharge;
+	double totalCharge;
+	String grade;
+
+	CustomerProfile(int customerId, String loginId, String nickName, double payCharge, double totalCharge, String grade) {
+		this.customerId = customerId;
+		this.loginId = loginId;
+		this.nickName = nickName;
+		this.payCharge = payCharge;
+		this.totalCharge = totalCharge;
+		this.grade = grade;
+	}
+
+	/**
+	 * 현재 세션 고객(마이페이지 닉네임 기준)의 프로필을 반환합니다.
+	 * 캐시가 없거나 다른 고객의 것이면 한 번 조회하여 보관합니다.
+	 * @return 프로필 (고객을 찾을 수 없으면 null)
+	 */
+	public static CustomerProfile current() throws SQLException {
+		CustomerSession session = CustomerSession.current();
+		CustomerProfile profile = session.profile;
+		if (profile != null && profile.nickName.equals(session.name)) {
+			return profile;
+		}
+
+		profile = CustomerDao.findProfileByNickName(session.name);
+		session.profile = profile;
+		return profile;
+	}
+
+	// 회원가입 직후 - 방금 저장한 값으로 프로필 설정 (조회하지 않음)
+	public static void seed(int customerId, String loginId, String nickName) {
+		CustomerSession.current().profile = new CustomerProfile(customerId, loginId, nickName, 0, 0, CustomerGrade.calculateGrade(0));
+	}
+
+	/**
+	 * 페이를 충전합니다. 잔액, 누적 충전액, 등급을 UPDATE 한 문장으로 갱신하고 캐시에도 반영합니다.
+	 * @param amount 충전 금액
+	 * @return 충전 전 등급 (충전 실패 시 null)
+	 */
+	public String charge(double amount) throws SQLException {
+		// MySQL은 SET 절을 왼쪽부터 적용하므로 Grade의 CASE 식은 갱신된 TotalCharge를 사용
+		String sql = "UPDATE Customer SET PayCharge = PayCharge + ?, TotalCharge = TotalCharge + ?, " +
+		             "Grade = " + CustomerGrade.gradeCaseSql("TotalCharge") + " WHERE CustomerID = ? AND NickName = ?";
+
+		int rows;
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+			pstmt.setDouble(1, amount);
+			pstmt.setDouble(2, amount);
+			pstmt.setInt(3, customerId);
+			pstmt.setString(4, nickName);
+			rows = pstmt.executeUpdate();
+		}
+		if (rows == 0) {
+			invalidate();
+			return null;
+		}
+
+		synchronized (this) {
+			String oldGrade = grade;
+			payCharge += amount;
+			totalCharge += amount;
+			grade = CustomerGrade.calculateGrade(totalCharge);
+			return oldGrade;
+		}
+	}
+
+	// 구매 완료 후 - 현재 세션에 같은 고객의 프로필이 있으면 잔액 차감 (구매 트랜잭션과 같은 계산)
+	public static void debit(int customerId, double amount) {
+		CustomerProfile profile = CustomerSession.current().profile;
+		if (profile != null && profile.customerId == customerId) {
+			synchronized (profile) {
+				profile.payCharge -= amount;
+			}
+		}
+	}
+
+	// 캐시 폐기 (로그아웃, 회원 탈퇴, 반영 실패 시)
+	public static void invalidate() {
+		CustomerSession.current().profile = null;
+	}
+}
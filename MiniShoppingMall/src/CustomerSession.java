@@ -0,0 +1,186 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Scanner;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 고객 한 명의 접속 상태(세션) 보관
+ *   (로그인 정보, 마이페이지 닉네임, 잔액/등급 캐시, 장바구니 화면 번호 매핑, 장바구니 쓰기 버퍼, 입출력 스트림)
+ * - 세션을 처리 중인 스레드에 연결하여 Login/ShopCart/BuyProductInCart 등이
+ *   정적 변수 대신 현재 세션의 상태를 사용하도록 함
+ * - 여러 세션을 동시에 처리할 때 System.in/System.out을 현재 세션의 스트림으로 연결
+ *
+ * 포함된 메소드:
+ * - current(): 현재 스레드의 세션 (없으면 콘솔 세션)
+ * - input(): 현재 세션의 입력 Scanner (모든 화면이 하나를 함께 사용)
+ * - run(): 세션을 현재 스레드에 연결하고 화면 흐름 실행
+ * - exit(): 프로그램/접속 종료
+ * - installStreams(): System.in/System.out을 세션별 스트림으로 교체 (SessionServer에서 사용)
+ *
+ * ===========================================
+ */
+public class CustomerSession {
+
+	// 콘솔 실행(Main.main) 시 사용하는 기본 세션
+	private static final CustomerSession CONSOLE = new CustomerSession(System.in, System.out, true);
+
+	private static final ThreadLocal<CustomerSession> CURRENT = new ThreadLocal<>();
+
+	// 로그인한 고객 정보 (로그인 전에는 -1 / 빈 문자열)
+	int customerId = -1;
+	String customerName = "";
+	String loginId = "";
+
+	// 마이페이지에서 사용하는 닉네임 (비밀번호 인증 시 설정)
+	String name;
+
+	// 잔액/누적 충전액/등급 캐시 (CustomerProfile.current()에서 조회)
+	CustomerProfile profile;
+
+	// 상품검색에서 선택한 카테고리 (Screen.PRODUCTS 화면에서 사용)
+	String selectedCategory;
+
+	// 장바구니 화면의 번호와 상품 매핑
+	final Map<Integer, Integer> itemNumberToProductId = new HashMap<>();
+	final Map<Integer, String> itemNumberToProductName = new HashMap<>();
+
+	// 로그인한 고객의 장바구니 쓰기 버퍼 (CartBuffer.current()에서 생성)
+	CartBuffer cartBuffer;
+
+	// 세션 입출력
+	final InputStream in;
+	final OutputStream out;
+	private final boolean console;
+	private Scanner input; // input()에서 처음 사용할 때 생성, 세션이 끝날 때까지 재사용
+
+	public CustomerSession(InputStream in, OutputStream out) {
+		this(in, out, false);
+	}
+
+	private CustomerSession(InputStream in, OutputStream out, boolean console) {
+		this.in = in;
+		this.out = out;
+		this.console = console;
+	}
+
+	// 현재 스레드가 처리 중인 세션 (연결된 세션이 없으면 콘솔 세션)
+	public static CustomerSession current() {
+		CustomerSession session = CURRENT.get();
+		return session != null ? session : CONSOLE;
+	}
+
+	/**
+	 * 현재 세션의 입력 Scanner를 반환합니다.
+	 * 화면마다 Scanner를 새로 만들지 않고 이 Scanner 하나를 사용하며, 화면 코드에서 닫지 않습니다.
+	 */
+	public static Scanner input() {
+		CustomerSession session = current();
+		if (session.input == null) {
+			session.input = new Scanner(session.in);
+		}
+		return session.input;
+	}
+
+	// 세션을 현재 스레드에 연결한 채로 화면 흐름을 실행
+	public void run(Runnable flow) {
+		CustomerSession previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			flow.run();
+		} catch (SessionClosedException e) {
+			// exit() 호출 - 정상 종료
+		} finally {
+			CartBuffer.closeCurrent(); // 접속 종료 시 장바구니 변경 반영
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	// 종료 - 콘솔이면 프로그램 종료, 접속 세션이면 이 세션의 화면 흐름만 종료
+	public void exit() {
+		if (console) {
+			System.exit(0);
+		}
+		throw new SessionClosedException();
+	}
+
+	/**
+	 * System.in/System.out을 현재 세션의 스트림으로 연결합니다.
+	 * 화면 코드가 System.in/System.out을 그대로 사용해도 각 세션의 입출력으로 전달되며,
+	 * 세션이 연결되지 않은 스레드는 원래 콘솔을 사용합니다.
+	 * 화면 코드에서 Scanner를 닫아도 세션 스트림은 닫히지 않습니다.
+	 */
+	public static synchronized void installStreams() {
+		if (System.out instanceof SessionPrintStream) {
+			return;
+		}
+		System.setIn(new InputStream() {
+			@Override
+			public int read() throws IOException {
+				return current().in.read();
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return current().in.read(b, off, len);
+			}
+
+			@Override
+			public int available() throws IOException {
+				return current().in.available();
+			}
+
+			@Override
+			public void close() {
+				// 세션 입력은 SessionServer가 접속 종료 시 닫음
+			}
+		});
+		System.setOut(new SessionPrintStream());
+	}
+
+	// 세션 종료 신호 (화면 흐름의 어느 깊이에서든 run()까지 빠져나오기 위해 사용)
+	static final class SessionClosedException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		SessionClosedException() {
+			super(null, null, false, false);
+		}
+	}
+
+	// 현재 세션의 출력으로 쓰는 PrintStream
+	private static final class SessionPrintStream extends PrintStream {
+		SessionPrintStream() {
+			super(new OutputStream() {
+				@Override
+				public void write(int b) throws IOException {
+					current().out.write(b);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					current().out.write(b, off, len);
+				}
+
+				@Override
+				public void flush() throws IOException {
+					current().out.flush();
+				}
+
+				@Override
+				public void close() {
+					// 세션 출력은 SessionServer가 접속 종료 시 닫음
+				}
+			}, true, StandardCharsets.UTF_8);
+		}
+	}
+}
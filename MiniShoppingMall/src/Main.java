@@ -7,12 +7,18 @@ import java.util.Scanner;
  * 주요 기능:
  * - 프로그램 진입점 (main 메소드)
  * - 메인 인터페이스 제공 (상품검색, 장바구니, 마이페이지 메뉴)
- * - 데이터베이스 연결 정보 관리
- * - 전체 애플리케이션의 흐름 제어
+ * - 데이터베이스 연결 정보 및 연결 풀 관리
+ * - 전체 애플리케이션의 흐름 제어 (Screen.run()의 화면 이동 루프)
  * 
  * 포함된 메소드:
  * - main(): 프로그램 진입점
  * - MainInterface(): 메인 메뉴 인터페이스
+ * - getConnection(): 연결 풀에서 데이터베이스 연결 대여
+ * - shutdown(): 장바구니 버퍼 반영 후 연결 풀 종료
+ * 
+ * 여러 고객을 한 프로세스에서 동시에 처리하려면 SessionServer를 실행합니다.
+ * ConnectionPool, ProductDao, IdAllocator, CategoryIndex, StockWatcher, StockLedger, Schema는 직원용과 함께 쓰는
+ * 공용 소스 폴더(MiniShoppingMall(Shared)/src, 프로젝트에는 shared로 연결)에 있습니다.
  * 
  * ===========================================
  */
@@ -20,60 +26,80 @@ public class Main {
 	static String url = "jdbc:mysql://localhost:3306/shoppingmall"
 	           + "?useUnicode=true&characterEncoding=UTF-8"
 	           + "&serverTimezone=Asia/Seoul"
-	           + "&useSSL=false&allowPublicKeyRetrieval=true";
+	           + "&useSSL=false&allowPublicKeyRetrieval=true"
+	           + "&allowMultiQueries=true" // 구매 처리(CheckoutEngine)를 한 번의 왕복으로 전송
+	           // 서버 측 prepared statement를 연결마다 캐시 (같은 SQL은 연결마다 한 번만 준비, 멀티 스테이트먼트는 자동으로 클라이언트 측 처리)
+	           + "&useServerPrepStmts=true&cachePrepStmts=true&prepStmtCacheSize=250&prepStmtCacheSqlLimit=2048";
 	static String user = "root";
 	static String pass = "1369";	
 	
+	// 모든 화면이 공유하는 연결 풀 (메뉴 동작마다 TCP 연결 + 인증을 반복하지 않도록)
+	private static final ConnectionPool pool = new ConnectionPool(url, user, pass);
+	
 	public static void main(String[] args) {
-		Login.LoginInterface();
+		Runtime.getRuntime().addShutdownHook(new Thread(Main::shutdown));
+		if (!initSchema()) {
+			return;
+		}
+		Screen.run(Screen.LOGIN);
+		CustomerSession.current().exit(); // 콘솔 프로그램 종료
+	}
+	
+	// 공용 테이블 생성 (Schema) - 실패하면 false
+	static boolean initSchema() {
+		try {
+			Schema.ensure();
+			return true;
+		} catch (SQLException e) {
+			System.out.println("데이터베이스 초기화 중 오류가 발생했습니다.");
+			e.printStackTrace();
+			return false;
+		}
 	}
 	
-	// 메인 인터페이스 - 상품검색, 장바구니, 마이페이지 메뉴 제공
-	public static void MainInterface()
+	// 연결 풀에서 연결 대여 (close() 호출 시 풀로 반환됨)
+	public static Connection getConnection() throws SQLException {
+		return pool.getConnection();
+	}
+	
+	// 프로그램 종료 시 - 반영되지 않은 장바구니 변경을 먼저 반영한 뒤 연결 풀 종료
+	public static void shutdown() {
+		CartBuffer.flushAll();
+		pool.shutdown();
+	}
+	
+	// 메인 인터페이스 - 상품검색, 장바구니, 마이페이지 메뉴 제공 (선택한 화면을 반환)
+	public static Screen MainInterface()
 	{
-		Scanner sc = new Scanner(System.in);
-		int choose = -1;
-		while(choose != 0)
+		Scanner sc = CustomerSession.input();
+		while(true)
 		{
+			System.out.println();
+			System.out.println("----- JihoMarket에 오신 것을 환영합니다! -----");
+			String name = CustomerSession.current().name;
+			if (name != null && !name.isEmpty()) {
+				System.out.println("[등급 : " + CreateCustomer.getCurrentGrade() + "]");
+			}
+			System.out.println("1. 상품검색");
+			System.out.println("2. 장바구니");
+			System.out.println("3. 마이페이지");
+			System.out.println("-----------------------------------------");
+			System.out.print("서비스를 선택하세요.(종료 : 0 입력) : ");
+			String input = sc.nextLine();
 			try {
-				System.out.println();
-				System.out.println("----- JihoMarket에 오신 것을 환영합니다! -----");
-				if (CreateCustomer.name != null && !CreateCustomer.name.isEmpty()) {
-					System.out.println("[등급 : " + CreateCustomer.getCurrentGrade() + "]");
-				}
-				System.out.println("1. 상품검색");
-				System.out.println("2. 장바구니");
-				System.out.println("3. 마이페이지");
-				System.out.println("-----------------------------------------");
-				System.out.print("서비스를 선택하세요.(종료 : 0 입력) : ");
-				String input = sc.nextLine();
-				try {
-					choose = Integer.parseInt(input);
-					if(choose == 1) 
-					{
-						SearchingProduct.Searching(); // 전체 상품 조회 인터페이스
-						return;
-					}
-					//else if(choose == 1) // 상품검색 인터페이스
-					else if(choose == 2) ShopCart.CartInfo();
-					else if(choose == 3) 
-					{
-						CreateCustomer.CheckPW(); // 고객 정보 인터페이스
-						return;
-					}
-					else if(choose == 0) 
-					{
-						System.out.println("프로그램 종료");
-                        System.exit(0);
-					}
-					else System.out.println("\n잘못된 선택입니다. 1-3번 중에서 선택해주세요.");
-				} 
-				catch (NumberFormatException e) {
-					System.out.println("\n올바른 숫자를 입력해주세요.");
+				int choose = Integer.parseInt(input);
+				if(choose == 1) return Screen.CATEGORIES; // 전체 상품 조회 인터페이스
+				else if(choose == 2) return Screen.CART;
+				else if(choose == 3) return Screen.CHECK_PW; // 고객 정보 인터페이스
+				else if(choose == 0) 
+				{
+					System.out.println("프로그램 종료");
+					return Screen.EXIT;
 				}
-				
-			} catch (NumberFormatException e) {
-				System.out.println("\n올바른 숫자를 입력해주세요.\n");
+				else System.out.println("\n잘못된 선택입니다. 1-3번 중에서 선택해주세요.");
+			} 
+			catch (NumberFormatException e) {
+				System.out.println("\n올바른 숫자를 입력해주세요.");
 			}
 		}
 	}
@@ -0,0 +1,178 @@
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 프로세스 전체에서 공유하는 상품 카탈로그 캐시
+ * - 정렬된 카테고리 목록 (CategoryIndex) + 카테고리별 상품 페이지 (불변 스냅샷)
+ * - 상품 목록은 키셋 페이지 단위로 조회 (WHERE ProductID > 마지막ID ORDER BY ProductID LIMIT n)
+ *   카테고리에 상품이 아무리 많아도 한 페이지를 읽는 시간과 메모리는 일정
+ *   (shopdatatable에 (CategoryName, ProductID) 인덱스가 있으면 페이지마다 인덱스 범위 조회 한 번)
+ * - 읽은 페이지는 캐시에 보관 (최대 MAX_CACHED_PAGES개)
+ * - TTL 만료 또는 명시적 무효화 시 새 스냅샷을 만들어 원자적으로 교체
+ * - 재고는 캐시에서 제공하고, 장바구니 담기 직전에만 DB에서 다시 읽음 (read-through)
+ *
+ * 포함된 메소드:
+ * - getCategories(): 카테고리 목록 조회
+ * - getProductPage(): 카테고리별 상품 한 페이지 조회 (ProductID 순)
+ * - refreshStock(): 특정 상품의 현재 재고를 DB에서 읽어 캐시에 반영
+ * - updateStock(): 이미 읽은 재고(결제 직후 등)를 캐시에 반영
+ * - invalidate(): 캐시 무효화 (다음 조회 시 다시 적재)
+ *
+ * ===========================================
+ */
+public class ProductCatalog {
+
+	// 스냅샷 유지 시간 - 이 시간 안에는 같은 페이지 조회가 DB를 읽지 않음
+	private static final long TTL_MS = 60_000;
+
+	// 스냅샷 하나가 보관하는 최대 페이지 수 (넘으면 페이지 캐시를 비움)
+	private static final int MAX_CACHED_PAGES = 512;
+
+	private static final AtomicReference<Snapshot> current = new AtomicReference<>();
+	private static final Object reloadLock = new Object();
+
+	// 정렬된 카테고리 목록 조회
+	public static List<String> getCategories() throws SQLException {
+		return snapshot().categories;
+	}
+
+	/**
+	 * 카테고리의 상품 한 페이지를 조회합니다. (ProductID 순)
+	 * @param afterProductId 이전 페이지의 마지막 ProductID (첫 페이지는 0)
+	 * @param pageSize 페이지 크기
+	 */
+	public static Page getProductPage(String categoryName, int afterProductId, int pageSize) throws SQLException {
+		Snapshot s = snapshot();
+		String key = categoryName + '\u0000' + afterProductId + '/' + pageSize;
+
+		Page page = s.pages.get(key);
+		if (page == null) {
+			page = loadPage(categoryName, afterProductId, pageSize);
+			if (s.pages.size() >= MAX_CACHED_PAGES) {
+				s.pages.clear();
+				s.productsById.clear();
+			}
+			s.pages.put(key, page);
+			for (SearchingProduct.ProductInfo product : page.products) {
+				s.productsById.put(product.productId, product);
+			}
+		}
+		return page;
+	}
+
+	// 장바구니 담기 직전 현재 재고를 DB에서 읽고 캐시된 상품 정보에도 반영
+	public static int refreshStock(int productId) throws SQLException {
+		int stock = ProductDao.stockOf(productId);
+		updateStock(productId, stock);
+		return stock;
+	}
+
+	// 이미 DB에서 읽은 재고를 캐시된 상품 정보에 반영 (결제 트랜잭션에서 읽은 차감 후 재고 등)
+	public static void updateStock(int productId, int stock) {
+		Snapshot s = current.get();
+		if (s != null) {
+			SearchingProduct.ProductInfo cached = s.productsById.get(productId);
+			if (cached != null) {
+				cached.stock = stock;
+			}
+		}
+	}
+
+	// 캐시 무효화 - 재고/상품이 바뀐 뒤 호출
+	public static void invalidate() {
+		current.set(null);
+	}
+
+	// 유효한 스냅샷 반환 (만료 시 한 스레드만 다시 적재)
+	private static Snapshot snapshot() throws SQLException {
+		Snapshot s = current.get();
+		if (s != null && !s.isExpired()) {
+			return s;
+		}
+
+		synchronized (reloadLock) {
+			s = current.get();
+			if (s == null || s.isExpired()) {
+				s = new Snapshot(loadCategories());
+				current.set(s);
+			}
+			return s;
+		}
+	}
+
+	// 카테고리 목록 적재 (CATEGORY 테이블 색인 - 상품 수와 무관)
+	private static List<String> loadCategories() throws SQLException {
+		return CategoryIndex.names();
+	}
+
+	// 키셋 조회로 한 페이지 적재 - 다음 페이지 존재 여부는 한 행 더 읽어 판단
+	private static Page loadPage(String categoryName, int afterProductId, int pageSize) throws SQLException {
+		String sql = "SELECT ProductID, ProductName, Price, StockQuantity, Origin FROM shopdatatable " +
+		             "WHERE CategoryName = ? AND ProductID > ? ORDER BY ProductID LIMIT ?";
+
+		List<SearchingProduct.ProductInfo> products = new ArrayList<>(pageSize);
+		boolean hasNext = false;
+
+		try (Connection conn = Main.getConnection();
+		     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+			pstmt.setString(1, categoryName);
+			pstmt.setInt(2, afterProductId);
+			pstmt.setInt(3, pageSize + 1);
+
+			try (ResultSet rs = pstmt.executeQuery()) {
+				while (rs.next()) {
+					if (products.size() == pageSize) {
+						hasNext = true;
+						break;
+					}
+					products.add(new SearchingProduct.ProductInfo(
+							rs.getInt("ProductID"),
+							rs.getString("ProductName"),
+							rs.getDouble("Price"),
+							rs.getInt("StockQuantity"),
+							rs.getString("Origin")));
+				}
+			}
+		}
+		return new Page(products.toArray(new SearchingProduct.ProductInfo[0]), hasNext);
+	}
+
+	// 상품 한 페이지
+	public static final class Page {
+		final SearchingProduct.ProductInfo[] products;
+		final boolean hasNext;
+
+		Page(SearchingProduct.ProductInfo[] products, boolean hasNext) {
+			this.products = products;
+			this.hasNext = hasNext;
+		}
+
+		// 다음 페이지 조회 기준 (이 페이지의 마지막 ProductID)
+		int lastProductId() {
+			return products.length == 0 ? 0 : products[products.length - 1].productId;
+		}
+	}
+
+	// 한 시점의 카탈로그 (카테고리 목록은 고정, 페이지는 조회하면서 채워짐)
+	private static final class Snapshot {
+		final List<String> categories;
+		final Map<String, Page> pages = new ConcurrentHashMap<>();
+		final Map<Integer, SearchingProduct.ProductInfo> productsById = new ConcurrentHashMap<>();
+		final long loadedAt = System.currentTimeMillis();
+
+		Snapshot(List<String> categories) {
+			this.categories = categories;
+		}
+
+		boolean isExpired() {
+			return System.currentTimeMillis() - loadedAt >= TTL_MS;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+import java.util.function.Supplier;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 고객용 프로그램의 화면 목록과 화면 이동 루프
+ * - 각 화면 메소드는 다른 화면을 직접 호출하지 않고 다음 화면을 반환
+ *   run()이 반환된 화면을 차례로 실행하므로 화면을 몇 번 이동해도 호출 스택이 쌓이지 않음
+ * - 화면 사이에 넘겨야 하는 값(선택한 카테고리 등)은 CustomerSession에 보관
+ *
+ * 포함된 메소드:
+ * - run(): 시작 화면부터 종료(EXIT)까지 화면 이동
+ *
+ * ===========================================
+ */
+public enum Screen {
+	LOGIN(Login::LoginInterface),                 // 로그인
+	SIGN_UP(CreateCustomer::Create),              // 회원가입
+	MAIN(Main::MainInterface),                    // 메인 메뉴
+	CATEGORIES(SearchingProduct::Searching),      // 카테고리 목록
+	PRODUCTS(() -> SearchingProduct.SearchByCategory(CustomerSession.current().selectedCategory)), // 카테고리별 상품 목록
+	CART(ShopCart::CartInfo),                     // 장바구니
+	CHECK_PW(CreateCustomer::CheckPW),            // 마이페이지 비밀번호 확인
+	MY_PAGE(CreateCustomer::MyInfo),              // 마이페이지
+	EXIT(null);                                   // 종료
+
+	private final Supplier<Screen> view;
+
+	Screen(Supplier<Screen> view) {
+		this.view = view;
+	}
+
+	// 시작 화면부터 EXIT가 반환될 때까지 화면을 차례로 실행
+	public static void run(Screen start) {
+		Screen screen = start;
+		while (screen != EXIT) {
+			screen = screen.view.get();
+		}
+	}
+}
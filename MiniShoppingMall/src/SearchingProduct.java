@@ -1,7 +1,8 @@
 import java.sql.*;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Scanner;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.List;
 
 /**
  * ===========================================  
@@ -12,6 +13,8 @@ import java.util.Collections;
  * - 상품 선택 및 수량 입력
  * - 장바구니에 상품 추가
  * - 재고 확인 및 유효성 검사
+ * - 목록은 ProductCatalog 캐시에서 읽어 DB 조회 없이 표시
+ * - 상품 목록은 페이지 단위로 표시 (다음/이전 페이지 이동, 카테고리 크기와 무관하게 빠르게 표시)
  * 
  * 포함된 메소드:
  * - Searching(): 카테고리 목록 조회 및 선택
@@ -22,161 +25,170 @@ import java.util.Collections;
  * ===========================================
  */
 public class SearchingProduct {
-	// 상품 검색 메인 메소드 - 카테고리 목록 조회 및 선택
-	public static void Searching()
+	// 상품 목록 한 페이지에 표시할 상품 수
+	private static final int PAGE_SIZE = 10;
+	
+	// 상품 검색 메인 메소드 - 카테고리 목록 조회 및 선택 (다음 화면을 반환)
+	public static Screen Searching()
 	{
-		String sql = "SELECT DISTINCT CategoryName FROM shopdatatable ORDER BY CategoryName";
+		// 정렬된 카테고리 목록 (캐시가 유효하면 DB를 읽지 않음)
+		List<String> categories;
+		try {
+			categories = ProductCatalog.getCategories();
+		}
+		catch (SQLException e) {
+			System.out.println("\n데이터베이스 오류가 발생했습니다.");
+			e.printStackTrace();
+			return Screen.MAIN;
+		}
 		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-	             Statement stmt = conn.createStatement();
-	             ResultSet rs = stmt.executeQuery(sql);
-	             Scanner sc = new Scanner(System.in)) 
-		{
-			ArrayList<String> categories = new ArrayList<>();
-			
-			// CategoryName들을 ArrayList에 저장
-			while (rs.next()) {
-				String categoryName = rs.getString("CategoryName");
-				categories.add(categoryName);
-			}
-			
-			// 오름차순으로 정렬 (이미 SQL에서 ORDER BY로 정렬되어 있지만 확실히 하기 위해)
-			Collections.sort(categories);
-			
+		Scanner sc = CustomerSession.input();
+		System.out.println();
+		System.out.println("=== 카테고리 목록 ===");
+		
+		// 번호를 매기면서 출력
+		for (int i = 0; i < categories.size(); i++) {
+			System.out.println((i + 1) + ". " + categories.get(i));
+		}
+		System.out.println("=================");
+		while (true) {
 			System.out.println();
-			System.out.println("=== 카테고리 목록 ===");
+			System.out.print("카테고리를 선택하세요 (나가기: 0): ");
+			String input = sc.nextLine();
 			
-			// 번호를 매기면서 출력
-			for (int i = 0; i < categories.size(); i++) {
-				System.out.println((i + 1) + ". " + categories.get(i));
-			}
-			System.out.println("=================");
-			while (true) {
-				System.out.println();
-				System.out.print("카테고리를 선택하세요 (나가기: 0): ");
-				String input = sc.nextLine();
-				
-				try {
-					int choice = Integer.parseInt(input);
-					if (choice == 0) {
-						Main.MainInterface();
-						return;
-					} else if (choice >= 1 && choice <= categories.size()) {
-						String selectedCategory = categories.get(choice - 1);
-						System.out.println("선택된 카테고리: " + selectedCategory);
-						// 선택된 카테고리로 상품 검색하는 로직을 여기에 추가할 수 있습니다
-						SearchByCategory(selectedCategory);
-						return;
-					} else {
-						System.out.println("\n잘못된 선택입니다. 1-" + categories.size() + "번 중에서 선택해주세요.");
-					}
-				} catch (NumberFormatException e) {
-					System.out.println("\n올바른 숫자를 입력해주세요.");
+			try {
+				int choice = Integer.parseInt(input);
+				if (choice == 0) {
+					return Screen.MAIN;
+				} else if (choice >= 1 && choice <= categories.size()) {
+					String selectedCategory = categories.get(choice - 1);
+					System.out.println("선택된 카테고리: " + selectedCategory);
+					// 선택된 카테고리는 세션에 보관하고 상품 목록 화면으로 이동
+					CustomerSession.current().selectedCategory = selectedCategory;
+					return Screen.PRODUCTS;
+				} else {
+					System.out.println("\n잘못된 선택입니다. 1-" + categories.size() + "번 중에서 선택해주세요.");
 				}
+			} catch (NumberFormatException e) {
+				System.out.println("\n올바른 숫자를 입력해주세요.");
 			}
 		}
-		catch (SQLException e) {
-			System.out.println("\n데이터베이스 오류가 발생했습니다.");
-			e.printStackTrace();
-		}
 	}
 	
-	// 선택된 카테고리의 상품 목록 조회 및 장바구니 추가
-	public static void SearchByCategory(String categoryName)
+	// 선택된 카테고리의 상품 목록 조회 및 장바구니 추가 (PAGE_SIZE개씩 페이지로 표시, 다음 화면을 반환)
+	public static Screen SearchByCategory(String categoryName)
 	{
-		String sql = "SELECT ProductID, ProductName, Price, StockQuantity, Origin, CategoryName FROM shopdatatable WHERE CategoryName = ? ORDER BY ProductName";
-		int choose = -1;
+		// 이전 페이지로 돌아가기 위해 지나온 페이지의 시작 위치를 보관
+		Deque<Integer> previousPages = new ArrayDeque<>();
+		int pageStart = 0; // 이전 페이지의 마지막 ProductID (첫 페이지는 0)
 		
-		while(choose != 0)
+		Scanner sc = CustomerSession.input();
+		while(true)
 		{
-			try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		             PreparedStatement pstmt = conn.prepareStatement(sql);
-		             Scanner sc = new Scanner(System.in)) 
-			{
-				pstmt.setString(1, categoryName);
-				ResultSet rs = pstmt.executeQuery();
-				
-				// 상품 정보를 저장할 ArrayList
-				ArrayList<ProductInfo> products = new ArrayList<>();
-				
-				System.out.println();
-				System.out.println("=== " + categoryName + " 목록 ===");
-				int productNumber = 1;
-				
-	            while (rs.next()) {
-	                int productId = rs.getInt("ProductID");
-	                String productName = rs.getString("ProductName");
-	                double price = rs.getDouble("Price");
-	                int stock = rs.getInt("StockQuantity");
-	                String origin = rs.getString("Origin");
-	                
-	                // 상품 정보를 ArrayList에 저장
-	                products.add(new ProductInfo(productId, productName, price, stock, origin));
-	                
-	                System.out.println("[" + productNumber + "]");
-	                System.out.println("상품명 : " + productName);
-	                System.out.println("판매가 : " + Math.round(price) + "원");
-	                System.out.println("입고량 : " + stock);
-	                System.out.println("원산지 : " + origin);
-	                System.out.println("-----------------------------------");
-	                productNumber++;
-	            }
-	            
-	            while(true)
-	            {
-	            	System.out.print("구매할 상품을 선택하십시오.(카테고리 선택 : 0) : ");
-	            	String input = sc.nextLine();
-	            	try {
-	            		choose = Integer.parseInt(input);
-	            		if(choose == 0) 
-	            		{
-	            			Searching();
-	            			return;
-	            		}
-	            		else if(choose >= 1 && choose <= products.size())
-	            		{
-	            			// 선택된 상품의 정보 가져오기
-	            			ProductInfo selectedProduct = products.get(choose - 1);
-	            			
-	            			// 수량 입력받기
-	            			System.out.print("구매할 수량을 입력하세요: ");
-	            			String quantityInput = sc.nextLine();
-	            			
-	            			try {
-	            				int quantity = Integer.parseInt(quantityInput);
-	            				
-	            				if(quantity <= 0) {
-	            					System.out.println("수량은 1개 이상이어야 합니다.");
-	            					continue;
-	            				}
-	            				
-	            				if(quantity > selectedProduct.stock) {
-	            					System.out.println("재고가 부족합니다. 현재 재고: " + selectedProduct.stock + "개");
-	            					continue;
-	            				}
-	            				
-	            				// 장바구니에 추가
-	            				addToCart(selectedProduct.productId, selectedProduct.productName, quantity);
-	            				System.out.println(selectedProduct.productName + " " + quantity + "개가 장바구니에 추가되었습니다.\n");
-	            				
-	            			} catch (NumberFormatException e) {
-	            				System.out.println("올바른 숫자를 입력해주세요.");
-	            			}
-	            		}
-	            		else
-	            		{
-	            			System.out.println("잘못된 선택입니다. 다시 선택해주세요.\n");
-	            		}
-					} 
-	            	catch (NumberFormatException e) {
-	            		System.out.println("올바른 숫자를 입력해주세요.");
-	    				System.out.println();
-					}
-	            }
+			// 현재 페이지의 상품 배열 (캐시 또는 키셋 조회, ProductID 순)
+			ProductCatalog.Page page;
+			try {
+				page = ProductCatalog.getProductPage(categoryName, pageStart, PAGE_SIZE);
 			}
 			catch (SQLException e) {
 				System.out.println("\n데이터베이스 오류가 발생했습니다.");
 				e.printStackTrace();
+				return Screen.CATEGORIES;
+			}
+			ProductInfo[] products = page.products;
+			
+			System.out.println();
+			System.out.println("=== " + categoryName + " 목록 (" + (previousPages.size() + 1) + "페이지) ===");
+			int productNumber = 1;
+			
+			for (ProductInfo product : products) {
+				System.out.println("[" + productNumber + "]");
+				System.out.println("상품명 : " + product.productName);
+				System.out.println("판매가 : " + Math.round(product.price) + "원");
+				System.out.println("입고량 : " + product.stock);
+				System.out.println("원산지 : " + product.origin);
+				System.out.println("-----------------------------------");
+				productNumber++;
+			}
+			
+			// 페이지 이동 안내
+			String pageGuide = "카테고리 선택 : 0";
+			if (page.hasNext) pageGuide += ", 다음 페이지 : n";
+			if (!previousPages.isEmpty()) pageGuide += ", 이전 페이지 : p";
+			
+			boolean pageChanged = false;
+			while(!pageChanged)
+			{
+				System.out.print("구매할 상품을 선택하십시오.(" + pageGuide + ") : ");
+				String input = sc.nextLine().trim();
+				
+				if (input.equalsIgnoreCase("n") && page.hasNext) {
+					previousPages.push(pageStart);
+					pageStart = page.lastProductId();
+					pageChanged = true;
+					continue;
+				}
+				if (input.equalsIgnoreCase("p") && !previousPages.isEmpty()) {
+					pageStart = previousPages.pop();
+					pageChanged = true;
+					continue;
+				}
+				
+				try {
+					int choose = Integer.parseInt(input);
+					if(choose == 0) 
+					{
+						return Screen.CATEGORIES;
+					}
+					else if(choose >= 1 && choose <= products.length)
+					{
+						// 선택된 상품의 정보 가져오기
+						ProductInfo selectedProduct = products[choose - 1];
+						
+						// 수량 입력받기
+						System.out.print("구매할 수량을 입력하세요: ");
+						String quantityInput = sc.nextLine();
+						
+						try {
+							int quantity = Integer.parseInt(quantityInput);
+							
+							if(quantity <= 0) {
+								System.out.println("수량은 1개 이상이어야 합니다.");
+								continue;
+							}
+							
+							// 캐시된 재고가 아닌 현재 재고로 확인 (read-through)
+							int currentStock;
+							try {
+								currentStock = ProductCatalog.refreshStock(selectedProduct.productId);
+							} catch (SQLException e) {
+								System.out.println("\n데이터베이스 오류가 발생했습니다.");
+								e.printStackTrace();
+								continue;
+							}
+							
+							if(quantity > currentStock) {
+								System.out.println("재고가 부족합니다. 현재 재고: " + currentStock + "개");
+								continue;
+							}
+							
+							// 장바구니에 추가
+							addToCart(selectedProduct.productId, selectedProduct.productName, quantity);
+							System.out.println(selectedProduct.productName + " " + quantity + "개가 장바구니에 추가되었습니다.\n");
+							
+						} catch (NumberFormatException e) {
+							System.out.println("올바른 숫자를 입력해주세요.");
+						}
+					}
+					else
+					{
+						System.out.println("잘못된 선택입니다. 다시 선택해주세요.\n");
+					}
+				} 
+				catch (NumberFormatException e) {
+					System.out.println("올바른 숫자를 입력해주세요.");
+					System.out.println();
+				}
 			}
 		}
 	}
@@ -184,32 +196,10 @@ public class SearchingProduct {
 	// 장바구니에 상품 추가하는 메소드
 	public static void addToCart(int productId, String productName, int quantity)
 	{
-		String sql = "INSERT INTO SHOPCART (CustomerID, LoginID, NickName, ProductID, ProductName, Quantity) VALUES (?, ?, ?, ?, ?, ?) " +
-		             "ON DUPLICATE KEY UPDATE Quantity = Quantity + ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) 
-		{
-			// 현재 로그인한 고객 정보를 가져옵니다
-			int customerId = Login.getCurrentCustomerId();
-			String loginId = Login.getCurrentLoginId();
-			String nickName = Login.getCurrentNickName();
-			
-			pstmt.setInt(1, customerId);
-			pstmt.setString(2, loginId);
-			pstmt.setString(3, nickName);
-			pstmt.setInt(4, productId);
-			pstmt.setString(5, productName);
-			pstmt.setInt(6, quantity);
-			pstmt.setInt(7, quantity);
-			
-			int result = pstmt.executeUpdate();
-			
-			if(result > 0) {
-				System.out.println("\n장바구니에 상품이 추가되었습니다.");
-			} else {
-				System.out.println("\n장바구니 추가에 실패했습니다.");
-			}
+		// 바로 DB에 쓰지 않고 장바구니 버퍼에 기록 (장바구니 조회/구매/로그아웃 시 한 번에 반영)
+		try {
+			CartBuffer.current().add(productId, productName, quantity);
+			System.out.println("\n장바구니에 상품이 추가되었습니다.");
 			
 		} catch (SQLException e) {
 			System.out.println("\n데이터베이스 오류가 발생했습니다.");
@@ -224,7 +214,7 @@ public class SearchingProduct {
 		int productId;
 		String productName;
 		double price;
-		int stock;
+		volatile int stock; // 캐시에 있는 동안 read-through로 갱신됨
 		String origin;
 		
 		public ProductInfo(int productId, String productName, double price, int stock, String origin)
@@ -0,0 +1,90 @@
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ===========================================
+ *
+ * 주요 기능:
+ * - 한 프로세스에서 여러 고객 접속을 동시에 처리하는 소켓 서버
+ * - 접속마다 CustomerSession을 만들어 로그인 화면부터 실행
+ *   (telnet/nc 등으로 접속하면 콘솔과 같은 화면을 사용)
+ * - 가상 스레드(Java 21 이상)에서 접속을 처리하고, 지원하지 않으면 일반 스레드 풀 사용
+ * - 모든 접속이 같은 연결 풀과 상품 카탈로그 캐시를 공유
+ * - 기본으로 이 컴퓨터(루프백 주소)에서 오는 접속만 받음 - 접속에는 인증 없이 로그인 화면이 열리므로
+ *   다른 컴퓨터에서 접속해야 하면 받을 주소를 직접 지정 (예: 0.0.0.0 = 모든 네트워크)
+ *
+ * 실행 방법:
+ * - java SessionServer [포트(기본 5050)] [받을 주소(기본 루프백)]
+ *
+ * 포함된 메소드:
+ * - main(): 서버 시작
+ * - serve(): 접속 한 개 처리
+ *
+ * ===========================================
+ */
+public class SessionServer {
+
+	private static final int DEFAULT_PORT = 5050;
+
+	// 접속 대기열 크기 (ServerSocket 기본값과 같음)
+	private static final int BACKLOG = 50;
+
+	private static final AtomicInteger activeSessions = new AtomicInteger();
+
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		InetAddress bindAddress = args.length > 1 ? InetAddress.getByName(args[1]) : InetAddress.getLoopbackAddress();
+
+		Runtime.getRuntime().addShutdownHook(new Thread(Main::shutdown));
+		CustomerSession.installStreams();
+		if (!Main.initSchema()) {
+			return;
+		}
+
+		ExecutorService executor = newSessionExecutor();
+		try (ServerSocket server = new ServerSocket(port, BACKLOG, bindAddress)) {
+			System.err.println("[SessionServer] " + bindAddress.getHostAddress() + ":" + port + "에서 접속을 기다립니다.");
+			while (true) {
+				Socket socket = server.accept();
+				executor.execute(() -> serve(socket));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	// 접속 한 개 처리 - 세션 종료 또는 접속 끊김까지 로그인 화면부터 실행
+	private static void serve(Socket socket) {
+		int active = activeSessions.incrementAndGet();
+		System.err.println("[SessionServer] 접속: " + socket.getRemoteSocketAddress() + " (동시 접속: " + active + ")");
+
+		try (Socket s = socket) {
+			s.setTcpNoDelay(true);
+			CustomerSession session = new CustomerSession(new BufferedInputStream(s.getInputStream()), s.getOutputStream());
+			session.run(() -> Screen.run(Screen.LOGIN));
+		} catch (NoSuchElementException e) {
+			// 입력 도중 접속이 끊긴 경우 (Scanner.nextLine)
+		} catch (IOException | RuntimeException e) {
+			System.err.println("[SessionServer] 세션 처리 중 오류가 발생했습니다.");
+			e.printStackTrace();
+		} finally {
+			activeSessions.decrementAndGet();
+		}
+	}
+
+	// 가상 스레드 실행기 (Java 21 이상) - 없으면 일반 캐시 스레드 풀
+	private static ExecutorService newSessionExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool();
+		}
+	}
+}
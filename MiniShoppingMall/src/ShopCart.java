@@ -1,7 +1,6 @@
 
 import java.sql.*;
 import java.util.Scanner;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -17,226 +16,192 @@ import java.util.Map;
  * - 구매 기능 연동 (BuyProductInCart 클래스 호출)
  * 
  * 포함된 메소드:
- * - CartInfo(): 장바구니 조회 및 관리 메인 메소드
- * - showCartMenu(): 장바구니 메뉴 표시 및 처리
+ * - CartInfo(): 장바구니 조회 및 관리 메인 메소드 (다음 화면 반환)
+ * - showCartMenu(): 장바구니 메뉴 표시 및 처리 (다음 화면 반환)
  * - removeItem(): 상품 삭제
  * - updateQuantity(): 수량 수정
  * - clearCart(): 장바구니 전체 비우기
  * 
+ * 삭제/수량 수정/비우기는 CartBuffer에 기록되며, 장바구니 조회 시 한 번에 DB에 반영됩니다.
  * 구매 관련 기능은 BuyProductInCart 클래스에서 처리됩니다.
  * 
  * ===========================================
  */
 public class ShopCart {
-	// itemNumber와 ProductID, ProductName 매핑을 위한 static 변수
-	private static Map<Integer, Integer> itemNumberToProductId = new HashMap<>();
-	private static Map<Integer, String> itemNumberToProductName = new HashMap<>();
+	// itemNumber와 ProductID, ProductName 매핑 (현재 세션에 보관 - 접속한 고객마다 따로 유지)
+	private static Map<Integer, Integer> itemNumberToProductId() {
+		return CustomerSession.current().itemNumberToProductId;
+	}
+	
+	private static Map<Integer, String> itemNumberToProductName() {
+		return CustomerSession.current().itemNumberToProductName;
+	}
 	
 	// 다른 클래스에서 매핑 정보에 접근할 수 있도록 하는 getter 메소드
 	public static Integer getProductIdByItemNumber(int itemNumber) {
-		return itemNumberToProductId.get(itemNumber);
+		return itemNumberToProductId().get(itemNumber);
 	}
 	
 	public static String getProductNameByItemNumber(int itemNumber) {
-		return itemNumberToProductName.get(itemNumber);
+		return itemNumberToProductName().get(itemNumber);
 	}
 	
 	public static boolean isValidItemNumber(int itemNumber) {
-		return itemNumberToProductId.containsKey(itemNumber);
+		return itemNumberToProductId().containsKey(itemNumber);
 	}
 	
-	// 장바구니 조회 및 관리 메인 메소드
-	public static void CartInfo()
+	// 장바구니 조회 및 관리 메인 메소드 (다음 화면을 반환 - 장바구니를 다시 표시할 때는 Screen.CART)
+	public static Screen CartInfo()
 	{
-		String sql = "SELECT sc.ProductID, sc.ProductName, sc.Quantity, sd.Price " +
-		             "FROM SHOPCART sc " +
-		             "JOIN SHOPDATATABLE sd ON sc.ProductID = sd.ProductID AND sc.ProductName = sd.ProductName " +
-		             "WHERE sc.CustomerID = ? AND sc.LoginID = ? AND sc.NickName = ? " +
-		             "ORDER BY sc.ProductName DESC";
+		boolean hasItems = false;
 		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql)) 
+		// 버퍼에 남은 장바구니 변경을 먼저 반영 (이전 비정상 종료로 남은 변경도 여기서 복구)
+		try {
+			CartBuffer.current().flush();
+		} catch (SQLException e) {
+			System.out.println("\n데이터베이스 오류가 발생했습니다.");
+			e.printStackTrace();
+			return Screen.MAIN;
+		}
+		
+		try
 		{
 			// 매핑 초기화
-			itemNumberToProductId.clear();
-			itemNumberToProductName.clear();
+			itemNumberToProductId().clear();
+			itemNumberToProductName().clear();
 			
 			// 현재 로그인한 고객 정보 가져오기
 			int customerId = Login.getCurrentCustomerId();
 			String loginId = Login.getCurrentLoginId();
 			String nickName = Login.getCurrentNickName();
 			
-			pstmt.setInt(1, customerId);
-			pstmt.setString(2, loginId);
-			pstmt.setString(3, nickName);
-			
-			ResultSet rs = pstmt.executeQuery();
-			
 			System.out.println();
 			System.out.println("======= 장바구니 =======");
 			System.out.println("고객: " + nickName + " (" + loginId + ")");
 			System.out.println("=====================");
 			
-			boolean hasItems = false;
-			int totalPrice = 0;
-			int itemNumber = 1;
-			
-			while (rs.next()) {
-				hasItems = true;
-				int productId = rs.getInt("ProductID");
-				String productName = rs.getString("ProductName");
-				int quantity = rs.getInt("Quantity");
-				double price = rs.getDouble("Price");
-				
-				int itemTotal = (int)(price * quantity);
-				totalPrice += itemTotal;
+			int[] totalPrice = {0};
+			int itemCount = CartDao.forEachItem(customerId, loginId, nickName, item -> {
+				int itemNumber = itemNumberToProductId().size() + 1;
+				int itemTotal = item.getItemTotal();
+				totalPrice[0] += itemTotal;
 				
 				System.out.println("[" + itemNumber + "]");
-				System.out.println("상품명: " + productName);
-				System.out.println("단가: " + Math.round(price) + "원");
-				System.out.println("수량: " + quantity + "개");
+				System.out.println("상품명: " + item.productName);
+				System.out.println("단가: " + Math.round(item.price) + "원");
+				System.out.println("수량: " + item.quantity + "개");
 				System.out.println("소계: " + itemTotal + "원");
 				System.out.println("----------------------");
 				
-				// itemNumber와 ProductID 매핑을 위해 저장 (static 변수 사용)
-				itemNumberToProductId.put(itemNumber, productId);
-				itemNumberToProductName.put(itemNumber, productName);
-				itemNumber++;
-			}
+				// itemNumber와 ProductID 매핑을 위해 저장 (세션에 보관)
+				itemNumberToProductId().put(itemNumber, item.productId);
+				itemNumberToProductName().put(itemNumber, item.productName);
+			});
+			hasItems = itemCount > 0;
 			
 			if (!hasItems) {
 				System.out.println("장바구니가 비어있습니다.");
 				System.out.println("=====================");
 			} else {
-				System.out.println("총 금액: " + totalPrice + "원");
+				System.out.println("총 금액: " + totalPrice[0] + "원");
 				System.out.println("=====================");
 			}
 			
-			// 장바구니 관리 메뉴 표시 및 처리
-			showCartMenu(hasItems);
-			
 		} catch (SQLException e) {
 			System.out.println("\n데이터베이스 오류가 발생했습니다.");
 			e.printStackTrace();
+			return Screen.MAIN;
 		}
+		
+		// 장바구니 관리 메뉴 표시 및 처리 (연결을 반환한 뒤 진행)
+		return showCartMenu(hasItems);
 	}
 	
-	// 장바구니 메뉴 표시 및 처리 메소드
-	public static void showCartMenu(boolean hasItems) {
-		Scanner sc = new Scanner(System.in);
-		try {
+	// 장바구니 메뉴 표시 및 처리 메소드 - 잘못 입력하면 메뉴를 다시 표시
+	public static Screen showCartMenu(boolean hasItems) {
+		Scanner sc = CustomerSession.input();
+		while (true) {
 			if (hasItems) {
-			System.out.println("1. 상품 삭제");
-			System.out.println("2. 수량 수정");
-			System.out.println("3. 전체 비우기");
-			System.out.println("4. 전체 구매");
-			System.out.println("5. 선택 구매");
-			System.out.println("6. 장바구니 품목 다시 확인");
-			System.out.println("0. 메인으로 돌아가기");
-			System.out.println("=====================");
-			System.out.print("선택하세요: ");
-			
-			String input = sc.nextLine();
-			try {
-				int choice = Integer.parseInt(input);
-				switch (choice) {
-					case 1:
-						removeItem();
-						break;
-					case 2:
-						updateQuantity();
-						break;
-					case 3:
-						clearCart();
-						break;
-					case 4:
-						BuyProductInCart.purchaseAll();
-						break;
-					case 5:
-						BuyProductInCart.purchaseSelected();
-						break;
-					case 6:
-						CartInfo();
-						break;
-					case 0:
-						Main.MainInterface();
-						return;
-					default:
-						System.out.println("\n잘못된 선택입니다.");
-						System.out.println("=====================");
-						showCartMenu(hasItems);
-						return;
-				}
-			} catch (NumberFormatException e) {
-				System.out.println("\n올바른 숫자를 입력해주세요.");
+				System.out.println("1. 상품 삭제");
+				System.out.println("2. 수량 수정");
+				System.out.println("3. 전체 비우기");
+				System.out.println("4. 전체 구매");
+				System.out.println("5. 선택 구매");
+				System.out.println("6. 장바구니 품목 다시 확인");
+				System.out.println("0. 메인으로 돌아가기");
 				System.out.println("=====================");
-				showCartMenu(hasItems);
-				return;
-			}
+				System.out.print("선택하세요: ");
+				
+				String input = sc.nextLine();
+				try {
+					int choice = Integer.parseInt(input);
+					switch (choice) {
+						case 1:
+							removeItem();
+							return Screen.CART;
+						case 2:
+							updateQuantity();
+							return Screen.CART;
+						case 3:
+							clearCart();
+							return Screen.CART;
+						case 4:
+							return BuyProductInCart.purchaseAll();
+						case 5:
+							BuyProductInCart.purchaseSelected();
+							return Screen.CART;
+						case 6:
+							return Screen.CART;
+						case 0:
+							return Screen.MAIN;
+						default:
+							System.out.println("\n잘못된 선택입니다.");
+							System.out.println("=====================");
+					}
+				} catch (NumberFormatException e) {
+					System.out.println("\n올바른 숫자를 입력해주세요.");
+					System.out.println("=====================");
+				}
 			} else {
 				System.out.println();
 				System.out.println("0. 메인으로 돌아가기");
 				System.out.print("선택하세요: ");
 				String input = sc.nextLine();
 				if (input.equals("0")) {
-					Main.MainInterface();
-				} else {
-					System.out.println("\n올바른 숫자를 입력해주세요.");
-					showCartMenu(false);
+					return Screen.MAIN;
 				}
+				System.out.println("\n올바른 숫자를 입력해주세요.");
 			}
-		} catch (Exception e) {
-			System.out.println("\n오류가 발생했습니다.");
-			e.printStackTrace();
 		}
 	}
 	
 	// 상품 삭제 메소드
 	public static void removeItem() {
-		String sql = "DELETE FROM SHOPCART WHERE CustomerID = ? AND LoginID = ? AND NickName = ? AND ProductID = ? AND ProductName = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql);
-		     Scanner sc = new Scanner(System.in)) 
+		Scanner sc = CustomerSession.input();
+		try
 		{
 			while (true) {
 				System.out.print("삭제할 상품의 번호를 입력하세요 (나가기: 0): ");
 				String itemNumberInput = sc.nextLine().trim();
 				
 				if (itemNumberInput.equals("0")) {
-					CartInfo();
-					return;
+					break; // 연결을 반환한 뒤 장바구니 다시 표시
 				}
 				
 				try {
 					int itemNumber = Integer.parseInt(itemNumberInput);
 					
 					// itemNumber로 ProductID와 ProductName 찾기
-					Integer productId = itemNumberToProductId.get(itemNumber);
-					String productName = itemNumberToProductName.get(itemNumber);
+					Integer productId = itemNumberToProductId().get(itemNumber);
+					String productName = itemNumberToProductName().get(itemNumber);
 					
 					if (productId == null || productName == null) {
 						System.out.println("해당 번호의 상품을 찾을 수 없습니다.");
 						continue;
 					}
 					
-					int customerId = Login.getCurrentCustomerId();
-					String loginId = Login.getCurrentLoginId();
-					String nickName = Login.getCurrentNickName();
-					
-					pstmt.setInt(1, customerId);
-					pstmt.setString(2, loginId);
-					pstmt.setString(3, nickName);
-					pstmt.setInt(4, productId);
-					pstmt.setString(5, productName);
-					
-					int result = pstmt.executeUpdate();
-					
-					if (result > 0) {
-						System.out.println("상품이 장바구니에서 삭제되었습니다.");
-					} else {
-						System.out.println("해당 상품을 찾을 수 없습니다.");
-					}
+					CartBuffer.current().remove(productId, productName);
+					System.out.println("상품이 장바구니에서 삭제되었습니다.");
 					break;
 					
 				} catch (NumberFormatException e) {
@@ -248,33 +213,27 @@ public class ShopCart {
 			System.out.println("\n데이터베이스 오류가 발생했습니다.");
 			e.printStackTrace();
 		}
-		
-		CartInfo(); // 장바구니 다시 표시
 	}
 	
 	// 수량 수정 메소드
 	public static void updateQuantity() {
-		String sql = "UPDATE SHOPCART SET Quantity = ? WHERE CustomerID = ? AND LoginID = ? AND NickName = ? AND ProductID = ? AND ProductName = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql);
-		     Scanner sc = new Scanner(System.in)) 
+		Scanner sc = CustomerSession.input();
+		try
 		{
 			while (true) {
 				System.out.print("수정할 상품의 번호를 입력하세요 (나가기: 0): ");
 				String itemNumberInput = sc.nextLine().trim();
 				
 				if (itemNumberInput.equals("0")) {
-					CartInfo();
-					return;
+					break; // 연결을 반환한 뒤 장바구니 다시 표시
 				}
 				
 				try {
 					int itemNumber = Integer.parseInt(itemNumberInput);
 					
 					// itemNumber로 ProductID와 ProductName 찾기
-					Integer productId = itemNumberToProductId.get(itemNumber);
-					String productName = itemNumberToProductName.get(itemNumber);
+					Integer productId = itemNumberToProductId().get(itemNumber);
+					String productName = itemNumberToProductName().get(itemNumber);
 					
 					if (productId == null || productName == null) {
 						System.out.println("해당 번호의 상품을 찾을 수 없습니다.");
@@ -291,24 +250,8 @@ public class ShopCart {
 						continue;
 					}
 					
-					int customerId = Login.getCurrentCustomerId();
-					String loginId = Login.getCurrentLoginId();
-					String nickName = Login.getCurrentNickName();
-					
-					pstmt.setInt(1, quantity);
-					pstmt.setInt(2, customerId);
-					pstmt.setString(3, loginId);
-					pstmt.setString(4, nickName);
-					pstmt.setInt(5, productId);
-					pstmt.setString(6, productName);
-					
-					int result = pstmt.executeUpdate();
-					
-					if (result > 0) {
-						System.out.println("수량이 수정되었습니다.");
-					} else {
-						System.out.println("해당 상품을 찾을 수 없습니다.");
-					}
+					CartBuffer.current().setQuantity(productId, productName, quantity);
+					System.out.println("수량이 수정되었습니다.");
 					break;
 					
 				} catch (NumberFormatException e) {
@@ -320,37 +263,24 @@ public class ShopCart {
 			System.out.println("\n데이터베이스 오류가 발생했습니다.");
 			e.printStackTrace();
 		}
-		
-		CartInfo(); // 장바구니 다시 표시
 	}
 	
 	// 장바구니 전체 비우기 메소드
 	public static void clearCart() {
-		String sql = "DELETE FROM SHOPCART WHERE CustomerID = ? AND LoginID = ? AND NickName = ?";
-		
-		try (Connection conn = DriverManager.getConnection(Main.url, Main.user, Main.pass);
-		     PreparedStatement pstmt = conn.prepareStatement(sql);
-		     Scanner sc = new Scanner(System.in)) 
+		Scanner sc = CustomerSession.input();
+		try
 		{
 			while (true) {
 				System.out.print("정말로 장바구니를 비우시겠습니까? (y/n): ");
 				String confirm = sc.nextLine().trim();
 				
 				if (confirm.equalsIgnoreCase("y") || confirm.equalsIgnoreCase("yes")) {
-					int customerId = Login.getCurrentCustomerId();
-					String loginId = Login.getCurrentLoginId();
-					String nickName = Login.getCurrentNickName();
-					
-					pstmt.setInt(1, customerId);
-					pstmt.setString(2, loginId);
-					pstmt.setString(3, nickName);
-					
-					int result = pstmt.executeUpdate();
-					
-					if (result > 0) {
-						System.out.println("장바구니가 비워졌습니다.");
-					} else {
+					// 방금 조회한 장바구니 화면 기준으로 비어 있는지 판단
+					if (itemNumberToProductId().isEmpty()) {
 						System.out.println("장바구니가 이미 비어있습니다.");
+					} else {
+						CartBuffer.current().clear();
+						System.out.println("장바구니가 비워졌습니다.");
 					}
 					break;
 				} else if (confirm.equalsIgnoreCase("n") || confirm.equalsIgnoreCase("no")) {
@@ -365,8 +295,6 @@ public class ShopCart {
 			System.out.println("\n데이터베이스 오류가 발생했습니다.");
 			e.printStackTrace();
 		}
-		
-		CartInfo(); // 장바구니 다시 표시
 	}
 	
 }